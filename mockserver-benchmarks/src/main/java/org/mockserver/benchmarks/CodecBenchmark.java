@@ -0,0 +1,102 @@
+package org.mockserver.benchmarks;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.util.ReferenceCountUtil;
+import org.mockserver.codec.MockServerHttpToNettyHttpResponseEncoder;
+import org.mockserver.codec.NettyHttpToMockServerHttpRequestDecoder;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static io.netty.handler.codec.http.HttpMethod.POST;
+import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
+import static org.mockserver.model.Header.header;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * Measures the {@link NettyHttpToMockServerHttpRequestDecoder} and {@link MockServerHttpToNettyHttpResponseEncoder}
+ * in an {@link EmbeddedChannel} so the cost of decoding a request and encoding the response can be compared
+ *
+ * @author jamesdbloom
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CodecBenchmark {
+
+    private static final byte[] REQUEST_BODY = "{ \"id\": 1, \"name\": \"A green door\", \"price\": 12.50, \"tags\": [\"home\", \"green\"] }".getBytes(StandardCharsets.UTF_8);
+
+    private EmbeddedChannel decoderChannel;
+    private EmbeddedChannel encoderChannel;
+    private HttpResponse httpResponse;
+
+    @Setup
+    public void setup() {
+        ConfigurationProperties.logLevel("WARN");
+        MockServerLogger mockServerLogger = new MockServerLogger();
+        decoderChannel = new EmbeddedChannel(new NettyHttpToMockServerHttpRequestDecoder(mockServerLogger, false, 1080));
+        encoderChannel = new EmbeddedChannel(new MockServerHttpToNettyHttpResponseEncoder(mockServerLogger));
+        httpResponse = response()
+            .withStatusCode(200)
+            .withHeaders(
+                header("Content-Type", "application/json; charset=utf-8"),
+                header("Cache-Control", "no-cache, no-store")
+            )
+            .withBody("{ \"id\": 1, \"name\": \"A green door\" }");
+    }
+
+    @TearDown
+    public void tearDown() {
+        decoderChannel.finishAndReleaseAll();
+        encoderChannel.finishAndReleaseAll();
+    }
+
+    private FullHttpRequest fullHttpRequest() {
+        FullHttpRequest fullHttpRequest = new DefaultFullHttpRequest(HTTP_1_1, POST, "/some/path?queryParameterName=queryParameterValue", Unpooled.wrappedBuffer(REQUEST_BODY));
+        fullHttpRequest.headers()
+            .add("Host", "localhost:1080")
+            .add("Content-Type", "application/json; charset=utf-8")
+            .add("Content-Length", REQUEST_BODY.length)
+            .add("Cookie", "cookieName=cookieValue");
+        return fullHttpRequest;
+    }
+
+    @Benchmark
+    public HttpRequest decodeRequest() {
+        decoderChannel.writeInbound(fullHttpRequest());
+        return decoderChannel.readInbound();
+    }
+
+    @Benchmark
+    public int encodeResponse() {
+        encoderChannel.writeOutbound(httpResponse);
+        FullHttpResponse fullHttpResponse = encoderChannel.readOutbound();
+        int status = fullHttpResponse.status().code();
+        ReferenceCountUtil.release(fullHttpResponse);
+        return status;
+    }
+
+    @Benchmark
+    public int roundTrip() {
+        decoderChannel.writeInbound(fullHttpRequest());
+        HttpRequest httpRequest = decoderChannel.readInbound();
+        encoderChannel.writeOutbound(httpResponse.clone().withHeader("x-request-path", httpRequest.getPath().getValue()));
+        FullHttpResponse fullHttpResponse = encoderChannel.readOutbound();
+        int status = fullHttpResponse.status().code();
+        ReferenceCountUtil.release(fullHttpResponse);
+        return status;
+    }
+
+}
@@ -0,0 +1,100 @@
+package org.mockserver.benchmarks;
+
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.matchers.HttpRequestMatcher;
+import org.mockserver.matchers.HttpRequestPropertiesMatcher;
+import org.mockserver.matchers.MatcherBuilder;
+import org.mockserver.mock.Expectation;
+import org.mockserver.model.Body;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.RequestDefinition;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.model.JsonBody.json;
+import static org.mockserver.model.JsonSchemaBody.jsonSchema;
+import static org.mockserver.model.RegexBody.regex;
+import static org.mockserver.model.XPathBody.xpath;
+
+/**
+ * Measures {@link HttpRequestPropertiesMatcher#matches(RequestDefinition)} for each type of body matcher
+ *
+ * @author jamesdbloom
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HttpRequestPropertiesMatcherBenchmark {
+
+    public enum BodyType {
+        JSON(
+            json("{ \"id\": 1, \"name\": \"A green door\", \"tags\": [\"home\", \"green\"] }"),
+            "{ \"id\": 1, \"name\": \"A green door\", \"price\": 12.50, \"tags\": [\"home\", \"green\"] }"
+        ),
+        XPATH(
+            xpath("/bookstore/book[price>30]/price"),
+            "<bookstore><book category=\"WEB\"><title lang=\"en\">Learning XML</title><author>Erik T. Ray</author><year>2003</year><price>39.95</price></book></bookstore>"
+        ),
+        JSON_SCHEMA(
+            jsonSchema("{" +
+                "  \"type\": \"object\"," +
+                "  \"properties\": {" +
+                "    \"id\": { \"type\": \"integer\" }," +
+                "    \"name\": { \"type\": \"string\" }," +
+                "    \"price\": { \"type\": \"number\", \"minimum\": 0 }," +
+                "    \"tags\": { \"type\": \"array\", \"items\": { \"type\": \"string\" } }" +
+                "  }," +
+                "  \"required\": [\"id\", \"name\", \"price\"]" +
+                "}"),
+            "{ \"id\": 1, \"name\": \"A green door\", \"price\": 12.50, \"tags\": [\"home\", \"green\"] }"
+        ),
+        REGEX(
+            regex("starts_with_.*_ends_with"),
+            "starts_with_some_value_ends_with"
+        );
+
+        private final Body<?> matcherBody;
+        private final String requestBody;
+
+        BodyType(Body<?> matcherBody, String requestBody) {
+            this.matcherBody = matcherBody;
+            this.requestBody = requestBody;
+        }
+    }
+
+    @Param({"JSON", "XPATH", "JSON_SCHEMA", "REGEX"})
+    public BodyType bodyType;
+
+    private HttpRequestMatcher httpRequestMatcher;
+    private HttpRequest httpRequest;
+
+    @Setup
+    public void setup() {
+        ConfigurationProperties.logLevel("WARN");
+        httpRequestMatcher = new MatcherBuilder(new MockServerLogger()).transformsToMatcher(
+            new Expectation(
+                request()
+                    .withMethod("POST")
+                    .withPath("/some/path")
+                    .withBody(bodyType.matcherBody)
+            ).thenRespond(response())
+        );
+        httpRequest = request()
+            .withMethod("POST")
+            .withPath("/some/path")
+            .withBody(bodyType.requestBody);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return httpRequestMatcher.matches(httpRequest);
+    }
+
+}
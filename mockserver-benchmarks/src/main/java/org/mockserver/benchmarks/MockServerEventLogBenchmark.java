@@ -0,0 +1,103 @@
+package org.mockserver.benchmarks;
+
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.log.MockServerEventLog;
+import org.mockserver.log.model.LogEntry;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.scheduler.Scheduler;
+import org.mockserver.verify.Verification;
+import org.mockserver.verify.VerificationSequence;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.event.Level;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockserver.log.model.LogEntry.LogMessageType.RECEIVED_REQUEST;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.verify.Verification.verification;
+import static org.mockserver.verify.VerificationSequence.verificationSequence;
+import static org.mockserver.verify.VerificationTimes.atLeast;
+
+/**
+ * Measures {@link MockServerEventLog#add(LogEntry)} and {@link MockServerEventLog#verify(Verification)} with a
+ * full event log, entries are processed synchronously so adding includes the cost of storing the entry
+ *
+ * @author jamesdbloom
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MockServerEventLogBenchmark {
+
+    private static final int DISTINCT_PATHS = 100;
+
+    @Param({"1000", "100000"})
+    public int logEntries;
+
+    private Scheduler scheduler;
+    private MockServerEventLog mockServerEventLog;
+    private Verification verification;
+    private VerificationSequence verificationSequence;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        ConfigurationProperties.logLevel("WARN");
+        ConfigurationProperties.disableSystemOut(true);
+        MockServerLogger mockServerLogger = new MockServerLogger();
+        scheduler = new Scheduler(mockServerLogger);
+        mockServerEventLog = new MockServerEventLog(mockServerLogger, scheduler, false);
+        mockServerEventLog.setMaxSize(logEntries);
+        for (int i = 0; i < logEntries; i++) {
+            mockServerEventLog.add(receivedRequest(i));
+        }
+        verification = verification()
+            .withRequest(request().withMethod("GET").withPath("/some/path/" + (DISTINCT_PATHS / 2)))
+            .withTimes(atLeast(1));
+        verificationSequence = verificationSequence()
+            .withRequests(
+                request().withMethod("GET").withPath("/some/path/" + (DISTINCT_PATHS / 4)),
+                request().withMethod("GET").withPath("/some/path/" + (DISTINCT_PATHS / 2))
+            );
+    }
+
+    private LogEntry receivedRequest(int index) {
+        return new LogEntry()
+            .setType(RECEIVED_REQUEST)
+            .setLogLevel(Level.INFO)
+            .setHttpRequest(
+                request()
+                    .withMethod("GET")
+                    .withPath("/some/path/" + (index % DISTINCT_PATHS))
+                    .withHeader("header_name", "header_value_" + index)
+            )
+            .setMessageFormat("received request:{}")
+            .setArguments(index);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mockServerEventLog.stop();
+        scheduler.shutdown();
+    }
+
+    @Benchmark
+    public int add() {
+        mockServerEventLog.add(receivedRequest(counter++));
+        return counter;
+    }
+
+    @Benchmark
+    public String verify() throws Exception {
+        return mockServerEventLog.verify(verification).get(60, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public String verifySequence() throws Exception {
+        return mockServerEventLog.verify(verificationSequence).get(60, TimeUnit.SECONDS);
+    }
+
+}
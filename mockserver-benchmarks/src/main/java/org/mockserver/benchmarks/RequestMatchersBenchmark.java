@@ -0,0 +1,85 @@
+package org.mockserver.benchmarks;
+
+import org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.mock.Expectation;
+import org.mockserver.mock.RequestMatchers;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.scheduler.Scheduler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockserver.mock.listeners.MockServerMatcherNotifier.Cause.API;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * Measures {@link RequestMatchers#firstMatchingExpectation(HttpRequest)} with increasing numbers of expectations
+ * for a request matching the last expectation added (i.e. the worst case for a linear scan) and for a request
+ * that matches no expectation.
+ *
+ * @author jamesdbloom
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RequestMatchersBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int expectations;
+
+    private Scheduler scheduler;
+    private RequestMatchers requestMatchers;
+    private HttpRequest matchingRequest;
+    private HttpRequest nonMatchingRequest;
+
+    @Setup
+    public void setup() {
+        ConfigurationProperties.logLevel("WARN");
+        MockServerLogger mockServerLogger = new MockServerLogger();
+        scheduler = new Scheduler(mockServerLogger);
+        requestMatchers = new RequestMatchers(mockServerLogger, scheduler, new WebSocketClientRegistry(mockServerLogger));
+        for (int i = 0; i < expectations; i++) {
+            requestMatchers.add(
+                new Expectation(
+                    request()
+                        .withMethod(i % 2 == 0 ? "GET" : "POST")
+                        .withPath("/some/path/" + i)
+                        .withHeader("header_name", "header_value_" + i)
+                )
+                    .thenRespond(response().withBody("some_body_" + i)),
+                API
+            );
+        }
+        int last = expectations - 1;
+        matchingRequest = request()
+            .withMethod(last % 2 == 0 ? "GET" : "POST")
+            .withPath("/some/path/" + last)
+            .withHeader("header_name", "header_value_" + last);
+        nonMatchingRequest = request()
+            .withMethod("GET")
+            .withPath("/some/other/path")
+            .withHeader("header_name", "header_value");
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Benchmark
+    public Expectation matchingRequest() {
+        return requestMatchers.firstMatchingExpectation(matchingRequest);
+    }
+
+    @Benchmark
+    public Expectation nonMatchingRequest() {
+        return requestMatchers.firstMatchingExpectation(nonMatchingRequest);
+    }
+
+}
@@ -0,0 +1,82 @@
+package org.mockserver.benchmarks;
+
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.serialization.model.HttpResponseDTO;
+import org.mockserver.templates.engine.javascript.JavaScriptTemplateEngine;
+import org.mockserver.templates.engine.velocity.VelocityTemplateEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockserver.model.HttpRequest.request;
+
+/**
+ * Measures response template execution with the {@link VelocityTemplateEngine} and {@link JavaScriptTemplateEngine},
+ * the javascript benchmark requires a JVM with the Nashorn script engine (i.e. java 8 to 14)
+ *
+ * @author jamesdbloom
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TemplateEngineBenchmark {
+
+    private static final String VELOCITY_TEMPLATE = "" +
+        "#if ( $request.method == 'POST' && $request.path == '/somePath' )\n" +
+        "    {\n" +
+        "        'statusCode': 200,\n" +
+        "        'body': \"{'name': 'value'}\"\n" +
+        "    }\n" +
+        "#else\n" +
+        "    {\n" +
+        "        'statusCode': 406,\n" +
+        "        'body': \"$!request.body\"\n" +
+        "    }\n" +
+        "#end";
+    private static final String JAVASCRIPT_TEMPLATE = "" +
+        "if (request.method === 'POST' && request.path === '/somePath') {\n" +
+        "    return {\n" +
+        "        'statusCode': 200,\n" +
+        "        'body': JSON.stringify({name: 'value'})\n" +
+        "    };\n" +
+        "} else {\n" +
+        "    return {\n" +
+        "        'statusCode': 406,\n" +
+        "        'body': request.body\n" +
+        "    };\n" +
+        "}";
+
+    private VelocityTemplateEngine velocityTemplateEngine;
+    private JavaScriptTemplateEngine javaScriptTemplateEngine;
+    private HttpRequest httpRequest;
+
+    @Setup
+    public void setup() {
+        ConfigurationProperties.logLevel("WARN");
+        MockServerLogger mockServerLogger = new MockServerLogger();
+        velocityTemplateEngine = new VelocityTemplateEngine(mockServerLogger);
+        javaScriptTemplateEngine = new JavaScriptTemplateEngine(mockServerLogger);
+        httpRequest = request()
+            .withMethod("POST")
+            .withPath("/somePath")
+            .withHeader("Content-Type", "text/plain")
+            .withBody("some_body");
+    }
+
+    @Benchmark
+    public HttpResponse velocity() {
+        return velocityTemplateEngine.executeTemplate(VELOCITY_TEMPLATE, httpRequest, HttpResponseDTO.class);
+    }
+
+    @Benchmark
+    public HttpResponse javaScript() {
+        return javaScriptTemplateEngine.executeTemplate(JAVASCRIPT_TEMPLATE, httpRequest, HttpResponseDTO.class);
+    }
+
+}
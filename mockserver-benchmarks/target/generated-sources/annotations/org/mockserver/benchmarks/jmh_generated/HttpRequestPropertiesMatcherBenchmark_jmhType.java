@@ -0,0 +1,4 @@
+package org.mockserver.benchmarks.jmh_generated;
+public class HttpRequestPropertiesMatcherBenchmark_jmhType extends HttpRequestPropertiesMatcherBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.mockserver.benchmarks.jmh_generated;
+public class MockServerEventLogBenchmark_jmhType extends MockServerEventLogBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.mockserver.benchmarks.jmh_generated;
+public class RequestMatchersBenchmark_jmhType extends RequestMatchersBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.mockserver.benchmarks.jmh_generated;
+public class TemplateEngineBenchmark_jmhType extends TemplateEngineBenchmark_jmhType_B3 {
+}
+
@@ -784,6 +784,65 @@ public class MockServerClient implements Stoppable {
         return clientClass.cast(this);
     }
 
+    /**
+     * Register a request to be counted as it is received so verifying it doesn't need to match every request in the log
+     * and still counts requests that have been evicted from the log, for example:
+     * <pre>
+     * mockServerClient
+     *  .registerVerification(
+     *      request()
+     *          .withPath("/some_path")
+     *  );
+     * </pre>
+     * Only requests received after registration are counted, registered requests are removed by reset.
+     *
+     * @param requestDefinition the http request to count
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public MockServerClient registerVerification(RequestDefinition requestDefinition) {
+        if (requestDefinition == null) {
+            throw new IllegalArgumentException("registerVerification(RequestDefinition) requires a non null RequestDefinition object");
+        }
+
+        sendRequest(
+            request()
+                .withMethod("PUT")
+                .withContentType(APPLICATION_JSON_UTF_8)
+                .withPath(calculatePath("registerVerification"))
+                .withBody(verificationSerializer.serialize(verification().withRequest(requestDefinition)), StandardCharsets.UTF_8)
+        );
+        return clientClass.cast(this);
+    }
+
+    /**
+     * Stop counting a request previously registered with {@link #registerVerification(RequestDefinition)}, for example:
+     * <pre>
+     * mockServerClient
+     *  .unregisterVerification(
+     *      request()
+     *          .withPath("/some_path")
+     *  );
+     * </pre>
+     * Verifying the request then matches it against the requests in the log again.
+     *
+     * @param requestDefinition the http request to stop counting
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public MockServerClient unregisterVerification(RequestDefinition requestDefinition) {
+        if (requestDefinition == null) {
+            throw new IllegalArgumentException("unregisterVerification(RequestDefinition) requires a non null RequestDefinition object");
+        }
+
+        sendRequest(
+            request()
+                .withMethod("PUT")
+                .withContentType(APPLICATION_JSON_UTF_8)
+                .withPath(calculatePath("unregisterVerification"))
+                .withBody(verificationSerializer.serialize(verification().withRequest(requestDefinition)), StandardCharsets.UTF_8)
+        );
+        return clientClass.cast(this);
+    }
+
     /**
      * Retrieve the recorded requests that match the httpRequest parameter, use null for the parameter to retrieve all requests
      *
@@ -2135,4 +2135,87 @@ public class MockServerClientIntegrationTest {
         }
     }
 
+    @Test
+    public void shouldRegisterVerification() {
+        // given
+        echoServerOne.withNextResponse(response().withStatusCode(201));
+
+        // when
+        mockServerClientOne.registerVerification(
+            request()
+                .withPath("/some_path")
+                .withBody(new StringBody("some_request_body"))
+        );
+
+        // then
+        assertThat(retrieveRequests(request()).size(), is(1));
+        String result = verify(verification().withRequest(
+            request()
+                .withMethod("PUT")
+                .withPath("/mockserver/registerVerification")
+                .withHeaders(
+                    new Header("host", "localhost:" + echoServerOne.getPort()),
+                    new Header("accept-encoding", "gzip,deflate"),
+                    new Header("connection", "keep-alive"),
+                    new Header("content-type", "application/json; charset=utf-8")
+                )
+                .withSecure(false)
+                .withKeepAlive(true)
+                .withBody(new StringBody("" +
+                    "{" + NEW_LINE +
+                    "  \"httpRequest\" : {" + NEW_LINE +
+                    "    \"path\" : \"/some_path\"," + NEW_LINE +
+                    "    \"body\" : \"some_request_body\"" + NEW_LINE +
+                    "  }," + NEW_LINE +
+                    "  \"times\" : {" + NEW_LINE +
+                    "    \"atLeast\" : 1" + NEW_LINE +
+                    "  }" + NEW_LINE +
+                    "}"))
+        ));
+        if (result != null && !result.isEmpty()) {
+            throw new AssertionError(result);
+        }
+    }
+
+    @Test
+    public void shouldUnregisterVerification() {
+        // given
+        echoServerOne.withNextResponse(response().withStatusCode(200));
+
+        // when
+        mockServerClientOne.unregisterVerification(
+            request()
+                .withPath("/some_path")
+                .withBody(new StringBody("some_request_body"))
+        );
+
+        // then
+        assertThat(retrieveRequests(request()).size(), is(1));
+        String result = verify(verification().withRequest(
+            request()
+                .withMethod("PUT")
+                .withPath("/mockserver/unregisterVerification")
+                .withHeaders(
+                    new Header("host", "localhost:" + echoServerOne.getPort()),
+                    new Header("accept-encoding", "gzip,deflate"),
+                    new Header("connection", "keep-alive"),
+                    new Header("content-type", "application/json; charset=utf-8")
+                )
+                .withSecure(false)
+                .withKeepAlive(true)
+                .withBody(new StringBody("" +
+                    "{" + NEW_LINE +
+                    "  \"httpRequest\" : {" + NEW_LINE +
+                    "    \"path\" : \"/some_path\"," + NEW_LINE +
+                    "    \"body\" : \"some_request_body\"" + NEW_LINE +
+                    "  }," + NEW_LINE +
+                    "  \"times\" : {" + NEW_LINE +
+                    "    \"atLeast\" : 1" + NEW_LINE +
+                    "  }" + NEW_LINE +
+                    "}"))
+        ));
+        if (result != null && !result.isEmpty()) {
+            throw new AssertionError(result);
+        }
+    }
 }
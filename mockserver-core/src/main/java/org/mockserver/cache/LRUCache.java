@@ -3,32 +3,60 @@ package org.mockserver.cache;
 import com.google.common.annotations.VisibleForTesting;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.metrics.Metrics;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntBiFunction;
 
+import static org.mockserver.metrics.Metrics.Name.*;
 import static org.slf4j.event.Level.TRACE;
 
+/**
+ * Concurrent least recently used cache with a time to live (extended on each get) and an optional weight limit.
+ * <p>
+ * Gets are lock free, the access order is only updated if the lock is free (so under contention the eviction order is
+ * approximate), puts, deletes and evictions take the lock and are O(1).
+ *
+ * @author jamesdbloom
+ */
 @SuppressWarnings("unused")
 public class LRUCache<K, V> {
 
     private static boolean allCachesEnabled = true;
     private static int maxSizeOverride = 0;
-    private static final List<LRUCache<?, ?>> allCaches = new ArrayList<>();
+    private static final Set<LRUCache<?, ?>> allCaches = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
     private final long ttlInMillis;
     private final int maxSize;
-    private final ConcurrentHashMap<K, Entry<V>> map;
-    private final ConcurrentLinkedQueue<K> queue;
+    private final long maxWeight;
+    private final ToIntBiFunction<K, V> weigher;
+    private final ConcurrentHashMap<K, Entry<K, V>> map;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Entry<K, V> head = new Entry<>(null, null, 0, 0, 0);
+    private int size;
+    private long weight;
     private final MockServerLogger mockServerLogger;
 
     public LRUCache(final MockServerLogger mockServerLogger, final int maxSize, long ttlInMillis) {
+        this(mockServerLogger, maxSize, Long.MAX_VALUE, ttlInMillis, (key, value) -> 1);
+    }
+
+    /**
+     * @param maxSize     maximum number of entries
+     * @param maxWeight   maximum total weight of all entries
+     * @param ttlInMillis time to live for each entry, extended each time the entry is retrieved
+     * @param weigher     calculates the weight of an entry when it is added
+     */
+    public LRUCache(final MockServerLogger mockServerLogger, final int maxSize, final long maxWeight, long ttlInMillis, ToIntBiFunction<K, V> weigher) {
         this.mockServerLogger = mockServerLogger;
         this.maxSize = maxSize;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
         this.map = new ConcurrentHashMap<>(maxSize);
-        this.queue = new ConcurrentLinkedQueue<>();
         this.ttlInMillis = ttlInMillis;
+        this.head.previous = head;
+        this.head.next = head;
         LRUCache.allCaches.add(this);
     }
 
@@ -38,9 +66,11 @@ public class LRUCache<K, V> {
 
     @VisibleForTesting
     public static void clearAllCaches() {
-        for (LRUCache<?, ?> cache : allCaches) {
-            if (cache != null) {
-                cache.clear();
+        synchronized (allCaches) {
+            for (LRUCache<?, ?> cache : allCaches) {
+                if (cache != null) {
+                    cache.clear();
+                }
             }
         }
     }
@@ -51,19 +81,18 @@ public class LRUCache<K, V> {
 
     public void put(K key, final V value, long ttl) {
         if (allCachesEnabled && key != null) {
-            if (map.containsKey(key)) {
-                // ensure the queue is in FIFO order
-                queue.remove(key);
-            }
-            while (queue.size() >= maxSize
-                || maxSizeOverride > 0 && queue.size() >= maxSizeOverride) {
-                K oldestKey = queue.poll();
-                if (null != oldestKey) {
-                    map.remove(oldestKey);
+            Entry<K, V> entry = new Entry<>(key, value, weigher.applyAsInt(key, value), ttl, expiryInMillis(ttl));
+            lock.lock();
+            try {
+                Entry<K, V> previous = map.put(key, entry);
+                if (previous != null) {
+                    unlink(previous);
                 }
+                linkFirst(entry);
+                evict();
+            } finally {
+                lock.unlock();
             }
-            queue.add(key);
-            map.put(key, new Entry<>(ttl, expiryInMillis(ttl), value));
             if (MockServerLogger.isEnabled(TRACE)) {
                 mockServerLogger.logEvent(
                     new LogEntry()
@@ -81,40 +110,130 @@ public class LRUCache<K, V> {
 
     public V get(K key) {
         if (allCachesEnabled && key != null) {
-            if (map.containsKey(key)) {
-                // remove from the queue and add it again in FIFO queue
-                queue.remove(key);
-                queue.add(key);
-            }
-
-            Entry<V> entry = map.get(key);
+            Entry<K, V> entry = map.get(key);
             if (entry != null) {
-                if (entry.getExpiryInMillis() > System.currentTimeMillis()) {
-                    return entry.updateExpiryInMillis(expiryInMillis(entry.getTtlInMillis())).getValue();
+                long now = System.currentTimeMillis();
+                if (entry.expiryInMillis > now) {
+                    entry.expiryInMillis = now + entry.ttlInMillis;
+                    // skip re-ordering when contended, the entry will be re-ordered on a later get
+                    if (lock.tryLock()) {
+                        try {
+                            if (entry.linked) {
+                                unlink(entry);
+                                linkFirst(entry);
+                            }
+                        } finally {
+                            lock.unlock();
+                        }
+                    }
+                    Metrics.increment(LRU_CACHE_HIT_COUNT);
+                    return entry.value;
                 } else {
-                    delete(key);
+                    remove(entry);
                 }
             }
+            Metrics.increment(LRU_CACHE_MISS_COUNT);
         }
         return null;
     }
 
     public void delete(K key) {
         if (allCachesEnabled && key != null) {
-            if (map.containsKey(key)) {
-                map.remove(key);
-                queue.remove(key);
+            Entry<K, V> entry = map.get(key);
+            if (entry != null) {
+                remove(entry);
+            }
+        }
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    private void remove(Entry<K, V> entry) {
+        lock.lock();
+        try {
+            if (map.remove(entry.key, entry)) {
+                unlink(entry);
             }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evict() {
+        int sizeLimit = maxSizeOverride > 0 ? Math.min(maxSize, maxSizeOverride) : maxSize;
+        long now = System.currentTimeMillis();
+        Entry<K, V> last = head.previous;
+        // least recently used entries are at the end so expired entries are also removed from the end
+        while (last != head && (size > sizeLimit || weight > maxWeight || last.expiryInMillis <= now)) {
+            map.remove(last.key, last);
+            unlink(last);
+            Metrics.increment(LRU_CACHE_EVICTION_COUNT);
+            last = head.previous;
+        }
+    }
+
+    private void linkFirst(Entry<K, V> entry) {
+        entry.previous = head;
+        entry.next = head.next;
+        head.next.previous = entry;
+        head.next = entry;
+        entry.linked = true;
+        size++;
+        weight += entry.weight;
+    }
+
+    private void unlink(Entry<K, V> entry) {
+        if (entry.linked) {
+            entry.previous.next = entry.next;
+            entry.next.previous = entry.previous;
+            entry.previous = null;
+            entry.next = null;
+            entry.linked = false;
+            size--;
+            weight -= entry.weight;
         }
     }
 
     private void clear() {
-        map.clear();
-        queue.clear();
+        lock.lock();
+        try {
+            map.clear();
+            for (Entry<K, V> entry = head.next; entry != head; entry = entry.next) {
+                entry.linked = false;
+            }
+            head.previous = head;
+            head.next = head;
+            size = 0;
+            weight = 0;
+        } finally {
+            lock.unlock();
+        }
     }
 
     public static void setMaxSizeOverride(int maxSizeOverride) {
         LRUCache.maxSizeOverride = maxSizeOverride;
     }
 
+    private static class Entry<K, V> {
+        private final K key;
+        private final V value;
+        private final int weight;
+        private final long ttlInMillis;
+        private volatile long expiryInMillis;
+        // guarded by lock
+        private Entry<K, V> previous;
+        private Entry<K, V> next;
+        private boolean linked;
+
+        private Entry(K key, V value, int weight, long ttlInMillis, long expiryInMillis) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.ttlInMillis = ttlInMillis;
+            this.expiryInMillis = expiryInMillis;
+        }
+    }
+
 }
@@ -0,0 +1,244 @@
+package org.mockserver.client;
+
+import com.google.common.collect.ImmutableSet;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.*;
+import io.netty.channel.pool.*;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.log.model.LogEntry;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.metrics.Metrics;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.model.Message;
+import org.mockserver.socket.tls.NettySslContextFactory;
+import org.slf4j.event.Level;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockserver.client.NettyHttpClient.*;
+import static org.mockserver.metrics.Metrics.Name.*;
+
+/**
+ * Pool of keep-alive connections, per remote address, used to forward requests so the connection (and TLS handshake)
+ * is only paid for once per connection instead of once per request.
+ * <p>
+ * The number of connections to each remote address is bounded, connections idle for longer than the idle timeout are
+ * closed and connections are checked to still be active when they are acquired and released.
+ *
+ * @author jamesdbloom
+ */
+class HttpClientConnectionPool {
+
+    static final AttributeKey<Boolean> POOLED = AttributeKey.valueOf("POOLED");
+    private static final AttributeKey<Boolean> IN_USE = AttributeKey.valueOf("IN_USE");
+    private static final AttributeKey<Boolean> REUSED = AttributeKey.valueOf("REUSED");
+    private static final Set<String> IDEMPOTENT_METHODS = ImmutableSet.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE", "TRACE");
+    private final MockServerLogger mockServerLogger;
+    private final EventLoopGroup eventLoopGroup;
+    private final boolean forwardProxyClient;
+    private final NettySslContextFactory nettySslContextFactory;
+    private final int maxConnectionsPerHost;
+    private final long idleTimeoutMillis;
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AbstractChannelPoolMap<PoolKey, ChannelPool> channelPools = new AbstractChannelPoolMap<PoolKey, ChannelPool>() {
+        @Override
+        protected ChannelPool newPool(PoolKey poolKey) {
+            Bootstrap bootstrap = new Bootstrap()
+                .group(eventLoopGroup)
+                .channel(NioSocketChannel.class)
+                .option(ChannelOption.AUTO_READ, true)
+                .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024, 32 * 1024))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, poolKey.connectionTimeoutMillis)
+                .attr(SECURE, poolKey.secure)
+                .attr(REMOTE_SOCKET, poolKey.remoteAddress)
+                .remoteAddress(poolKey.remoteAddress);
+            return new FixedChannelPool(bootstrap, new PooledConnectionHandler(), ChannelHealthChecker.ACTIVE, FixedChannelPool.AcquireTimeoutAction.FAIL, ConfigurationProperties.maxSocketTimeout(), maxConnectionsPerHost, Integer.MAX_VALUE, true, true);
+        }
+    };
+
+    HttpClientConnectionPool(MockServerLogger mockServerLogger, EventLoopGroup eventLoopGroup, boolean forwardProxyClient, NettySslContextFactory nettySslContextFactory) {
+        this.mockServerLogger = mockServerLogger;
+        this.eventLoopGroup = eventLoopGroup;
+        this.forwardProxyClient = forwardProxyClient;
+        this.nettySslContextFactory = nettySslContextFactory;
+        this.maxConnectionsPerHost = ConfigurationProperties.forwardConnectionPoolMaxConnectionsPerHost();
+        this.idleTimeoutMillis = ConfigurationProperties.forwardConnectionPoolIdleTimeout();
+    }
+
+    void sendRequest(final HttpRequest httpRequest, final InetSocketAddress remoteAddress, final Integer connectionTimeoutMillis, final CompletableFuture<HttpResponse> httpResponseFuture, final Runnable retryWithNewConnection) {
+        final ChannelPool channelPool = channelPools.get(new PoolKey(remoteAddress, httpRequest.isSecure() != null && httpRequest.isSecure(), connectionTimeoutMillis));
+        channelPool.acquire().addListener((FutureListener<Channel>) acquireFuture -> {
+            if (acquireFuture.isSuccess()) {
+                final Channel channel = acquireFuture.getNow();
+                final boolean reused = channel.attr(REUSED).get() != null;
+                if (reused) {
+                    Metrics.increment(FORWARD_CONNECTION_POOL_REUSED_COUNT);
+                }
+                final CompletableFuture<Message> responseFuture = new CompletableFuture<>();
+                final AtomicBoolean writeFailed = new AtomicBoolean();
+                channel.attr(RESPONSE_FUTURE).set(responseFuture);
+                // a remote host that never responds would otherwise hold the pooled connection forever
+                final ScheduledFuture<?> responseTimeout = channel.eventLoop().schedule(
+                    () -> responseFuture.completeExceptionally(new SocketCommunicationException("Response was not received from " + remoteAddress + " after " + ConfigurationProperties.maxSocketTimeout() + " milliseconds", null)),
+                    ConfigurationProperties.maxSocketTimeout(),
+                    TimeUnit.MILLISECONDS
+                );
+                responseFuture.whenComplete((message, throwable) -> {
+                    responseTimeout.cancel(false);
+                    if (throwable == null && isKeepAlive(httpRequest, message)) {
+                        channel.attr(REUSED).set(Boolean.TRUE);
+                    } else {
+                        channel.close();
+                    }
+                    channelPool.release(channel);
+                    if (throwable == null) {
+                        httpResponseFuture.complete((HttpResponse) message);
+                    } else if (reused && isStaleConnection(throwable) && (writeFailed.get() || isIdempotent(httpRequest))) {
+                        // the remote host closed the idle connection before receiving the request, only retried if the
+                        // request wasn't written or can safely be received twice
+                        if (MockServerLogger.isEnabled(Level.TRACE)) {
+                            mockServerLogger.logEvent(
+                                new LogEntry()
+                                    .setLogLevel(Level.TRACE)
+                                    .setMessageFormat("retrying request on new connection after pooled connection to{}was closed by remote host")
+                                    .setArguments(remoteAddress)
+                            );
+                        }
+                        retryWithNewConnection.run();
+                    } else {
+                        httpResponseFuture.completeExceptionally(throwable);
+                    }
+                });
+                channel.writeAndFlush(httpRequest).addListener((ChannelFutureListener) writeFuture -> {
+                    if (!writeFuture.isSuccess()) {
+                        writeFailed.set(true);
+                        responseFuture.completeExceptionally(writeFuture.cause());
+                    }
+                });
+            } else {
+                httpResponseFuture.completeExceptionally(acquireFuture.cause());
+            }
+        });
+    }
+
+    /**
+     * Closes every pooled connection, must be called before the event loop group is shutdown
+     */
+    void close() {
+        try {
+            channelPools.close();
+        } catch (Throwable throwable) {
+            if (MockServerLogger.isEnabled(Level.DEBUG)) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setLogLevel(Level.DEBUG)
+                        .setMessageFormat("exception closing forward connection pool " + throwable.getMessage())
+                        .setThrowable(throwable)
+                );
+            }
+        }
+    }
+
+    private boolean isKeepAlive(HttpRequest httpRequest, Message message) {
+        return !Boolean.FALSE.equals(httpRequest.isKeepAlive())
+            && message instanceof HttpResponse
+            && !"close".equalsIgnoreCase(((HttpResponse) message).getFirstHeader("connection"));
+    }
+
+    private boolean isStaleConnection(Throwable throwable) {
+        return throwable instanceof SocketConnectionException || throwable instanceof IOException;
+    }
+
+    private boolean isIdempotent(HttpRequest httpRequest) {
+        return IDEMPOTENT_METHODS.contains(httpRequest.getMethod("GET").toUpperCase());
+    }
+
+    private class PooledConnectionHandler extends AbstractChannelPoolHandler {
+
+        @Override
+        public void channelCreated(Channel channel) {
+            Metrics.increment(FORWARD_CONNECTION_POOL_CREATED_COUNT);
+            channel.attr(POOLED).set(Boolean.TRUE);
+            channel.pipeline().addLast(new IdleStateHandler(0, 0, idleTimeoutMillis, TimeUnit.MILLISECONDS));
+            channel.pipeline().addLast(new ChannelInboundHandlerAdapter() {
+                @Override
+                public void userEventTriggered(ChannelHandlerContext ctx, Object event) throws Exception {
+                    if (event instanceof IdleStateEvent && ctx.channel().attr(IN_USE).get() == null) {
+                        Metrics.increment(FORWARD_CONNECTION_POOL_IDLE_EVICTED_COUNT);
+                        ctx.close();
+                    } else {
+                        super.userEventTriggered(ctx, event);
+                    }
+                }
+            });
+            channel.pipeline().addLast(new HttpClientInitializer(null, mockServerLogger, forwardProxyClient, nettySslContextFactory, true));
+        }
+
+        @Override
+        public void channelAcquired(Channel channel) {
+            channel.attr(IN_USE).set(Boolean.TRUE);
+            int connectionsInUse = inUse.incrementAndGet();
+            if (ConfigurationProperties.metricsEnabled()) {
+                Metrics.set(FORWARD_CONNECTION_POOL_IN_USE_COUNT, connectionsInUse);
+            }
+        }
+
+        @Override
+        public void channelReleased(Channel channel) {
+            channel.attr(IN_USE).set(null);
+            int connectionsInUse = inUse.decrementAndGet();
+            if (ConfigurationProperties.metricsEnabled()) {
+                Metrics.set(FORWARD_CONNECTION_POOL_IN_USE_COUNT, connectionsInUse);
+            }
+        }
+    }
+
+    private static class PoolKey {
+        private final InetSocketAddress remoteAddress;
+        private final boolean secure;
+        private final int connectionTimeoutMillis;
+        private final int hashCode;
+
+        private PoolKey(InetSocketAddress remoteAddress, boolean secure, Integer connectionTimeoutMillis) {
+            this.remoteAddress = remoteAddress;
+            this.secure = secure;
+            this.connectionTimeoutMillis = connectionTimeoutMillis != null ? connectionTimeoutMillis : ConfigurationProperties.socketConnectionTimeout();
+            this.hashCode = Objects.hash(remoteAddress, secure, this.connectionTimeoutMillis);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            PoolKey poolKey = (PoolKey) o;
+            return secure == poolKey.secure &&
+                connectionTimeoutMillis == poolKey.connectionTimeoutMillis &&
+                Objects.equals(remoteAddress, poolKey.remoteAddress);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -8,10 +8,13 @@ import io.netty.handler.ssl.NotSslRecordException;
 import org.mockserver.model.Message;
 
 import javax.net.ssl.SSLException;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.mockserver.client.HttpClientConnectionPool.POOLED;
 import static org.mockserver.client.NettyHttpClient.RESPONSE_FUTURE;
 
 @ChannelHandler.Sharable
@@ -30,7 +33,19 @@ public class HttpClientHandler extends SimpleChannelInboundHandler<Message> {
     @Override
     public void channelRead0(ChannelHandlerContext ctx, Message response) {
         ctx.channel().attr(RESPONSE_FUTURE).get().complete(response);
-        ctx.close();
+        if (ctx.channel().attr(POOLED).get() == null) {
+            ctx.close();
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        // a pooled connection closed by the remote host, other connections are failed when their handlers are removed
+        CompletableFuture<Message> responseFuture = ctx.channel().attr(RESPONSE_FUTURE).get();
+        if (ctx.channel().attr(POOLED).get() != null && responseFuture != null && !responseFuture.isDone()) {
+            responseFuture.completeExceptionally(new IOException("connection closed by remote host before response was received"));
+        }
+        super.channelInactive(ctx);
     }
 
     @Override
@@ -4,15 +4,15 @@ import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
-import io.netty.channel.ChannelFutureListener;
-import io.netty.channel.ChannelOption;
-import io.netty.channel.EventLoopGroup;
-import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.*;
+import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.util.AttributeKey;
 import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.metrics.Metrics;
 import org.mockserver.model.BinaryMessage;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
@@ -31,6 +31,8 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import static org.mockserver.metrics.Metrics.Timer.FORWARD_DURATION;
+
 public class NettyHttpClient {
 
     static final AttributeKey<Boolean> SECURE = AttributeKey.valueOf("SECURE");
@@ -41,6 +43,7 @@ public class NettyHttpClient {
     private final ProxyConfiguration proxyConfiguration;
     private final boolean forwardProxyClient;
     private final NettySslContextFactory nettySslContextFactory;
+    private final HttpClientConnectionPool connectionPool;
 
     public NettyHttpClient(MockServerLogger mockServerLogger, EventLoopGroup eventLoopGroup, ProxyConfiguration proxyConfiguration, boolean forwardProxyClient) {
         this(mockServerLogger, eventLoopGroup, proxyConfiguration, forwardProxyClient, new NettySslContextFactory(mockServerLogger));
@@ -52,6 +55,7 @@ public class NettyHttpClient {
         this.proxyConfiguration = proxyConfiguration;
         this.forwardProxyClient = forwardProxyClient;
         this.nettySslContextFactory = nettySslContextFactory;
+        this.connectionPool = forwardProxyClient && proxyConfiguration == null && ConfigurationProperties.forwardConnectionPoolEnabled() ? new HttpClientConnectionPool(mockServerLogger, eventLoopGroup, forwardProxyClient, nettySslContextFactory) : null;
     }
 
     public CompletableFuture<HttpResponse> sendRequest(final HttpRequest httpRequest) throws SocketConnectionException {
@@ -71,43 +75,55 @@ public class NettyHttpClient {
             }
 
             final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
-            final CompletableFuture<Message> responseFuture = new CompletableFuture<>();
-            new Bootstrap()
-                .group(eventLoopGroup)
-                .channel(NioSocketChannel.class)
-                .option(ChannelOption.AUTO_READ, true)
-                .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
-                .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024, 32 * 1024))
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectionTimeoutMillis)
-                .attr(SECURE, httpRequest.isSecure() != null && httpRequest.isSecure())
-                .attr(REMOTE_SOCKET, remoteAddress)
-                .attr(RESPONSE_FUTURE, responseFuture)
-                .handler(new HttpClientInitializer(proxyConfiguration, mockServerLogger, forwardProxyClient, nettySslContextFactory, true))
-                .connect(remoteAddress)
-                .addListener((ChannelFutureListener) future -> {
-                    if (future.isSuccess()) {
-                        // send the HTTP request
-                        future.channel().writeAndFlush(httpRequest);
-                    } else {
-                        httpResponseFuture.completeExceptionally(future.cause());
-                    }
-                });
-
-            responseFuture
-                .whenComplete((message, throwable) -> {
-                    if (throwable == null) {
-                        httpResponseFuture.complete((HttpResponse) message);
-                    } else {
-                        httpResponseFuture.completeExceptionally(throwable);
-                    }
-                });
-
+            if (ConfigurationProperties.metricsEnabled()) {
+                long startNanos = System.nanoTime();
+                httpResponseFuture.whenComplete((httpResponse, throwable) -> Metrics.recordDuration(FORWARD_DURATION, startNanos));
+            }
+            if (connectionPool != null) {
+                final InetSocketAddress pooledRemoteAddress = remoteAddress;
+                connectionPool.sendRequest(httpRequest, pooledRemoteAddress, connectionTimeoutMillis, httpResponseFuture, () -> sendRequestOnNewConnection(httpRequest, pooledRemoteAddress, connectionTimeoutMillis, httpResponseFuture));
+            } else {
+                sendRequestOnNewConnection(httpRequest, remoteAddress, connectionTimeoutMillis, httpResponseFuture);
+            }
             return httpResponseFuture;
         } else {
             throw new IllegalStateException("Request sent after client has been stopped - the event loop has been shutdown so it is not possible to send a request");
         }
     }
 
+    private void sendRequestOnNewConnection(final HttpRequest httpRequest, final InetSocketAddress remoteAddress, final Integer connectionTimeoutMillis, final CompletableFuture<HttpResponse> httpResponseFuture) {
+        final CompletableFuture<Message> responseFuture = new CompletableFuture<>();
+        new Bootstrap()
+            .group(eventLoopGroup)
+            .channel(NioSocketChannel.class)
+            .option(ChannelOption.AUTO_READ, true)
+            .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+            .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024, 32 * 1024))
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectionTimeoutMillis)
+            .attr(SECURE, httpRequest.isSecure() != null && httpRequest.isSecure())
+            .attr(REMOTE_SOCKET, remoteAddress)
+            .attr(RESPONSE_FUTURE, responseFuture)
+            .handler(new HttpClientInitializer(proxyConfiguration, mockServerLogger, forwardProxyClient, nettySslContextFactory, true))
+            .connect(remoteAddress)
+            .addListener((ChannelFutureListener) future -> {
+                if (future.isSuccess()) {
+                    // send the HTTP request
+                    future.channel().writeAndFlush(httpRequest);
+                } else {
+                    httpResponseFuture.completeExceptionally(future.cause());
+                }
+            });
+
+        responseFuture
+            .whenComplete((message, throwable) -> {
+                if (throwable == null) {
+                    httpResponseFuture.complete((HttpResponse) message);
+                } else {
+                    httpResponseFuture.completeExceptionally(throwable);
+                }
+            });
+    }
+
     public CompletableFuture<BinaryMessage> sendRequest(final BinaryMessage binaryRequest, final boolean isSecure, InetSocketAddress remoteAddress, Integer connectionTimeoutMillis) throws SocketConnectionException {
         if (!eventLoopGroup.isShuttingDown()) {
             if (proxyConfiguration != null && proxyConfiguration.getType() == ProxyConfiguration.Type.HTTP) {
@@ -163,6 +179,81 @@ public class NettyHttpClient {
         }
     }
 
+    /**
+     * Opens a connection that relays raw netty HttpObjects so request and response bodies can be streamed
+     * instead of aggregated, each part of the response is passed to the responseHandler as it is received.
+     * <p>
+     * Streaming is not supported via an upstream proxy, see {@link #isProxied()}
+     */
+    public ChannelFuture connect(final boolean isSecure, final InetSocketAddress remoteAddress, final EventLoop eventLoop, final ChannelHandler responseHandler) {
+        if (!eventLoopGroup.isShuttingDown()) {
+            return new Bootstrap()
+                .group(eventLoop != null ? eventLoop : eventLoopGroup)
+                .channel(NioSocketChannel.class)
+                .option(ChannelOption.AUTO_READ, true)
+                .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024, 32 * 1024))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, ConfigurationProperties.socketConnectionTimeout())
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel channel) {
+                        ChannelPipeline pipeline = channel.pipeline();
+                        if (isSecure) {
+                            pipeline.addLast(nettySslContextFactory.createClientSslContext(forwardProxyClient).newHandler(channel.alloc(), remoteAddress.getHostName(), remoteAddress.getPort()));
+                        }
+                        pipeline.addLast(new HttpClientCodec());
+                        pipeline.addLast(responseHandler);
+                    }
+                })
+                .connect(remoteAddress);
+        } else {
+            throw new IllegalStateException("Request sent after client has been stopped - the event loop has been shutdown so it is not possible to send a request");
+        }
+    }
+
+    /**
+     * Opens a connection that relays raw bytes, with no codec, each ByteBuf received is passed to the responseHandler.
+     * <p>
+     * Relaying is not supported via an upstream proxy, see {@link #isProxied()}
+     */
+    public ChannelFuture connectBinary(final boolean isSecure, final InetSocketAddress remoteAddress, final EventLoop eventLoop, final ChannelHandler responseHandler) {
+        if (!eventLoopGroup.isShuttingDown()) {
+            return new Bootstrap()
+                .group(eventLoop != null ? eventLoop : eventLoopGroup)
+                .channel(NioSocketChannel.class)
+                .option(ChannelOption.AUTO_READ, true)
+                .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024, 32 * 1024))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, ConfigurationProperties.socketConnectionTimeout())
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel channel) {
+                        ChannelPipeline pipeline = channel.pipeline();
+                        if (isSecure) {
+                            pipeline.addLast(nettySslContextFactory.createClientSslContext(forwardProxyClient).newHandler(channel.alloc(), remoteAddress.getHostName(), remoteAddress.getPort()));
+                        }
+                        pipeline.addLast(responseHandler);
+                    }
+                })
+                .connect(remoteAddress);
+        } else {
+            throw new IllegalStateException("Request sent after client has been stopped - the event loop has been shutdown so it is not possible to send a request");
+        }
+    }
+
+    /**
+     * Closes any pooled connections, before the event loop group is shutdown
+     */
+    public void stop() {
+        if (connectionPool != null) {
+            connectionPool.close();
+        }
+    }
+
+    public boolean isProxied() {
+        return proxyConfiguration != null;
+    }
+
     public HttpResponse sendRequest(HttpRequest httpRequest, long timeout, TimeUnit unit, boolean ignoreErrors) {
         HttpResponse httpResponse = null;
         try {
@@ -21,6 +21,23 @@ public class BodyDecoderEncoder {
         }
     }
 
+    public ByteBuf bodyToByteBuf(Body body, String contentTypeHeader, PreEncodedBody preEncodedBody) {
+        if (preEncodedBody != null && preEncodedBody.isValidFor(body, contentTypeHeader)) {
+            return preEncodedBody.duplicate();
+        } else {
+            return bodyToByteBuf(body, contentTypeHeader);
+        }
+    }
+
+    public PreEncodedBody preEncode(Body body, String contentTypeHeader) {
+        byte[] bytes = bodyToBytes(body, contentTypeHeader);
+        if (bytes != null && bytes.length > 0) {
+            return new PreEncodedBody(body, contentTypeHeader, bytes);
+        } else {
+            return null;
+        }
+    }
+
     public ByteBuf[] bodyToByteBuf(Body body, String contentTypeHeader, int chunkSize) {
         byte[][] chunks = split(bodyToBytes(body, contentTypeHeader), chunkSize);
         ByteBuf[] byteBufs = new ByteBuf[chunks.length];
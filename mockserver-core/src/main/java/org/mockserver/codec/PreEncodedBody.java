@@ -0,0 +1,39 @@
+package org.mockserver.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.mockserver.model.Body;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A response body encoded once, when the expectation is added, into a direct buffer which is written for each matching
+ * request as a duplicate so the body is neither re-encoded nor copied.
+ * <p>
+ * The buffer can't be released so is freed when the expectation's response is garbage collected, it is only valid
+ * for the exact body instance and Content-Type header it was encoded with.
+ *
+ * @author jamesdbloom
+ */
+public class PreEncodedBody {
+
+    private final Body<?> body;
+    private final String contentTypeHeader;
+    private final ByteBuf buffer;
+
+    PreEncodedBody(Body<?> body, String contentTypeHeader, byte[] bytes) {
+        this.body = body;
+        this.contentTypeHeader = contentTypeHeader;
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length);
+        directBuffer.put(bytes).flip();
+        this.buffer = Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(directBuffer));
+    }
+
+    public boolean isValidFor(Body<?> body, String contentTypeHeader) {
+        return this.body == body && (this.contentTypeHeader == null ? contentTypeHeader == null : this.contentTypeHeader.equals(contentTypeHeader));
+    }
+
+    public ByteBuf duplicate() {
+        return buffer.duplicate();
+    }
+}
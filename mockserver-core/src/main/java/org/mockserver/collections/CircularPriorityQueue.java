@@ -2,14 +2,19 @@ package org.mockserver.collections;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
+ * Priority ordered collection with a maximum size, once full the oldest inserted element is removed.
+ * <p>
+ * Insertion order is tracked by key so add, remove and size are O(1), reads of the priority order and key map are
+ * lock free.
+ *
  * @author jamesdbloom
  */
 public class CircularPriorityQueue<K, V, SLK extends Keyed<K>> {
@@ -17,14 +22,25 @@ public class CircularPriorityQueue<K, V, SLK extends Keyed<K>> {
     private final Function<V, SLK> skipListKeyFunction;
     private final Function<V, K> mapKeyFunction;
     private final ConcurrentSkipListSet<SLK> sortOrderSkipList;
-    private final ConcurrentLinkedQueue<V> insertionOrderQueue = new ConcurrentLinkedQueue<>();
+    // guarded by itself
+    private final LinkedHashMap<K, V> insertionOrder = new LinkedHashMap<>();
     private final ConcurrentMap<K, V> byKey = new ConcurrentHashMap<>();
+    private final Consumer<V> evictionListener;
 
     public CircularPriorityQueue(int maxSize, Comparator<? super SLK> skipListComparator, Function<V, SLK> skipListKeyFunction, Function<V, K> mapKeyFunction) {
+        this(maxSize, skipListComparator, skipListKeyFunction, mapKeyFunction, evictedElement -> {
+        });
+    }
+
+    /**
+     * @param evictionListener called, outside the lock, with each element removed because the maximum size was exceeded
+     */
+    public CircularPriorityQueue(int maxSize, Comparator<? super SLK> skipListComparator, Function<V, SLK> skipListKeyFunction, Function<V, K> mapKeyFunction, Consumer<V> evictionListener) {
         sortOrderSkipList = new ConcurrentSkipListSet<>(skipListComparator);
         this.maxSize = maxSize;
         this.skipListKeyFunction = skipListKeyFunction;
         this.mapKeyFunction = mapKeyFunction;
+        this.evictionListener = evictionListener;
     }
 
     public void setMaxSize(int maxSize) {
@@ -41,29 +57,73 @@ public class CircularPriorityQueue<K, V, SLK extends Keyed<K>> {
 
     public void add(V element) {
         if (maxSize > 0 && element != null) {
-            insertionOrderQueue.offer(element);
-            sortOrderSkipList.add(skipListKeyFunction.apply(element));
-            byKey.put(mapKeyFunction.apply(element), element);
-            while (insertionOrderQueue.size() > maxSize) {
-                V elementToRemove = insertionOrderQueue.poll();
-                sortOrderSkipList.remove(skipListKeyFunction.apply(elementToRemove));
-                byKey.remove(mapKeyFunction.apply(elementToRemove));
+            List<V> evictedElements;
+            synchronized (insertionOrder) {
+                insert(element);
+                evictedElements = removeOldest();
             }
+            evictedElements.forEach(evictionListener);
+        }
+    }
+
+    /**
+     * Adds all elements holding the lock once, instead of once per element, the oldest elements are only removed
+     * after all elements have been added
+     */
+    public void addAll(Collection<V> elements) {
+        if (maxSize > 0 && elements != null) {
+            List<V> evictedElements;
+            synchronized (insertionOrder) {
+                for (V element : elements) {
+                    if (element != null) {
+                        insert(element);
+                    }
+                }
+                evictedElements = removeOldest();
+            }
+            evictedElements.forEach(evictionListener);
+        }
+    }
+
+    private void insert(V element) {
+        K key = mapKeyFunction.apply(element);
+        insertionOrder.remove(key);
+        insertionOrder.put(key, element);
+        sortOrderSkipList.add(skipListKeyFunction.apply(element));
+        byKey.put(key, element);
+    }
+
+    private List<V> removeOldest() {
+        if (insertionOrder.size() <= maxSize) {
+            return Collections.emptyList();
+        }
+        List<V> evictedElements = new ArrayList<>();
+        Iterator<V> oldest = insertionOrder.values().iterator();
+        while (insertionOrder.size() > maxSize) {
+            V elementToRemove = oldest.next();
+            oldest.remove();
+            sortOrderSkipList.remove(skipListKeyFunction.apply(elementToRemove));
+            byKey.remove(mapKeyFunction.apply(elementToRemove));
+            evictedElements.add(elementToRemove);
         }
+        return evictedElements;
     }
 
     public boolean remove(V element) {
         if (element != null) {
-            insertionOrderQueue.remove(element);
-            byKey.remove(mapKeyFunction.apply(element));
-            return sortOrderSkipList.remove(skipListKeyFunction.apply(element));
+            K key = mapKeyFunction.apply(element);
+            synchronized (insertionOrder) {
+                insertionOrder.remove(key);
+                byKey.remove(key);
+                return sortOrderSkipList.remove(skipListKeyFunction.apply(element));
+            }
         } else {
             return false;
         }
     }
 
     public int size() {
-        return insertionOrderQueue.size();
+        return byKey.size();
     }
 
     public Stream<V> stream() {
@@ -83,7 +143,7 @@ public class CircularPriorityQueue<K, V, SLK extends Keyed<K>> {
     }
 
     public boolean isEmpty() {
-        return insertionOrderQueue.isEmpty();
+        return byKey.isEmpty();
     }
 
     public List<V> toSortedList() {
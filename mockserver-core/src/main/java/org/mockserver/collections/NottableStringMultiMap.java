@@ -18,9 +18,11 @@ import static org.mockserver.collections.SubSetMatcher.containsSubset;
  */
 public class NottableStringMultiMap extends ObjectWithReflectiveEqualsHashCodeToString {
 
+    private static final String[] EXCLUDED_FIELDS = {"hashCode"};
     private final Map<NottableString, List<NottableString>> backingMap = new LinkedHashMap<>();
     private final RegexStringMatcher regexStringMatcher;
     private final KeyMatchStyle keyMatchStyle;
+    private int hashCode;
 
     public NottableStringMultiMap(MockServerLogger mockServerLogger, boolean controlPlaneMatcher, KeyMatchStyle keyMatchStyle, List<? extends KeyToMultiValue> entries) {
         this.keyMatchStyle = keyMatchStyle;
@@ -41,6 +43,11 @@ public class NottableStringMultiMap extends ObjectWithReflectiveEqualsHashCodeTo
         }
     }
 
+    @Override
+    protected String[] fieldsExcludedFromEqualsAndHashCode() {
+        return EXCLUDED_FIELDS;
+    }
+
     public boolean containsAll(NottableStringMultiMap subset) {
         switch (subset.keyMatchStyle) {
             case SUB_SET: {
@@ -126,7 +133,29 @@ public class NottableStringMultiMap extends ObjectWithReflectiveEqualsHashCodeTo
             return Collections.emptyList();
         }
     }
-}
-
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (hashCode() != o.hashCode()) {
+            return false;
+        }
+        NottableStringMultiMap that = (NottableStringMultiMap) o;
+        return Objects.equals(backingMap, that.backingMap) &&
+            Objects.equals(regexStringMatcher, that.regexStringMatcher) &&
+            keyMatchStyle == that.keyMatchStyle;
+    }
 
+    @Override
+    public int hashCode() {
+        if (hashCode == 0) {
+            hashCode = Objects.hash(backingMap, regexStringMatcher, keyMatchStyle);
+        }
+        return hashCode;
+    }
+}
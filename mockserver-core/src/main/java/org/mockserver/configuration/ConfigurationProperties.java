@@ -5,6 +5,7 @@ import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
 import com.google.common.net.InetAddresses;
+import org.apache.commons.lang3.StringUtils;
 import org.mockserver.file.FileReader;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
@@ -39,6 +40,10 @@ public class ConfigurationProperties {
     private static final String DEFAULT_LOG_LEVEL = "INFO";
     private static final long DEFAULT_MAX_TIMEOUT = 20;
     private static final int DEFAULT_CONNECT_TIMEOUT = 20000;
+    private static final String DEFAULT_FORWARD_CONNECTION_POOL_ENABLED = "false";
+    private static final int DEFAULT_FORWARD_CONNECTION_POOL_MAX_CONNECTIONS_PER_HOST = 20;
+    private static final long DEFAULT_FORWARD_CONNECTION_POOL_IDLE_TIMEOUT = 30000;
+    private static final String DEFAULT_BINARY_PROXY_RELAY_ENABLED = "false";
     private static final String DEFAULT_MOCKSERVER_ALWAYS_CLOSE_SOCKET_CONNECTIONS = "false";
     private static final int DEFAULT_MAX_FUTURE_TIMEOUT = 60;
     private static final String DEFAULT_OUTPUT_MEMORY_USAGE_CSV = "false";
@@ -46,11 +51,20 @@ public class ConfigurationProperties {
     private static final int DEFAULT_MAX_INITIAL_LINE_LENGTH = Integer.MAX_VALUE;
     private static final int DEFAULT_MAX_HEADER_SIZE = Integer.MAX_VALUE;
     private static final int DEFAULT_MAX_CHUNK_SIZE = Integer.MAX_VALUE;
+    private static final int DEFAULT_BODY_AGGREGATION_THRESHOLD = Integer.MAX_VALUE;
     private static final String DEFAULT_ENABLE_CORS_FOR_API = "false";
     private static final String DEFAULT_ENABLE_CORS_FOR_ALL_RESPONSES = "false";
     private static final String DEFAULT_PREVENT_CERTIFICATE_DYNAMIC_UPDATE = "false";
     private static final int DEFAULT_NIO_EVENT_LOOP_THREAD_COUNT = 5;
     private static final int DEFAULT_ACTION_HANDLER_THREAD_COUNT = Math.max(5, Runtime.getRuntime().availableProcessors());
+    private static final long DEFAULT_SCHEDULER_TIMER_TICK_DURATION = 10;
+    private static final String DEFAULT_LAZY_EXPECTATION_VALIDATION = "false";
+    private static final int DEFAULT_MAXIMUM_NUMBER_OF_REQUESTS_IN_VERIFICATION_FAILURE = 10;
+    private static final String DEFAULT_EXPECTATION_INDEX_ENABLED = "true";
+    private static final String DEFAULT_USE_ELLIPTIC_CURVE_KEYS_FOR_LEAF_CERTIFICATES = "false";
+    private static final long DEFAULT_PERSISTED_EXPECTATIONS_WRITE_DELAY = 100;
+    private static final String DEFAULT_PERSISTED_EXPECTATIONS_JOURNAL = "false";
+    private static final int DEFAULT_PERSISTED_EXPECTATIONS_JOURNAL_COMPACTION_THRESHOLD = 1000;
     private static final int DEFAULT_WEB_SOCKET_CLIENT_EVENT_LOOP_THREAD_COUNT = 5;
     private static final String DEFAULT_CERTIFICATE_AUTHORITY_PRIVATE_KEY = "org/mockserver/socket/PKCS8CertificateAuthorityPrivateKey.pem";
     private static final String DEFAULT_CERTIFICATE_AUTHORITY_X509_CERTIFICATE = "org/mockserver/socket/CertificateAuthorityCertificate.pem";
@@ -71,24 +85,34 @@ public class ConfigurationProperties {
     private static final String MOCKSERVER_ENABLE_CORS_FOR_API = "mockserver.enableCORSForAPI";
     private static final String MOCKSERVER_ENABLE_CORS_FOR_ALL_RESPONSES = "mockserver.enableCORSForAllResponses";
     private static final String MOCKSERVER_MAX_EXPECTATIONS = "mockserver.maxExpectations";
+    private static final String MOCKSERVER_LAZY_EXPECTATION_VALIDATION = "mockserver.lazyExpectationValidation";
     private static final String MOCKSERVER_MAX_LOG_ENTRIES = "mockserver.maxLogEntries";
+    private static final String MOCKSERVER_MAXIMUM_NUMBER_OF_REQUESTS_IN_VERIFICATION_FAILURE = "mockserver.maximumNumberOfRequestsInVerificationFailure";
     private static final String MOCKSERVER_OUTPUT_MEMORY_USAGE_CSV = "mockserver.outputMemoryUsageCsv";
     private static final String MOCKSERVER_MEMORY_USAGE_DIRECTORY = "mockserver.memoryUsageCsvDirectory";
     private static final String MOCKSERVER_MAX_WEB_SOCKET_EXPECTATIONS = "mockserver.maxWebSocketExpectations";
     private static final String MOCKSERVER_MAX_INITIAL_LINE_LENGTH = "mockserver.maxInitialLineLength";
     private static final String MOCKSERVER_MAX_HEADER_SIZE = "mockserver.maxHeaderSize";
     private static final String MOCKSERVER_MAX_CHUNK_SIZE = "mockserver.maxChunkSize";
+    private static final String MOCKSERVER_BODY_AGGREGATION_THRESHOLD = "mockserver.bodyAggregationThreshold";
     private static final String MOCKSERVER_NIO_EVENT_LOOP_THREAD_COUNT = "mockserver.nioEventLoopThreadCount";
     private static final String MOCKSERVER_ACTION_HANDLER_THREAD_COUNT = "mockserver.actionHandlerThreadCount";
+    private static final String MOCKSERVER_SCHEDULER_TIMER_TICK_DURATION = "mockserver.schedulerTimerTickDuration";
     private static final String MOCKSERVER_WEB_SOCKET_CLIENT_EVENT_LOOP_THREAD_COUNT = "mockserver.webSocketClientEventLoopThreadCount";
     private static final String MOCKSERVER_MAX_SOCKET_TIMEOUT = "mockserver.maxSocketTimeout";
     private static final String MOCKSERVER_MAX_FUTURE_TIMEOUT = "mockserver.maxFutureTimeout";
     private static final String MOCKSERVER_SOCKET_CONNECTION_TIMEOUT = "mockserver.socketConnectionTimeout";
+    private static final String MOCKSERVER_FORWARD_CONNECTION_POOL_ENABLED = "mockserver.forwardConnectionPoolEnabled";
+    private static final String MOCKSERVER_FORWARD_CONNECTION_POOL_MAX_CONNECTIONS_PER_HOST = "mockserver.forwardConnectionPoolMaxConnectionsPerHost";
+    private static final String MOCKSERVER_FORWARD_CONNECTION_POOL_IDLE_TIMEOUT = "mockserver.forwardConnectionPoolIdleTimeout";
+    private static final String MOCKSERVER_BINARY_PROXY_RELAY_ENABLED = "mockserver.binaryProxyRelayEnabled";
     private static final String MOCKSERVER_ALWAYS_CLOSE_SOCKET_CONNECTIONS = "mockserver.alwaysCloseSocketConnections";
     private static final String MOCKSERVER_SSL_CERTIFICATE_DOMAIN_NAME = "mockserver.sslCertificateDomainName";
     private static final String MOCKSERVER_SSL_SUBJECT_ALTERNATIVE_NAME_DOMAINS = "mockserver.sslSubjectAlternativeNameDomains";
     private static final String MOCKSERVER_SSL_SUBJECT_ALTERNATIVE_NAME_IPS = "mockserver.sslSubjectAlternativeNameIps";
+    private static final String MOCKSERVER_SSL_PRE_WARM_DOMAINS = "mockserver.sslPreWarmDomains";
     private static final String MOCKSERVER_USE_BOUNCY_CASTLE_FOR_KEY_AND_CERTIFICATE_GENERATION = "mockserver.useBouncyCastleForKeyAndCertificateGeneration";
+    private static final String MOCKSERVER_USE_ELLIPTIC_CURVE_KEYS_FOR_LEAF_CERTIFICATES = "mockserver.useEllipticCurveKeysForLeafCertificates";
     private static final String MOCKSERVER_PREVENT_CERTIFICATE_DYNAMIC_UPDATE = "mockserver.preventCertificateDynamicUpdate";
     private static final String MOCKSERVER_CERTIFICATE_AUTHORITY_PRIVATE_KEY = "mockserver.certificateAuthorityPrivateKey";
     private static final String MOCKSERVER_CERTIFICATE_AUTHORITY_X509_CERTIFICATE = "mockserver.certificateAuthorityCertificate";
@@ -108,6 +132,7 @@ public class ConfigurationProperties {
     private static final String MOCKSERVER_DETAILED_MATCH_FAILURES = "mockserver.detailedMatchFailures";
     private static final String MOCKSERVER_LAUNCH_UI_FOR_LOG_LEVEL_DEBUG = "mockserver.launchUIForLogLevelDebug";
     private static final String MOCKSERVER_MATCHERS_FAIL_FAST = "mockserver.matchersFailFast";
+    private static final String MOCKSERVER_EXPECTATION_INDEX_ENABLED = "mockserver.expectationIndexEnabled";
     private static final String MOCKSERVER_LOCAL_BOUND_IP = "mockserver.localBoundIP";
     private static final String MOCKSERVER_ATTEMPT_TO_PROXY_IF_NO_MATCHING_EXPECTATION = "mockserver.attemptToProxyIfNoMatchingExpectation";
     @Deprecated
@@ -124,11 +149,15 @@ public class ConfigurationProperties {
     private static final String MOCKSERVER_PROXY_SERVER_REALM = "mockserver.proxyAuthenticationRealm";
     private static final String MOCKSERVER_PROXY_AUTHENTICATION_USERNAME = "mockserver.proxyAuthenticationUsername";
     private static final String MOCKSERVER_PROXY_AUTHENTICATION_PASSWORD = "mockserver.proxyAuthenticationPassword";
+    private static final String MOCKSERVER_PROXY_PASS_THROUGH_HOSTS = "mockserver.proxyPassThroughHosts";
     private static final String MOCKSERVER_INITIALIZATION_CLASS = "mockserver.initializationClass";
     private static final String MOCKSERVER_INITIALIZATION_JSON_PATH = "mockserver.initializationJsonPath";
     private static final String MOCKSERVER_WATCH_INITIALIZATION_JSON = "mockserver.watchInitializationJson";
     private static final String MOCKSERVER_PERSISTED_EXPECTATIONS_PATH = "mockserver.persistedExpectationsPath";
     private static final String MOCKSERVER_PERSIST_EXPECTATIONS = "mockserver.persistExpectations";
+    private static final String MOCKSERVER_PERSISTED_EXPECTATIONS_WRITE_DELAY = "mockserver.persistedExpectationsWriteDelay";
+    private static final String MOCKSERVER_PERSISTED_EXPECTATIONS_JOURNAL = "mockserver.persistedExpectationsJournal";
+    private static final String MOCKSERVER_PERSISTED_EXPECTATIONS_JOURNAL_COMPACTION_THRESHOLD = "mockserver.persistedExpectationsJournalCompactionThreshold";
     private static final String MOCKSERVER_CORS_ALLOW_HEADERS = "mockserver.corsAllowHeaders";
     private static final String MOCKSERVER_CORS_ALLOW_METHODS = "mockserver.corsAllowMethods";
     private static final String MOCKSERVER_CORS_ALLOW_CREDENTIALS = "mockserver.corsAllowCredentials";
@@ -276,6 +305,22 @@ public class ConfigurationProperties {
         System.setProperty(MOCKSERVER_MAX_EXPECTATIONS, "" + count);
     }
 
+    public static boolean lazyExpectationValidation() {
+        return Boolean.parseBoolean(readPropertyHierarchically(MOCKSERVER_LAZY_EXPECTATION_VALIDATION, "MOCKSERVER_LAZY_EXPECTATION_VALIDATION", DEFAULT_LAZY_EXPECTATION_VALIDATION));
+    }
+
+    /**
+     * If true expectations are deserialised in a single pass and are only validated against the expectation json schema if they can't be
+     * deserialised (i.e. to explain the error), this makes adding large numbers of expectations much faster but expectations with unknown
+     * fields, or other errors that don't prevent deserialisation, are accepted, so it should only be enabled for trusted clients, if false
+     * (the default) every expectation is validated against the json schema before it is deserialised
+     *
+     * @param enable enable lazy expectation validation
+     */
+    public static void lazyExpectationValidation(boolean enable) {
+        System.setProperty(MOCKSERVER_LAZY_EXPECTATION_VALIDATION, "" + enable);
+    }
+
     public static int defaultMaxLogEntries() {
         return defaultMaxLogEntries;
     }
@@ -292,6 +337,21 @@ public class ConfigurationProperties {
         System.setProperty(MOCKSERVER_MAX_LOG_ENTRIES, "" + count);
     }
 
+    public static int maximumNumberOfRequestsInVerificationFailure() {
+        return readIntegerProperty(MOCKSERVER_MAXIMUM_NUMBER_OF_REQUESTS_IN_VERIFICATION_FAILURE, "MOCKSERVER_MAXIMUM_NUMBER_OF_REQUESTS_IN_VERIFICATION_FAILURE", DEFAULT_MAXIMUM_NUMBER_OF_REQUESTS_IN_VERIFICATION_FAILURE);
+    }
+
+    /**
+     * Maximum number of received requests included in a verification failure message, if more requests have been received only this
+     * number of requests closest to the verification (i.e. with the fewest mismatched fields) are included, with a count of the requests
+     * that didn't match by field
+     *
+     * @param count maximum number of requests in a verification failure
+     */
+    public static void maximumNumberOfRequestsInVerificationFailure(int count) {
+        System.setProperty(MOCKSERVER_MAXIMUM_NUMBER_OF_REQUESTS_IN_VERIFICATION_FAILURE, "" + count);
+    }
+
     public static int ringBufferSize() {
         return nextPowerOfTwo(Math.min(defaultMaxLogEntries(), 1500));
     }
@@ -358,6 +418,23 @@ public class ConfigurationProperties {
         maxChunkSize = readIntegerProperty(MOCKSERVER_MAX_CHUNK_SIZE, "MOCKSERVER_MAX_CHUNK_SIZE", DEFAULT_MAX_CHUNK_SIZE);
     }
 
+    public static int bodyAggregationThreshold() {
+        return readIntegerProperty(MOCKSERVER_BODY_AGGREGATION_THRESHOLD, "MOCKSERVER_BODY_AGGREGATION_THRESHOLD", DEFAULT_BODY_AGGREGATION_THRESHOLD);
+    }
+
+    /**
+     * Request bodies larger than this threshold (in bytes), or sent with chunked transfer-encoding, are streamed
+     * directly to the remote host instead of being aggregated in memory, when the request is proxied or only
+     * matches forward expectations that don't match on the body.
+     * <p>
+     * The default is Integer.MAX_VALUE which means all bodies are aggregated
+     *
+     * @param threshold size in bytes above which request bodies are streamed
+     */
+    public static void bodyAggregationThreshold(int threshold) {
+        System.setProperty(MOCKSERVER_BODY_AGGREGATION_THRESHOLD, "" + threshold);
+    }
+
     public static int nioEventLoopThreadCount() {
         return readIntegerProperty(MOCKSERVER_NIO_EVENT_LOOP_THREAD_COUNT, "MOCKSERVER_NIO_EVENT_LOOP_THREAD_COUNT", DEFAULT_NIO_EVENT_LOOP_THREAD_COUNT);
     }
@@ -374,6 +451,22 @@ public class ConfigurationProperties {
         System.setProperty(MOCKSERVER_ACTION_HANDLER_THREAD_COUNT, "" + count);
     }
 
+    public static long schedulerTimerTickDuration() {
+        return readLongProperty(MOCKSERVER_SCHEDULER_TIMER_TICK_DURATION, "MOCKSERVER_SCHEDULER_TIMER_TICK_DURATION", DEFAULT_SCHEDULER_TIMER_TICK_DURATION);
+    }
+
+    /**
+     * Tick duration of the hashed wheel timer used for response delays, socket close delays and expectation time to
+     * live expiry, delays fire at most one tick late
+     * <p>
+     * Must be set before MockServer is started.
+     *
+     * @param milliseconds tick duration of the hashed wheel timer
+     */
+    public static void schedulerTimerTickDuration(long milliseconds) {
+        System.setProperty(MOCKSERVER_SCHEDULER_TIMER_TICK_DURATION, "" + milliseconds);
+    }
+
     public static int webSocketClientEventLoopThreadCount() {
         return readIntegerProperty(MOCKSERVER_WEB_SOCKET_CLIENT_EVENT_LOOP_THREAD_COUNT, "MOCKSERVER_WEB_SOCKET_CLIENT_EVENT_LOOP_THREAD_COUNT", DEFAULT_WEB_SOCKET_CLIENT_EVENT_LOOP_THREAD_COUNT);
     }
@@ -406,6 +499,65 @@ public class ConfigurationProperties {
         System.setProperty(MOCKSERVER_SOCKET_CONNECTION_TIMEOUT, "" + milliseconds);
     }
 
+    public static boolean forwardConnectionPoolEnabled() {
+        return Boolean.parseBoolean(readPropertyHierarchically(MOCKSERVER_FORWARD_CONNECTION_POOL_ENABLED, "MOCKSERVER_FORWARD_CONNECTION_POOL_ENABLED", DEFAULT_FORWARD_CONNECTION_POOL_ENABLED));
+    }
+
+    /**
+     * Enable pooling of connections used to forward or proxy requests, so connections (and TLS sessions) to the same
+     * remote host are kept alive and reused instead of a new connection being opened for every request.
+     * <p>
+     * Must be set before MockServer is started.
+     *
+     * @param enable enable pooling of connections for forwarded requests
+     */
+    public static void forwardConnectionPoolEnabled(boolean enable) {
+        System.setProperty(MOCKSERVER_FORWARD_CONNECTION_POOL_ENABLED, "" + enable);
+    }
+
+    public static boolean binaryProxyRelayEnabled() {
+        return Boolean.parseBoolean(readPropertyHierarchically(MOCKSERVER_BINARY_PROXY_RELAY_ENABLED, "MOCKSERVER_BINARY_PROXY_RELAY_ENABLED", DEFAULT_BINARY_PROXY_RELAY_ENABLED));
+    }
+
+    /**
+     * Relay proxied binary (i.e. non-HTTP) connections over a single upstream connection per client connection, with
+     * bytes forwarded in both directions as they are received, instead of opening an upstream connection and waiting
+     * for a response for each message received.
+     * <p>
+     * In relay mode each connection is logged when opened and closed, individual messages are only logged at DEBUG.
+     *
+     * @param enable enable relaying of proxied binary connections
+     */
+    public static void binaryProxyRelayEnabled(boolean enable) {
+        System.setProperty(MOCKSERVER_BINARY_PROXY_RELAY_ENABLED, "" + enable);
+    }
+
+    public static int forwardConnectionPoolMaxConnectionsPerHost() {
+        return readIntegerProperty(MOCKSERVER_FORWARD_CONNECTION_POOL_MAX_CONNECTIONS_PER_HOST, "MOCKSERVER_FORWARD_CONNECTION_POOL_MAX_CONNECTIONS_PER_HOST", DEFAULT_FORWARD_CONNECTION_POOL_MAX_CONNECTIONS_PER_HOST);
+    }
+
+    /**
+     * Maximum number of pooled connections to each remote host, additional requests wait for a connection to be released
+     *
+     * @param count maximum number of connections to each remote host
+     */
+    public static void forwardConnectionPoolMaxConnectionsPerHost(int count) {
+        System.setProperty(MOCKSERVER_FORWARD_CONNECTION_POOL_MAX_CONNECTIONS_PER_HOST, "" + count);
+    }
+
+    public static long forwardConnectionPoolIdleTimeout() {
+        return readLongProperty(MOCKSERVER_FORWARD_CONNECTION_POOL_IDLE_TIMEOUT, "MOCKSERVER_FORWARD_CONNECTION_POOL_IDLE_TIMEOUT", DEFAULT_FORWARD_CONNECTION_POOL_IDLE_TIMEOUT);
+    }
+
+    /**
+     * Pooled connections that have been idle for longer than this timeout are closed
+     *
+     * @param milliseconds idle timeout for pooled connections
+     */
+    public static void forwardConnectionPoolIdleTimeout(long milliseconds) {
+        System.setProperty(MOCKSERVER_FORWARD_CONNECTION_POOL_IDLE_TIMEOUT, "" + milliseconds);
+    }
+
     public static void alwaysCloseSocketConnections(boolean alwaysClose) {
         System.setProperty(MOCKSERVER_ALWAYS_CLOSE_SOCKET_CONNECTIONS, "" + alwaysClose);
         alwaysCloseConnections = Boolean.parseBoolean(readPropertyHierarchically(MOCKSERVER_ALWAYS_CLOSE_SOCKET_CONNECTIONS, "MOCKSERVER_ALWAYS_CLOSE_SOCKET_CONNECTIONS", DEFAULT_MOCKSERVER_ALWAYS_CLOSE_SOCKET_CONNECTIONS));
@@ -455,6 +607,21 @@ public class ConfigurationProperties {
         }
     }
 
+    public static String[] sslPreWarmDomains() {
+        String preWarmDomains = readPropertyHierarchically(MOCKSERVER_SSL_PRE_WARM_DOMAINS, "MOCKSERVER_SSL_PRE_WARM_DOMAINS", "");
+        return isNotBlank(preWarmDomains) ? Arrays.stream(preWarmDomains.split(",")).map(String::trim).filter(StringUtils::isNotBlank).toArray(String[]::new) : new String[0];
+    }
+
+    /**
+     * Domains added to the certificate's Subject Alternative Names with the TLS context created in the background when
+     * MockServer starts so the first TLS connection for each domain does not wait for a certificate to be generated
+     *
+     * @param domains domains to create a TLS context for when MockServer starts
+     */
+    public static void sslPreWarmDomains(String... domains) {
+        System.setProperty(MOCKSERVER_SSL_PRE_WARM_DOMAINS, Joiner.on(",").join(domains));
+    }
+
     public static void clearSslSubjectAlternativeNameDomains() {
         ALL_SUBJECT_ALTERNATIVE_DOMAINS.clear();
     }
@@ -529,6 +696,20 @@ public class ConfigurationProperties {
         return Boolean.parseBoolean(readPropertyHierarchically(MOCKSERVER_USE_BOUNCY_CASTLE_FOR_KEY_AND_CERTIFICATE_GENERATION, "MOCKSERVER_USE_BOUNCY_CASTLE_FOR_KEY_AND_CERTIFICATE_GENERATION", "false"));
     }
 
+    public static boolean useEllipticCurveKeysForLeafCertificates() {
+        return Boolean.parseBoolean(readPropertyHierarchically(MOCKSERVER_USE_ELLIPTIC_CURVE_KEYS_FOR_LEAF_CERTIFICATES, "MOCKSERVER_USE_ELLIPTIC_CURVE_KEYS_FOR_LEAF_CERTIFICATES", DEFAULT_USE_ELLIPTIC_CURVE_KEYS_FOR_LEAF_CERTIFICATES));
+    }
+
+    /**
+     * Use EC P-256 instead of 2048 bit RSA keys for dynamically generated leaf certificates (the certificate authority
+     * key is unchanged), EC keys are much faster to generate and TLS handshakes with them are cheaper
+     *
+     * @param enable use EC P-256 keys for dynamically generated leaf certificates
+     */
+    public static void useEllipticCurveKeysForLeafCertificates(boolean enable) {
+        System.setProperty(MOCKSERVER_USE_ELLIPTIC_CURVE_KEYS_FOR_LEAF_CERTIFICATES, "" + enable);
+    }
+
     /**
      * Prevent certificates from dynamically updating when domain list changes
      *
@@ -830,10 +1011,31 @@ public class ConfigurationProperties {
         matchersFailFast = Boolean.parseBoolean(readPropertyHierarchically(MOCKSERVER_MATCHERS_FAIL_FAST, "MOCKSERVER_MATCHERS_FAIL_FAST", "" + true));
     }
 
+    public static boolean expectationIndexEnabled() {
+        return Boolean.parseBoolean(readPropertyHierarchically(MOCKSERVER_EXPECTATION_INDEX_ENABLED, "MOCKSERVER_EXPECTATION_INDEX_ENABLED", DEFAULT_EXPECTATION_INDEX_ENABLED));
+    }
+
+    /**
+     * If true (the default) expectations are indexed by their literal (i.e. non-regex and non-notted) method and path so each request is only
+     * matched against the expectations that could match it, if false each request is matched against every expectation.
+     * When enabled the log event recording that a request matcher did not match is only created for expectations that had a matching method and path.
+     *
+     * @param enable enabled indexing expectations by method and path
+     */
+    public static void expectationIndexEnabled(boolean enable) {
+        System.setProperty(MOCKSERVER_EXPECTATION_INDEX_ENABLED, "" + enable);
+    }
+
     public static boolean metricsEnabled() {
         return metricsEnabled;
     }
 
+    /**
+     * Enable recording of counters (i.e. matched expectations, forward connection pool and cache usage) and of latency histograms for expectation
+     * matching, actions and forwarded requests, which are returned in the Prometheus text format by GET /mockserver/metrics
+     *
+     * @param enable enable metrics
+     */
     public static void metricsEnabled(boolean enable) {
         System.setProperty(MOCKSERVER_METRICS_ENABLED, "" + enable);
         metricsEnabled = Boolean.parseBoolean(readPropertyHierarchically(MOCKSERVER_METRICS_ENABLED, "MOCKSERVER_METRICS_ENABLED", "" + false));
@@ -983,6 +1185,21 @@ public class ConfigurationProperties {
         System.setProperty(MOCKSERVER_PROXY_AUTHENTICATION_PASSWORD, proxyAuthenticationPassword);
     }
 
+    public static String proxyPassThroughHosts() {
+        return readPropertyHierarchically(MOCKSERVER_PROXY_PASS_THROUGH_HOSTS, "MOCKSERVER_PROXY_PASS_THROUGH_HOSTS", "");
+    }
+
+    /**
+     * Comma separated list of hosts, which may contain * wildcards (i.e. *.example.com), that CONNECT and SOCKS
+     * proxy requests are tunnelled directly to, without TLS interception, so requests to these hosts are neither
+     * matched against expectations nor recorded.
+     *
+     * @param proxyPassThroughHosts comma separated list of hosts to tunnel directly to
+     */
+    public static void proxyPassThroughHosts(String proxyPassThroughHosts) {
+        System.setProperty(MOCKSERVER_PROXY_PASS_THROUGH_HOSTS, proxyPassThroughHosts);
+    }
+
     public static String initializationClass() {
         return readPropertyHierarchically(MOCKSERVER_INITIALIZATION_CLASS, "MOCKSERVER_INITIALIZATION_CLASS", "");
     }
@@ -1023,6 +1240,47 @@ public class ConfigurationProperties {
         System.setProperty(MOCKSERVER_PERSISTED_EXPECTATIONS_PATH, persistedExpectationsPath);
     }
 
+    public static long persistedExpectationsWriteDelay() {
+        return readLongProperty(MOCKSERVER_PERSISTED_EXPECTATIONS_WRITE_DELAY, "MOCKSERVER_PERSISTED_EXPECTATIONS_WRITE_DELAY", DEFAULT_PERSISTED_EXPECTATIONS_WRITE_DELAY);
+    }
+
+    /**
+     * The delay in milliseconds before changes to expectations are persisted, all changes during the delay are persisted by a single write
+     *
+     * @param persistedExpectationsWriteDelay delay in milliseconds
+     */
+    public static void persistedExpectationsWriteDelay(long persistedExpectationsWriteDelay) {
+        System.setProperty(MOCKSERVER_PERSISTED_EXPECTATIONS_WRITE_DELAY, "" + persistedExpectationsWriteDelay);
+    }
+
+    public static boolean persistedExpectationsJournal() {
+        return Boolean.parseBoolean(readPropertyHierarchically(MOCKSERVER_PERSISTED_EXPECTATIONS_JOURNAL, "MOCKSERVER_PERSISTED_EXPECTATIONS_JOURNAL", DEFAULT_PERSISTED_EXPECTATIONS_JOURNAL));
+    }
+
+    /**
+     * If true only added, updated and removed expectations are appended to a journal file (i.e. the persisted expectations file path with a
+     * .journal suffix) which is compacted into the persisted expectations file when it reaches persistedExpectationsJournalCompactionThreshold
+     * entries, when MockServer stops and when MockServer starts, if false (the default) the persisted expectations file is rewritten for each change
+     *
+     * @param enable enable the persisted expectations journal
+     */
+    public static void persistedExpectationsJournal(boolean enable) {
+        System.setProperty(MOCKSERVER_PERSISTED_EXPECTATIONS_JOURNAL, "" + enable);
+    }
+
+    public static int persistedExpectationsJournalCompactionThreshold() {
+        return readIntegerProperty(MOCKSERVER_PERSISTED_EXPECTATIONS_JOURNAL_COMPACTION_THRESHOLD, "MOCKSERVER_PERSISTED_EXPECTATIONS_JOURNAL_COMPACTION_THRESHOLD", DEFAULT_PERSISTED_EXPECTATIONS_JOURNAL_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * The number of entries in the persisted expectations journal at which it is compacted into the persisted expectations file
+     *
+     * @param persistedExpectationsJournalCompactionThreshold number of journal entries
+     */
+    public static void persistedExpectationsJournalCompactionThreshold(int persistedExpectationsJournalCompactionThreshold) {
+        System.setProperty(MOCKSERVER_PERSISTED_EXPECTATIONS_JOURNAL_COMPACTION_THRESHOLD, "" + persistedExpectationsJournalCompactionThreshold);
+    }
+
     public static boolean enableCORSForAPI() {
         return enableCORSForAPI;
     }
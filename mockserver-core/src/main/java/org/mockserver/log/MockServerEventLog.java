@@ -34,7 +34,6 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
-import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mockserver.log.model.LogEntry.LogMessageType.*;
 import static org.mockserver.log.model.LogEntryMessages.VERIFICATION_REQUESTS_MESSAGE_FORMAT;
@@ -63,6 +62,10 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
     );
     private static final Predicate<LogEntry> recordedExpectationLogPredicate = input
         -> !input.isDeleted() && input.getType() == FORWARDED_REQUEST;
+    private static final LogEntry.LogMessageType[] allLogTypes = {};
+    private static final LogEntry.LogMessageType[] requestLogTypes = {RECEIVED_REQUEST};
+    private static final LogEntry.LogMessageType[] requestResponseLogTypes = {EXPECTATION_RESPONSE, NO_MATCH_RESPONSE, FORWARDED_REQUEST};
+    private static final LogEntry.LogMessageType[] recordedExpectationLogTypes = {FORWARDED_REQUEST};
     private static final Function<LogEntry, RequestDefinition[]> logEntryToRequest = LogEntry::getHttpRequests;
     private static final Function<LogEntry, Expectation> logEntryToExpectation = LogEntry::getExpectation;
     private static final Function<LogEntry, LogEventRequestAndResponse> logEntryToHttpRequestAndHttpResponse =
@@ -70,10 +73,16 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
             .withHttpRequest(logEntry.getHttpRequest())
             .withHttpResponse(logEntry.getHttpResponse())
             .withTimestamp(logEntry.getTimestamp());
-    private static final String[] EXCLUDED_FIELDS = {"id", "disruptor"};
+    private static final String[] EXCLUDED_FIELDS = {"id", "disruptor", "eventLogIndex", "registeredVerifications"};
     private MockServerLogger mockServerLogger;
-    private CircularConcurrentLinkedDeque<LogEntry> eventLog = new CircularConcurrentLinkedDeque<>(ConfigurationProperties.maxLogEntries(), LogEntry::clear);
+    private final MockServerEventLogIndex eventLogIndex = new MockServerEventLogIndex();
+    private CircularConcurrentLinkedDeque<LogEntry> eventLog = new CircularConcurrentLinkedDeque<>(ConfigurationProperties.maxLogEntries(), logEntry -> {
+        // remove from index before clearing as index uses the entry's type, requests and correlation id
+        eventLogIndex.remove(logEntry);
+        logEntry.clear();
+    });
     private MatcherBuilder matcherBuilder;
+    private final RegisteredVerifications registeredVerifications;
     private RequestDefinitionSerializer requestDefinitionSerializer;
     private final boolean asynchronousEventProcessing;
     private Disruptor<LogEntry> disruptor;
@@ -82,6 +91,7 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         super(scheduler);
         this.mockServerLogger = mockServerLogger;
         this.matcherBuilder = new MatcherBuilder(mockServerLogger);
+        this.registeredVerifications = new RegisteredVerifications(matcherBuilder);
         this.requestDefinitionSerializer = new RequestDefinitionSerializer(mockServerLogger);
         this.asynchronousEventProcessing = asynchronousEventProcessing;
         startRingBuffer();
@@ -143,7 +153,11 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
 
     private void processLogEntry(LogEntry logEntry) {
         logEntry = logEntry.cloneAndClear();
-        eventLog.add(logEntry);
+        // counted before adding to the log so requests are counted even when the log is full or disabled
+        registeredVerifications.received(logEntry);
+        if (eventLog.add(logEntry)) {
+            eventLogIndex.add(logEntry);
+        }
         notifyListeners(this, false);
         writeToSystemOut(logger, logEntry);
     }
@@ -172,6 +186,7 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
             .setType(RUNNABLE)
             .setConsumer(() -> {
                 eventLog.clear();
+                registeredVerifications.reset();
                 future.complete("done");
                 notifyListeners(this, false);
             })
@@ -204,6 +219,7 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
                         matches = true;
                     }
                     if (matches) {
+                        registeredVerifications.removed(logEntry);
                         if (markAsDeletedOnly) {
                             logEntry.setDeleted(true);
                         } else {
@@ -211,6 +227,7 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
                         }
                     }
                 }
+                registeredVerifications.cleared(requestDefinition);
                 if (MockServerLogger.isEnabled(Level.INFO)) {
                     mockServerLogger.logEvent(
                         new LogEntry()
@@ -236,6 +253,7 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         retrieveLogEntries(
             requestDefinition,
             notDeletedPredicate,
+            allLogTypes,
             (Stream<LogEntry> logEventStream) -> listConsumer.accept(logEventStream.filter(Objects::nonNull).collect(Collectors.toList()))
         );
     }
@@ -244,6 +262,7 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         retrieveLogEntries(
             requestDefinition,
             allPredicate,
+            allLogTypes,
             (Stream<LogEntry> logEventStream) -> listConsumer.accept(logEventStream.filter(Objects::nonNull).collect(Collectors.toList()))
         );
     }
@@ -252,6 +271,7 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         retrieveLogEntries(
             requestDefinition,
             requestLogPredicate,
+            requestLogTypes,
             (Stream<LogEntry> logEventStream) -> listConsumer.accept(logEventStream.filter(Objects::nonNull).collect(Collectors.toList()))
         );
     }
@@ -260,6 +280,7 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         retrieveLogEntries(
             requestDefinition,
             requestLogPredicate,
+            requestLogTypes,
             logEntryToRequest,
             logEventStream -> listConsumer.accept(
                 logEventStream
@@ -274,6 +295,7 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         retrieveLogEntries(
             requestDefinition,
             requestResponseLogPredicate,
+            requestResponseLogTypes,
             (Stream<LogEntry> logEventStream) -> listConsumer.accept(logEventStream.filter(Objects::nonNull).collect(Collectors.toList()))
         );
     }
@@ -282,6 +304,7 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         retrieveLogEntries(
             requestDefinition,
             requestResponseLogPredicate,
+            requestResponseLogTypes,
             logEntryToHttpRequestAndHttpResponse,
             logEventStream -> listConsumer.accept(logEventStream.filter(Objects::nonNull).collect(Collectors.toList()))
         );
@@ -291,6 +314,7 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         retrieveLogEntries(
             requestDefinition,
             recordedExpectationLogPredicate,
+            recordedExpectationLogTypes,
             (Stream<LogEntry> logEventStream) -> listConsumer.accept(logEventStream.filter(Objects::nonNull).collect(Collectors.toList()))
         );
     }
@@ -299,18 +323,18 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         retrieveLogEntries(
             requestDefinition,
             recordedExpectationLogPredicate,
+            recordedExpectationLogTypes,
             logEntryToExpectation,
             logEventStream -> listConsumer.accept(logEventStream.filter(Objects::nonNull).collect(Collectors.toList()))
         );
     }
 
-    private void retrieveLogEntries(RequestDefinition requestDefinition, Predicate<LogEntry> logEntryPredicate, Consumer<Stream<LogEntry>> consumer) {
+    private void retrieveLogEntries(RequestDefinition requestDefinition, Predicate<LogEntry> logEntryPredicate, LogEntry.LogMessageType[] logEntryTypes, Consumer<Stream<LogEntry>> consumer) {
         disruptor.publishEvent(new LogEntry()
             .setType(RUNNABLE)
             .setConsumer(() -> {
                 HttpRequestMatcher httpRequestMatcher = matcherBuilder.transformsToMatcher(requestDefinition);
-                consumer.accept(this.eventLog
-                    .stream()
+                consumer.accept(candidateLogEntries(requestDefinition, logEntryTypes)
                     .filter(logItem -> logItem.matches(httpRequestMatcher))
                     .filter(logEntryPredicate)
                 );
@@ -318,14 +342,13 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         );
     }
 
-    private <T> void retrieveLogEntries(RequestDefinition requestDefinition, Predicate<LogEntry> logEntryPredicate, Function<LogEntry, T> logEntryMapper, Consumer<Stream<T>> consumer) {
+    private <T> void retrieveLogEntries(RequestDefinition requestDefinition, Predicate<LogEntry> logEntryPredicate, LogEntry.LogMessageType[] logEntryTypes, Function<LogEntry, T> logEntryMapper, Consumer<Stream<T>> consumer) {
         disruptor.publishEvent(new LogEntry()
             .setType(RUNNABLE)
             .setConsumer(() -> {
                 RequestDefinition requestDefinitionMatcher = requestDefinition != null ? requestDefinition : request().withLogCorrelationId(UUIDService.getUUID());
                 HttpRequestMatcher httpRequestMatcher = matcherBuilder.transformsToMatcher(requestDefinitionMatcher);
-                consumer.accept(this.eventLog
-                    .stream()
+                consumer.accept(candidateLogEntries(requestDefinitionMatcher, logEntryTypes)
                     .filter(logItem -> logItem.matches(httpRequestMatcher))
                     .filter(logEntryPredicate)
                     .map(logEntryMapper)
@@ -339,9 +362,17 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
             .setType(RUNNABLE)
             .setConsumer(() -> {
                 HttpRequestMatcher httpRequestMatcher = matcherBuilder.transformsToMatcher(requestDefinition);
+                List<LogEntry> candidates = eventLogIndex.candidates(requestDefinition);
+                Iterator<LogEntry> logEntries;
+                if (candidates != null) {
+                    Collections.reverse(candidates);
+                    logEntries = candidates.iterator();
+                } else {
+                    logEntries = this.eventLog.descendingIterator();
+                }
                 consumer.accept(
                     StreamSupport
-                        .stream(Spliterators.spliteratorUnknownSize(this.eventLog.descendingIterator(), 0), false)
+                        .stream(Spliterators.spliteratorUnknownSize(logEntries, 0), false)
                         .filter(logItem -> logItem.matches(httpRequestMatcher))
                         .filter(logEntryPredicate)
                         .map(logEntryMapper)
@@ -350,6 +381,122 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         );
     }
 
+    /**
+     * the entries, in the order they were logged, that could match the request definition and
+     * have one of the log types (or any log type if none are specified)
+     */
+    private Stream<LogEntry> candidateLogEntries(RequestDefinition requestDefinition, LogEntry.LogMessageType[] logEntryTypes) {
+        List<LogEntry> candidates = eventLogIndex.candidates(requestDefinition, logEntryTypes);
+        return candidates != null ? candidates.stream() : this.eventLog.stream();
+    }
+
+    public void retrieveCorrelatedLogEntries(String correlationId, Consumer<List<LogEntry>> listConsumer) {
+        disruptor.publishEvent(new LogEntry()
+            .setType(RUNNABLE)
+            .setConsumer(() -> listConsumer.accept(
+                eventLogIndex
+                    .correlated(correlationId)
+                    .stream()
+                    .filter(notDeletedPredicate)
+                    .collect(Collectors.toList())
+            ))
+        );
+    }
+
+    /**
+     * Registers a request definition so matching requests are counted as they are received, verifying the same request
+     * definition then uses this count instead of matching every request in the log
+     */
+    public void registerVerification(RequestDefinition requestDefinition) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        disruptor.publishEvent(new LogEntry()
+            .setType(RUNNABLE)
+            .setConsumer(() -> {
+                if (registeredVerifications.register(requestDefinition) && MockServerLogger.isEnabled(Level.INFO)) {
+                    mockServerLogger.logEvent(
+                        new LogEntry()
+                            .setType(VERIFICATION)
+                            .setLogLevel(Level.INFO)
+                            .setHttpRequest(requestDefinition)
+                            .setMessageFormat("registered verification counting requests that match:{}")
+                            .setArguments(requestDefinition)
+                    );
+                }
+                future.complete("done");
+            })
+        );
+        try {
+            future.get(2, SECONDS);
+        } catch (ExecutionException | InterruptedException | TimeoutException ignore) {
+        }
+    }
+
+    /**
+     * Stops counting requests for a request definition previously registered with {@link #registerVerification(RequestDefinition)}
+     */
+    public void unregisterVerification(RequestDefinition requestDefinition) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        disruptor.publishEvent(new LogEntry()
+            .setType(RUNNABLE)
+            .setConsumer(() -> {
+                if (registeredVerifications.unregister(requestDefinition) && MockServerLogger.isEnabled(Level.INFO)) {
+                    mockServerLogger.logEvent(
+                        new LogEntry()
+                            .setType(VERIFICATION)
+                            .setLogLevel(Level.INFO)
+                            .setHttpRequest(requestDefinition)
+                            .setMessageFormat("unregistered verification counting requests that match:{}")
+                            .setArguments(requestDefinition)
+                    );
+                }
+                future.complete("done");
+            })
+        );
+        try {
+            future.get(2, SECONDS);
+        } catch (ExecutionException | InterruptedException | TimeoutException ignore) {
+        }
+    }
+
+    private void countRequests(RequestDefinition requestDefinition, Consumer<Integer> countConsumer) {
+        if (registeredVerifications.isEmpty()) {
+            retrieveRequests(requestDefinition, httpRequests -> countConsumer.accept(httpRequests.size()));
+        } else {
+            disruptor.publishEvent(new LogEntry()
+                .setType(RUNNABLE)
+                .setConsumer(() -> {
+                    Integer registeredCount = registeredVerifications.count(requestDefinition);
+                    if (registeredCount != null) {
+                        countConsumer.accept(registeredCount);
+                    } else {
+                        retrieveRequests(requestDefinition, httpRequests -> countConsumer.accept(httpRequests.size()));
+                    }
+                })
+            );
+        }
+    }
+
+    /**
+     * Streams every request in the log through {@link VerificationFailureRequests} so only a bounded number of requests is
+     * kept and serialised for a verification failure
+     */
+    private void retrieveVerificationFailureRequests(RequestDefinition requestDefinition, Consumer<VerificationFailureRequests> consumer) {
+        retrieveLogEntries(
+            null,
+            requestLogPredicate,
+            requestLogTypes,
+            logEntryToRequest,
+            logEventStream -> {
+                VerificationFailureRequests verificationFailureRequests = new VerificationFailureRequests(matcherBuilder.transformsToMatcher(requestDefinition), ConfigurationProperties.maximumNumberOfRequestsInVerificationFailure());
+                logEventStream
+                    .filter(Objects::nonNull)
+                    .flatMap(Arrays::stream)
+                    .forEach(verificationFailureRequests::add);
+                consumer.accept(verificationFailureRequests);
+            }
+        );
+    }
+
     public Future<String> verify(Verification verification) {
         CompletableFuture<String> result = new CompletableFuture<>();
         verify(verification, result::complete);
@@ -370,14 +517,15 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
                         .setArguments(verification)
                 );
             }
-            retrieveRequests(verification.getHttpRequest().withLogCorrelationId(logCorrelationId), httpRequests -> {
+            countRequests(verification.getHttpRequest().withLogCorrelationId(logCorrelationId), requestCount -> {
                 try {
-                    if (!verification.getTimes().matches(httpRequests.size())) {
-                        retrieveRequests(null, allRequests -> {
+                    if (!verification.getTimes().matches(requestCount)) {
+                        retrieveVerificationFailureRequests(verification.getHttpRequest(), verificationFailureRequests -> {
                             String failureMessage;
+                            List<RequestDefinition> allRequests = verificationFailureRequests.getRequests();
                             String serializedRequestToBeVerified = requestDefinitionSerializer.serialize(true, verification.getHttpRequest());
                             String serializedAllRequestInLog = allRequests.size() == 1 ? requestDefinitionSerializer.serialize(true, allRequests.get(0)) : requestDefinitionSerializer.serialize(true, allRequests);
-                            failureMessage = "Request not found " + verification.getTimes() + ", expected:<" + serializedRequestToBeVerified + "> but was:<" + serializedAllRequestInLog + ">";
+                            failureMessage = "Request not found " + verification.getTimes() + verificationFailureRequests.getSummary() + ", expected:<" + serializedRequestToBeVerified + "> but was:<" + serializedAllRequestInLog + ">";
                             final Object[] arguments = new Object[]{verification.getHttpRequest(), allRequests.size() == 1 ? allRequests.get(0) : allRequests};
                             if (MockServerLogger.isEnabled(Level.INFO)) {
                                 mockServerLogger.logEvent(
@@ -386,7 +534,7 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
                                         .setLogLevel(Level.INFO)
                                         .setCorrelationId(logCorrelationId)
                                         .setHttpRequest(verification.getHttpRequest())
-                                        .setMessageFormat("request not found " + verification.getTimes() + ", expected:{}but was:{}")
+                                        .setMessageFormat("request not found " + verification.getTimes() + verificationFailureRequests.getSummary() + ", expected:{}but was:{}")
                                         .setArguments(arguments)
                                 );
                             }
@@ -431,79 +579,110 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
 
     public void verify(VerificationSequence verificationSequence, Consumer<String> resultConsumer) {
         final String logCorrelationId = UUIDService.getUUID();
-        retrieveRequests(null, allRequests -> {
+        if (verificationSequence != null) {
+            if (MockServerLogger.isEnabled(Level.INFO)) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setType(VERIFICATION)
+                        .setLogLevel(Level.INFO)
+                        .setCorrelationId(logCorrelationId)
+                        .setHttpRequests(verificationSequence.getHttpRequests().toArray(new RequestDefinition[0]))
+                        .setMessageFormat(VERIFICATION_REQUEST_SEQUENCES_MESSAGE_FORMAT)
+                        .setArguments(verificationSequence)
+                );
+            }
             try {
-                if (verificationSequence != null) {
-                    if (MockServerLogger.isEnabled(Level.INFO)) {
-                        mockServerLogger.logEvent(
-                            new LogEntry()
-                                .setType(VERIFICATION)
-                                .setLogLevel(Level.INFO)
-                                .setCorrelationId(logCorrelationId)
-                                .setHttpRequests(verificationSequence.getHttpRequests().toArray(new RequestDefinition[0]))
-                                .setMessageFormat(VERIFICATION_REQUEST_SEQUENCES_MESSAGE_FORMAT)
-                                .setArguments(verificationSequence)
-                        );
-                    }
-                    String failureMessage = "";
-                    int requestLogCounter = 0;
-                    for (RequestDefinition verificationHttpRequest : verificationSequence.getHttpRequests()) {
-                        if (verificationHttpRequest != null) {
-                            verificationHttpRequest.withLogCorrelationId(logCorrelationId);
-                            HttpRequestMatcher httpRequestMatcher = matcherBuilder.transformsToMatcher(verificationHttpRequest);
-                            boolean foundRequest = false;
-                            for (; !foundRequest && requestLogCounter < allRequests.size(); requestLogCounter++) {
-                                if (httpRequestMatcher.matches(allRequests.get(requestLogCounter).cloneWithLogCorrelationId())) {
-                                    // move on to next request
-                                    foundRequest = true;
-                                }
+                List<RequestDefinition> verificationHttpRequests = verificationSequence
+                    .getHttpRequests()
+                    .stream()
+                    .filter(Objects::nonNull)
+                    .map(verificationHttpRequest -> verificationHttpRequest.withLogCorrelationId(logCorrelationId))
+                    .collect(Collectors.toList());
+                List<HttpRequestMatcher> httpRequestMatchers = verificationHttpRequests
+                    .stream()
+                    .map(matcherBuilder::transformsToMatcher)
+                    .collect(Collectors.toList());
+                retrieveLogEntries(
+                    null,
+                    requestLogPredicate,
+                    requestLogTypes,
+                    logEntryToRequest,
+                    logEventStream -> {
+                        try {
+                            // the requests are found in order so a single pass over the log moves through the sequence
+                            int[] requestsFound = {0};
+                            if (!httpRequestMatchers.isEmpty()) {
+                                logEventStream
+                                    .filter(Objects::nonNull)
+                                    .flatMap(Arrays::stream)
+                                    .anyMatch(request -> {
+                                        if (httpRequestMatchers.get(requestsFound[0]).matches(request.cloneWithLogCorrelationId())) {
+                                            requestsFound[0]++;
+                                        }
+                                        return requestsFound[0] == httpRequestMatchers.size();
+                                    });
                             }
-                            if (!foundRequest) {
-                                String serializedRequestToBeVerified = requestDefinitionSerializer.serialize(true, verificationSequence.getHttpRequests());
-                                String serializedAllRequestInLog = allRequests.size() == 1 ? requestDefinitionSerializer.serialize(true, allRequests.get(0)) : requestDefinitionSerializer.serialize(true, allRequests);
-                                failureMessage = "Request sequence not found, expected:<" + serializedRequestToBeVerified + "> but was:<" + serializedAllRequestInLog + ">";
-                                final Object[] arguments = new Object[]{verificationSequence.getHttpRequests(), allRequests.size() == 1 ? allRequests.get(0) : allRequests};
+                            if (requestsFound[0] < httpRequestMatchers.size()) {
+                                // only include the requests closest to the request that wasn't found
+                                retrieveVerificationFailureRequests(verificationHttpRequests.get(requestsFound[0]), verificationFailureRequests -> {
+                                    try {
+                                        List<RequestDefinition> failureRequests = verificationFailureRequests.getRequests();
+                                        String serializedRequestToBeVerified = requestDefinitionSerializer.serialize(true, verificationSequence.getHttpRequests());
+                                        String serializedAllRequestInLog = failureRequests.size() == 1 ? requestDefinitionSerializer.serialize(true, failureRequests.get(0)) : requestDefinitionSerializer.serialize(true, failureRequests);
+                                        String failureMessage = "Request sequence not found" + verificationFailureRequests.getSummary() + ", expected:<" + serializedRequestToBeVerified + "> but was:<" + serializedAllRequestInLog + ">";
+                                        final Object[] arguments = new Object[]{verificationSequence.getHttpRequests(), failureRequests.size() == 1 ? failureRequests.get(0) : failureRequests};
+                                        if (MockServerLogger.isEnabled(Level.INFO)) {
+                                            mockServerLogger.logEvent(
+                                                new LogEntry()
+                                                    .setType(VERIFICATION_FAILED)
+                                                    .setLogLevel(Level.INFO)
+                                                    .setCorrelationId(logCorrelationId)
+                                                    .setHttpRequests(verificationSequence.getHttpRequests().toArray(new RequestDefinition[0]))
+                                                    .setMessageFormat("request sequence not found" + verificationFailureRequests.getSummary() + ", expected:{}but was:{}")
+                                                    .setArguments(arguments)
+                                            );
+                                        }
+                                        resultConsumer.accept(failureMessage);
+                                    } catch (Throwable throwable) {
+                                        verificationSequenceException(verificationSequence, logCorrelationId, throwable, resultConsumer);
+                                    }
+                                });
+                            } else {
                                 if (MockServerLogger.isEnabled(Level.INFO)) {
                                     mockServerLogger.logEvent(
                                         new LogEntry()
-                                            .setType(VERIFICATION_FAILED)
+                                            .setType(VERIFICATION_PASSED)
                                             .setLogLevel(Level.INFO)
                                             .setCorrelationId(logCorrelationId)
-                                            .setHttpRequests(verificationSequence.getHttpRequests().toArray(new RequestDefinition[0]))
-                                            .setMessageFormat("request sequence not found, expected:{}but was:{}")
-                                            .setArguments(arguments)
+                                            .setMessageFormat("request sequence found:{}")
+                                            .setArguments(verificationSequence.getHttpRequests())
                                     );
                                 }
-                                break;
+                                resultConsumer.accept("");
                             }
+                        } catch (Throwable throwable) {
+                            verificationSequenceException(verificationSequence, logCorrelationId, throwable, resultConsumer);
                         }
                     }
-                    if (isBlank(failureMessage) && MockServerLogger.isEnabled(Level.INFO)) {
-                        mockServerLogger.logEvent(
-                            new LogEntry()
-                                .setType(VERIFICATION_PASSED)
-                                .setLogLevel(Level.INFO)
-                                .setCorrelationId(logCorrelationId)
-                                .setMessageFormat("request sequence found:{}")
-                                .setArguments(verificationSequence.getHttpRequests())
-                        );
-                    }
-                    resultConsumer.accept(failureMessage);
-                } else {
-                    resultConsumer.accept("");
-                }
-            } catch (Throwable throwable) {
-                mockServerLogger.logEvent(
-                    new LogEntry()
-                        .setType(EXCEPTION)
-                        .setCorrelationId(logCorrelationId)
-                        .setMessageFormat("exception:{} while processing verification sequence:{}")
-                        .setArguments(throwable.getMessage(), verificationSequence)
-                        .setThrowable(throwable)
                 );
-                resultConsumer.accept("exception while processing verification sequence" + (isNotBlank(throwable.getMessage()) ? " " + throwable.getMessage() : ""));
+            } catch (Throwable throwable) {
+                verificationSequenceException(verificationSequence, logCorrelationId, throwable, resultConsumer);
             }
-        });
+        } else {
+            resultConsumer.accept("");
+        }
+    }
+
+    private void verificationSequenceException(VerificationSequence verificationSequence, String logCorrelationId, Throwable throwable, Consumer<String> resultConsumer) {
+        mockServerLogger.logEvent(
+            new LogEntry()
+                .setType(EXCEPTION)
+                .setCorrelationId(logCorrelationId)
+                .setMessageFormat("exception:{} while processing verification sequence:{}")
+                .setArguments(throwable.getMessage(), verificationSequence)
+                .setThrowable(throwable)
+        );
+        resultConsumer.accept("exception while processing verification sequence" + (isNotBlank(throwable.getMessage()) ? " " + throwable.getMessage() : ""));
     }
 
     protected String[] fieldsExcludedFromEqualsAndHashCode() {
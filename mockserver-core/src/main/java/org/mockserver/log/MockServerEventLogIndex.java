@@ -0,0 +1,185 @@
+package org.mockserver.log;
+
+import org.mockserver.codec.PathParametersDecoder;
+import org.mockserver.log.model.LogEntry;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.NottableSchemaString;
+import org.mockserver.model.NottableString;
+import org.mockserver.model.RequestDefinition;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.mockserver.log.model.LogEntry.LogMessageType;
+
+/**
+ * Secondary indexes over the entries held in the {@link MockServerEventLog} by log message type, by literal
+ * (i.e. non-regex, non-schema, non-notted) request method and path and by correlation id so that retrieval
+ * and verification only need to match candidate entries.
+ * <p>
+ * Entries must be removed from the index before they are cleared on eviction from the circular log.
+ *
+ * @author jamesdbloom
+ */
+public class MockServerEventLogIndex {
+
+    private static final String ANY = "";
+    private static final PathParametersDecoder PATH_PARAMETERS_DECODER = new PathParametersDecoder();
+    private long sequence = 0;
+    private final Map<LogEntry, IndexEntry> entries = new IdentityHashMap<>();
+    private final Map<LogMessageType, NavigableMap<Long, LogEntry>> byType = new EnumMap<>(LogMessageType.class);
+    private final Map<String, NavigableMap<Long, LogEntry>> byPath = new HashMap<>();
+    private final Map<String, NavigableMap<Long, LogEntry>> byCorrelationId = new HashMap<>();
+    private final NavigableMap<Long, LogEntry> withoutPath = new TreeMap<>();
+
+    public synchronized void add(LogEntry logEntry) {
+        if (logEntry != null && !entries.containsKey(logEntry)) {
+            IndexEntry indexEntry = new IndexEntry(sequence++, logEntry);
+            entries.put(logEntry, indexEntry);
+            if (indexEntry.type != null) {
+                byType.computeIfAbsent(indexEntry.type, key -> new TreeMap<>()).put(indexEntry.sequence, logEntry);
+            }
+            if (indexEntry.correlationId != null) {
+                byCorrelationId.computeIfAbsent(indexEntry.correlationId, key -> new TreeMap<>()).put(indexEntry.sequence, logEntry);
+            }
+            if (indexEntry.paths == null) {
+                withoutPath.put(indexEntry.sequence, logEntry);
+            } else {
+                for (String path : indexEntry.paths) {
+                    byPath.computeIfAbsent(path, key -> new TreeMap<>()).put(indexEntry.sequence, logEntry);
+                }
+            }
+        }
+    }
+
+    public synchronized void remove(LogEntry logEntry) {
+        IndexEntry indexEntry = logEntry != null ? entries.remove(logEntry) : null;
+        if (indexEntry != null) {
+            if (indexEntry.type != null) {
+                removeFrom(byType, indexEntry.type, indexEntry.sequence);
+            }
+            if (indexEntry.correlationId != null) {
+                removeFrom(byCorrelationId, indexEntry.correlationId, indexEntry.sequence);
+            }
+            if (indexEntry.paths == null) {
+                withoutPath.remove(indexEntry.sequence);
+            } else {
+                for (String path : indexEntry.paths) {
+                    removeFrom(byPath, path, indexEntry.sequence);
+                }
+            }
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, NavigableMap<Long, LogEntry>> index, K key, long sequence) {
+        NavigableMap<Long, LogEntry> logEntries = index.get(key);
+        if (logEntries != null) {
+            logEntries.remove(sequence);
+            if (logEntries.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns, in the order they were added, the entries of the specified types (or of any type if no types
+     * are specified) that could match the request definition, or null if the index can't narrow down the
+     * entries and the whole log must be used.
+     */
+    public synchronized List<LogEntry> candidates(RequestDefinition requestDefinition, LogMessageType... types) {
+        String path = null;
+        String method = ANY;
+        if (requestDefinition instanceof HttpRequest && !requestDefinition.isNot()) {
+            HttpRequest httpRequest = (HttpRequest) requestDefinition;
+            path = literalValue(PATH_PARAMETERS_DECODER.normalisePathWithParametersForMatching(httpRequest));
+            method = literalValue(httpRequest.getMethod());
+        }
+        Set<LogMessageType> typeFilter = types != null && types.length > 0 ? EnumSet.copyOf(Arrays.asList(types)) : null;
+        NavigableMap<Long, LogEntry> candidates = new TreeMap<>();
+        if (path != null && !path.equals(ANY)) {
+            candidates.putAll(withoutPath);
+            NavigableMap<Long, LogEntry> logEntriesForPath = byPath.get(path);
+            if (logEntriesForPath != null) {
+                candidates.putAll(logEntriesForPath);
+            }
+        } else if (typeFilter != null) {
+            for (LogMessageType type : typeFilter) {
+                NavigableMap<Long, LogEntry> logEntriesForType = byType.get(type);
+                if (logEntriesForType != null) {
+                    candidates.putAll(logEntriesForType);
+                }
+            }
+        } else {
+            return null;
+        }
+        final String methodFilter = method;
+        return candidates
+            .values()
+            .stream()
+            .filter(logEntry -> {
+                IndexEntry indexEntry = entries.get(logEntry);
+                return indexEntry != null
+                    && (typeFilter == null || typeFilter.contains(indexEntry.type))
+                    && (methodFilter.equals(ANY) || indexEntry.methods == null || indexEntry.methods.contains(ANY) || indexEntry.methods.contains(methodFilter));
+            })
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns, in the order they were added, the entries with the specified correlation id
+     */
+    public synchronized List<LogEntry> correlated(String correlationId) {
+        NavigableMap<Long, LogEntry> logEntries = correlationId != null ? byCorrelationId.get(correlationId) : null;
+        return logEntries != null ? new ArrayList<>(logEntries.values()) : Collections.emptyList();
+    }
+
+    /**
+     * the lower case value if the string will only ever match itself (ignoring case) or ANY otherwise,
+     * a blank value matches all values so is also treated as ANY
+     */
+    private static String literalValue(NottableString nottableString) {
+        if (nottableString == null || nottableString instanceof NottableSchemaString || nottableString.isNot() || nottableString.isBlank() || !nottableString.isLiteral()) {
+            return ANY;
+        }
+        return nottableString.getValue().toLowerCase();
+    }
+
+    private static class IndexEntry {
+        private final long sequence;
+        private final LogMessageType type;
+        private final String correlationId;
+        private final Set<String> methods;
+        private final Set<String> paths;
+
+        private IndexEntry(long sequence, LogEntry logEntry) {
+            this.sequence = sequence;
+            this.type = logEntry.getType();
+            this.correlationId = logEntry.getCorrelationId();
+            RequestDefinition[] httpRequests = logEntry.getHttpRequests();
+            Set<String> methods = new HashSet<>();
+            Set<String> paths = new HashSet<>();
+            if (httpRequests != null && httpRequests.length > 0) {
+                for (RequestDefinition requestDefinition : httpRequests) {
+                    if (requestDefinition instanceof HttpRequest && !requestDefinition.isNot()) {
+                        HttpRequest httpRequest = (HttpRequest) requestDefinition;
+                        methods.add(literalValue(httpRequest.getMethod()));
+                        paths.add(literalValue(PATH_PARAMETERS_DECODER.normalisePathWithParametersForMatching(httpRequest)));
+                    } else {
+                        methods.add(ANY);
+                        paths.add(ANY);
+                    }
+                }
+            } else {
+                // entries without requests match every request definition
+                methods.add(ANY);
+                paths.add(ANY);
+            }
+            this.methods = methods;
+            this.paths = paths.contains(ANY) ? null : paths;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.mockserver.log;
+
+import org.mockserver.log.model.LogEntry;
+import org.mockserver.matchers.HttpRequestMatcher;
+import org.mockserver.matchers.MatcherBuilder;
+import org.mockserver.model.RequestDefinition;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockserver.log.model.LogEntry.LogMessageType.RECEIVED_REQUEST;
+
+/**
+ * Live counts of the received requests that match request definitions registered before verifying them, updated as
+ * each {@link LogEntry.LogMessageType#RECEIVED_REQUEST} entry is processed so verifying a registered request definition
+ * doesn't need to match every request in the {@link MockServerEventLog} and still counts requests evicted from it.
+ * <p>
+ * Requests are only counted from when the request definition was registered.
+ *
+ * @author jamesdbloom
+ */
+public class RegisteredVerifications {
+
+    private final MatcherBuilder matcherBuilder;
+    private final Map<RequestDefinition, Counter> counters = new ConcurrentHashMap<>();
+
+    public RegisteredVerifications(MatcherBuilder matcherBuilder) {
+        this.matcherBuilder = matcherBuilder;
+    }
+
+    /**
+     * @return true if the request definition was registered, false if it was already registered
+     */
+    public boolean register(RequestDefinition requestDefinition) {
+        if (requestDefinition != null && !counters.containsKey(requestDefinition)) {
+            RequestDefinition clonedRequestDefinition = requestDefinition.shallowClone().withLogCorrelationId(null);
+            return counters.putIfAbsent(clonedRequestDefinition, new Counter(matcherBuilder.transformsToMatcher(clonedRequestDefinition), TimeService.currentTimeMillis())) == null;
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the request definition was registered, false if it wasn't registered
+     */
+    public boolean unregister(RequestDefinition requestDefinition) {
+        return requestDefinition != null && counters.remove(requestDefinition) != null;
+    }
+
+    public boolean isEmpty() {
+        return counters.isEmpty();
+    }
+
+    /**
+     * @return the number of matching requests received since the request definition was registered or null if it isn't registered
+     */
+    public Integer count(RequestDefinition requestDefinition) {
+        Counter counter = requestDefinition != null ? counters.get(requestDefinition) : null;
+        return counter != null ? counter.count.get() : null;
+    }
+
+    /**
+     * Counts a received request, requests received before the request definition was registered are ignored
+     */
+    public void received(LogEntry logEntry) {
+        if (isReceivedRequest(logEntry)) {
+            for (Counter counter : counters.values()) {
+                if (logEntry.getEpochTime() >= counter.registeredEpochTime && logEntry.matches(counter.matcher)) {
+                    counter.count.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops counting a received request when it is cleared from the log, requests received before the request
+     * definition was registered were never counted so are ignored
+     */
+    public void removed(LogEntry logEntry) {
+        if (isReceivedRequest(logEntry)) {
+            for (Counter counter : counters.values()) {
+                if (logEntry.getEpochTime() >= counter.registeredEpochTime && logEntry.matches(counter.matcher)) {
+                    counter.count.updateAndGet(count -> count > 0 ? count - 1 : 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the count to zero for the request definition cleared from the log, or for all request definitions if null,
+     * including requests that have already been evicted from the log
+     */
+    public void cleared(RequestDefinition requestDefinition) {
+        for (Map.Entry<RequestDefinition, Counter> entry : counters.entrySet()) {
+            if (requestDefinition == null || entry.getKey().equals(requestDefinition)) {
+                entry.getValue().count.set(0);
+            }
+        }
+    }
+
+    public void reset() {
+        counters.clear();
+    }
+
+    private boolean isReceivedRequest(LogEntry logEntry) {
+        return !counters.isEmpty()
+            && logEntry.getType() == RECEIVED_REQUEST
+            && !logEntry.isDeleted()
+            && logEntry.getHttpRequests() != null
+            && logEntry.getHttpRequests().length > 0;
+    }
+
+    private static class Counter {
+        private final HttpRequestMatcher matcher;
+        private final long registeredEpochTime;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private Counter(HttpRequestMatcher matcher, long registeredEpochTime) {
+            this.matcher = matcher;
+            this.registeredEpochTime = registeredEpochTime;
+        }
+    }
+}
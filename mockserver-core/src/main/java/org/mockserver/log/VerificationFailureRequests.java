@@ -0,0 +1,160 @@
+package org.mockserver.log;
+
+import org.mockserver.matchers.HttpRequestMatcher;
+import org.mockserver.matchers.MatchDifference;
+import org.mockserver.model.RequestDefinition;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.mockserver.matchers.MatchDifference.Field.*;
+
+/**
+ * The received requests included in a verification failure, if no more than the maximum number of requests have been
+ * received they are all included in the order they were received, otherwise only the maximum number of requests closest
+ * to the verification are kept, ranked by the fields that didn't match, with the number of requests that didn't match
+ * by field so the failure stays the same size irrespective of how many requests are in the log.
+ *
+ * @author jamesdbloom
+ */
+public class VerificationFailureRequests {
+
+    // the order fields are matched, a request which first doesn't match a later field is closer to matching
+    private static final List<MatchDifference.Field> MATCHING_ORDER = Arrays.asList(METHOD, PATH, BODY, HEADERS, COOKIES, PATH_PARAMETERS, QUERY_PARAMETERS, KEEP_ALIVE, SSL_MATCHES, OPERATION, OPENAPI);
+    private static final Comparator<RankedRequest> CLOSEST_FIRST = Comparator
+        .comparingInt((RankedRequest rankedRequest) -> rankedRequest.mismatchedFields)
+        .thenComparingInt(rankedRequest -> -rankedRequest.firstMismatchedField)
+        .thenComparingLong(rankedRequest -> rankedRequest.sequence);
+    private final HttpRequestMatcher httpRequestMatcher;
+    private final int maximumNumberOfRequests;
+    private List<RequestDefinition> requestsInOrder = new ArrayList<>();
+    private final PriorityQueue<RankedRequest> closestRequests;
+    private final Map<MatchDifference.Field, Integer> mismatchedFieldCounts = new EnumMap<>(MatchDifference.Field.class);
+    private int numberOfRequests;
+    private int numberOfMatchingRequests;
+    private long sequence;
+
+    public VerificationFailureRequests(HttpRequestMatcher httpRequestMatcher, int maximumNumberOfRequests) {
+        this.httpRequestMatcher = httpRequestMatcher;
+        this.maximumNumberOfRequests = Math.max(maximumNumberOfRequests, 0);
+        // furthest first so the furthest request is removed when there are too many
+        this.closestRequests = new PriorityQueue<>(this.maximumNumberOfRequests + 1, CLOSEST_FIRST.reversed());
+    }
+
+    public void add(RequestDefinition request) {
+        if (request != null) {
+            numberOfRequests++;
+            if (requestsInOrder != null) {
+                requestsInOrder.add(request);
+                if (requestsInOrder.size() > maximumNumberOfRequests) {
+                    // too many requests to include them all so rank every request received so far
+                    List<RequestDefinition> requests = requestsInOrder;
+                    requestsInOrder = null;
+                    requests.forEach(this::rank);
+                }
+            } else {
+                rank(request);
+            }
+        }
+    }
+
+    private void rank(RequestDefinition request) {
+        RequestDefinition requestToMatch = request.cloneWithLogCorrelationId();
+        MatchDifference matchDifference = new MatchDifference(requestToMatch);
+        RankedRequest rankedRequest;
+        if (httpRequestMatcher.matches(matchDifference, requestToMatch)) {
+            numberOfMatchingRequests++;
+            rankedRequest = new RankedRequest(request, 0, MATCHING_ORDER.size(), sequence++);
+        } else {
+            List<MatchDifference.Field> mismatchedFields = MATCHING_ORDER
+                .stream()
+                .filter(field -> matchDifference.getDifferences(field) != null && !matchDifference.getDifferences(field).isEmpty())
+                .collect(Collectors.toList());
+            if (mismatchedFields.isEmpty()) {
+                // differences aren't recorded when detailed match failures are disabled
+                rankedRequest = new RankedRequest(request, Integer.MAX_VALUE, -1, sequence++);
+            } else {
+                mismatchedFieldCounts.merge(mismatchedFields.get(0), 1, Integer::sum);
+                rankedRequest = new RankedRequest(request, mismatchedFields.size(), MATCHING_ORDER.indexOf(mismatchedFields.get(0)), sequence++);
+            }
+        }
+        closestRequests.add(rankedRequest);
+        if (closestRequests.size() > maximumNumberOfRequests) {
+            closestRequests.poll();
+        }
+    }
+
+    /**
+     * @return true if only the closest requests are included
+     */
+    public boolean isSummarised() {
+        return requestsInOrder == null;
+    }
+
+    /**
+     * @return all requests in the order they were received or, if summarised, the closest requests with the closest first
+     */
+    public List<RequestDefinition> getRequests() {
+        if (requestsInOrder != null) {
+            return requestsInOrder;
+        } else {
+            return closestRequests
+                .stream()
+                .sorted(CLOSEST_FIRST)
+                .map(rankedRequest -> rankedRequest.request)
+                .collect(Collectors.toList());
+        }
+    }
+
+    public int getNumberOfRequests() {
+        return numberOfRequests;
+    }
+
+    public int getNumberOfMatchingRequests() {
+        return numberOfMatchingRequests;
+    }
+
+    /**
+     * @return the number of requests which didn't match by the first field that didn't match, only counted if summarised
+     */
+    public Map<MatchDifference.Field, Integer> getMismatchedFieldCounts() {
+        return mismatchedFieldCounts;
+    }
+
+    /**
+     * @return a description of which requests are included and how the other requests didn't match, or an empty string if not summarised
+     */
+    public String getSummary() {
+        if (isSummarised()) {
+            StringBuilder summary = new StringBuilder()
+                .append(", showing ").append(closestRequests.size()).append(" closest of ").append(numberOfRequests).append(" requests received")
+                .append(" (").append(numberOfMatchingRequests).append(" matched");
+            if (!mismatchedFieldCounts.isEmpty()) {
+                summary
+                    .append(", didn't match ")
+                    .append(mismatchedFieldCounts
+                        .entrySet()
+                        .stream()
+                        .map(entry -> entry.getKey().getName() + ": " + entry.getValue())
+                        .collect(Collectors.joining(", ")));
+            }
+            return summary.append(")").toString();
+        } else {
+            return "";
+        }
+    }
+
+    private static class RankedRequest {
+        private final RequestDefinition request;
+        private final int mismatchedFields;
+        private final int firstMismatchedField;
+        private final long sequence;
+
+        private RankedRequest(RequestDefinition request, int mismatchedFields, int firstMismatchedField, long sequence) {
+            this.request = request;
+            this.mismatchedFields = mismatchedFields;
+            this.firstMismatchedField = firstMismatchedField;
+            this.sequence = sequence;
+        }
+    }
+}
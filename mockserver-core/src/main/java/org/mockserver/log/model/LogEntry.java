@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lmax.disruptor.EventTranslator;
 import org.mockserver.log.TimeService;
+import org.mockserver.logging.MockServerLogger;
 import org.mockserver.matchers.HttpRequestMatcher;
 import org.mockserver.matchers.MatchDifference;
 import org.mockserver.matchers.TimeToLive;
@@ -182,9 +183,11 @@ public class LogEntry implements EventTranslator<LogEntry> {
         if (httpRequests == null || httpRequests.length == 0) {
             return true;
         }
+        // match differences are only logged at TRACE so avoid creating them otherwise
+        boolean matchDifference = type == LogMessageType.RECEIVED_REQUEST && MockServerLogger.isEnabled(Level.TRACE);
         for (RequestDefinition httpRequest : httpRequests) {
             RequestDefinition request = httpRequest.cloneWithLogCorrelationId();
-            if (matcher.matches(type == LogMessageType.RECEIVED_REQUEST ? new MatchDifference(request) : null, request)) {
+            if (matcher.matches(matchDifference ? new MatchDifference(request) : null, request)) {
                 return true;
             }
         }
@@ -88,7 +88,7 @@ public class MockServerHttpResponseToFullHttpResponse {
     }
 
     private ByteBuf getBody(HttpResponse httpResponse) {
-        return bodyDecoderEncoder.bodyToByteBuf(httpResponse.getBody(), httpResponse.getFirstHeader(CONTENT_TYPE.toString()));
+        return bodyDecoderEncoder.bodyToByteBuf(httpResponse.getBody(), httpResponse.getFirstHeader(CONTENT_TYPE.toString()), httpResponse.getPreEncodedBody());
     }
 
     private void setHeaders(HttpResponse httpResponse, DefaultHttpResponse response, ByteBuf body) {
@@ -5,6 +5,7 @@ import org.mockserver.logging.BinaryArrayFormatter;
 import org.mockserver.logging.MockServerLogger;
 
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * @author jamesdbloom
@@ -42,4 +43,24 @@ public class BinaryMatcher extends BodyMatcher<byte[]> {
     public String[] fieldsExcludedFromEqualsAndHashCode() {
         return excludedFields;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        BinaryMatcher that = (BinaryMatcher) o;
+        return Arrays.equals(matcher, that.matcher);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), Arrays.hashCode(matcher));
+    }
 }
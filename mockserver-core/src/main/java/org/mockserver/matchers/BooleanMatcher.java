@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.ObjectWithReflectiveEqualsHashCodeToString;
 
+import java.util.Objects;
+
 /**
  * @author jamesdbloom
  */
@@ -44,4 +46,20 @@ public class BooleanMatcher extends ObjectWithReflectiveEqualsHashCodeToString i
         return excludedFields;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BooleanMatcher that = (BooleanMatcher) o;
+        return Objects.equals(matcher, that.matcher);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(matcher);
+    }
 }
@@ -5,6 +5,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.NottableString;
 
+import java.util.Objects;
+
 import static org.mockserver.model.NottableString.string;
 
 /**
@@ -64,4 +66,24 @@ public class ExactStringMatcher extends BodyMatcher<NottableString> {
     public String[] fieldsExcludedFromEqualsAndHashCode() {
         return excludedFields;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        ExactStringMatcher that = (ExactStringMatcher) o;
+        return Objects.equals(matcher, that.matcher);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), matcher);
+    }
 }
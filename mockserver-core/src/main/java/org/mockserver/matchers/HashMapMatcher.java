@@ -6,6 +6,8 @@ import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.KeyAndValue;
 import org.mockserver.model.KeysAndValues;
 
+import java.util.Objects;
+
 /**
  * @author jamesdbloom
  */
@@ -63,4 +65,25 @@ public class HashMapMatcher extends NotMatcher<KeysAndValues<? extends KeyAndVal
     protected String[] fieldsExcludedFromEqualsAndHashCode() {
         return EXCLUDED_FIELDS;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        HashMapMatcher that = (HashMapMatcher) o;
+        return Objects.equals(keysAndValues, that.keysAndValues) &&
+            controlPlaneMatcher == that.controlPlaneMatcher;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), keysAndValues, controlPlaneMatcher);
+    }
 }
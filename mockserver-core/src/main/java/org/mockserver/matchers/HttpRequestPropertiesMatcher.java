@@ -447,13 +447,16 @@ public class HttpRequestPropertiesMatcher extends AbstractHttpRequestMatcher {
             ) {
                 // json body matcher
                 try {
-                    bodyMatches = matches(BODY, context, bodyMatcher, jsonSchemaBodyParser.convertToJson(request, bodyMatcher));
+                    bodyMatches = matches(context, (ParsedBodyMatcher) bodyMatcher, request.getParsedBody(jsonSchemaBodyParser.convertToJson(request, bodyMatcher)));
                 } catch (IllegalArgumentException iae) {
                     if (context != null) {
                         context.addDifference(mockServerLogger, iae, iae.getMessage());
                     }
-                    bodyMatches = matches(BODY, context, bodyMatcher, request.getBodyAsString());
+                    bodyMatches = matches(context, (ParsedBodyMatcher) bodyMatcher, request.getParsedBody(request.getBodyAsString()));
                 }
+            } else if (bodyMatcher instanceof XPathMatcher) {
+                // xpath body matcher
+                bodyMatches = matches(context, (ParsedBodyMatcher) bodyMatcher, request.getParsedBody(request.getBodyAsString()));
             } else {
                 bodyMatches = matches(BODY, context, bodyMatcher, request.getBodyAsString());
             }
@@ -476,6 +479,13 @@ public class HttpRequestPropertiesMatcher extends AbstractHttpRequestMatcher {
         return result;
     }
 
+    private boolean matches(MatchDifference context, ParsedBodyMatcher matcher, ParsedBody parsedBody) {
+        if (context != null) {
+            context.currentField(BODY);
+        }
+        return matcher.matchesParsedBody(context, parsedBody);
+    }
+
     @Override
     public String toString() {
         try {
@@ -7,6 +7,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 
+import java.util.Objects;
+
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.slf4j.event.Level.DEBUG;
 
@@ -15,7 +17,7 @@ import static org.slf4j.event.Level.DEBUG;
  *
  * @author jamesdbloom
  */
-public class JsonPathMatcher extends BodyMatcher<String> {
+public class JsonPathMatcher extends BodyMatcher<String> implements ParsedBodyMatcher {
     private static final String[] EXCLUDED_FIELDS = {"mockServerLogger", "jsonPath"};
     private final MockServerLogger mockServerLogger;
     private final String matcher;
@@ -41,6 +43,11 @@ public class JsonPathMatcher extends BodyMatcher<String> {
     }
 
     public boolean matches(final MatchDifference context, final String matched) {
+        return matchesParsedBody(context, new ParsedBody(matched));
+    }
+
+    public boolean matchesParsedBody(final MatchDifference context, final ParsedBody parsedBody) {
+        String matched = parsedBody.getBody();
         boolean result = false;
         boolean alreadyLoggedMatchFailure = false;
 
@@ -53,7 +60,7 @@ public class JsonPathMatcher extends BodyMatcher<String> {
             result = true;
         } else if (matched != null) {
             try {
-                result = !jsonPath.<JSONArray>read(matched).isEmpty();
+                result = !parsedBody.getJsonPathDocument().<JSONArray>read(jsonPath).isEmpty();
             } catch (Throwable throwable) {
                 if (context != null) {
                     context.addDifference(mockServerLogger, throwable, "json path match failed expected:{}found:{}failed because:{}", matcher, matched, throwable.getMessage());
@@ -79,4 +86,23 @@ public class JsonPathMatcher extends BodyMatcher<String> {
         return EXCLUDED_FIELDS;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        JsonPathMatcher that = (JsonPathMatcher) o;
+        return Objects.equals(matcher, that.matcher);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), matcher);
+    }
 }
@@ -1,19 +1,21 @@
 package org.mockserver.matchers;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.apache.commons.lang3.StringUtils;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.ParameterStyle;
 import org.mockserver.validator.jsonschema.JsonSchemaValidator;
 
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * See http://json-schema.org/
  *
  * @author jamesdbloom
  */
-public class JsonSchemaMatcher extends BodyMatcher<String> {
+public class JsonSchemaMatcher extends BodyMatcher<String> implements ParsedBodyMatcher {
     private static final String[] EXCLUDED_FIELDS = {"mockServerLogger", "jsonSchemaValidator"};
     private final MockServerLogger mockServerLogger;
     private String matcher;
@@ -36,18 +38,30 @@ public class JsonSchemaMatcher extends BodyMatcher<String> {
     }
 
     public boolean matches(final MatchDifference context, String matched) {
+        return matchesParsedBody(context, new ParsedBody(matched));
+    }
+
+    public boolean matchesParsedBody(final MatchDifference context, ParsedBody parsedBody) {
+        String matched = parsedBody.getBody();
         boolean result = false;
 
         if (matcher.equalsIgnoreCase(matched)) {
             result = true;
         } else if (!StringUtils.isBlank(matched)) {
             try {
-                String validation = jsonSchemaValidator.isValid(matched, false);
+                JsonNode jsonNode = parsedJsonOrNull(parsedBody);
+                if (jsonNode != null && context == null) {
+                    // the reason for a failed match is only needed when logging match differences
+                    result = jsonSchemaValidator.isValidInstance(jsonNode);
+                } else {
+                    // invalid json is validated as a string so the failure is reported the same way
+                    String validation = jsonNode != null ? jsonSchemaValidator.isValid(jsonNode, false) : jsonSchemaValidator.isValid(matched, false);
 
-                result = validation.isEmpty();
+                    result = validation.isEmpty();
 
-                if (!result && context != null) {
-                    context.addDifference(mockServerLogger, "json schema match failed expected:{}found:{}failed because:{}", this.matcher, matched, validation);
+                    if (!result && context != null) {
+                        context.addDifference(mockServerLogger, "json schema match failed expected:{}found:{}failed because:{}", this.matcher, matched, validation);
+                    }
                 }
             } catch (Throwable throwable) {
                 if (context != null) {
@@ -59,6 +73,14 @@ public class JsonSchemaMatcher extends BodyMatcher<String> {
         return not != result;
     }
 
+    private JsonNode parsedJsonOrNull(ParsedBody parsedBody) {
+        try {
+            return parsedBody.getJsonNode();
+        } catch (Exception ignore) {
+            return null;
+        }
+    }
+
     public boolean isBlank() {
         return StringUtils.isBlank(matcher);
     }
@@ -68,4 +90,25 @@ public class JsonSchemaMatcher extends BodyMatcher<String> {
     protected String[] fieldsExcludedFromEqualsAndHashCode() {
         return EXCLUDED_FIELDS;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        JsonSchemaMatcher that = (JsonSchemaMatcher) o;
+        return Objects.equals(matcher, that.matcher) &&
+            Objects.equals(parameterStyle, that.parameterStyle);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), matcher, parameterStyle);
+    }
 }
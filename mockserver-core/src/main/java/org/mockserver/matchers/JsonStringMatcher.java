@@ -16,6 +16,7 @@ import org.mockserver.serialization.ObjectMapperFactory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import static net.javacrumbs.jsonunit.core.Option.*;
 import static org.mockserver.character.Character.NEW_LINE;
@@ -23,7 +24,7 @@ import static org.mockserver.character.Character.NEW_LINE;
 /**
  * @author jamesdbloom
  */
-public class JsonStringMatcher extends BodyMatcher<String> {
+public class JsonStringMatcher extends BodyMatcher<String> implements ParsedBodyMatcher {
     private static final String[] EXCLUDED_FIELDS = {"mockServerLogger"};
     private static final ObjectWriter PRETTY_PRINTER = ObjectMapperFactory.createObjectMapper(true);
     private final MockServerLogger mockServerLogger;
@@ -39,6 +40,11 @@ public class JsonStringMatcher extends BodyMatcher<String> {
     }
 
     public boolean matches(final MatchDifference context, String matched) {
+        return matchesParsedBody(context, new ParsedBody(matched));
+    }
+
+    public boolean matchesParsedBody(final MatchDifference context, ParsedBody parsedBody) {
+        String matched = parsedBody.getBody();
         boolean result = false;
 
         try {
@@ -67,7 +73,7 @@ public class JsonStringMatcher extends BodyMatcher<String> {
                     result = Diff
                         .create(
                             matcherJsonNode,
-                            ObjectMapperFactory.createObjectMapper().readTree(matched),
+                            parsedBody.getJsonNode(),
                             "",
                             "",
                             diffConfig
@@ -135,4 +141,25 @@ public class JsonStringMatcher extends BodyMatcher<String> {
     protected String[] fieldsExcludedFromEqualsAndHashCode() {
         return EXCLUDED_FIELDS;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        JsonStringMatcher that = (JsonStringMatcher) o;
+        return Objects.equals(matcher, that.matcher) &&
+            Objects.equals(matchType, that.matchType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), matcher, matchType);
+    }
 }
@@ -6,6 +6,8 @@ import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.KeyToMultiValue;
 import org.mockserver.model.KeysToMultiValues;
 
+import java.util.Objects;
+
 import static org.mockserver.model.NottableString.string;
 
 /**
@@ -65,4 +67,25 @@ public class MultiValueMapMatcher extends NotMatcher<KeysToMultiValues<? extends
     protected String[] fieldsExcludedFromEqualsAndHashCode() {
         return EXCLUDED_FIELDS;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        MultiValueMapMatcher that = (MultiValueMapMatcher) o;
+        return Objects.equals(matcher, that.matcher) &&
+            controlPlaneMatcher == that.controlPlaneMatcher;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), matcher, controlPlaneMatcher);
+    }
 }
@@ -14,4 +14,20 @@ public abstract class NotMatcher<MatchedType> extends ObjectWithReflectiveEquals
         return matcher;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        NotMatcher<?> that = (NotMatcher<?>) o;
+        return not == that.not;
+    }
+
+    @Override
+    public int hashCode() {
+        return Boolean.hashCode(not);
+    }
 }
@@ -5,6 +5,8 @@ import org.mockserver.codec.ExpandedParameterDecoder;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.Parameters;
 
+import java.util.Objects;
+
 /**
  * @author jamesdbloom
  */
@@ -43,4 +45,24 @@ public class ParameterStringMatcher extends BodyMatcher<String> {
     protected String[] fieldsExcludedFromEqualsAndHashCode() {
         return EXCLUDED_FIELDS;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        ParameterStringMatcher that = (ParameterStringMatcher) o;
+        return Objects.equals(matcher, that.matcher);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), matcher);
+    }
 }
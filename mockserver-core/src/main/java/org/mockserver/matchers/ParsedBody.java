@@ -0,0 +1,112 @@
+package org.mockserver.matchers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import org.mockserver.serialization.ObjectMapperFactory;
+import org.w3c.dom.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A body parsed lazily as json, as xml and for json path, each at most once, so all the body matchers evaluated
+ * against the same request share one parsed copy instead of each parsing the body again.
+ * <p>
+ * Parsing failures are kept and re-thrown to every caller, xml parser warnings and errors are replayed to the
+ * {@link StringToXmlDocumentParser.ErrorLogger} of every caller.
+ *
+ * @author jamesdbloom
+ */
+public class ParsedBody {
+
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.createObjectMapper();
+    private final String body;
+    private volatile Parsed<JsonNode> jsonNode;
+    private volatile Parsed<Document> xmlDocument;
+    private volatile Parsed<DocumentContext> jsonPathDocument;
+
+    public ParsedBody(String body) {
+        this.body = body;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public JsonNode getJsonNode() throws Exception {
+        Parsed<JsonNode> parsed = jsonNode;
+        if (parsed == null) {
+            try {
+                parsed = new Parsed<>(OBJECT_MAPPER.readTree(body), null, null);
+            } catch (Exception exception) {
+                parsed = new Parsed<>(null, exception, null);
+            }
+            jsonNode = parsed;
+        }
+        return parsed.get(null);
+    }
+
+    public Document getXmlDocument(StringToXmlDocumentParser.ErrorLogger errorLogger) throws Exception {
+        Parsed<Document> parsed = xmlDocument;
+        if (parsed == null) {
+            List<ParseError> errors = new ArrayList<>();
+            try {
+                Document document = new StringToXmlDocumentParser().buildDocument(body, (matched, exception, level) -> errors.add(new ParseError(exception, level)));
+                parsed = new Parsed<>(document, null, errors);
+            } catch (Exception exception) {
+                parsed = new Parsed<>(null, exception, errors);
+            }
+            xmlDocument = parsed;
+        }
+        return parsed.get(errorLogger);
+    }
+
+    public DocumentContext getJsonPathDocument() throws Exception {
+        Parsed<DocumentContext> parsed = jsonPathDocument;
+        if (parsed == null) {
+            try {
+                parsed = new Parsed<>(JsonPath.parse(body), null, null);
+            } catch (Exception exception) {
+                parsed = new Parsed<>(null, exception, null);
+            }
+            jsonPathDocument = parsed;
+        }
+        return parsed.get(null);
+    }
+
+    private class Parsed<T> {
+        private final T value;
+        private final Exception exception;
+        private final List<ParseError> errors;
+
+        private Parsed(T value, Exception exception, List<ParseError> errors) {
+            this.value = value;
+            this.exception = exception;
+            this.errors = errors;
+        }
+
+        private T get(StringToXmlDocumentParser.ErrorLogger errorLogger) throws Exception {
+            if (errorLogger != null && errors != null) {
+                for (ParseError error : errors) {
+                    errorLogger.logError(body, error.exception, error.level);
+                }
+            }
+            if (exception != null) {
+                throw exception;
+            }
+            return value;
+        }
+    }
+
+    private static class ParseError {
+        private final Exception exception;
+        private final StringToXmlDocumentParser.ErrorLevel level;
+
+        private ParseError(Exception exception, StringToXmlDocumentParser.ErrorLevel level) {
+            this.exception = exception;
+            this.level = level;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.mockserver.matchers;
+
+/**
+ * A body matcher which can match against a body parsed once per request, instead of parsing the body itself
+ *
+ * @author jamesdbloom
+ */
+interface ParsedBodyMatcher {
+
+    boolean matchesParsedBody(MatchDifference context, ParsedBody parsedBody);
+
+}
@@ -7,6 +7,7 @@ import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.NottableSchemaString;
 import org.mockserver.model.NottableString;
 
+import java.util.Objects;
 import java.util.regex.PatternSyntaxException;
 
 import static org.mockserver.model.NottableString.string;
@@ -92,7 +93,7 @@ public class RegexStringMatcher extends BodyMatcher<NottableString> {
 
                 // match as regex - matcher -> matched (data plane or control plane)
                 try {
-                    if (matcher.matches(matchedValue)) {
+                    if (!matcher.isLiteral() && matcher.matches(matchedValue)) {
                         return true;
                     }
                 } catch (PatternSyntaxException pse) {
@@ -137,7 +138,7 @@ public class RegexStringMatcher extends BodyMatcher<NottableString> {
                     }
                     // match as regex - matcher -> matched (data plane or control plane)
                     try {
-                        if (matcher.matchesIgnoreCase(matchedValue)) {
+                        if (!matcher.isLiteral() && matcher.matchesIgnoreCase(matchedValue)) {
                             return true;
                         }
                     } catch (PatternSyntaxException pse) {
@@ -181,4 +182,25 @@ public class RegexStringMatcher extends BodyMatcher<NottableString> {
     protected String[] fieldsExcludedFromEqualsAndHashCode() {
         return EXCLUDED_FIELDS;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        RegexStringMatcher that = (RegexStringMatcher) o;
+        return Objects.equals(matcher, that.matcher) &&
+            controlPlaneMatcher == that.controlPlaneMatcher;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), matcher, controlPlaneMatcher);
+    }
 }
@@ -4,6 +4,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.NottableString;
 
+import java.util.Objects;
+
 import static org.apache.commons.lang3.StringUtils.*;
 import static org.mockserver.model.NottableString.string;
 
@@ -11,7 +13,7 @@ import static org.mockserver.model.NottableString.string;
  * @author jamesdbloom
  */
 public class SubStringMatcher extends BodyMatcher<NottableString> {
-    private static final String[] excludedFields = {"mockserverLogger"};
+    private static final String[] excludedFields = {"mockServerLogger"};
     private final MockServerLogger mockServerLogger;
     private final NottableString matcher;
 
@@ -62,4 +64,24 @@ public class SubStringMatcher extends BodyMatcher<NottableString> {
     public String[] fieldsExcludedFromEqualsAndHashCode() {
         return excludedFields;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        SubStringMatcher that = (SubStringMatcher) o;
+        return Objects.equals(matcher, that.matcher);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), matcher);
+    }
 }
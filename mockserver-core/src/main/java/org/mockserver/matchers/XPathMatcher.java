@@ -9,6 +9,7 @@ import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
+import java.util.Objects;
 
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mockserver.matchers.StringToXmlDocumentParser.ErrorLevel.prettyPrint;
@@ -17,11 +18,10 @@ import static org.slf4j.event.Level.DEBUG;
 /**
  * @author jamesdbloom
  */
-public class XPathMatcher extends BodyMatcher<String> {
-    private static final String[] EXCLUDED_FIELDS = {"mockServerLogger", "stringToXmlDocumentParser", "xpathExpression"};
+public class XPathMatcher extends BodyMatcher<String> implements ParsedBodyMatcher {
+    private static final String[] EXCLUDED_FIELDS = {"mockServerLogger", "xpathExpression"};
     private final MockServerLogger mockServerLogger;
     private final String matcher;
-    private final StringToXmlDocumentParser stringToXmlDocumentParser = new StringToXmlDocumentParser();
     private XPathExpression xpathExpression = null;
 
     XPathMatcher(MockServerLogger mockServerLogger, String matcher) {
@@ -45,6 +45,11 @@ public class XPathMatcher extends BodyMatcher<String> {
     }
 
     public boolean matches(final MatchDifference context, final String matched) {
+        return matchesParsedBody(context, new ParsedBody(matched));
+    }
+
+    public boolean matchesParsedBody(final MatchDifference context, final ParsedBody parsedBody) {
+        String matched = parsedBody.getBody();
         boolean result = false;
         boolean alreadyLoggedMatchFailure = false;
 
@@ -57,7 +62,7 @@ public class XPathMatcher extends BodyMatcher<String> {
             result = true;
         } else if (matched != null) {
             try {
-                result = (Boolean) xpathExpression.evaluate(stringToXmlDocumentParser.buildDocument(matched, (matchedInException, throwable, level) -> {
+                result = (Boolean) xpathExpression.evaluate(parsedBody.getXmlDocument((matchedInException, throwable, level) -> {
                     if (context != null) {
                         context.addDifference(mockServerLogger, throwable, "xpath match failed expected:{}found:{}failed because " + prettyPrint(level) + ":{}", matcher, matched, throwable.getMessage());
                     }
@@ -86,4 +91,24 @@ public class XPathMatcher extends BodyMatcher<String> {
     protected String[] fieldsExcludedFromEqualsAndHashCode() {
         return EXCLUDED_FIELDS;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        XPathMatcher that = (XPathMatcher) o;
+        return Objects.equals(matcher, that.matcher);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), matcher);
+    }
 }
@@ -4,6 +4,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.validator.xmlschema.XmlSchemaValidator;
 
+import java.util.Objects;
+
 /**
  * See http://xml-schema.org/
  *
@@ -49,4 +51,23 @@ public class XmlSchemaMatcher extends BodyMatcher<String> {
         return StringUtils.isBlank(matcher);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        XmlSchemaMatcher that = (XmlSchemaMatcher) o;
+        return Objects.equals(matcher, that.matcher);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), matcher);
+    }
 }
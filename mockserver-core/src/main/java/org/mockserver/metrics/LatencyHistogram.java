@@ -0,0 +1,69 @@
+package org.mockserver.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free histogram of durations with fixed bucket boundaries, from 100 microseconds to 10 seconds, each bucket and
+ * the total are {@link LongAdder}s so recording never blocks.
+ *
+ * @author jamesdbloom
+ */
+public class LatencyHistogram {
+
+    private static final double[] BUCKET_UPPER_BOUNDS_SECONDS = {0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+    private static final long[] BUCKET_UPPER_BOUNDS_NANOS = new long[BUCKET_UPPER_BOUNDS_SECONDS.length];
+
+    static {
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS_SECONDS.length; i++) {
+            BUCKET_UPPER_BOUNDS_NANOS[i] = (long) (BUCKET_UPPER_BOUNDS_SECONDS[i] * TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+
+    // the last bucket counts durations above the largest boundary
+    private final LongAdder[] buckets = new LongAdder[BUCKET_UPPER_BOUNDS_NANOS.length + 1];
+    private final LongAdder sumNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long durationNanos) {
+        int bucket = 0;
+        while (bucket < BUCKET_UPPER_BOUNDS_NANOS.length && durationNanos > BUCKET_UPPER_BOUNDS_NANOS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        sumNanos.add(durationNanos);
+    }
+
+    public static double[] getBucketUpperBoundsSeconds() {
+        return BUCKET_UPPER_BOUNDS_SECONDS.clone();
+    }
+
+    /**
+     * @return the number of durations less than or equal to each bucket boundary, followed by the total count
+     */
+    public long[] getCumulativeCounts() {
+        long[] cumulativeCounts = new long[buckets.length];
+        long count = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            count += buckets[i].sum();
+            cumulativeCounts[i] = count;
+        }
+        return cumulativeCounts;
+    }
+
+    public double getSumSeconds() {
+        return sumNanos.sum() / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        sumNanos.reset();
+    }
+}
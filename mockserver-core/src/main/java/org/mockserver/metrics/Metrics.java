@@ -3,74 +3,93 @@ package org.mockserver.metrics;
 import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.model.Action;
 
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
+ * Counters and latency histograms for MockServer itself, recorded only when metrics are enabled.
+ * <p>
+ * Each counter is a {@link LongAdder} so concurrent increments from worker threads update separate cells instead of
+ * contending on a single lock or value.
+ *
  * @author jamesdbloom
  */
-@SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
 public class Metrics {
 
-    private static Map<Name, Integer> metrics = new ConcurrentHashMap<>();
+    private static final Map<Name, LongAdder> metrics = new ConcurrentHashMap<>();
+    private static final Map<Timer, LatencyHistogram> timers = new EnumMap<>(Timer.class);
+
+    static {
+        for (Timer timer : Timer.values()) {
+            timers.put(timer, new LatencyHistogram());
+        }
+    }
 
     public static void clear() {
         metrics.clear();
+        for (LatencyHistogram histogram : timers.values()) {
+            histogram.reset();
+        }
     }
 
     public static void set(Name name, Integer value) {
-        metrics.put(name, value);
+        // update the existing adder, replacing it would lose increments made concurrently to the old adder
+        LongAdder adder = adder(name);
+        adder.reset();
+        adder.add(value);
     }
 
     public static Integer get(Name name) {
-        Integer value = metrics.get(name);
-        return value != null ? value : 0;
+        LongAdder adder = metrics.get(name);
+        return adder != null ? adder.intValue() : 0;
     }
 
     public static void increment(Name name) {
         if (ConfigurationProperties.metricsEnabled()) {
-            synchronized (name) {
-                metrics.merge(name, 1, Integer::sum);
-            }
+            adder(name).increment();
         }
     }
 
     public static void decrement(Name name) {
         if (ConfigurationProperties.metricsEnabled()) {
-            synchronized (name) {
-                final Integer currentValue = metrics.get(name);
-                if (currentValue != null) {
-                    metrics.put(name, currentValue - 1);
-                } else {
-                    throw new IllegalArgumentException("Can not decrement metric \"" + name + "\" because it not exist");
-                }
+            final LongAdder adder = metrics.get(name);
+            if (adder != null) {
+                adder.decrement();
+            } else {
+                throw new IllegalArgumentException("Can not decrement metric \"" + name + "\" because it not exist");
             }
         }
     }
 
     public static void increment(Action.Type type) {
-        if (ConfigurationProperties.metricsEnabled()) {
-            Name name = Name.valueOf("ACTION_" + type.name() + "_COUNT");
-            synchronized (name) {
-                metrics.merge(name, 1, Integer::sum);
-            }
-        }
+        increment(Name.valueOf("ACTION_" + type.name() + "_COUNT"));
     }
 
     public static void decrement(Action.Type type) {
+        decrement(Name.valueOf("ACTION_" + type.name() + "_COUNT"));
+    }
+
+    /**
+     * Records the duration of an operation which started at startNanos, as returned by {@link System#nanoTime()}
+     */
+    public static void recordDuration(Timer timer, long startNanos) {
         if (ConfigurationProperties.metricsEnabled()) {
-            Name name = Name.valueOf("ACTION_" + type.name() + "_COUNT");
-            synchronized (name) {
-                final Integer currentValue = metrics.get(name);
-                if (currentValue != null) {
-                    metrics.put(name, currentValue - 1);
-                } else {
-                    throw new IllegalArgumentException("Can not decrement metric \"" + name + "\" because it not exist");
-                }
-            }
+            timers.get(timer).record(System.nanoTime() - startNanos);
         }
     }
 
+    public static LatencyHistogram getHistogram(Timer timer) {
+        return timers.get(timer);
+    }
+
+    private static LongAdder adder(Name name) {
+        // avoid computeIfAbsent locking the bin when the counter already exists
+        LongAdder adder = metrics.get(name);
+        return adder != null ? adder : metrics.computeIfAbsent(name, key -> new LongAdder());
+    }
+
     public static void clearActionMetrics() {
         metrics.remove(Name.ACTION_FORWARD_COUNT);
         metrics.remove(Name.ACTION_FORWARD_TEMPLATE_COUNT);
@@ -91,21 +110,47 @@ public class Metrics {
     }
 
     public enum Name {
-        EXPECTATION_NOT_MATCHED_COUNT,
-        RESPONSE_EXPECTATION_MATCHED_COUNT,
-        FORWARD_EXPECTATION_MATCHED_COUNT,
-        ACTION_FORWARD_COUNT,
-        ACTION_FORWARD_TEMPLATE_COUNT,
-        ACTION_FORWARD_CLASS_CALLBACK_COUNT,
-        ACTION_FORWARD_OBJECT_CALLBACK_COUNT,
-        ACTION_FORWARD_REPLACE_COUNT,
-        ACTION_RESPONSE_COUNT,
-        ACTION_RESPONSE_TEMPLATE_COUNT,
-        ACTION_RESPONSE_CLASS_CALLBACK_COUNT,
-        ACTION_RESPONSE_OBJECT_CALLBACK_COUNT,
-        ACTION_ERROR_COUNT,
-        WEBSOCKET_CALLBACK_CLIENT_COUNT,
-        WEBSOCKET_CALLBACK_RESPONSE_HANDLER_COUNT,
-        WEBSOCKET_CALLBACK_FORWARD_HANDLER_COUNT
+        EXPECTATION_NOT_MATCHED_COUNT(false),
+        RESPONSE_EXPECTATION_MATCHED_COUNT(false),
+        FORWARD_EXPECTATION_MATCHED_COUNT(false),
+        ACTION_FORWARD_COUNT(true),
+        ACTION_FORWARD_TEMPLATE_COUNT(true),
+        ACTION_FORWARD_CLASS_CALLBACK_COUNT(true),
+        ACTION_FORWARD_OBJECT_CALLBACK_COUNT(true),
+        ACTION_FORWARD_REPLACE_COUNT(true),
+        ACTION_RESPONSE_COUNT(true),
+        ACTION_RESPONSE_TEMPLATE_COUNT(true),
+        ACTION_RESPONSE_CLASS_CALLBACK_COUNT(true),
+        ACTION_RESPONSE_OBJECT_CALLBACK_COUNT(true),
+        ACTION_ERROR_COUNT(true),
+        WEBSOCKET_CALLBACK_CLIENT_COUNT(true),
+        WEBSOCKET_CALLBACK_RESPONSE_HANDLER_COUNT(true),
+        WEBSOCKET_CALLBACK_FORWARD_HANDLER_COUNT(true),
+        FORWARD_CONNECTION_POOL_CREATED_COUNT(false),
+        FORWARD_CONNECTION_POOL_REUSED_COUNT(false),
+        FORWARD_CONNECTION_POOL_IDLE_EVICTED_COUNT(false),
+        FORWARD_CONNECTION_POOL_IN_USE_COUNT(true),
+        LRU_CACHE_HIT_COUNT(false),
+        LRU_CACHE_MISS_COUNT(false),
+        LRU_CACHE_EVICTION_COUNT(false);
+
+        private final boolean gauge;
+
+        Name(boolean gauge) {
+            this.gauge = gauge;
+        }
+
+        /**
+         * @return true if the value can go down (i.e. is decremented), false if it only ever increases
+         */
+        public boolean isGauge() {
+            return gauge;
+        }
+    }
+
+    public enum Timer {
+        EXPECTATION_MATCH_DURATION,
+        ACTION_DURATION,
+        FORWARD_DURATION
     }
 }
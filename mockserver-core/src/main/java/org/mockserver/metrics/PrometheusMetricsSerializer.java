@@ -0,0 +1,42 @@
+package org.mockserver.metrics;
+
+import java.math.BigDecimal;
+
+/**
+ * Serialises {@link Metrics} in the Prometheus text exposition format
+ *
+ * @author jamesdbloom
+ */
+public class PrometheusMetricsSerializer {
+
+    public static final String PROMETHEUS_TEXT_CONTENT_TYPE = "text/plain; version=0.0.4";
+    private static final String PREFIX = "mockserver_";
+    // the exposition format requires \n irrespective of platform
+    private static final String NEW_LINE = "\n";
+
+    public String serialize() {
+        StringBuilder output = new StringBuilder();
+        for (Metrics.Name name : Metrics.Name.values()) {
+            String metricName = PREFIX + name.name().toLowerCase();
+            output
+                .append("# TYPE ").append(metricName).append(name.isGauge() ? " gauge" : " counter").append(NEW_LINE)
+                .append(metricName).append(" ").append(Metrics.get(name)).append(NEW_LINE);
+        }
+        double[] bucketUpperBounds = LatencyHistogram.getBucketUpperBoundsSeconds();
+        for (Metrics.Timer timer : Metrics.Timer.values()) {
+            String metricName = PREFIX + timer.name().toLowerCase() + "_seconds";
+            LatencyHistogram histogram = Metrics.getHistogram(timer);
+            long[] cumulativeCounts = histogram.getCumulativeCounts();
+            output.append("# TYPE ").append(metricName).append(" histogram").append(NEW_LINE);
+            for (int i = 0; i < bucketUpperBounds.length; i++) {
+                output.append(metricName).append("_bucket{le=\"").append(BigDecimal.valueOf(bucketUpperBounds[i]).stripTrailingZeros().toPlainString()).append("\"} ").append(cumulativeCounts[i]).append(NEW_LINE);
+            }
+            long count = cumulativeCounts[cumulativeCounts.length - 1];
+            output
+                .append(metricName).append("_bucket{le=\"+Inf\"} ").append(count).append(NEW_LINE)
+                .append(metricName).append("_sum ").append(histogram.getSumSeconds()).append(NEW_LINE)
+                .append(metricName).append("_count ").append(count).append(NEW_LINE);
+        }
+        return output.toString();
+    }
+}
@@ -1,5 +1,6 @@
 package org.mockserver.mock;
 
+import com.google.common.collect.ImmutableSet;
 import org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry;
 import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.log.MockServerEventLog;
@@ -24,6 +25,7 @@ import org.slf4j.event.Level;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -54,6 +56,23 @@ public class HttpState {
 
     public static final String LOG_SEPARATOR = NEW_LINE + "------------------------------------" + NEW_LINE;
     public static final String PATH_PREFIX = "/mockserver";
+    public static final String EXPECTATION_PATH = "/expectation";
+    public static final String OPENAPI_PATH = "/openapi";
+    public static final String CLEAR_PATH = "/clear";
+    public static final String RESET_PATH = "/reset";
+    public static final String RETRIEVE_PATH = "/retrieve";
+    public static final String VERIFY_PATH = "/verify";
+    public static final String REGISTER_VERIFICATION_PATH = "/registerVerification";
+    public static final String UNREGISTER_VERIFICATION_PATH = "/unregisterVerification";
+    public static final String VERIFY_SEQUENCE_PATH = "/verifySequence";
+    public static final String STATUS_PATH = "/status";
+    public static final String BIND_PATH = "/bind";
+    public static final String STOP_PATH = "/stop";
+    public static final String METRICS_PATH = "/metrics";
+    /**
+     * The paths of the control plane PUT requests, which are also handled with the {@link #PATH_PREFIX}
+     */
+    public static final Set<String> CONTROL_PLANE_PATHS = ImmutableSet.of(EXPECTATION_PATH, OPENAPI_PATH, CLEAR_PATH, RESET_PATH, RETRIEVE_PATH, VERIFY_PATH, REGISTER_VERIFICATION_PATH, UNREGISTER_VERIFICATION_PATH, VERIFY_SEQUENCE_PATH, STATUS_PATH, BIND_PATH, STOP_PATH, METRICS_PATH);
     private static final ThreadLocal<Integer> LOCAL_PORT = new ThreadLocal<>();
     private final String uniqueLoopPreventionHeaderValue = "MockServer_" + UUIDService.getUUID();
     private final MockServerEventLog mockServerLog;
@@ -216,7 +235,6 @@ public class HttpState {
     }
 
     public List<Expectation> add(Expectation... expectations) {
-        List<Expectation> upsertedExpectations = new ArrayList<>();
         for (Expectation expectation : expectations) {
             RequestDefinition requestDefinition = expectation.getHttpRequest();
             if (requestDefinition instanceof HttpRequest) {
@@ -225,9 +243,8 @@ public class HttpState {
                     scheduler.submit(() -> addSubjectAlternativeName(hostHeader));
                 }
             }
-            upsertedExpectations.add(requestMatchers.add(expectation, Cause.API));
         }
-        return upsertedExpectations;
+        return requestMatchers.add(Arrays.asList(expectations), Cause.API);
     }
 
     public Expectation firstMatchingExpectation(HttpRequest request) {
@@ -238,6 +255,10 @@ public class HttpState {
         }
     }
 
+    public boolean canMatchAndForwardWithoutBody(HttpRequest request) {
+        return requestMatchers.isEmpty() || requestMatchers.canMatchAndForwardWithoutBody(request);
+    }
+
     public void postProcess(Expectation expectation) {
         requestMatchers.postProcess(expectation);
     }
@@ -517,6 +538,20 @@ public class HttpState {
         mockServerLog.verify(verification, resultConsumer);
     }
 
+    public void registerVerification(Verification verification) {
+        if (verification.getHttpRequest() == null) {
+            verification.withRequest(resolveExpectationId(verification.getExpectationId()));
+        }
+        mockServerLog.registerVerification(verification.getHttpRequest());
+    }
+
+    public void unregisterVerification(Verification verification) {
+        if (verification.getHttpRequest() == null) {
+            verification.withRequest(resolveExpectationId(verification.getExpectationId()));
+        }
+        mockServerLog.unregisterVerification(verification.getHttpRequest());
+    }
+
     public Future<String> verify(VerificationSequence verification) {
         CompletableFuture<String> result = new CompletableFuture<>();
         verify(verification, result::complete);
@@ -549,21 +584,22 @@ public class HttpState {
 
             CompletableFuture<Boolean> canHandle = new CompletableFuture<>();
 
-            if (request.matches("PUT", PATH_PREFIX + "/expectation", "/expectation")) {
+            if (request.matches("PUT", PATH_PREFIX + EXPECTATION_PATH, EXPECTATION_PATH)) {
 
-                List<Expectation> upsertedExpectations = new ArrayList<>();
+                List<Expectation> expectations = new ArrayList<>();
                 for (Expectation expectation : getExpectationSerializer().deserializeArray(request.getBodyAsJsonOrXmlString(), false)) {
                     if (!warDeployment || validateSupportedFeatures(expectation, request, responseWriter)) {
-                        upsertedExpectations.addAll(add(expectation));
+                        expectations.add(expectation);
                     }
                 }
+                List<Expectation> upsertedExpectations = add(expectations.toArray(new Expectation[0]));
 
                 responseWriter.writeResponse(request, response()
                     .withStatusCode(CREATED.code())
                     .withBody(getExpectationSerializer().serialize(upsertedExpectations), MediaType.JSON_UTF_8), true);
                 canHandle.complete(true);
 
-            } else if (request.matches("PUT", PATH_PREFIX + "/openapi", "/openapi")) {
+            } else if (request.matches("PUT", PATH_PREFIX + OPENAPI_PATH, OPENAPI_PATH)) {
 
                 try {
                     List<Expectation> upsertedExpectations = new ArrayList<>();
@@ -590,24 +626,24 @@ public class HttpState {
                 }
                 canHandle.complete(true);
 
-            } else if (request.matches("PUT", PATH_PREFIX + "/clear", "/clear")) {
+            } else if (request.matches("PUT", PATH_PREFIX + CLEAR_PATH, CLEAR_PATH)) {
 
                 clear(request);
                 responseWriter.writeResponse(request, OK);
                 canHandle.complete(true);
 
-            } else if (request.matches("PUT", PATH_PREFIX + "/reset", "/reset")) {
+            } else if (request.matches("PUT", PATH_PREFIX + RESET_PATH, RESET_PATH)) {
 
                 reset();
                 responseWriter.writeResponse(request, OK);
                 canHandle.complete(true);
 
-            } else if (request.matches("PUT", PATH_PREFIX + "/retrieve", "/retrieve")) {
+            } else if (request.matches("PUT", PATH_PREFIX + RETRIEVE_PATH, RETRIEVE_PATH)) {
 
                 responseWriter.writeResponse(request, retrieve(request), true);
                 canHandle.complete(true);
 
-            } else if (request.matches("PUT", PATH_PREFIX + "/verify", "/verify")) {
+            } else if (request.matches("PUT", PATH_PREFIX + VERIFY_PATH, VERIFY_PATH)) {
 
                 verify(getVerificationSerializer().deserialize(request.getBodyAsJsonOrXmlString()), result -> {
                     if (isEmpty(result)) {
@@ -618,7 +654,19 @@ public class HttpState {
                     canHandle.complete(true);
                 });
 
-            } else if (request.matches("PUT", PATH_PREFIX + "/verifySequence", "/verifySequence")) {
+            } else if (request.matches("PUT", PATH_PREFIX + REGISTER_VERIFICATION_PATH, REGISTER_VERIFICATION_PATH)) {
+
+                registerVerification(getVerificationSerializer().deserialize(request.getBodyAsJsonOrXmlString()));
+                responseWriter.writeResponse(request, CREATED);
+                canHandle.complete(true);
+
+            } else if (request.matches("PUT", PATH_PREFIX + UNREGISTER_VERIFICATION_PATH, UNREGISTER_VERIFICATION_PATH)) {
+
+                unregisterVerification(getVerificationSerializer().deserialize(request.getBodyAsJsonOrXmlString()));
+                responseWriter.writeResponse(request, OK);
+                canHandle.complete(true);
+
+            } else if (request.matches("PUT", PATH_PREFIX + VERIFY_SEQUENCE_PATH, VERIFY_SEQUENCE_PATH)) {
 
                 verify(getVerificationSequenceSerializer().deserialize(request.getBodyAsJsonOrXmlString()), result -> {
                     if (isEmpty(result)) {
@@ -1,6 +1,8 @@
 package org.mockserver.mock;
 
+import io.netty.util.Timeout;
 import org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry;
+import org.mockserver.codec.BodyDecoderEncoder;
 import org.mockserver.collections.CircularPriorityQueue;
 import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.log.model.LogEntry;
@@ -15,15 +17,19 @@ import org.mockserver.scheduler.Scheduler;
 import org.slf4j.event.Level;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.mockserver.configuration.ConfigurationProperties.expectationIndexEnabled;
 import static org.mockserver.configuration.ConfigurationProperties.maxExpectations;
 import static org.mockserver.log.model.LogEntry.LogMessageType.*;
 import static org.mockserver.log.model.LogEntryMessages.*;
 import static org.mockserver.metrics.Metrics.Name.*;
+import static org.mockserver.metrics.Metrics.Timer.EXPECTATION_MATCH_DURATION;
 import static org.mockserver.mock.SortableExpectationId.EXPECTATION_SORTABLE_PRIORITY_COMPARATOR;
 import static org.mockserver.mock.SortableExpectationId.NULL;
 import static org.slf4j.event.Level.DEBUG;
@@ -37,8 +43,12 @@ public class RequestMatchers extends MockServerMatcherNotifier {
         maxExpectations(),
         EXPECTATION_SORTABLE_PRIORITY_COMPARATOR,
         httpRequestMatcher -> httpRequestMatcher.getExpectation() != null ? httpRequestMatcher.getExpectation().getSortableId() : NULL,
-        httpRequestMatcher -> httpRequestMatcher.getExpectation() != null ? httpRequestMatcher.getExpectation().getId() : ""
+        httpRequestMatcher -> httpRequestMatcher.getExpectation() != null ? httpRequestMatcher.getExpectation().getId() : "",
+        this::evicted
     );
+    final RequestMatchersIndex httpRequestMatchersIndex = new RequestMatchersIndex();
+    private final BodyDecoderEncoder bodyDecoderEncoder = new BodyDecoderEncoder();
+    final Map<String, Timeout> timeToLiveExpiryTimeouts = new ConcurrentHashMap<>();
     private final MockServerLogger mockServerLogger;
     private final Scheduler scheduler;
     private WebSocketClientRegistry webSocketClientRegistry;
@@ -55,46 +65,95 @@ public class RequestMatchers extends MockServerMatcherNotifier {
     public Expectation add(Expectation expectation, Cause cause) {
         Expectation upsertedExpectation = null;
         if (expectation != null) {
+            preEncodeResponseBody(expectation);
             upsertedExpectation = httpRequestMatchers
                 .getByKey(expectation.getId())
                 .map(httpRequestMatcher -> {
-                    if (httpRequestMatcher.getExpectation() != null && httpRequestMatcher.getExpectation().getAction() != null) {
-                        Metrics.decrement(httpRequestMatcher.getExpectation().getAction().getType());
-                    }
-                    if (httpRequestMatcher.getExpectation() != null) {
-                        // propagate created time from previous entry to avoid re-ordering on update
-                        expectation.withCreated(httpRequestMatcher.getExpectation().getCreated());
-                    }
-                    httpRequestMatchers.removePriorityKey(httpRequestMatcher);
-                    if (httpRequestMatcher.update(expectation)) {
-                        httpRequestMatchers.addPriorityKey(httpRequestMatcher);
-                        if (MockServerLogger.isEnabled(Level.INFO)) {
-                            mockServerLogger.logEvent(
-                                new LogEntry()
-                                    .setType(UPDATED_EXPECTATION)
-                                    .setLogLevel(Level.INFO)
-                                    .setHttpRequest(expectation.getHttpRequest())
-                                    .setMessageFormat(UPDATED_EXPECTATION_MESSAGE_FORMAT)
-                                    .setArguments(expectation.clone(), expectation.getId())
-                            );
-                        }
-                        if (expectation.getAction() != null) {
-                            Metrics.increment(expectation.getAction().getType());
-                        }
-                    } else {
-                        httpRequestMatchers.addPriorityKey(httpRequestMatcher);
-                    }
+                    updateHttpRequestMatcher(httpRequestMatcher, expectation);
                     return httpRequestMatcher;
                 })
                 .orElseGet(() -> addPrioritisedExpectation(expectation))
                 .getExpectation();
-            notifyListeners(this, cause);
+            notifyListeners(this, cause, Collections.singletonList(upsertedExpectation.getId()));
         }
         return upsertedExpectation;
     }
 
+    /**
+     * Adds or updates a batch of expectations, the matchers for new expectations are built in parallel and inserted
+     * together, and listeners are notified once for the whole batch.  A single INFO log entry is logged for all created
+     * expectations, the log entry for each expectation is only logged at DEBUG.
+     */
+    public List<Expectation> add(List<Expectation> expectations, Cause cause) {
+        List<Expectation> upsertedExpectations = new ArrayList<>();
+        if (expectations == null || expectations.isEmpty()) {
+            return upsertedExpectations;
+        } else if (expectations.size() == 1) {
+            upsertedExpectations.add(add(expectations.get(0), cause));
+            return upsertedExpectations;
+        }
+        Map<String, HttpRequestMatcher> httpRequestMatchersByKey = httpRequestMatchers.keyMap();
+        Set<String> newKeys = new HashSet<>();
+        List<Expectation> newExpectations = new ArrayList<>();
+        for (Expectation expectation : expectations) {
+            // ids repeated in the batch are applied as updates, in order, after the first occurrence is added
+            if (expectation != null && !httpRequestMatchersByKey.containsKey(expectation.getId()) && newKeys.add(expectation.getId())) {
+                newExpectations.add(expectation);
+            }
+        }
+        List<HttpRequestMatcher> newHttpRequestMatchers = newExpectations
+            .parallelStream()
+            .map(expectation -> {
+                preEncodeResponseBody(expectation);
+                return matcherBuilder.transformsToMatcher(expectation);
+            })
+            .collect(Collectors.toList());
+        httpRequestMatchers.addAll(newHttpRequestMatchers);
+        boolean logEachExpectation = MockServerLogger.isEnabled(DEBUG);
+        for (HttpRequestMatcher httpRequestMatcher : newHttpRequestMatchers) {
+            Expectation expectation = httpRequestMatcher.getExpectation();
+            // a batch larger than maxExpectations evicts some of its own matchers while they are added
+            if (httpRequestMatchers.getByKey(expectation.getId()).orElse(null) == httpRequestMatcher) {
+                httpRequestMatchersIndex.add(httpRequestMatcher);
+                scheduleTimeToLiveExpiry(httpRequestMatcher);
+            }
+            httpRequestMatchersByKey.put(expectation.getId(), httpRequestMatcher);
+            if (expectation.getAction() != null) {
+                Metrics.increment(expectation.getAction().getType());
+            }
+            if (logEachExpectation) {
+                logCreatedExpectation(expectation, DEBUG);
+            }
+        }
+        if (!newHttpRequestMatchers.isEmpty() && MockServerLogger.isEnabled(Level.INFO)) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setType(CREATED_EXPECTATION)
+                    .setLogLevel(Level.INFO)
+                    .setMessageFormat("creating{}expectations")
+                    .setArguments(newHttpRequestMatchers.size())
+            );
+        }
+        Set<Expectation> addedExpectations = Collections.newSetFromMap(new IdentityHashMap<>());
+        newExpectations.forEach(addedExpectations::add);
+        for (Expectation expectation : expectations) {
+            if (expectation == null) {
+                upsertedExpectations.add(null);
+            } else if (addedExpectations.contains(expectation)) {
+                upsertedExpectations.add(expectation);
+            } else {
+                preEncodeResponseBody(expectation);
+                HttpRequestMatcher httpRequestMatcher = httpRequestMatchersByKey.get(expectation.getId());
+                updateHttpRequestMatcher(httpRequestMatcher, expectation);
+                upsertedExpectations.add(httpRequestMatcher.getExpectation());
+            }
+        }
+        notifyListeners(this, cause, upsertedExpectations.stream().filter(Objects::nonNull).map(Expectation::getId).collect(Collectors.toList()));
+        return upsertedExpectations;
+    }
+
     public void update(Expectation[] expectations, Cause cause) {
-        AtomicInteger numberOfChanges = new AtomicInteger(0);
+        List<String> changedExpectationIds = new ArrayList<>();
         if (expectations != null) {
             Map<String, HttpRequestMatcher> httpRequestMatchersByKey = httpRequestMatchers.keyMap();
             Set<String> existingKeys = new HashSet<>(httpRequestMatchersByKey.keySet());
@@ -102,74 +161,137 @@ public class RequestMatchers extends MockServerMatcherNotifier {
                 .stream(expectations)
                 .forEach(expectation -> {
                     existingKeys.remove(expectation.getId());
+                    preEncodeResponseBody(expectation);
                     if (httpRequestMatchersByKey.containsKey(expectation.getId())) {
-                        HttpRequestMatcher httpRequestMatcher = httpRequestMatchersByKey.get(expectation.getId());
-                        if (httpRequestMatcher.getExpectation() != null && httpRequestMatcher.getExpectation().getAction() != null) {
-                            Metrics.decrement(httpRequestMatcher.getExpectation().getAction().getType());
-                        }
-                        if (httpRequestMatcher.getExpectation() != null) {
-                            // propagate created time from previous entry to avoid re-ordering on update
-                            expectation.withCreated(httpRequestMatcher.getExpectation().getCreated());
-                        }
-                        httpRequestMatchers.removePriorityKey(httpRequestMatcher);
-                        if (httpRequestMatcher.update(expectation)) {
-                            httpRequestMatchers.addPriorityKey(httpRequestMatcher);
-                            numberOfChanges.getAndIncrement();
-                            if (MockServerLogger.isEnabled(Level.INFO)) {
-                                mockServerLogger.logEvent(
-                                    new LogEntry()
-                                        .setType(UPDATED_EXPECTATION)
-                                        .setLogLevel(Level.INFO)
-                                        .setHttpRequest(expectation.getHttpRequest())
-                                        .setMessageFormat(UPDATED_EXPECTATION_MESSAGE_FORMAT)
-                                        .setArguments(expectation.clone(), expectation.getId())
-                                );
-                            }
-                            if (expectation.getAction() != null) {
-                                Metrics.increment(expectation.getAction().getType());
-                            }
-                        } else {
-                            httpRequestMatchers.addPriorityKey(httpRequestMatcher);
+                        if (updateHttpRequestMatcher(httpRequestMatchersByKey.get(expectation.getId()), expectation)) {
+                            changedExpectationIds.add(expectation.getId());
                         }
                     } else {
                         addPrioritisedExpectation(expectation);
-                        numberOfChanges.getAndIncrement();
+                        changedExpectationIds.add(expectation.getId());
                     }
                 });
             existingKeys
                 .forEach(key -> {
-                    numberOfChanges.getAndIncrement();
+                    changedExpectationIds.add(key);
                     HttpRequestMatcher httpRequestMatcher = httpRequestMatchersByKey.get(key);
                     removeHttpRequestMatcher(httpRequestMatcher, cause, false);
                     if (httpRequestMatcher.getExpectation() != null && httpRequestMatcher.getExpectation().getAction() != null) {
                         Metrics.decrement(httpRequestMatcher.getExpectation().getAction().getType());
                     }
                 });
-            if (numberOfChanges.get() > 0) {
-                notifyListeners(this, cause);
+            if (!changedExpectationIds.isEmpty()) {
+                notifyListeners(this, cause, changedExpectationIds);
+            }
+        }
+    }
+
+    private boolean updateHttpRequestMatcher(HttpRequestMatcher httpRequestMatcher, Expectation expectation) {
+        if (httpRequestMatcher.getExpectation() != null && httpRequestMatcher.getExpectation().getAction() != null) {
+            Metrics.decrement(httpRequestMatcher.getExpectation().getAction().getType());
+        }
+        if (httpRequestMatcher.getExpectation() != null) {
+            // propagate created time from previous entry to avoid re-ordering on update
+            expectation.withCreated(httpRequestMatcher.getExpectation().getCreated());
+        }
+        httpRequestMatchers.removePriorityKey(httpRequestMatcher);
+        httpRequestMatchersIndex.remove(httpRequestMatcher);
+        if (httpRequestMatcher.update(expectation)) {
+            httpRequestMatchers.addPriorityKey(httpRequestMatcher);
+            httpRequestMatchersIndex.add(httpRequestMatcher);
+            scheduleTimeToLiveExpiry(httpRequestMatcher);
+            if (MockServerLogger.isEnabled(Level.INFO)) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setType(UPDATED_EXPECTATION)
+                        .setLogLevel(Level.INFO)
+                        .setHttpRequest(expectation.getHttpRequest())
+                        .setMessageFormat(UPDATED_EXPECTATION_MESSAGE_FORMAT)
+                        .setArguments(expectation.clone(), expectation.getId())
+                );
+            }
+            if (expectation.getAction() != null) {
+                Metrics.increment(expectation.getAction().getType());
+            }
+            return true;
+        } else {
+            httpRequestMatchers.addPriorityKey(httpRequestMatcher);
+            httpRequestMatchersIndex.add(httpRequestMatcher);
+            return false;
+        }
+    }
+
+    /**
+     * Removes the expectation as soon as its time to live has passed, instead of waiting for a request to find it
+     * inactive, so expired expectations are not retrieved, indexed or counted
+     */
+    private void scheduleTimeToLiveExpiry(HttpRequestMatcher httpRequestMatcher) {
+        Expectation expectation = httpRequestMatcher.getExpectation();
+        if (expectation != null && expectation.getTimeToLive() != null && !expectation.getTimeToLive().isUnlimited()) {
+            long timeToLiveRemaining = Math.max(expectation.getTimeToLive().getEndDate() - System.currentTimeMillis(), 0);
+            Timeout timeout = scheduler.scheduleTimeout(() -> {
+                if (httpRequestMatcher.getExpectation() == expectation && !httpRequestMatcher.isResponseInProgress() && !httpRequestMatcher.isActive()) {
+                    removeHttpRequestMatcher(httpRequestMatcher);
+                }
+            }, timeToLiveRemaining + 1, MILLISECONDS);
+            if (timeout != null) {
+                Timeout previousTimeout = timeToLiveExpiryTimeouts.put(expectation.getId(), timeout);
+                if (previousTimeout != null) {
+                    previousTimeout.cancel();
+                }
+            }
+        }
+    }
+
+    /**
+     * Called when the oldest expectations are dropped because maxExpectations has been exceeded
+     */
+    private void evicted(HttpRequestMatcher httpRequestMatcher) {
+        httpRequestMatchersIndex.remove(httpRequestMatcher);
+        cancelTimeToLiveExpiry(httpRequestMatcher);
+    }
+
+    private void cancelTimeToLiveExpiry(HttpRequestMatcher httpRequestMatcher) {
+        if (httpRequestMatcher.getExpectation() != null) {
+            Timeout timeout = timeToLiveExpiryTimeouts.remove(httpRequestMatcher.getExpectation().getId());
+            if (timeout != null) {
+                timeout.cancel();
             }
         }
     }
 
+    private void preEncodeResponseBody(Expectation expectation) {
+        HttpResponse httpResponse = expectation.getHttpResponse();
+        if (httpResponse != null && httpResponse.getBody() != null) {
+            httpResponse.withPreEncodedBody(bodyDecoderEncoder.preEncode(httpResponse.getBody(), httpResponse.getFirstHeader(CONTENT_TYPE.toString())));
+        }
+    }
+
     private HttpRequestMatcher addPrioritisedExpectation(Expectation expectation) {
         HttpRequestMatcher httpRequestMatcher = matcherBuilder.transformsToMatcher(expectation);
         httpRequestMatchers.add(httpRequestMatcher);
+        httpRequestMatchersIndex.add(httpRequestMatcher);
+        scheduleTimeToLiveExpiry(httpRequestMatcher);
         if (expectation.getAction() != null) {
             Metrics.increment(expectation.getAction().getType());
         }
         if (MockServerLogger.isEnabled(Level.INFO)) {
-            mockServerLogger.logEvent(
-                new LogEntry()
-                    .setType(CREATED_EXPECTATION)
-                    .setLogLevel(Level.INFO)
-                    .setHttpRequest(expectation.getHttpRequest())
-                    .setMessageFormat(CREATED_EXPECTATION_MESSAGE_FORMAT)
-                    .setArguments(expectation.clone(), expectation.getId())
-            );
+            logCreatedExpectation(expectation, Level.INFO);
         }
         return httpRequestMatcher;
     }
 
+    private void logCreatedExpectation(Expectation expectation, Level level) {
+        mockServerLogger.logEvent(
+            new LogEntry()
+                .setType(CREATED_EXPECTATION)
+                .setLogLevel(level)
+                .setHttpRequest(expectation.getHttpRequest())
+                .setMessageFormat(CREATED_EXPECTATION_MESSAGE_FORMAT)
+                .setArguments(expectation.clone(), expectation.getId())
+        );
+    }
+
     public int size() {
         return httpRequestMatchers.size();
     }
@@ -179,9 +301,15 @@ public class RequestMatchers extends MockServerMatcherNotifier {
     }
 
     public void reset(Cause cause) {
-        httpRequestMatchers.stream().forEach(httpRequestMatcher -> removeHttpRequestMatcher(httpRequestMatcher, cause, false));
+        List<String> removedExpectationIds = new ArrayList<>();
+        httpRequestMatchers.stream().forEach(httpRequestMatcher -> {
+            if (httpRequestMatcher.getExpectation() != null) {
+                removedExpectationIds.add(httpRequestMatcher.getExpectation().getId());
+            }
+            removeHttpRequestMatcher(httpRequestMatcher, cause, false);
+        });
         Metrics.clearActionMetrics();
-        notifyListeners(this, cause);
+        notifyListeners(this, cause, removedExpectationIds);
     }
 
     public void reset() {
@@ -189,7 +317,34 @@ public class RequestMatchers extends MockServerMatcherNotifier {
     }
 
     public Expectation firstMatchingExpectation(HttpRequest httpRequest) {
-        Optional<Expectation> first = getHttpRequestMatchersCopy()
+        long startNanos = ConfigurationProperties.metricsEnabled() ? System.nanoTime() : 0;
+        Optional<Expectation> first;
+        if (httpRequest != null) {
+            // parse the body at most once for all the expectations it is matched against
+            httpRequest.withParsedBodyCache(true);
+        }
+        try {
+            first = firstMatchingExpectationCandidate(httpRequest);
+        } finally {
+            if (httpRequest != null) {
+                httpRequest.withParsedBodyCache(false);
+            }
+        }
+        if (ConfigurationProperties.metricsEnabled()) {
+            if (!first.isPresent() || first.get().getAction() == null) {
+                Metrics.increment(EXPECTATION_NOT_MATCHED_COUNT);
+            } else if (first.get().getAction().getType().direction == Action.Direction.FORWARD) {
+                Metrics.increment(FORWARD_EXPECTATION_MATCHED_COUNT);
+            } else {
+                Metrics.increment(RESPONSE_EXPECTATION_MATCHED_COUNT);
+            }
+            Metrics.recordDuration(EXPECTATION_MATCH_DURATION, startNanos);
+        }
+        return first.orElse(null);
+    }
+
+    private Optional<Expectation> firstMatchingExpectationCandidate(HttpRequest httpRequest) {
+        return getHttpRequestMatchersCandidates(httpRequest)
             .map(httpRequestMatcher -> {
                 Expectation matchingExpectation = null;
                 boolean remainingMatchesDecremented = false;
@@ -203,22 +358,31 @@ public class RequestMatchers extends MockServerMatcherNotifier {
                     scheduler.submit(() -> removeHttpRequestMatcher(httpRequestMatcher));
                 }
                 if (remainingMatchesDecremented) {
-                    notifyListeners(this, Cause.API);
+                    notifyListeners(this, Cause.API, Collections.singletonList(matchingExpectation.getId()));
                 }
                 return matchingExpectation;
             })
             .filter(Objects::nonNull)
             .findFirst();
-        if (ConfigurationProperties.metricsEnabled()) {
-            if (!first.isPresent() || first.get().getAction() == null) {
-                Metrics.increment(EXPECTATION_NOT_MATCHED_COUNT);
-            } else if (first.get().getAction().getType().direction == Action.Direction.FORWARD) {
-                Metrics.increment(FORWARD_EXPECTATION_MATCHED_COUNT);
-            } else {
-                Metrics.increment(RESPONSE_EXPECTATION_MATCHED_COUNT);
-            }
-        }
-        return first.orElse(null);
+    }
+
+    /**
+     * Returns true if every active expectation that could match the request only matches on the request line and
+     * headers (i.e. has no body matcher) and forwards the request, without a delay, so the request can be matched
+     * and forwarded without aggregating its body.  This method has no side effects, the remaining matches of
+     * expectations are not decremented.
+     */
+    public boolean canMatchAndForwardWithoutBody(HttpRequest httpRequest) {
+        return getHttpRequestMatchersCandidates(httpRequest)
+            .filter(HttpRequestMatcher::isActive)
+            .map(HttpRequestMatcher::getExpectation)
+            .allMatch(expectation ->
+                expectation.getHttpRequest() instanceof HttpRequest
+                    && ((HttpRequest) expectation.getHttpRequest()).getBody() == null
+                    && expectation.getAction() != null
+                    && expectation.getAction().getType() == Action.Type.FORWARD
+                    && expectation.getAction().getDelay() == null
+            );
     }
 
     public void clear(RequestDefinition requestDefinition) {
@@ -255,9 +419,9 @@ public class RequestMatchers extends MockServerMatcherNotifier {
 
     Expectation postProcess(Expectation expectation) {
         if (expectation != null) {
-            getHttpRequestMatchersCopy()
+            httpRequestMatchers
+                .getByKey(expectation.getId())
                 .filter(httpRequestMatcher -> httpRequestMatcher.getExpectation() == expectation)
-                .findFirst()
                 .ifPresent(httpRequestMatcher -> {
                     if (!expectation.isActive()) {
                         removeHttpRequestMatcher(httpRequestMatcher);
@@ -274,7 +438,9 @@ public class RequestMatchers extends MockServerMatcherNotifier {
 
     @SuppressWarnings("rawtypes")
     private void removeHttpRequestMatcher(HttpRequestMatcher httpRequestMatcher, Cause cause, boolean notifyAndUpdateMetrics) {
+        httpRequestMatchersIndex.remove(httpRequestMatcher);
         if (httpRequestMatchers.remove(httpRequestMatcher)) {
+            cancelTimeToLiveExpiry(httpRequestMatcher);
             if (httpRequestMatcher.getExpectation() != null && MockServerLogger.isEnabled(Level.INFO)) {
                 Expectation expectation = httpRequestMatcher.getExpectation().clone();
                 mockServerLogger.logEvent(
@@ -296,7 +462,7 @@ public class RequestMatchers extends MockServerMatcherNotifier {
                 }
             }
             if (notifyAndUpdateMetrics) {
-                notifyListeners(this, cause);
+                notifyListeners(this, cause, httpRequestMatcher.getExpectation() != null ? Collections.singletonList(httpRequestMatcher.getExpectation().getId()) : Collections.emptyList());
             }
         }
     }
@@ -343,11 +509,30 @@ public class RequestMatchers extends MockServerMatcherNotifier {
         return httpRequestMatchers.isEmpty();
     }
 
-    protected void notifyListeners(final RequestMatchers notifier, Cause cause) {
-        super.notifyListeners(notifier, cause);
+    protected void notifyListeners(final RequestMatchers notifier, Cause cause, Collection<String> changedExpectationIds) {
+        super.notifyListeners(notifier, cause, changedExpectationIds);
     }
 
     private Stream<HttpRequestMatcher> getHttpRequestMatchersCopy() {
         return httpRequestMatchers.stream();
     }
+
+    private Stream<HttpRequestMatcher> getHttpRequestMatchersCandidates(HttpRequest httpRequest) {
+        List<SortableExpectationId> candidates = expectationIndexEnabled() ? httpRequestMatchersIndex.candidates(httpRequest) : null;
+        if (candidates == null) {
+            return getHttpRequestMatchersCopy();
+        } else {
+            return candidates
+                .stream()
+                .map(sortableExpectationId -> {
+                    Optional<HttpRequestMatcher> httpRequestMatcher = httpRequestMatchers.getByKey(sortableExpectationId.getKey());
+                    if (!httpRequestMatcher.isPresent()) {
+                        // expectation has been evicted from circular queue
+                        httpRequestMatchersIndex.removeStale(sortableExpectationId);
+                    }
+                    return httpRequestMatcher.orElse(null);
+                })
+                .filter(Objects::nonNull);
+        }
+    }
 }
@@ -0,0 +1,178 @@
+package org.mockserver.mock;
+
+import org.apache.commons.lang3.StringUtils;
+import org.mockserver.codec.PathParametersDecoder;
+import org.mockserver.matchers.HttpRequestMatcher;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.NottableSchemaString;
+import org.mockserver.model.NottableString;
+import org.mockserver.model.RequestDefinition;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import static org.mockserver.mock.SortableExpectationId.EXPECTATION_SORTABLE_PRIORITY_COMPARATOR;
+
+/**
+ * Pre-filter for {@link RequestMatchers} that indexes expectations on the literal (i.e. non-regex,
+ * non-schema, non-notted) method and path of their request matcher, so only a small candidate set
+ * needs to be evaluated by the full {@link HttpRequestMatcher} for each request.
+ * <p>
+ * Expectations whose method or path can't be indexed are held under a wildcard key and are
+ * always returned as candidates, candidates are always returned in priority order.
+ *
+ * @author jamesdbloom
+ */
+public class RequestMatchersIndex {
+
+    private static final String ANY = "";
+    private static final PathParametersDecoder PATH_PARAMETERS_DECODER = new PathParametersDecoder();
+    private final ConcurrentMap<IndexKey, Set<SortableExpectationId>> buckets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, IndexEntry> entries = new ConcurrentHashMap<>();
+
+    public void add(HttpRequestMatcher httpRequestMatcher) {
+        Expectation expectation = httpRequestMatcher != null ? httpRequestMatcher.getExpectation() : null;
+        if (expectation != null) {
+            remove(expectation.getId());
+            IndexEntry indexEntry = new IndexEntry(indexKey(expectation.getHttpRequest()), expectation.getSortableId());
+            buckets.computeIfAbsent(indexEntry.key, key -> new ConcurrentSkipListSet<>(EXPECTATION_SORTABLE_PRIORITY_COMPARATOR)).add(indexEntry.sortableExpectationId);
+            entries.put(expectation.getId(), indexEntry);
+        }
+    }
+
+    public void remove(HttpRequestMatcher httpRequestMatcher) {
+        if (httpRequestMatcher != null && httpRequestMatcher.getExpectation() != null) {
+            remove(httpRequestMatcher.getExpectation().getId());
+        }
+    }
+
+    void remove(String expectationId) {
+        IndexEntry indexEntry = entries.remove(expectationId);
+        if (indexEntry != null) {
+            Set<SortableExpectationId> bucket = buckets.get(indexEntry.key);
+            if (bucket != null) {
+                bucket.remove(indexEntry.sortableExpectationId);
+            }
+        }
+    }
+
+    void removeStale(SortableExpectationId sortableExpectationId) {
+        IndexEntry indexEntry = entries.get(sortableExpectationId.getKey());
+        if (indexEntry != null && indexEntry.sortableExpectationId.equals(sortableExpectationId) && entries.remove(sortableExpectationId.getKey(), indexEntry)) {
+            Set<SortableExpectationId> bucket = buckets.get(indexEntry.key);
+            if (bucket != null) {
+                bucket.remove(indexEntry.sortableExpectationId);
+            }
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the ids of the expectations that could match the request in priority order, or
+     * null if the request can't use the index (i.e. blank or notted method or path) and every
+     * expectation must be evaluated.
+     */
+    public List<SortableExpectationId> candidates(HttpRequest httpRequest) {
+        if (httpRequest == null || httpRequest.isNot()) {
+            return null;
+        }
+        String method = requestValue(httpRequest.getMethod());
+        String path = requestValue(httpRequest.getPath());
+        if (method == null || path == null) {
+            return null;
+        }
+        List<SortableExpectationId> candidates = new ArrayList<>();
+        addAll(candidates, new IndexKey(method, path));
+        addAll(candidates, new IndexKey(ANY, path));
+        addAll(candidates, new IndexKey(method, ANY));
+        addAll(candidates, new IndexKey(ANY, ANY));
+        candidates.sort(EXPECTATION_SORTABLE_PRIORITY_COMPARATOR);
+        return candidates;
+    }
+
+    private void addAll(List<SortableExpectationId> candidates, IndexKey indexKey) {
+        Set<SortableExpectationId> bucket = buckets.get(indexKey);
+        if (bucket != null) {
+            candidates.addAll(bucket);
+        }
+    }
+
+    private static String requestValue(NottableString nottableString) {
+        if (nottableString == null || nottableString.isNot() || StringUtils.isBlank(nottableString.getValue())) {
+            return null;
+        }
+        return nottableString.getValue().toLowerCase();
+    }
+
+    private IndexKey indexKey(RequestDefinition requestDefinition) {
+        if (requestDefinition instanceof HttpRequest && !requestDefinition.isNot()) {
+            HttpRequest httpRequest = (HttpRequest) requestDefinition;
+            return new IndexKey(
+                literalValue(httpRequest.getMethod()),
+                literalValue(PATH_PARAMETERS_DECODER.normalisePathWithParametersForMatching(httpRequest))
+            );
+        } else {
+            return new IndexKey(ANY, ANY);
+        }
+    }
+
+    /**
+     * the lower case value if the string will only ever match itself (ignoring case) or ANY otherwise,
+     * a blank value matches all values so is also treated as ANY
+     */
+    private static String literalValue(NottableString nottableString) {
+        if (nottableString == null || nottableString instanceof NottableSchemaString || nottableString.isNot()) {
+            return ANY;
+        }
+        if (nottableString.isBlank() || !nottableString.isLiteral()) {
+            return ANY;
+        }
+        return nottableString.getValue().toLowerCase();
+    }
+
+    private static class IndexKey {
+        private final String method;
+        private final String path;
+        private final int hashCode;
+
+        private IndexKey(String method, String path) {
+            this.method = method;
+            this.path = path;
+            this.hashCode = Objects.hash(method, path);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            IndexKey that = (IndexKey) o;
+            return hashCode == that.hashCode &&
+                Objects.equals(method, that.method) &&
+                Objects.equals(path, that.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static class IndexEntry {
+        private final IndexKey key;
+        private final SortableExpectationId sortableExpectationId;
+
+        private IndexEntry(IndexKey key, SortableExpectationId sortableExpectationId) {
+            this.key = key;
+            this.sortableExpectationId = sortableExpectationId;
+        }
+    }
+}
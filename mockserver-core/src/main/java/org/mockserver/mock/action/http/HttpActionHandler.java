@@ -10,6 +10,7 @@ import org.mockserver.filters.HopByHopHeaderFilter;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.mock.Expectation;
+import org.mockserver.metrics.Metrics;
 import org.mockserver.mock.HttpState;
 import org.mockserver.model.*;
 import org.mockserver.proxyconfiguration.ProxyConfiguration;
@@ -34,6 +35,7 @@ import static org.mockserver.cors.CORSHeaders.isPreflightRequest;
 import static org.mockserver.exception.ExceptionHandling.*;
 import static org.mockserver.log.model.LogEntry.LogMessageType.*;
 import static org.mockserver.log.model.LogEntryMessages.*;
+import static org.mockserver.metrics.Metrics.Timer.ACTION_DURATION;
 import static org.mockserver.model.HttpResponse.notFoundResponse;
 import static org.slf4j.event.Level.TRACE;
 
@@ -300,8 +302,10 @@ public class HttpActionHandler {
     }
 
     private void handleAnyException(HttpRequest request, ResponseWriter responseWriter, boolean synchronous, Action action, Runnable processAction) {
+        long startNanos = metricsEnabled() ? System.nanoTime() : 0;
         try {
             processAction.run();
+            Metrics.recordDuration(ACTION_DURATION, startNanos);
         } catch (Throwable throwable) {
             writeResponseActionResponse(notFoundResponse(), responseWriter, request, action, synchronous);
             if (MockServerLogger.isEnabled(Level.INFO)) {
@@ -333,7 +337,7 @@ public class HttpActionHandler {
                 );
             }
             responseWriter.writeResponse(request, response, false);
-        }, synchronous, response.getDelay());
+        }, synchronous, responseWriter.getExecutor(), response.getDelay());
     }
 
     void executeAfterForwardActionResponse(final HttpForwardActionResult responseFuture, final BiConsumer<HttpResponse, Throwable> command, final boolean synchronous) {
@@ -545,6 +549,10 @@ public class HttpActionHandler {
         return httpClient;
     }
 
+    public void stop() {
+        httpClient.stop();
+    }
+
 
     public static InetSocketAddress getRemoteAddress(final ChannelHandlerContext ctx) {
         if (ctx != null && ctx.channel() != null && ctx.channel().attr(REMOTE_SOCKET) != null) {
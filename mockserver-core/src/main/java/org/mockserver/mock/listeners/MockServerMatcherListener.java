@@ -2,6 +2,8 @@ package org.mockserver.mock.listeners;
 
 import org.mockserver.mock.RequestMatchers;
 
+import java.util.Collection;
+
 /**
  * @author jamesdbloom
  */
@@ -9,4 +11,12 @@ public interface MockServerMatcherListener {
 
     void updated(RequestMatchers requestMatchers, MockServerMatcherNotifier.Cause cause);
 
+    /**
+     * Called instead of {@link #updated(RequestMatchers, MockServerMatcherNotifier.Cause)} with the ids of the expectations
+     * added, updated or removed by the change, for listeners that only process what has changed
+     */
+    default void updated(RequestMatchers requestMatchers, MockServerMatcherNotifier.Cause cause, Collection<String> changedExpectationIds) {
+        updated(requestMatchers, cause);
+    }
+
 }
@@ -5,6 +5,7 @@ import org.mockserver.model.ObjectWithReflectiveEqualsHashCodeToString;
 import org.mockserver.scheduler.Scheduler;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -21,10 +22,10 @@ public class MockServerMatcherNotifier extends ObjectWithReflectiveEqualsHashCod
         this.scheduler = scheduler;
     }
 
-    protected void notifyListeners(final RequestMatchers notifier, Cause cause) {
+    protected void notifyListeners(final RequestMatchers notifier, Cause cause, Collection<String> changedExpectationIds) {
         if (listenerAdded && !listeners.isEmpty()) {
             for (MockServerMatcherListener listener : listeners.toArray(new MockServerMatcherListener[0])) {
-                scheduler.submit(() -> listener.updated(notifier, cause));
+                scheduler.submit(() -> listener.updated(notifier, cause, changedExpectationIds));
             }
         }
     }
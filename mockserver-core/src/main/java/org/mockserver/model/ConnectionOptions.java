@@ -1,5 +1,7 @@
 package org.mockserver.model;
 
+import java.util.Objects;
+
 /**
  * @author jamesdbloom
  */
@@ -124,4 +126,27 @@ public class ConnectionOptions extends ObjectWithJsonToString {
     public Delay getCloseSocketDelay() {
         return closeSocketDelay;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ConnectionOptions that = (ConnectionOptions) o;
+        return Objects.equals(suppressContentLengthHeader, that.suppressContentLengthHeader) &&
+            Objects.equals(contentLengthHeaderOverride, that.contentLengthHeaderOverride) &&
+            Objects.equals(suppressConnectionHeader, that.suppressConnectionHeader) &&
+            Objects.equals(chunkSize, that.chunkSize) &&
+            Objects.equals(keepAliveOverride, that.keepAliveOverride) &&
+            Objects.equals(closeSocket, that.closeSocket) &&
+            Objects.equals(closeSocketDelay, that.closeSocketDelay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(suppressContentLengthHeader, contentLengthHeaderOverride, suppressConnectionHeader, chunkSize, keepAliveOverride, closeSocket, closeSocketDelay);
+    }
 }
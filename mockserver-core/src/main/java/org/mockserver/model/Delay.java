@@ -1,5 +1,6 @@
 package org.mockserver.model;
 
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -48,4 +49,22 @@ public class Delay extends ObjectWithReflectiveEqualsHashCodeToString {
             }
         }
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Delay that = (Delay) o;
+        return Objects.equals(timeUnit, that.timeUnit) &&
+            value == that.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(timeUnit, value);
+    }
 }
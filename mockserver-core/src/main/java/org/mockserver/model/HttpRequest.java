@@ -1,6 +1,7 @@
 package org.mockserver.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.mockserver.matchers.ParsedBody;
 
 import java.net.InetSocketAddress;
 import java.nio.charset.Charset;
@@ -35,6 +36,9 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
     private Boolean keepAlive = null;
     private Boolean secure = null;
     private SocketAddress socketAddress;
+    // only set while matching against expectations, so logged requests don't retain parsed bodies
+    private ParsedBody parsedBody;
+    private boolean parsedBodyCacheEnabled;
 
     public static HttpRequest request() {
         return new HttpRequest();
@@ -704,6 +708,36 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
         return body;
     }
 
+    /**
+     * Returns the body parsed at most once and shared by all body matchers, while the parsed body cache is enabled,
+     * otherwise a new parsed body is returned for each call
+     *
+     * @param body the body as a string, such as the body converted to json for json matchers
+     */
+    @JsonIgnore
+    public ParsedBody getParsedBody(String body) {
+        ParsedBody parsedBody = this.parsedBody;
+        if (parsedBody == null || !Objects.equals(parsedBody.getBody(), body)) {
+            parsedBody = new ParsedBody(body);
+            if (parsedBodyCacheEnabled) {
+                this.parsedBody = parsedBody;
+            }
+        }
+        return parsedBody;
+    }
+
+    /**
+     * Enables or disables caching the parsed body while this request is matched against many expectations, disabling
+     * the cache discards the parsed body
+     */
+    public HttpRequest withParsedBodyCache(boolean enabled) {
+        this.parsedBodyCacheEnabled = enabled;
+        if (!enabled) {
+            this.parsedBody = null;
+        }
+        return this;
+    }
+
     @JsonIgnore
     public byte[] getBodyAsRawBytes() {
         return this.body != null ? this.body.getRawBytes() : new byte[0];
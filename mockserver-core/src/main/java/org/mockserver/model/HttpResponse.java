@@ -3,6 +3,7 @@ package org.mockserver.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.google.common.collect.Multimap;
 import io.netty.handler.codec.http.cookie.ClientCookieDecoder;
+import org.mockserver.codec.PreEncodedBody;
 
 import java.nio.charset.Charset;
 import java.util.Collections;
@@ -28,6 +29,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
     private Headers headers;
     private Cookies cookies;
     private ConnectionOptions connectionOptions;
+    private PreEncodedBody preEncodedBody;
 
     /**
      * Static builder to create a response.
@@ -516,6 +518,22 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
         return connectionOptions;
     }
 
+    /**
+     * Internal use only, the body encoded when the expectation was added, it is only used if the body and Content-Type
+     * header have not been changed since
+     *
+     * @param preEncodedBody the body encoded when the expectation was added
+     */
+    public HttpResponse withPreEncodedBody(PreEncodedBody preEncodedBody) {
+        this.preEncodedBody = preEncodedBody;
+        return this;
+    }
+
+    @JsonIgnore
+    public PreEncodedBody getPreEncodedBody() {
+        return preEncodedBody;
+    }
+
     @Override
     @JsonIgnore
     public Type getType() {
@@ -530,7 +548,8 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
             .withHeaders(headers)
             .withCookies(cookies)
             .withDelay(getDelay())
-            .withConnectionOptions(connectionOptions);
+            .withConnectionOptions(connectionOptions)
+            .withPreEncodedBody(preEncodedBody);
     }
 
 
@@ -543,7 +562,8 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
             .withHeaders(headers != null ? headers.clone() : null)
             .withCookies(cookies != null ? cookies.clone() : null)
             .withDelay(getDelay())
-            .withConnectionOptions(connectionOptions);
+            .withConnectionOptions(connectionOptions)
+            .withPreEncodedBody(preEncodedBody);
     }
 
     public HttpResponse update(HttpResponse replaceResponse) {
@@ -76,4 +76,21 @@ public abstract class KeysAndValues<T extends KeyAndValue, K extends KeysAndValu
     public boolean isEmpty() {
         return map.isEmpty();
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        KeysAndValues<?, ?> that = (KeysAndValues<?, ?>) o;
+        return Objects.equals(map, that.map);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(map);
+    }
 }
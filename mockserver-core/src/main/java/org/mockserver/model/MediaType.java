@@ -10,6 +10,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 
@@ -40,6 +41,7 @@ public class MediaType extends ObjectWithJsonToString {
     private final Charset charset;
     private final String toString;
     private final boolean isBlank;
+    private final int hashCode;
 
     private static final String CHARSET_PARAMETER = "charset";
     private static final String MEDIA_TYPE_WILDCARD = "*";
@@ -186,6 +188,7 @@ public class MediaType extends ObjectWithJsonToString {
         this.charset = parsedCharset;
         this.toString = initialiseToString();
         this.isBlank = isBlank(this.toString);
+        this.hashCode = Objects.hash(this.type, this.subtype, this.parameters, this.charset);
     }
 
     private String initialiseToString() {
@@ -296,4 +299,27 @@ public class MediaType extends ObjectWithJsonToString {
     public String toString() {
         return toString;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (hashCode() != o.hashCode()) {
+            return false;
+        }
+        MediaType that = (MediaType) o;
+        return Objects.equals(type, that.type) &&
+            Objects.equals(subtype, that.subtype) &&
+            Objects.equals(parameters, that.parameters) &&
+            Objects.equals(charset, that.charset);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
 }
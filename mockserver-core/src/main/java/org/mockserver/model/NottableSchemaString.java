@@ -5,14 +5,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.github.fge.jsonschema.core.exceptions.ProcessingException;
-import com.github.fge.jsonschema.main.JsonSchemaFactory;
-import com.github.fge.jsonschema.main.JsonValidator;
+import com.github.fge.jsonschema.main.JsonSchema;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.parser.util.SchemaTypeUtil;
 import org.apache.commons.lang3.StringUtils;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.serialization.ObjectMapperFactory;
+import org.mockserver.validator.jsonschema.JsonSchemaValidator;
 import org.slf4j.event.Level;
 
 import javax.annotation.Nonnull;
@@ -33,7 +33,6 @@ public class NottableSchemaString extends NottableString {
 
     private final static MockServerLogger MOCK_SERVER_LOGGER = new MockServerLogger(NottableSchemaString.class);
     private final static ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.createObjectMapper();
-    private final static JsonValidator VALIDATOR = JsonSchemaFactory.byDefault().getValidator();
     private final static DateTimeFormatter RFC3339 = new DateTimeFormatterBuilder()
         .appendPattern("yyyy-MM-dd")
         .appendLiteral('T')
@@ -47,6 +46,8 @@ public class NottableSchemaString extends NottableString {
     private final String type;
     private final String format;
     private final String json;
+    // compiled on first use, so the schema is compiled at most once instead of for each validation
+    private JsonSchema jsonSchema;
 
 
     private static JsonNode convertToJsonNode(@Nonnull final String value, final String type, final String format) throws IOException {
@@ -161,7 +162,12 @@ public class NottableSchemaString extends NottableString {
         if (schemaJsonNode.get("nullable") != null && TRUE.equals(schemaJsonNode.get("nullable").asText()) && StringUtils.isBlank(json)) {
             return true;
         } else {
-            return VALIDATOR.validate(schemaJsonNode, convertToJsonNode(json, type, format), false).isSuccess();
+            JsonSchema jsonSchema = this.jsonSchema;
+            if (jsonSchema == null) {
+                jsonSchema = JsonSchemaValidator.compile(schemaJsonNode);
+                this.jsonSchema = jsonSchema;
+            }
+            return jsonSchema.validInstance(convertToJsonNode(json, type, format));
         }
     }
 
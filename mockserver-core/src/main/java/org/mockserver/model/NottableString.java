@@ -5,6 +5,8 @@ import com.google.common.base.Joiner;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
@@ -19,18 +21,24 @@ public class NottableString extends ObjectWithJsonToString implements Comparable
 
     public static final char NOT_CHAR = '!';
     private static final String EMPTY_STRING = "";
+    private static final String REGEX_META_CHARACTERS = ".[]{}()\\*+?^$|";
+    private static final int MAX_CACHED_PATTERNS = 2500;
+    private static final ConcurrentMap<String, Pattern> PATTERN_CACHE = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, Pattern> CASE_INSENSITIVE_PATTERN_CACHE = new ConcurrentHashMap<>();
     private final String value;
     private final boolean isBlank;
+    private final boolean isLiteral;
     private final Boolean not;
     private final int hashCode;
     private final String json;
     private Pattern pattern;
-    private Pattern lowercasePattern;
+    private Pattern caseInsensitivePattern;
     private ParameterStyle parameterStyle;
 
     NottableString(String value, Boolean not) {
         this.value = value;
         this.isBlank = StringUtils.isBlank(value);
+        this.isLiteral = !StringUtils.containsAny(value, REGEX_META_CHARACTERS);
         if (not != null) {
             this.not = not;
         } else {
@@ -49,6 +57,7 @@ public class NottableString extends ObjectWithJsonToString implements Comparable
             this.value = value;
             this.not = Boolean.FALSE;
         }
+        this.isLiteral = !StringUtils.containsAny(this.value, REGEX_META_CHARACTERS);
         this.hashCode = Objects.hash(this.value, this.not);
         this.json = serialise();
     }
@@ -210,18 +219,44 @@ public class NottableString extends ObjectWithJsonToString implements Comparable
         return isBlank;
     }
 
+    /**
+     * true if the value contains no regex meta characters and so will only ever match itself
+     */
+    @JsonIgnore
+    public boolean isLiteral() {
+        return isLiteral;
+    }
+
     public boolean matches(String input) {
+        if (isLiteral) {
+            return getValue().equals(input);
+        }
         if (pattern == null) {
-            pattern = Pattern.compile(getValue());
+            pattern = compile(PATTERN_CACHE, getValue(), 0);
         }
         return pattern.matcher(input).matches();
     }
 
     public boolean matchesIgnoreCase(String input) {
-        if (lowercasePattern == null) {
-            lowercasePattern = Pattern.compile(getValue().toLowerCase());
+        if (isLiteral) {
+            return getValue().equalsIgnoreCase(input);
+        }
+        if (caseInsensitivePattern == null) {
+            caseInsensitivePattern = compile(CASE_INSENSITIVE_PATTERN_CACHE, getValue(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+        }
+        return caseInsensitivePattern.matcher(input).matches();
+    }
+
+    private static Pattern compile(ConcurrentMap<String, Pattern> patternCache, String regex, int flags) {
+        Pattern pattern = patternCache.get(regex);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex, flags);
+            if (patternCache.size() >= MAX_CACHED_PATTERNS) {
+                patternCache.clear();
+            }
+            patternCache.put(regex, pattern);
         }
-        return lowercasePattern.matcher(input.toLowerCase()).matches();
+        return pattern;
     }
 
     public boolean fieldsEqual(NottableString that) {
@@ -1,5 +1,7 @@
 package org.mockserver.model;
 
+import java.util.Objects;
+
 public class SocketAddress extends ObjectWithJsonToString {
     private String host;
     private Integer port = 80;
@@ -58,4 +60,23 @@ public class SocketAddress extends ObjectWithJsonToString {
         HTTP,
         HTTPS
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SocketAddress that = (SocketAddress) o;
+        return Objects.equals(host, that.host) &&
+            Objects.equals(port, that.port) &&
+            Objects.equals(scheme, that.scheme);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(host, port, scheme);
+    }
 }
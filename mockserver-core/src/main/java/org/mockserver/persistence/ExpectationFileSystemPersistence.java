@@ -1,5 +1,7 @@
 package org.mockserver.persistence;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.log.model.LogEntry;
@@ -8,9 +10,12 @@ import org.mockserver.mock.Expectation;
 import org.mockserver.mock.RequestMatchers;
 import org.mockserver.mock.listeners.MockServerMatcherListener;
 import org.mockserver.mock.listeners.MockServerMatcherNotifier;
+import org.mockserver.model.ExpectationId;
+import org.mockserver.scheduler.Scheduler;
 import org.mockserver.serialization.serializers.response.TimeToLiveSerializer;
 import org.slf4j.event.Level;
 
+import java.io.ByteArrayOutputStream;
 import java.io.FileOutputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
@@ -19,29 +24,66 @@ import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mockserver.serialization.ObjectMapperFactory.createObjectMapper;
 import static org.slf4j.event.Level.*;
 
+/**
+ * Persists the active expectations to a json file, changes are coalesced so the file is written at most once per
+ * persistedExpectationsWriteDelay.
+ * <p>
+ * When persistedExpectationsJournal is enabled each write only appends the added, updated or removed expectations, one
+ * json object per line, to a journal file next to the persisted expectations file (i.e. with a .journal suffix), only
+ * the expectations notified as changed are journaled so a write doesn't depend on the number of expectations, the
+ * journal is compacted into the persisted expectations file when it reaches persistedExpectationsJournalCompactionThreshold
+ * entries, when persistence is stopped and on start up (i.e. for a journal left by a previous process).
+ */
 public class ExpectationFileSystemPersistence implements MockServerMatcherListener {
 
+    static final String JOURNAL_SUFFIX = ".journal";
+    private static final byte[] NEW_LINE_BYTES = "\n".getBytes(UTF_8);
     private final ObjectWriter objectWriter;
+    private final ObjectWriter journalObjectWriter;
+    private final ObjectMapper objectMapper;
     private final MockServerLogger mockServerLogger;
     private final Path filePath;
+    private final Path journalPath;
     private final boolean initializationPathMatchesPersistencePath;
     private final ReentrantLock fileWriteLock = new ReentrantLock();
     private final RequestMatchers requestMatchers;
+    private final ScheduledThreadPoolExecutor writeExecutor;
+    private final AtomicBoolean writePending = new AtomicBoolean();
+    private final long writeDelay;
+    private final boolean journal;
+    private final int journalCompactionThreshold;
+    // guarded by itself
+    private final Set<String> changedExpectationIds = new LinkedHashSet<>();
+    // guarded by fileWriteLock
+    private Set<String> startupExpectationIds = new HashSet<>();
+    private int journalEntries;
 
     public ExpectationFileSystemPersistence(MockServerLogger mockServerLogger, RequestMatchers requestMatchers) {
         if (ConfigurationProperties.persistExpectations()) {
             this.mockServerLogger = mockServerLogger;
             this.requestMatchers = requestMatchers;
             this.objectWriter = createObjectMapper(true, new TimeToLiveSerializer());
+            this.journalObjectWriter = createObjectMapper(false, new TimeToLiveSerializer());
+            this.objectMapper = createObjectMapper();
             this.filePath = Paths.get(ConfigurationProperties.persistedExpectationsPath());
+            this.journalPath = Paths.get(ConfigurationProperties.persistedExpectationsPath() + JOURNAL_SUFFIX);
+            this.writeDelay = ConfigurationProperties.persistedExpectationsWriteDelay();
+            this.journal = ConfigurationProperties.persistedExpectationsJournal();
+            this.journalCompactionThreshold = ConfigurationProperties.persistedExpectationsJournalCompactionThreshold();
+            this.writeExecutor = new ScheduledThreadPoolExecutor(1, new Scheduler.SchedulerThreadFactory("ExpectationPersistence"));
+            // on stop pending writes are written directly, only a write already running is waited for
+            this.writeExecutor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
             try {
                 Files.createFile(filePath);
             } catch (FileAlreadyExistsException ignore) {
@@ -53,6 +95,9 @@ public class ExpectationFileSystemPersistence implements MockServerMatcherListen
                         .setThrowable(throwable)
                 );
             }
+            if (journal) {
+                compactExistingJournal();
+            }
             this.initializationPathMatchesPersistencePath = ConfigurationProperties.initializationJsonPath().equals(ConfigurationProperties.persistedExpectationsPath());
             requestMatchers.registerListener(this);
             if (MockServerLogger.isEnabled(INFO)) {
@@ -67,59 +112,202 @@ public class ExpectationFileSystemPersistence implements MockServerMatcherListen
             this.mockServerLogger = null;
             this.requestMatchers = null;
             this.objectWriter = null;
+            this.journalObjectWriter = null;
+            this.objectMapper = null;
             this.filePath = null;
+            this.journalPath = null;
+            this.writeDelay = 0;
+            this.journal = false;
+            this.journalCompactionThreshold = 0;
+            this.writeExecutor = null;
             this.initializationPathMatchesPersistencePath = true;
         }
     }
 
     @Override
     public void updated(RequestMatchers requestMatchers, MockServerMatcherNotifier.Cause cause) {
+        updated(requestMatchers, cause, Collections.emptyList());
+    }
+
+    @Override
+    public void updated(RequestMatchers requestMatchers, MockServerMatcherNotifier.Cause cause, Collection<String> changedExpectationIds) {
         // ignore non-API changes from the same file
         if (cause == MockServerMatcherNotifier.Cause.API || !initializationPathMatchesPersistencePath) {
-            fileWriteLock.lock();
-            try {
+            if (journal && changedExpectationIds != null) {
+                synchronized (this.changedExpectationIds) {
+                    this.changedExpectationIds.addAll(changedExpectationIds);
+                }
+            }
+            // coalesce changes until the pending write runs
+            if (writePending.compareAndSet(false, true)) {
                 try {
-                    try (
-                        FileOutputStream fileOutputStream = new FileOutputStream(filePath.toFile());
-                        FileChannel fileChannel = fileOutputStream.getChannel();
-                        FileLock fileLock = fileChannel.lock()
-                    ) {
-                        if (fileLock != null) {
-                            List<Expectation> expectations = requestMatchers.retrieveActiveExpectations(null);
-                            if (MockServerLogger.isEnabled(TRACE)) {
-                                mockServerLogger.logEvent(
-                                    new LogEntry()
-                                        .setLogLevel(TRACE)
-                                        .setMessageFormat("persisting expectations{}to{}")
-                                        .setArguments(expectations, ConfigurationProperties.initializationJsonPath())
-                                );
-                            } else if (MockServerLogger.isEnabled(DEBUG)) {
-                                mockServerLogger.logEvent(
-                                    new LogEntry()
-                                        .setLogLevel(DEBUG)
-                                        .setMessageFormat("persisting expectations to{}")
-                                        .setArguments(ConfigurationProperties.initializationJsonPath())
-                                );
-                            }
-                            byte[] data = serialize(expectations).getBytes(UTF_8);
-                            ByteBuffer buffer = ByteBuffer.wrap(data);
-                            buffer.put(data);
-                            buffer.flip();
-                            while (buffer.hasRemaining()) {
-                                fileChannel.write(buffer);
-                            }
-                        }
-                    }
-                } catch (Throwable throwable) {
+                    writeExecutor.schedule(this::write, writeDelay, MILLISECONDS);
+                } catch (RejectedExecutionException ree) {
+                    // stopped
+                    writePending.set(false);
+                }
+            }
+        }
+    }
+
+    private void write() {
+        writePending.set(false);
+        fileWriteLock.lock();
+        try {
+            if (journal) {
+                List<String> expectationIds;
+                synchronized (changedExpectationIds) {
+                    expectationIds = new ArrayList<>(changedExpectationIds);
+                    changedExpectationIds.clear();
+                }
+                if (MockServerLogger.isEnabled(DEBUG)) {
                     mockServerLogger.logEvent(
                         new LogEntry()
-                            .setLogLevel(Level.ERROR)
-                            .setMessageFormat("exception while persisting expectations to " + filePath.toString())
-                            .setThrowable(throwable)
+                            .setLogLevel(DEBUG)
+                            .setMessageFormat("journaling changed expectations{}to{}")
+                            .setArguments(expectationIds, journalPath.toString())
+                    );
+                }
+                appendToJournal(expectationIds);
+                if (journalEntries >= journalCompactionThreshold) {
+                    compact(requestMatchers.retrieveActiveExpectations(null));
+                }
+            } else {
+                List<Expectation> expectations = requestMatchers.retrieveActiveExpectations(null);
+                if (MockServerLogger.isEnabled(TRACE)) {
+                    mockServerLogger.logEvent(
+                        new LogEntry()
+                            .setLogLevel(TRACE)
+                            .setMessageFormat("persisting expectations{}to{}")
+                            .setArguments(expectations, ConfigurationProperties.persistedExpectationsPath())
+                    );
+                } else if (MockServerLogger.isEnabled(DEBUG)) {
+                    mockServerLogger.logEvent(
+                        new LogEntry()
+                            .setLogLevel(DEBUG)
+                            .setMessageFormat("persisting expectations to{}")
+                            .setArguments(ConfigurationProperties.persistedExpectationsPath())
                     );
                 }
-            } finally {
-                fileWriteLock.unlock();
+                writeFile(filePath, serialize(expectations).getBytes(UTF_8), false);
+            }
+        } catch (Throwable throwable) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(Level.ERROR)
+                    .setMessageFormat("exception while persisting expectations to " + filePath.toString())
+                    .setThrowable(throwable)
+            );
+        } finally {
+            fileWriteLock.unlock();
+        }
+    }
+
+    /**
+     * Journals the current state of each changed expectation, as notifications can arrive out of order an expectation
+     * that is still active is upserted and any other is removed
+     */
+    private void appendToJournal(List<String> expectationIds) throws Exception {
+        ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        int entryCount = 0;
+        for (String id : expectationIds) {
+            Optional<Expectation> expectation = requestMatchers.retrieveExpectations(new ExpectationId().withId(id)).findFirst();
+            if (expectation.isPresent()) {
+                entries.write(("{\"upsert\":" + journalObjectWriter.writeValueAsString(expectation.get()) + "}").getBytes(UTF_8));
+            } else {
+                entries.write(journalObjectWriter.writeValueAsBytes(Collections.singletonMap("remove", id)));
+            }
+            entries.write(NEW_LINE_BYTES);
+            entryCount++;
+        }
+        if (startupExpectationIds != null) {
+            // expectations persisted by a previous process that are no longer active
+            for (String id : startupExpectationIds) {
+                if (!expectationIds.contains(id) && !requestMatchers.retrieveExpectations(new ExpectationId().withId(id)).findFirst().isPresent()) {
+                    entries.write(journalObjectWriter.writeValueAsBytes(Collections.singletonMap("remove", id)));
+                    entries.write(NEW_LINE_BYTES);
+                    entryCount++;
+                }
+            }
+            startupExpectationIds = null;
+        }
+        if (entryCount > 0) {
+            writeFile(journalPath, entries.toByteArray(), true);
+            journalEntries += entryCount;
+        }
+    }
+
+    private void compact(List<Expectation> expectations) throws Exception {
+        writeFile(filePath, serialize(expectations).getBytes(UTF_8), false);
+        writeFile(journalPath, new byte[0], false);
+        journalEntries = 0;
+    }
+
+    /**
+     * Applies any journal left by a previous process to the persisted expectations file, the persisted expectation ids
+     * are then used to journal the removal of expectations which are no longer active
+     */
+    private void compactExistingJournal() {
+        fileWriteLock.lock();
+        try {
+            String persistedJson = new String(Files.readAllBytes(filePath), UTF_8);
+            Map<String, JsonNode> expectationsById = new LinkedHashMap<>();
+            if (!persistedJson.trim().isEmpty()) {
+                for (JsonNode expectation : objectMapper.readTree(persistedJson)) {
+                    expectationsById.put(expectation.path("id").asText(UUID.randomUUID().toString()), expectation);
+                }
+            }
+            if (Files.exists(journalPath) && Files.size(journalPath) > 0) {
+                for (String entry : Files.readAllLines(journalPath, UTF_8)) {
+                    if (!entry.trim().isEmpty()) {
+                        JsonNode entryJsonNode;
+                        try {
+                            entryJsonNode = objectMapper.readTree(entry);
+                        } catch (Throwable throwable) {
+                            // a partially written last entry
+                            mockServerLogger.logEvent(
+                                new LogEntry()
+                                    .setLogLevel(WARN)
+                                    .setMessageFormat("ignoring invalid entry{}in persisted expectations journal{}")
+                                    .setArguments(entry, journalPath.toString())
+                                    .setThrowable(throwable)
+                            );
+                            continue;
+                        }
+                        if (entryJsonNode.has("upsert")) {
+                            expectationsById.put(entryJsonNode.get("upsert").path("id").asText(), entryJsonNode.get("upsert"));
+                        } else if (entryJsonNode.has("remove")) {
+                            expectationsById.remove(entryJsonNode.get("remove").asText());
+                        }
+                    }
+                }
+                writeFile(filePath, expectationsById.isEmpty() ? "[]".getBytes(UTF_8) : objectWriter.writeValueAsBytes(expectationsById.values()), false);
+                writeFile(journalPath, new byte[0], false);
+            }
+            startupExpectationIds.addAll(expectationsById.keySet());
+        } catch (Throwable throwable) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(Level.ERROR)
+                    .setMessageFormat("exception while compacting persisted expectations journal " + journalPath.toString())
+                    .setThrowable(throwable)
+            );
+        } finally {
+            fileWriteLock.unlock();
+        }
+    }
+
+    private void writeFile(Path path, byte[] data, boolean append) throws Exception {
+        try (
+            FileOutputStream fileOutputStream = new FileOutputStream(path.toFile(), append);
+            FileChannel fileChannel = fileOutputStream.getChannel();
+            FileLock fileLock = fileChannel.lock()
+        ) {
+            if (fileLock != null) {
+                ByteBuffer buffer = ByteBuffer.wrap(data);
+                while (buffer.hasRemaining()) {
+                    fileChannel.write(buffer);
+                }
             }
         }
     }
@@ -150,5 +338,39 @@ public class ExpectationFileSystemPersistence implements MockServerMatcherListen
         if (requestMatchers != null) {
             requestMatchers.unregisterListener(this);
         }
+        if (writeExecutor != null) {
+            // never interrupt a running write as that would truncate the file
+            writeExecutor.shutdown();
+            try {
+                writeExecutor.awaitTermination(ConfigurationProperties.maxFutureTimeout(), MILLISECONDS);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            // write any pending change and compact the journal
+            if (writePending.get() || hasChangedExpectationIds()) {
+                write();
+            }
+            if (journal && journalEntries > 0) {
+                fileWriteLock.lock();
+                try {
+                    compact(requestMatchers.retrieveActiveExpectations(null));
+                } catch (Throwable throwable) {
+                    mockServerLogger.logEvent(
+                        new LogEntry()
+                            .setLogLevel(Level.ERROR)
+                            .setMessageFormat("exception while compacting persisted expectations journal " + journalPath.toString())
+                            .setThrowable(throwable)
+                    );
+                } finally {
+                    fileWriteLock.unlock();
+                }
+            }
+        }
+    }
+
+    private boolean hasChangedExpectationIds() {
+        synchronized (changedExpectationIds) {
+            return !changedExpectationIds.isEmpty();
+        }
     }
 }
@@ -7,6 +7,8 @@ import org.mockserver.model.ConnectionOptions;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
 
+import java.util.concurrent.Executor;
+
 import static io.netty.handler.codec.http.HttpHeaderNames.CONNECTION;
 import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
 import static io.netty.handler.codec.http.HttpHeaderValues.CLOSE;
@@ -63,6 +65,13 @@ public abstract class ResponseWriter {
 
     public abstract void sendResponse(HttpRequest request, HttpResponse response);
 
+    /**
+     * The executor delayed responses are written on, or null to write them on the scheduler thread pool
+     */
+    public Executor getExecutor() {
+        return null;
+    }
+
     protected HttpResponse addConnectionHeader(final HttpRequest request, final HttpResponse response) {
         ConnectionOptions connectionOptions = response.getConnectionOptions();
 
@@ -1,6 +1,8 @@
 package org.mockserver.scheduler;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
 import org.mockserver.client.SocketCommunicationException;
 import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.log.model.LogEntry;
@@ -20,6 +22,9 @@ import static org.mockserver.mock.HttpState.getPort;
 import static org.mockserver.mock.HttpState.setPort;
 
 /**
+ * Delays are scheduled on a hashed wheel timer so adding and cancelling a delay is O(1) however many are pending, when
+ * a delay fires the command is run on the requested executor (i.e. a channel's event loop) or the scheduler thread pool
+ *
  * @author jamesdbloom
  */
 public class Scheduler {
@@ -30,6 +35,8 @@ public class Scheduler {
         new ThreadPoolExecutor.CallerRunsPolicy()
     );
 
+    private volatile HashedWheelTimer timer;
+
     private final boolean synchronous;
 
     public static class SchedulerThreadFactory implements ThreadFactory {
@@ -69,7 +76,26 @@ public class Scheduler {
         this.synchronous = synchronous;
     }
 
+    private HashedWheelTimer getTimer() {
+        // created lazily (with double-checked locking) so schedulers that never delay anything don't count towards netty's timer instance limit
+        HashedWheelTimer timer = this.timer;
+        if (timer == null) {
+            synchronized (this) {
+                timer = this.timer;
+                if (timer == null) {
+                    timer = new HashedWheelTimer(new SchedulerThreadFactory("Timer"), ConfigurationProperties.schedulerTimerTickDuration(), MILLISECONDS);
+                    this.timer = timer;
+                }
+            }
+        }
+        return timer;
+    }
+
     public synchronized void shutdown() {
+        if (timer != null) {
+            timer.stop();
+            timer = null;
+        }
         if (!scheduler.isShutdown()) {
             scheduler.shutdown();
             try {
@@ -98,6 +124,13 @@ public class Scheduler {
     }
 
     public void schedule(Runnable command, boolean synchronous, Delay... delays) {
+        schedule(command, synchronous, null, delays);
+    }
+
+    /**
+     * @param executor executor to run the command on once the delay has passed, or null for the scheduler thread pool
+     */
+    public void schedule(Runnable command, boolean synchronous, Executor executor, Delay... delays) {
         Delay delay = addDelays(delays);
         Integer port = getPort();
         if (this.synchronous || synchronous) {
@@ -107,13 +140,22 @@ public class Scheduler {
             run(command, port);
         } else {
             if (delay != null) {
-                scheduler.schedule(() -> run(command, port), delay.getValue(), delay.getTimeUnit());
+                Executor delayedExecutor = executor != null ? executor : scheduler;
+                getTimer().newTimeout(timeout -> delayedExecutor.execute(() -> run(command, port)), delay.getValue(), delay.getTimeUnit());
             } else {
                 run(command, port);
             }
         }
     }
 
+    /**
+     * Runs the command on the scheduler thread pool after the delay, the returned timeout can be used to cancel it
+     */
+    public Timeout scheduleTimeout(Runnable command, long delay, TimeUnit timeUnit) {
+        Integer port = getPort();
+        return getTimer().newTimeout(timeout -> scheduler.execute(() -> run(command, port)), delay, timeUnit);
+    }
+
     private Delay addDelays(Delay... delays) {
         if (delays == null || delays.length == 0) {
             return null;
@@ -1,9 +1,12 @@
 package org.mockserver.serialization;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.google.common.base.Joiner;
 import org.apache.commons.lang3.StringUtils;
+import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.mock.Expectation;
@@ -14,6 +17,8 @@ import org.slf4j.event.Level;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.mockserver.character.Character.NEW_LINE;
@@ -142,6 +147,13 @@ public class ExpectationSerializer implements Serializer<Expectation> {
     }
 
     public Expectation[] deserializeArray(String jsonExpectations, boolean allowEmpty) {
+        if (ConfigurationProperties.lazyExpectationValidation() && !isBlank(jsonExpectations)) {
+            Expectation[] expectations = deserializeArrayWithoutValidation(jsonExpectations);
+            if (expectations != null && (expectations.length > 0 || allowEmpty)) {
+                return expectations;
+            }
+            // fall through to validate each expectation so the error explains what is wrong
+        }
         List<Expectation> expectations = new ArrayList<>();
         if (isBlank(jsonExpectations)) {
             throw new IllegalArgumentException("1 error:" + NEW_LINE + " - an expectation or expectation array is required but value was \"" + jsonExpectations + "\"");
@@ -187,4 +199,70 @@ public class ExpectationSerializer implements Serializer<Expectation> {
         return expectations.toArray(new Expectation[0]);
     }
 
+    /**
+     * Deserialises an expectation or array of expectations in a single streaming pass without validating against the json
+     * schema, only checking each expectation has exactly one action, returns null if the json can't be deserialised
+     */
+    private Expectation[] deserializeArrayWithoutValidation(String jsonExpectations) {
+        List<Expectation> expectations = new ArrayList<>();
+        try (JsonParser jsonParser = objectMapper.getFactory().createParser(jsonExpectations)) {
+            JsonToken token = jsonParser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                while (jsonParser.nextToken() == JsonToken.START_OBJECT) {
+                    Expectation expectation = buildExpectation(objectMapper.readValue(jsonParser, ExpectationDTO.class));
+                    if (expectation == null) {
+                        return null;
+                    }
+                    expectations.add(expectation);
+                }
+                if (jsonParser.currentToken() != JsonToken.END_ARRAY) {
+                    return null;
+                }
+            } else if (token == JsonToken.START_OBJECT) {
+                Expectation expectation = buildExpectation(objectMapper.readValue(jsonParser, ExpectationDTO.class));
+                if (expectation == null) {
+                    return null;
+                }
+                expectations.add(expectation);
+            } else {
+                return null;
+            }
+            if (jsonParser.nextToken() != null) {
+                return null;
+            }
+        } catch (Throwable throwable) {
+            return null;
+        }
+        if (MockServerLogger.isEnabled(DEBUG)) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(DEBUG)
+                    .setMessageFormat("deserialised{}JSON expectations without schema validation")
+                    .setArguments(expectations.size())
+            );
+        }
+        return expectations.toArray(new Expectation[0]);
+    }
+
+    private Expectation buildExpectation(ExpectationDTO expectationDTO) {
+        if (expectationDTO != null) {
+            long numberOfActions = Stream.of(
+                expectationDTO.getHttpResponse(),
+                expectationDTO.getHttpResponseTemplate(),
+                expectationDTO.getHttpResponseClassCallback(),
+                expectationDTO.getHttpResponseObjectCallback(),
+                expectationDTO.getHttpForward(),
+                expectationDTO.getHttpForwardTemplate(),
+                expectationDTO.getHttpForwardClassCallback(),
+                expectationDTO.getHttpForwardObjectCallback(),
+                expectationDTO.getHttpOverrideForwardedRequest(),
+                expectationDTO.getHttpError()
+            ).filter(Objects::nonNull).count();
+            if (numberOfActions == 1) {
+                return expectationDTO.buildObject();
+            }
+        }
+        return null;
+    }
+
 }
@@ -12,6 +12,7 @@ import org.mockserver.mock.listeners.MockServerMatcherNotifier.Cause;
 import org.mockserver.serialization.ExpectationSerializer;
 
 import java.lang.reflect.Constructor;
+import java.util.Arrays;
 
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mockserver.log.model.LogEntry.LogMessageType.SERVER_CONFIGURATION;
@@ -34,9 +35,7 @@ public class ExpectationInitializerLoader {
     }
 
     private void addExpectationsFromInitializer() {
-        for (Expectation expectation : loadExpectations()) {
-            requestMatchers.add(expectation, Cause.INITIALISER);
-        }
+        requestMatchers.add(Arrays.asList(loadExpectations()), Cause.INITIALISER);
     }
 
     private Expectation[] retrieveExpectationsFromInitializerClass() {
@@ -10,6 +10,8 @@ public interface KeyAndCertificateFactory {
 
     String KEY_GENERATION_ALGORITHM = "RSA";
     String SIGNING_ALGORITHM = "SHA256withRSA";
+    String ELLIPTIC_CURVE_KEY_GENERATION_ALGORITHM = "EC";
+    int ELLIPTIC_CURVE_KEY_SIZE = 256;
 
     @SuppressWarnings("unused")
     void buildAndSaveCertificateAuthorityPrivateKeyAndX509Certificate();
@@ -4,9 +4,14 @@ import io.netty.handler.ssl.ClientAuth;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import org.mockserver.cache.LRUCache;
 import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.scheduler.Scheduler;
 import org.slf4j.event.Level;
 
 import javax.net.ssl.TrustManagerFactory;
@@ -20,8 +25,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 
+import static java.util.concurrent.TimeUnit.MINUTES;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mockserver.socket.tls.KeyAndCertificateFactoryFactory.createKeyAndCertificateFactory;
 import static org.mockserver.socket.tls.PEMToFile.privateKeyFromPEMFile;
@@ -32,14 +41,17 @@ import static org.mockserver.socket.tls.PEMToFile.x509ChainFromPEMFile;
  */
 public class NettySslContextFactory {
 
+    private static final ExecutorService certificateGenerationExecutor = Executors.newSingleThreadExecutor(new Scheduler.SchedulerThreadFactory("CertificateGeneration"));
     private final MockServerLogger mockServerLogger;
     private final KeyAndCertificateFactory keyAndCertificateFactory;
+    private final LRUCache<String, CompletableFuture<SslContext>> serverSslContextsByHostname;
     private SslContext clientSslContext = null;
-    private SslContext serverSslContext = null;
+    private volatile SslContext serverSslContext = null;
 
     public NettySslContextFactory(MockServerLogger mockServerLogger) {
         this.mockServerLogger = mockServerLogger;
         keyAndCertificateFactory = createKeyAndCertificateFactory(mockServerLogger);
+        serverSslContextsByHostname = new LRUCache<>(mockServerLogger, 250, MINUTES.toMillis(30));
         System.setProperty("https.protocols", "SSLv3,TLSv1,TLSv1.1,TLSv1.2");
     }
 
@@ -152,6 +164,88 @@ public class NettySslContextFactory {
         return serverSslContext;
     }
 
+    /**
+     * Returns the server context for the SNI hostname, if no context has been created for the hostname it is added to
+     * the Subject Alternative Names and the certificate is generated on a dedicated thread, not the calling event loop,
+     * the returned future completes on the event executor once the certificate is ready
+     *
+     * @param hostname       the SNI hostname, or null if the client did not send one
+     * @param eventExecutor  the event executor to complete the returned future on
+     */
+    public Future<SslContext> createServerSslContext(String hostname, EventExecutor eventExecutor) {
+        CompletableFuture<SslContext> sslContextFuture = serverSslContextFuture(hostname);
+        if (sslContextFuture.isDone() && !sslContextFuture.isCompletedExceptionally()) {
+            return eventExecutor.newSucceededFuture(sslContextFuture.join());
+        } else {
+            Promise<SslContext> promise = eventExecutor.newPromise();
+            sslContextFuture.whenComplete((sslContext, throwable) -> {
+                if (throwable != null) {
+                    promise.tryFailure(throwable);
+                } else {
+                    promise.trySuccess(sslContext);
+                }
+            });
+            return promise;
+        }
+    }
+
+    /**
+     * Creates the server context for each domain in the background so the first connection for each domain doesn't
+     * wait for a certificate to be generated
+     *
+     * @param domains the domains to create a server context for
+     */
+    public void preWarmServerSslContexts(String... domains) {
+        for (String domain : domains) {
+            serverSslContextFuture(domain);
+        }
+    }
+
+    private CompletableFuture<SslContext> serverSslContextFuture(String hostname) {
+        String key = isNotBlank(hostname) ? hostname.toLowerCase() : "";
+        CompletableFuture<SslContext> sslContextFuture = serverSslContextsByHostname.get(key);
+        if (sslContextFuture == null || isOutOfDate(sslContextFuture)) {
+            synchronized (serverSslContextsByHostname) {
+                sslContextFuture = serverSslContextsByHostname.get(key);
+                if (sslContextFuture == null || isOutOfDate(sslContextFuture)) {
+                    if (isNotBlank(key)) {
+                        ConfigurationProperties.addSslSubjectAlternativeNameDomains(key);
+                    }
+                    CompletableFuture<SslContext> newSslContextFuture = CompletableFuture.supplyAsync(() -> {
+                        SslContext sslContext = createServerSslContext();
+                        if (sslContext == null) {
+                            throw new IllegalStateException("Failed to create the SslContext for " + key);
+                        }
+                        return sslContext;
+                    }, certificateGenerationExecutor);
+                    serverSslContextsByHostname.put(key, newSslContextFuture);
+                    // remove failed entries so the next connection retries
+                    newSslContextFuture.whenComplete((sslContext, throwable) -> {
+                        if (throwable != null) {
+                            synchronized (serverSslContextsByHostname) {
+                                if (serverSslContextsByHostname.get(key) == newSslContextFuture) {
+                                    serverSslContextsByHostname.delete(key);
+                                }
+                            }
+                        }
+                    });
+                    sslContextFuture = newSslContextFuture;
+                }
+            }
+        }
+        return sslContextFuture;
+    }
+
+    /**
+     * The server context is rebuilt when Subject Alternative Names are added, so a cached context is out of date once it
+     * has been replaced or a rebuild is pending, i.e. for clients without SNI connecting to a newly added host or IP
+     */
+    private boolean isOutOfDate(CompletableFuture<SslContext> sslContextFuture) {
+        return sslContextFuture.isDone()
+            && !sslContextFuture.isCompletedExceptionally()
+            && (sslContextFuture.join() != serverSslContext || ConfigurationProperties.rebuildServerTLSContext() && !ConfigurationProperties.preventCertificateDynamicUpdate());
+    }
+
     private X509Certificate[] trustCertificateChain() {
         if (isNotBlank(ConfigurationProperties.tlsMutualAuthenticationCertificateChain())) {
             List<X509Certificate> x509Certificates = x509ChainFromPEMFile(ConfigurationProperties.tlsMutualAuthenticationCertificateChain());
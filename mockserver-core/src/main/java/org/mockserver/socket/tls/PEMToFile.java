@@ -9,6 +9,7 @@ import org.slf4j.event.Level;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.security.KeyFactory;
+import java.security.PrivateKey;
 import java.security.cert.CertificateEncodingException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
@@ -101,6 +102,14 @@ public class PEMToFile {
         }
     }
 
+    public static PrivateKey privateKeyFromPEM(String pem, String algorithm) {
+        try {
+            return KeyFactory.getInstance(algorithm).generatePrivate(keySpecFromPEM(pem));
+        } catch (Exception e) {
+            throw new RuntimeException("Exception reading private key from PEM file", e);
+        }
+    }
+
     public static X509Certificate x509FromPEMFile(String filename) {
         try {
             return x509FromPEM(FileReader.openStreamToFileFromClassPathOrPath(filename));
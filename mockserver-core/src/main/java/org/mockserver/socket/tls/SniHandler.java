@@ -8,9 +8,6 @@ import io.netty.handler.ssl.SslHandler;
 import io.netty.util.ReferenceCountUtil;
 import io.netty.util.concurrent.Future;
 import io.netty.util.internal.PlatformDependent;
-import org.mockserver.configuration.ConfigurationProperties;
-
-import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 /**
  * @author jamesdbloom
@@ -25,10 +22,7 @@ public class SniHandler extends AbstractSniHandler<SslContext> {
 
     @Override
     protected Future<SslContext> lookup(ChannelHandlerContext ctx, String hostname) {
-        if (isNotBlank(hostname)) {
-            ConfigurationProperties.addSslSubjectAlternativeNameDomains(hostname);
-        }
-        return ctx.executor().newSucceededFuture(nettySslContextFactory.createServerSslContext());
+        return nettySslContextFactory.createServerSslContext(hostname, ctx.executor());
     }
 
     @Override
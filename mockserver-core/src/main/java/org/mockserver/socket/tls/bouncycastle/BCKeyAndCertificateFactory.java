@@ -68,7 +68,7 @@ public class BCKeyAndCertificateFactory implements KeyAndCertificateFactory {
     public void buildAndSaveCertificateAuthorityPrivateKeyAndX509Certificate() {
         if (dynamicCertificateAuthorityUpdate() && certificateAuthorityCertificateNotYetCreated()) {
             try {
-                KeyPair caKeyPair = generateKeyPair(CertificateSigningRequest.ROOT_KEY_SIZE);
+                KeyPair caKeyPair = generateKeyPair(KEY_GENERATION_ALGORITHM, CertificateSigningRequest.ROOT_KEY_SIZE);
 
                 saveAsPEMFile(createCACert(caKeyPair.getPublic(), caKeyPair.getPrivate()), certificateAuthorityX509CertificatePath(), "Certificate Authority X509 Certificate");
                 saveAsPEMFile(caKeyPair.getPrivate(), certificateAuthorityPrivateKeyPath(), "Certificate Authority Private Key");
@@ -242,7 +242,9 @@ public class BCKeyAndCertificateFactory implements KeyAndCertificateFactory {
                 if (dynamicCertificateAuthorityUpdate()) {
                     buildAndSaveCertificateAuthorityPrivateKeyAndX509Certificate();
                 }
-                KeyPair keyPair = generateKeyPair(CertificateSigningRequest.MOCK_KEY_SIZE);
+                KeyPair keyPair = ConfigurationProperties.useEllipticCurveKeysForLeafCertificates()
+                    ? generateKeyPair(ELLIPTIC_CURVE_KEY_GENERATION_ALGORITHM, ELLIPTIC_CURVE_KEY_SIZE)
+                    : generateKeyPair(KEY_GENERATION_ALGORITHM, CertificateSigningRequest.MOCK_KEY_SIZE);
                 privateKey = keyPair.getPrivate();
                 x509Certificate = createCASignedCert(
                     keyPair.getPublic(),
@@ -332,10 +334,10 @@ public class BCKeyAndCertificateFactory implements KeyAndCertificateFactory {
     }
 
     /**
-     * Create a random 2048 bit RSA key pair with the given length
+     * Create a random key pair with the given algorithm and length
      */
-    private KeyPair generateKeyPair(int keySize) throws Exception {
-        KeyPairGenerator generator = KeyPairGenerator.getInstance(KEY_GENERATION_ALGORITHM, PROVIDER_NAME);
+    private KeyPair generateKeyPair(String algorithm, int keySize) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm, PROVIDER_NAME);
         generator.initialize(keySize, new SecureRandom());
         return generator.generateKeyPair();
     }
@@ -194,13 +194,13 @@ public class JDKKeyAndCertificateFactory implements KeyAndCertificateFactory {
                 X509Certificate certificateAuthorityX509Certificate = certificateAuthorityX509Certificate();
                 x509AndPrivateKey = x509Generator.generateLeafX509AndPrivateKey(
                     new CertificateSigningRequest()
-                        .setKeyPairAlgorithm(KEY_GENERATION_ALGORITHM)
+                        .setKeyPairAlgorithm(leafKeyGenerationAlgorithm())
                         .setSigningAlgorithm(SIGNING_ALGORITHM)
                         .setCommonName(ROOT_COMMON_NAME)
                         .setCommonName(ConfigurationProperties.sslCertificateDomainName())
                         .addSubjectAlternativeNames(ConfigurationProperties.sslSubjectAlternativeNameDomains())
                         .addSubjectAlternativeNames(ConfigurationProperties.sslSubjectAlternativeNameIps())
-                        .setKeyPairSize(MOCK_KEY_SIZE),
+                        .setKeyPairSize(ConfigurationProperties.useEllipticCurveKeysForLeafCertificates() ? ELLIPTIC_CURVE_KEY_SIZE : MOCK_KEY_SIZE),
                     certificateAuthorityX509Certificate.getIssuerDN().getName(),
                     caPrivateKey,
                     certificateAuthorityX509Certificate
@@ -228,6 +228,10 @@ public class JDKKeyAndCertificateFactory implements KeyAndCertificateFactory {
         }
     }
 
+    private String leafKeyGenerationAlgorithm() {
+        return ConfigurationProperties.useEllipticCurveKeysForLeafCertificates() ? ELLIPTIC_CURVE_KEY_GENERATION_ALGORITHM : KEY_GENERATION_ALGORITHM;
+    }
+
     public boolean certificateNotYetCreated() {
         return x509AndPrivateKey == null;
     }
@@ -252,7 +256,7 @@ public class JDKKeyAndCertificateFactory implements KeyAndCertificateFactory {
         if (isNotBlank(ConfigurationProperties.privateKeyPath()) && isNotBlank(ConfigurationProperties.x509CertificatePath())) {
             return privateKeyFromPEMFile(ConfigurationProperties.privateKeyPath());
         } else {
-            return privateKeyFromPEM(x509AndPrivateKey.getPrivateKey());
+            return privateKeyFromPEM(x509AndPrivateKey.getPrivateKey(), x509FromPEM(x509AndPrivateKey.getCert()).getPublicKey().getAlgorithm());
         }
     }
 
@@ -46,7 +46,7 @@ public class X509Generator {
 
     public X509AndPrivateKey generateLeafX509AndPrivateKey(final CertificateSigningRequest csr, String issuerDistinguishingName, final String caPrivateKey, final X509Certificate caCertificate) throws IOException, NoSuchAlgorithmException, CertificateException, InvalidKeyException, NoSuchProviderException, SignatureException, InvalidKeySpecException {
         final PrivateKey privateKey = KeyFactory
-            .getInstance(csr.getKeyPairAlgorithm())
+            .getInstance(caCertificate.getPublicKey().getAlgorithm())
             .generatePrivate(keySpecFromPEM(caPrivateKey));
         final KeyPair keyPair = generateKeyPair(csr.getKeyPairAlgorithm(), csr.getKeyPairSize());
         final X500Name subject = new X500Name(buildDistinguishedName(csr.getCommonName()));
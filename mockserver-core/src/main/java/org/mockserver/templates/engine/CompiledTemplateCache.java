@@ -0,0 +1,29 @@
+package org.mockserver.templates.engine;
+
+import org.mockserver.cache.LRUCache;
+import org.mockserver.logging.MockServerLogger;
+
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptException;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+/**
+ * @author jamesdbloom
+ */
+public class CompiledTemplateCache {
+
+    // templates are fixed per expectation so each template is only compiled once and the compiled script reused for every request
+    private final LRUCache<String, CompiledScript> compiledScripts = new LRUCache<>(new MockServerLogger(), 250, MINUTES.toMillis(30));
+
+    public CompiledScript compile(Compilable compilable, String script) throws ScriptException {
+        CompiledScript compiledScript = compiledScripts.get(script);
+        if (compiledScript == null) {
+            compiledScript = compilable.compile(script);
+            compiledScripts.put(script, compiledScript);
+        }
+        return compiledScript;
+    }
+
+}
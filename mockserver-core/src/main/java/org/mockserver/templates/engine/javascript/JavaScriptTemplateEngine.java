@@ -8,6 +8,7 @@ import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.serialization.ObjectMapperFactory;
 import org.mockserver.serialization.model.DTO;
+import org.mockserver.templates.engine.CompiledTemplateCache;
 import org.mockserver.templates.engine.TemplateEngine;
 import org.mockserver.templates.engine.model.HttpRequestTemplateObject;
 import org.mockserver.templates.engine.serializer.HttpTemplateOutputDeserializer;
@@ -28,6 +29,9 @@ public class JavaScriptTemplateEngine implements TemplateEngine {
 
     private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.createObjectMapper();
     private static ScriptEngine engine;
+    private static final CompiledTemplateCache compiledTemplateCache = new CompiledTemplateCache();
+    // creating bindings creates a new javascript global object which is expensive so reuse bindings for each thread
+    private static final ThreadLocal<Bindings> threadBindings = ThreadLocal.withInitial(() -> engine.createBindings());
     private final MockServerLogger logFormatter;
     private HttpTemplateOutputDeserializer httpTemplateOutputDeserializer;
 
@@ -45,31 +49,31 @@ public class JavaScriptTemplateEngine implements TemplateEngine {
         String script = "function handle(request) {" + indentAndToString(template)[0] + "}";
         try {
             if (engine != null) {
-                Compilable compilable = (Compilable) engine;
                 // HttpResponse handle(HttpRequest httpRequest) - ES5
-                CompiledScript compiledScript = compilable.compile(script + " function serialise(request) { return JSON.stringify(handle(JSON.parse(request)), null, 2); }");
+                CompiledScript compiledScript = compiledTemplateCache.compile((Compilable) engine, script + " function serialise(request) { return JSON.stringify(handle(JSON.parse(request)), null, 2); }");
 
-                Bindings bindings = engine.createBindings();
+                Bindings bindings = threadBindings.get();
                 compiledScript.eval(bindings);
 
                 ScriptObjectMirror scriptObjectMirror = (ScriptObjectMirror) bindings.get("serialise");
                 Object stringifiedResponse = scriptObjectMirror.call(null, new HttpRequestTemplateObject(request));
 
-                JsonNode generatedObject = null;
-                try {
-                    generatedObject = OBJECT_MAPPER.readTree(String.valueOf(stringifiedResponse));
-                } catch (Throwable throwable) {
-                    if (MockServerLogger.isEnabled(Level.TRACE)) {
-                        logFormatter.logEvent(
-                            new LogEntry()
-                                .setLogLevel(Level.TRACE)
-                                .setHttpRequest(request)
-                                .setMessageFormat("exception deserialising generated content:{}into json node for request:{}")
-                                .setArguments(stringifiedResponse, request)
-                        );
-                    }
-                }
                 if (MockServerLogger.isEnabled(Level.INFO)) {
+                    // only parse generated content into a json node for logging
+                    JsonNode generatedObject = null;
+                    try {
+                        generatedObject = OBJECT_MAPPER.readTree(String.valueOf(stringifiedResponse));
+                    } catch (Throwable throwable) {
+                        if (MockServerLogger.isEnabled(Level.TRACE)) {
+                            logFormatter.logEvent(
+                                new LogEntry()
+                                    .setLogLevel(Level.TRACE)
+                                    .setHttpRequest(request)
+                                    .setMessageFormat("exception deserialising generated content:{}into json node for request:{}")
+                                    .setArguments(stringifiedResponse, request)
+                            );
+                        }
+                    }
                     logFormatter.logEvent(
                         new LogEntry()
                             .setType(TEMPLATE_GENERATED)
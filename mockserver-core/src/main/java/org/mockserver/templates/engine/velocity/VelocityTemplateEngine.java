@@ -8,17 +8,14 @@ import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.serialization.ObjectMapperFactory;
 import org.mockserver.serialization.model.DTO;
+import org.mockserver.templates.engine.CompiledTemplateCache;
 import org.mockserver.templates.engine.TemplateEngine;
 import org.mockserver.templates.engine.model.HttpRequestTemplateObject;
 import org.mockserver.templates.engine.serializer.HttpTemplateOutputDeserializer;
 import org.slf4j.event.Level;
 
-import javax.script.ScriptContext;
-import javax.script.ScriptEngine;
-import javax.script.ScriptEngineManager;
-import javax.script.SimpleScriptContext;
+import javax.script.*;
 import java.io.StringWriter;
-import java.io.Writer;
 
 import static org.mockserver.formatting.StringFormatter.formatLogMessage;
 import static org.mockserver.log.model.LogEntry.LogMessageType.TEMPLATE_GENERATED;
@@ -32,6 +29,9 @@ public class VelocityTemplateEngine implements TemplateEngine {
     private static final ScriptEngineManager manager = new ScriptEngineManager();
     private static final ScriptEngine engine;
     private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.createObjectMapper();
+    private static final int MAX_POOLED_WRITER_SIZE = 64 * 1024;
+    private static final CompiledTemplateCache compiledTemplateCache = new CompiledTemplateCache();
+    private static final ThreadLocal<StringWriter> pooledWriter = ThreadLocal.withInitial(StringWriter::new);
     private final MockServerLogger logFormatter;
     private HttpTemplateOutputDeserializer httpTemplateOutputDeserializer;
 
@@ -49,36 +49,44 @@ public class VelocityTemplateEngine implements TemplateEngine {
     public <T> T executeTemplate(String template, HttpRequest request, Class<? extends DTO<T>> dtoClass) {
         T result;
         try {
-            Writer writer = new StringWriter();
+            CompiledScript compiledTemplate = compiledTemplateCache.compile((Compilable) engine, template);
+            StringWriter writer = pooledWriter.get();
+            writer.getBuffer().setLength(0);
             ScriptContext context = new SimpleScriptContext();
             context.setWriter(writer);
             context.setAttribute("request", new HttpRequestTemplateObject(request), ScriptContext.ENGINE_SCOPE);
-            engine.eval(template, context);
-            JsonNode generatedObject = null;
-            try {
-                generatedObject = OBJECT_MAPPER.readTree(writer.toString());
-            } catch (Throwable throwable) {
-                if (MockServerLogger.isEnabled(Level.TRACE)) {
-                    logFormatter.logEvent(
-                        new LogEntry()
-                            .setLogLevel(Level.TRACE)
-                            .setHttpRequest(request)
-                            .setMessageFormat("exception deserialising generated content:{}into json node for request:{}")
-                            .setArguments(writer.toString(), request)
-                    );
-                }
+            compiledTemplate.eval(context);
+            String output = writer.toString();
+            if (writer.getBuffer().capacity() > MAX_POOLED_WRITER_SIZE) {
+                // don't hold on to large buffers
+                pooledWriter.remove();
             }
             if (MockServerLogger.isEnabled(Level.INFO)) {
+                // only parse generated content into a json node for logging
+                JsonNode generatedObject = null;
+                try {
+                    generatedObject = OBJECT_MAPPER.readTree(output);
+                } catch (Throwable throwable) {
+                    if (MockServerLogger.isEnabled(Level.TRACE)) {
+                        logFormatter.logEvent(
+                            new LogEntry()
+                                .setLogLevel(Level.TRACE)
+                                .setHttpRequest(request)
+                                .setMessageFormat("exception deserialising generated content:{}into json node for request:{}")
+                                .setArguments(output, request)
+                        );
+                    }
+                }
                 logFormatter.logEvent(
                     new LogEntry()
                         .setType(TEMPLATE_GENERATED)
                         .setLogLevel(Level.INFO)
                         .setHttpRequest(request)
                         .setMessageFormat(TEMPLATE_GENERATED_MESSAGE_FORMAT)
-                        .setArguments(generatedObject != null ? generatedObject : writer.toString(), template, request)
+                        .setArguments(generatedObject != null ? generatedObject : output, template, request)
                 );
             }
-            result = httpTemplateOutputDeserializer.deserializer(request, writer.toString(), dtoClass);
+            result = httpTemplateOutputDeserializer.deserializer(request, output, dtoClass);
         } catch (Exception e) {
             throw new RuntimeException(formatLogMessage("Exception transforming template:{}for request:{}", template, request), e);
         }
@@ -3,12 +3,16 @@ package org.mockserver.validator.jsonschema;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
 import com.github.fge.jsonschema.core.report.ProcessingMessage;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
 import com.github.fge.jsonschema.main.JsonSchemaFactory;
 import com.github.fge.jsonschema.main.JsonValidator;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
 import org.apache.commons.lang3.StringUtils;
+import org.mockserver.cache.LRUCache;
 import org.mockserver.file.FileReader;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
@@ -22,6 +26,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static java.util.concurrent.TimeUnit.MINUTES;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mockserver.character.Character.NEW_LINE;
 
@@ -32,11 +37,16 @@ public class JsonSchemaValidator extends ObjectWithReflectiveEqualsHashCodeToStr
 
     public static final String OPEN_API_SPECIFICATION_URL = "See: https://app.swaggerhub.com/apis/jamesdbloom/mock-server-openapi/5.11.x for OpenAPI Specification";
     private static final Map<String, String> schemaCache = new ConcurrentHashMap<>();
+    // creating the factory is expensive (i.e. it loads the keyword library and the ECMA 262 regex engine) so it is only created once
+    private static final JsonSchemaFactory JSON_SCHEMA_FACTORY = JsonSchemaFactory.byDefault();
+    private static final JsonValidator VALIDATOR = JSON_SCHEMA_FACTORY.getValidator();
+    private static final String[] EXCLUDED_FIELDS = {"jsonSchema"};
+    private static final LRUCache<String, JsonSchema> compiledSchemaCache = new LRUCache<>(new MockServerLogger(JsonSchemaValidator.class), 500, MINUTES.toMillis(10));
     private final MockServerLogger mockServerLogger;
     private final String schema;
     private final JsonNode schemaJsonNode;
     private final String mainSchemeFile;
-    private final JsonValidator validator = JsonSchemaFactory.byDefault().getValidator();
+    private final JsonSchema jsonSchema;
     private final static ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.createObjectMapper();
 
     public JsonSchemaValidator(MockServerLogger mockServerLogger, String schema) {
@@ -50,6 +60,7 @@ public class JsonSchemaValidator extends ObjectWithReflectiveEqualsHashCodeToStr
         }
         this.mainSchemeFile = null;
         this.schemaJsonNode = getSchemaJsonNode();
+        this.jsonSchema = compiledJsonSchema();
     }
 
     public JsonSchemaValidator(MockServerLogger mockServerLogger, String routePath, String mainSchemeFile, String... referenceFiles) {
@@ -60,6 +71,7 @@ public class JsonSchemaValidator extends ObjectWithReflectiveEqualsHashCodeToStr
         this.schema = schemaCache.get(mainSchemeFile);
         this.mainSchemeFile = mainSchemeFile;
         this.schemaJsonNode = getSchemaJsonNode();
+        this.jsonSchema = compiledJsonSchema();
     }
 
     private JsonNode getSchemaJsonNode() {
@@ -76,6 +88,45 @@ public class JsonSchemaValidator extends ObjectWithReflectiveEqualsHashCodeToStr
         }
     }
 
+    /**
+     * Returns the schema compiled once for each distinct schema, or null if the schema can't be compiled, in which case
+     * each validation reports why the schema is invalid
+     */
+    private JsonSchema compiledJsonSchema() {
+        if (schemaJsonNode != null) {
+            JsonSchema jsonSchema = compiledSchemaCache.get(schema);
+            if (jsonSchema == null) {
+                try {
+                    jsonSchema = compile(schemaJsonNode);
+                    compiledSchemaCache.put(schema, jsonSchema);
+                } catch (Throwable throwable) {
+                    if (MockServerLogger.isEnabled(Level.DEBUG)) {
+                        mockServerLogger.logEvent(
+                            new LogEntry()
+                                .setLogLevel(Level.DEBUG)
+                                .setMessageFormat("exception compiling JSON Schema " + throwable.getMessage())
+                                .setThrowable(throwable)
+                        );
+                    }
+                }
+            }
+            return jsonSchema;
+        }
+        return null;
+    }
+
+    @VisibleForTesting
+    JsonSchema getJsonSchema() {
+        return jsonSchema;
+    }
+
+    /**
+     * Compiles a schema using a single shared factory, so the compiled schema can validate many json documents
+     */
+    public static JsonSchema compile(JsonNode schemaJsonNode) throws ProcessingException {
+        return JSON_SCHEMA_FACTORY.getJsonSchema(schemaJsonNode);
+    }
+
     public String getSchema() {
         return schema;
     }
@@ -117,30 +168,53 @@ public class JsonSchemaValidator extends ObjectWithReflectiveEqualsHashCodeToStr
         String validationResult = "";
         if (isNotBlank(json)) {
             try {
+                validationResult = isValid(OBJECT_MAPPER.readTree(json), addOpenAPISpecificationMessage);
+            } catch (Throwable throwable) {
+                validationResult = handleValidationException(throwable);
+            }
+        }
+        return validationResult;
+    }
 
-                ProcessingReport processingReport = validator
-                    .validate(
-                        schemaJsonNode,
-                        OBJECT_MAPPER.readTree(json),
-                        true
-                    );
+    /**
+     * Validates json which has already been parsed, i.e. so the same parsed json can be validated against many schemas
+     */
+    public String isValid(JsonNode json, boolean addOpenAPISpecificationMessage) {
+        String validationResult = "";
+        try {
+            ProcessingReport processingReport = jsonSchema != null ? jsonSchema.validate(json, true) : VALIDATOR.validate(schemaJsonNode, json, true);
 
-                if (!processingReport.isSuccess()) {
-                    validationResult = formatProcessingReport(processingReport, addOpenAPISpecificationMessage);
-                }
-            } catch (Throwable throwable) {
-                mockServerLogger.logEvent(
-                    new LogEntry()
-                        .setLogLevel(Level.ERROR)
-                        .setMessageFormat("exception validating JSON")
-                        .setThrowable(throwable)
-                );
-                return throwable.getClass().getSimpleName() + " - " + throwable.getMessage();
+            if (!processingReport.isSuccess()) {
+                validationResult = formatProcessingReport(processingReport, addOpenAPISpecificationMessage);
             }
+        } catch (Throwable throwable) {
+            validationResult = handleValidationException(throwable);
         }
         return validationResult;
     }
 
+    /**
+     * Returns true if the json is valid, without building the report of every validation failure, i.e. for matching
+     */
+    public boolean isValidInstance(JsonNode json) {
+        try {
+            return jsonSchema != null ? jsonSchema.validInstance(json) : VALIDATOR.validate(schemaJsonNode, json, false).isSuccess();
+        } catch (Throwable throwable) {
+            handleValidationException(throwable);
+            return false;
+        }
+    }
+
+    private String handleValidationException(Throwable throwable) {
+        mockServerLogger.logEvent(
+            new LogEntry()
+                .setLogLevel(Level.ERROR)
+                .setMessageFormat("exception validating JSON")
+                .setThrowable(throwable)
+        );
+        return throwable.getClass().getSimpleName() + " - " + throwable.getMessage();
+    }
+
     private String formatProcessingReport(ProcessingReport processingMessages, boolean addOpenAPISpecificationMessage) {
         List<String> validationErrors = new ArrayList<>();
         for (ProcessingMessage processingMessage : processingMessages) {
@@ -454,4 +528,9 @@ public class JsonSchemaValidator extends ObjectWithReflectiveEqualsHashCodeToStr
         }
         return messages;
     }
+
+    @Override
+    protected String[] fieldsExcludedFromEqualsAndHashCode() {
+        return EXCLUDED_FIELDS;
+    }
 }
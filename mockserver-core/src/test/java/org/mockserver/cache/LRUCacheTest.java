@@ -1,13 +1,17 @@
 package org.mockserver.cache;
 
 import org.junit.Test;
+import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.metrics.Metrics;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.MINUTES;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockserver.metrics.Metrics.Name.*;
 
 public class LRUCacheTest {
 
@@ -136,6 +140,125 @@ public class LRUCacheTest {
         assertThat(lruCache.get("one"), is(nullValue()));
     }
 
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        // given
+        LRUCache<String, Object> lruCache = new LRUCache<>(mockServerLogger, 3, MINUTES.toMillis(10));
+        lruCache.put("one", "a");
+        lruCache.put("two", "b");
+        lruCache.put("three", "c");
+
+        // when
+        assertThat(lruCache.get("one"), is("a"));
+        lruCache.put("four", "d");
+
+        // then
+        assertThat(lruCache.size(), is(3));
+        assertThat(lruCache.get("one"), is("a"));
+        assertThat(lruCache.get("two"), is(nullValue()));
+        assertThat(lruCache.get("three"), is("c"));
+        assertThat(lruCache.get("four"), is("d"));
+    }
+
+    @Test
+    public void shouldReplaceExistingEntry() {
+        // given
+        LRUCache<String, Object> lruCache = new LRUCache<>(mockServerLogger, 2, MINUTES.toMillis(10));
+        lruCache.put("one", "a");
+        lruCache.put("two", "b");
+
+        // when
+        lruCache.put("one", "c");
+        lruCache.put("one", "d");
+
+        // then
+        assertThat(lruCache.size(), is(2));
+        assertThat(lruCache.get("one"), is("d"));
+        assertThat(lruCache.get("two"), is("b"));
+    }
+
+    @Test
+    public void shouldLimitCacheByWeight() {
+        // given
+        LRUCache<String, String> lruCache = new LRUCache<>(mockServerLogger, 10, 10, MINUTES.toMillis(10), (key, value) -> value.length());
+
+        // when
+        lruCache.put("one", "aaaa");
+        lruCache.put("two", "bbbb");
+        lruCache.put("three", "cccc");
+
+        // then
+        assertThat(lruCache.get("one"), is(nullValue()));
+        assertThat(lruCache.get("two"), is("bbbb"));
+        assertThat(lruCache.get("three"), is("cccc"));
+
+        // when
+        lruCache.put("four", "dddddddd");
+
+        // then
+        assertThat(lruCache.get("two"), is(nullValue()));
+        assertThat(lruCache.get("three"), is(nullValue()));
+        assertThat(lruCache.get("four"), is("dddddddd"));
+    }
+
+    @Test
+    public void shouldDeleteEntry() {
+        // given
+        LRUCache<String, Object> lruCache = new LRUCache<>(mockServerLogger, 5, MINUTES.toMillis(10));
+        lruCache.put("one", "a");
+        lruCache.put("two", "b");
+
+        // when
+        lruCache.delete("one");
+
+        // then
+        assertThat(lruCache.size(), is(1));
+        assertThat(lruCache.get("one"), is(nullValue()));
+        assertThat(lruCache.get("two"), is("b"));
+    }
+
+    @Test
+    public void shouldRemoveExpiredEntriesWhenAdding() throws InterruptedException {
+        // given
+        LRUCache<String, Object> lruCache = new LRUCache<>(mockServerLogger, 5, MINUTES.toMillis(10));
+        lruCache.put("one", "a", 100);
+        lruCache.put("two", "b", 100);
+
+        // when
+        MILLISECONDS.sleep(200);
+        lruCache.put("three", "c");
+
+        // then
+        assertThat(lruCache.size(), is(1));
+        assertThat(lruCache.get("three"), is("c"));
+    }
+
+    @Test
+    public void shouldRecordMetrics() {
+        boolean originalMetricsEnabled = ConfigurationProperties.metricsEnabled();
+        try {
+            // given
+            ConfigurationProperties.metricsEnabled(true);
+            int hitsBefore = Metrics.get(LRU_CACHE_HIT_COUNT);
+            int missesBefore = Metrics.get(LRU_CACHE_MISS_COUNT);
+            int evictionsBefore = Metrics.get(LRU_CACHE_EVICTION_COUNT);
+            LRUCache<String, Object> lruCache = new LRUCache<>(mockServerLogger, 1, MINUTES.toMillis(10));
+
+            // when
+            lruCache.put("one", "a");
+            lruCache.get("one");
+            lruCache.put("two", "b");
+            lruCache.get("one");
+
+            // then
+            assertThat(Metrics.get(LRU_CACHE_HIT_COUNT) - hitsBefore, is(1));
+            assertThat(Metrics.get(LRU_CACHE_MISS_COUNT) - missesBefore, is(1));
+            assertThat(Metrics.get(LRU_CACHE_EVICTION_COUNT) - evictionsBefore, is(1));
+        } finally {
+            ConfigurationProperties.metricsEnabled(originalMetricsEnabled);
+        }
+    }
+
     @Test
     public void shouldClearGlobally() {
         // given
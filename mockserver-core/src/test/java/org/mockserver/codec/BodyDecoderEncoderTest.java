@@ -36,6 +36,45 @@ public class BodyDecoderEncoderTest {
         assertThat(bodyBytes, is("şarəs".getBytes(DEFAULT_HTTP_CHARACTER_SET)));
     }
 
+    @Test
+    public void shouldSerialiseBodyToByteBufUsingPreEncodedBody() {
+        // given
+        Body body = new StringBody("şarəs");
+        PreEncodedBody preEncodedBody = new BodyDecoderEncoder().preEncode(body, MediaType.PLAIN_TEXT_UTF_8.toString());
+
+        // when
+        ByteBuf first = new BodyDecoderEncoder().bodyToByteBuf(body, MediaType.PLAIN_TEXT_UTF_8.toString(), preEncodedBody);
+        ByteBuf second = new BodyDecoderEncoder().bodyToByteBuf(body, MediaType.PLAIN_TEXT_UTF_8.toString(), preEncodedBody);
+
+        // then
+        assertThat(first.isDirect(), is(true));
+        byte[] bodyBytes = new byte[first.readableBytes()];
+        first.readBytes(bodyBytes);
+        assertThat(bodyBytes, is("şarəs".getBytes(UTF_8)));
+        bodyBytes = new byte[second.readableBytes()];
+        second.readBytes(bodyBytes);
+        assertThat(bodyBytes, is("şarəs".getBytes(UTF_8)));
+    }
+
+    @Test
+    public void shouldNotUsePreEncodedBodyForDifferentBodyOrContentType() {
+        // given
+        Body body = new StringBody("şarəs");
+        PreEncodedBody preEncodedBody = new BodyDecoderEncoder().preEncode(body, MediaType.PLAIN_TEXT_UTF_8.toString());
+
+        // when
+        ByteBuf differentBody = new BodyDecoderEncoder().bodyToByteBuf(new StringBody("other"), MediaType.PLAIN_TEXT_UTF_8.toString(), preEncodedBody);
+        ByteBuf differentContentType = new BodyDecoderEncoder().bodyToByteBuf(body, null, preEncodedBody);
+
+        // then
+        byte[] bodyBytes = new byte[differentBody.readableBytes()];
+        differentBody.readBytes(bodyBytes);
+        assertThat(bodyBytes, is("other".getBytes(UTF_8)));
+        bodyBytes = new byte[differentContentType.readableBytes()];
+        differentContentType.readBytes(bodyBytes);
+        assertThat(bodyBytes, is("şarəs".getBytes(DEFAULT_HTTP_CHARACTER_SET)));
+    }
+
     @Test
     public void shouldSerialiseBodyToChunkedByteBufWithNoContentType() {
         // given
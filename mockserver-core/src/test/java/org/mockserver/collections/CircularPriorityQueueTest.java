@@ -4,6 +4,8 @@ import org.junit.Test;
 import org.mockserver.mock.Expectation;
 import org.mockserver.mock.SortableExpectationId;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,6 +47,35 @@ public class CircularPriorityQueueTest {
         ));
     }
 
+    @Test
+    public void shouldNotAllowAddingMoreThenMaximumNumberOfEntriesWhenUsingAddAll() {
+        // given
+        CircularPriorityQueue<String, SortableExpectationId, SortableExpectationId> concurrentLinkedQueue = new CircularPriorityQueue<>(
+            3,
+            EXPECTATION_SORTABLE_PRIORITY_COMPARATOR,
+            sortableExpectationId -> sortableExpectationId,
+            sortableExpectationId -> sortableExpectationId.id
+        );
+        concurrentLinkedQueue.add(new SortableExpectationId("1", 0, 0));
+
+        // when
+        concurrentLinkedQueue.addAll(Arrays.asList(
+            new SortableExpectationId("2", 0, 0),
+            new SortableExpectationId("3", 0, 0),
+            new SortableExpectationId("4", 0, 0)
+        ));
+
+        // then
+        assertEquals(3, concurrentLinkedQueue.size());
+        List<SortableExpectationId> actual = concurrentLinkedQueue.toSortedList();
+        assertThat(actual, not(contains(new SortableExpectationId("1", 0, 0))));
+        assertThat(actual, containsInAnyOrder(
+            new SortableExpectationId("2", 0, 0),
+            new SortableExpectationId("3", 0, 0),
+            new SortableExpectationId("4", 0, 0)
+        ));
+    }
+
     @Test
     public void shouldSortOrder() {
         // given
@@ -209,6 +240,31 @@ public class CircularPriorityQueueTest {
         assertThat(concurrentLinkedQueue.toSortedList(), contains(three, four, five));
     }
 
+    @Test
+    public void shouldNotifyEvictionListenerOfOldestElementsRemoved() {
+        // given
+        List<Expectation> evicted = new ArrayList<>();
+        CircularPriorityQueue<String, Expectation, SortableExpectationId> concurrentLinkedQueue = new CircularPriorityQueue<>(2, EXPECTATION_SORTABLE_PRIORITY_COMPARATOR, Expectation::getSortableId, Expectation::getId, evicted::add);
+
+        long currentTimeMillis = System.currentTimeMillis();
+        Expectation one = when(request("one"), 0).withCreated(currentTimeMillis + 1);
+        Expectation two = when(request("two"), 0).withCreated(currentTimeMillis + 2);
+        Expectation three = when(request("three"), 0).withCreated(currentTimeMillis + 3);
+        Expectation four = when(request("four"), 0).withCreated(currentTimeMillis + 4);
+        Expectation five = when(request("five"), 0).withCreated(currentTimeMillis + 5);
+
+        // when
+        concurrentLinkedQueue.add(one);
+        concurrentLinkedQueue.add(two);
+        concurrentLinkedQueue.remove(two);
+        concurrentLinkedQueue.add(three);
+        concurrentLinkedQueue.addAll(Arrays.asList(four, five));
+
+        // then
+        assertThat(evicted, contains(one, three));
+        assertThat(concurrentLinkedQueue.toSortedList(), contains(four, five));
+    }
+
     @Test
     public void shouldSortExpectationOrderSamePriorityInsertedOutOfOrder() {
         // given
@@ -597,4 +653,34 @@ public class CircularPriorityQueueTest {
         assertThat(concurrentLinkedQueue.toSortedList(), contains(five, one, two));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldEvictOldestRemainingEntryAfterRemove() {
+        // given
+        CircularPriorityQueue<String, Expectation, SortableExpectationId> concurrentLinkedQueue = new CircularPriorityQueue<>(3, EXPECTATION_SORTABLE_PRIORITY_COMPARATOR, Expectation::getSortableId, Expectation::getId);
+
+        long currentTimeMillis = System.currentTimeMillis();
+        Expectation one = when(request("one"), 0).withCreated(currentTimeMillis + 1);
+        Expectation two = when(request("two"), 0).withCreated(currentTimeMillis + 2);
+        Expectation three = when(request("three"), 0).withCreated(currentTimeMillis + 3);
+        Expectation four = when(request("four"), 0).withCreated(currentTimeMillis + 4);
+        Expectation five = when(request("five"), 0).withCreated(currentTimeMillis + 5);
+        concurrentLinkedQueue.add(one);
+        concurrentLinkedQueue.add(two);
+        concurrentLinkedQueue.add(three);
+
+        // when
+        assertThat(concurrentLinkedQueue.remove(one), is(true));
+        assertThat(concurrentLinkedQueue.remove(one), is(false));
+        assertEquals(2, concurrentLinkedQueue.size());
+        concurrentLinkedQueue.add(four);
+        assertEquals(3, concurrentLinkedQueue.size());
+        concurrentLinkedQueue.add(five);
+
+        // then
+        assertEquals(3, concurrentLinkedQueue.size());
+        assertThat(concurrentLinkedQueue.toSortedList(), contains(three, four, five));
+        assertThat(concurrentLinkedQueue.getByKey(two.getId()), is(Optional.empty()));
+        assertThat(concurrentLinkedQueue.getByKey(three.getId()), is(Optional.of(three)));
+    }
+
+}
@@ -19,6 +19,7 @@ import java.util.concurrent.TimeUnit;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.junit.Assert.*;
 import static org.mockserver.configuration.ConfigurationProperties.*;
 
@@ -306,6 +307,20 @@ public class ConfigurationPropertiesTest {
         assertEquals(Integer.MAX_VALUE, maxChunkSize());
     }
 
+    @Test
+    public void shouldSetAndReadBodyAggregationThreshold() {
+        // given
+        System.clearProperty("mockserver.bodyAggregationThreshold");
+
+        // when
+        assertEquals(Integer.MAX_VALUE, bodyAggregationThreshold());
+        bodyAggregationThreshold(1024);
+
+        // then
+        assertEquals("1024", System.getProperty("mockserver.bodyAggregationThreshold"));
+        assertEquals(1024, bodyAggregationThreshold());
+    }
+
     @Test
     public void shouldSetAndReadMaxSocketTimeout() {
         // given
@@ -357,6 +372,76 @@ public class ConfigurationPropertiesTest {
         assertEquals(100, socketConnectionTimeout());
     }
 
+    @Test
+    public void shouldSetAndReadForwardConnectionPoolEnabled() {
+        // given
+        System.clearProperty("mockserver.forwardConnectionPoolEnabled");
+
+        // when
+        assertFalse(forwardConnectionPoolEnabled());
+        forwardConnectionPoolEnabled(true);
+
+        // then
+        assertTrue(forwardConnectionPoolEnabled());
+        assertEquals("true", System.getProperty("mockserver.forwardConnectionPoolEnabled"));
+    }
+
+    @Test
+    public void shouldSetAndReadBinaryProxyRelayEnabled() {
+        // given
+        System.clearProperty("mockserver.binaryProxyRelayEnabled");
+
+        // when
+        assertFalse(binaryProxyRelayEnabled());
+        binaryProxyRelayEnabled(true);
+
+        // then
+        assertTrue(binaryProxyRelayEnabled());
+        assertEquals("true", System.getProperty("mockserver.binaryProxyRelayEnabled"));
+    }
+
+    @Test
+    public void shouldSetAndReadForwardConnectionPoolMaxConnectionsPerHost() {
+        // given
+        System.clearProperty("mockserver.forwardConnectionPoolMaxConnectionsPerHost");
+
+        // when
+        assertEquals(20, forwardConnectionPoolMaxConnectionsPerHost());
+        forwardConnectionPoolMaxConnectionsPerHost(5);
+
+        // then
+        assertEquals("5", System.getProperty("mockserver.forwardConnectionPoolMaxConnectionsPerHost"));
+        assertEquals(5, forwardConnectionPoolMaxConnectionsPerHost());
+    }
+
+    @Test
+    public void shouldSetAndReadForwardConnectionPoolIdleTimeout() {
+        // given
+        System.clearProperty("mockserver.forwardConnectionPoolIdleTimeout");
+
+        // when
+        assertEquals(TimeUnit.SECONDS.toMillis(30), forwardConnectionPoolIdleTimeout());
+        forwardConnectionPoolIdleTimeout(500);
+
+        // then
+        assertEquals("500", System.getProperty("mockserver.forwardConnectionPoolIdleTimeout"));
+        assertEquals(500, forwardConnectionPoolIdleTimeout());
+    }
+
+    @Test
+    public void shouldSetAndReadSchedulerTimerTickDuration() {
+        // given
+        System.clearProperty("mockserver.schedulerTimerTickDuration");
+
+        // when
+        assertEquals(10, schedulerTimerTickDuration());
+        schedulerTimerTickDuration(5);
+
+        // then
+        assertEquals("5", System.getProperty("mockserver.schedulerTimerTickDuration"));
+        assertEquals(5, schedulerTimerTickDuration());
+    }
+
     @Test
     public void shouldSetAndReadAlwaysCloseSocketConnections() {
         // given
@@ -544,6 +629,34 @@ public class ConfigurationPropertiesTest {
         assertEquals("false", System.getProperty("mockserver.preventCertificateDynamicUpdate"));
     }
 
+    @Test
+    public void shouldSetAndReadSslPreWarmDomains() {
+        // given
+        System.clearProperty("mockserver.sslPreWarmDomains");
+
+        // when
+        assertThat(Arrays.asList(sslPreWarmDomains()), empty());
+        sslPreWarmDomains("a", " b ", "c");
+
+        // then
+        assertThat(Arrays.asList(sslPreWarmDomains()), contains("a", "b", "c"));
+        assertEquals("a, b ,c", System.getProperty("mockserver.sslPreWarmDomains"));
+    }
+
+    @Test
+    public void shouldSetAndReadUseEllipticCurveKeysForLeafCertificates() {
+        // given
+        System.clearProperty("mockserver.useEllipticCurveKeysForLeafCertificates");
+
+        // when
+        assertFalse(useEllipticCurveKeysForLeafCertificates());
+        useEllipticCurveKeysForLeafCertificates(true);
+
+        // then
+        assertTrue(useEllipticCurveKeysForLeafCertificates());
+        assertEquals("true", System.getProperty("mockserver.useEllipticCurveKeysForLeafCertificates"));
+    }
+
     @Test
     public void shouldSetAndReadCertificateAuthorityPrivateKey() {
         // given
@@ -1144,6 +1257,20 @@ public class ConfigurationPropertiesTest {
         assertEquals("p@ssw0rd", System.getProperty("mockserver.proxyAuthenticationPassword"));
     }
 
+    @Test
+    public void shouldSetAndReadProxyPassThroughHosts() {
+        // given
+        System.clearProperty("mockserver.proxyPassThroughHosts");
+
+        // when
+        assertEquals("", proxyPassThroughHosts());
+        proxyPassThroughHosts("*.example.com,www.another.com");
+
+        // then
+        assertEquals("*.example.com,www.another.com", proxyPassThroughHosts());
+        assertEquals("*.example.com,www.another.com", System.getProperty("mockserver.proxyPassThroughHosts"));
+    }
+
     @Test
     public void shouldSetAndReadInitializationClass() {
         // given
@@ -1222,6 +1349,96 @@ public class ConfigurationPropertiesTest {
         }
     }
 
+    @Test
+    public void shouldSetAndReadPersistedExpectationsWriteDelay() {
+        try {
+            // given
+            System.clearProperty("mockserver.persistedExpectationsWriteDelay");
+
+            // when
+            assertEquals(100L, persistedExpectationsWriteDelay());
+            persistedExpectationsWriteDelay(500L);
+
+            // then
+            assertEquals(500L, persistedExpectationsWriteDelay());
+            assertEquals("500", System.getProperty("mockserver.persistedExpectationsWriteDelay"));
+        } finally {
+            System.clearProperty("mockserver.persistedExpectationsWriteDelay");
+        }
+    }
+
+    @Test
+    public void shouldSetAndReadPersistedExpectationsJournal() {
+        try {
+            // given
+            System.clearProperty("mockserver.persistedExpectationsJournal");
+
+            // when
+            assertFalse(persistedExpectationsJournal());
+            persistedExpectationsJournal(true);
+
+            // then
+            assertTrue(persistedExpectationsJournal());
+            assertEquals("" + true, System.getProperty("mockserver.persistedExpectationsJournal"));
+        } finally {
+            System.clearProperty("mockserver.persistedExpectationsJournal");
+        }
+    }
+
+    @Test
+    public void shouldSetAndReadPersistedExpectationsJournalCompactionThreshold() {
+        try {
+            // given
+            System.clearProperty("mockserver.persistedExpectationsJournalCompactionThreshold");
+
+            // when
+            assertEquals(1000, persistedExpectationsJournalCompactionThreshold());
+            persistedExpectationsJournalCompactionThreshold(50);
+
+            // then
+            assertEquals(50, persistedExpectationsJournalCompactionThreshold());
+            assertEquals("50", System.getProperty("mockserver.persistedExpectationsJournalCompactionThreshold"));
+        } finally {
+            System.clearProperty("mockserver.persistedExpectationsJournalCompactionThreshold");
+        }
+    }
+
+    @Test
+    public void shouldSetAndReadMaximumNumberOfRequestsInVerificationFailure() {
+        try {
+            // given
+            System.clearProperty("mockserver.maximumNumberOfRequestsInVerificationFailure");
+
+            // when
+            assertEquals(10, maximumNumberOfRequestsInVerificationFailure());
+            maximumNumberOfRequestsInVerificationFailure(25);
+
+            // then
+            assertEquals(25, maximumNumberOfRequestsInVerificationFailure());
+            assertEquals("25", System.getProperty("mockserver.maximumNumberOfRequestsInVerificationFailure"));
+        } finally {
+            System.clearProperty("mockserver.maximumNumberOfRequestsInVerificationFailure");
+        }
+    }
+
+    @Test
+    public void shouldSetAndReadLazyExpectationValidation() {
+        try {
+            // given
+            System.clearProperty("mockserver.lazyExpectationValidation");
+
+            // when
+            assertFalse(lazyExpectationValidation());
+            lazyExpectationValidation(true);
+
+            // then
+            assertTrue(lazyExpectationValidation());
+            assertEquals("" + true, System.getProperty("mockserver.lazyExpectationValidation"));
+        } finally {
+            System.clearProperty("mockserver.lazyExpectationValidation");
+        }
+    }
+
     @Test
     public void shouldSetAndReadEnableCORSSettingForAPI() {
         // given
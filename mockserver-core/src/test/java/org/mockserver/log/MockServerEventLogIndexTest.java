@@ -0,0 +1,147 @@
+package org.mockserver.log;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.log.model.LogEntry;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.OpenAPIDefinition;
+import org.mockserver.model.RequestDefinition;
+import org.mockserver.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.mockito.Mockito.mock;
+import static org.mockserver.log.model.LogEntry.LogMessageType.*;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.NottableString.not;
+
+/**
+ * @author jamesdbloom
+ */
+public class MockServerEventLogIndexTest {
+
+    private MockServerEventLogIndex mockServerEventLogIndex;
+
+    @Before
+    public void createIndex() {
+        mockServerEventLogIndex = new MockServerEventLogIndex();
+    }
+
+    private LogEntry index(LogEntry logEntry) {
+        mockServerEventLogIndex.add(logEntry);
+        return logEntry;
+    }
+
+    @Test
+    public void shouldReturnCandidatesWithMatchingLiteralPathInOrder() {
+        // given
+        LogEntry getSomePath = index(new LogEntry().setType(RECEIVED_REQUEST).setHttpRequest(request().withMethod("GET").withPath("/some/path")));
+        index(new LogEntry().setType(RECEIVED_REQUEST).setHttpRequest(request().withMethod("GET").withPath("/some/other/path")));
+        LogEntry anyPath = index(new LogEntry().setType(RECEIVED_REQUEST).setHttpRequest(request().withMethod("GET")));
+        LogEntry postSomePath = index(new LogEntry().setType(RECEIVED_REQUEST).setHttpRequest(request().withMethod("POST").withPath("/Some/Path")));
+
+        // then
+        assertThat(mockServerEventLogIndex.candidates(request().withPath("/some/path")), contains(getSomePath, anyPath, postSomePath));
+        assertThat(mockServerEventLogIndex.candidates(request().withMethod("get").withPath("/some/path")), contains(getSomePath, anyPath));
+    }
+
+    @Test
+    public void shouldAlwaysReturnEntriesWithoutLiteralPath() {
+        // given
+        LogEntry regexPath = index(new LogEntry().setType(RECEIVED_REQUEST).setHttpRequest(request().withPath("/some/.*")));
+        LogEntry nottedPath = index(new LogEntry().setType(RECEIVED_REQUEST).setHttpRequest(request().withPath(not("/some/path"))));
+        LogEntry openAPI = index(new LogEntry().setType(RECEIVED_REQUEST).setHttpRequest(new OpenAPIDefinition().withSpecUrlOrPayload("some_spec")));
+        LogEntry withoutRequest = index(new LogEntry().setType(RECEIVED_REQUEST));
+        index(new LogEntry().setType(RECEIVED_REQUEST).setHttpRequest(request().withPath("/some/path")));
+
+        // then
+        assertThat(mockServerEventLogIndex.candidates(request().withPath("/other/path")), contains(regexPath, nottedPath, openAPI, withoutRequest));
+    }
+
+    @Test
+    public void shouldReturnCandidatesWithMatchingType() {
+        // given
+        LogEntry receivedRequest = index(new LogEntry().setType(RECEIVED_REQUEST).setHttpRequest(request().withPath("/some/path")));
+        LogEntry forwardedRequest = index(new LogEntry().setType(FORWARDED_REQUEST).setHttpRequest(request().withPath("/some/path")));
+        LogEntry noMatchResponse = index(new LogEntry().setType(NO_MATCH_RESPONSE).setHttpRequest(request().withPath("/other/path")));
+        index(new LogEntry().setType(INFO).setHttpRequest(request().withPath("/some/path")));
+
+        // then
+        assertThat(mockServerEventLogIndex.candidates(request().withPath("/some/path"), RECEIVED_REQUEST), contains(receivedRequest));
+        assertThat(mockServerEventLogIndex.candidates(null, FORWARDED_REQUEST, NO_MATCH_RESPONSE), contains(forwardedRequest, noMatchResponse));
+        assertThat(mockServerEventLogIndex.candidates(request().withPath(".*"), RECEIVED_REQUEST, FORWARDED_REQUEST), contains(receivedRequest, forwardedRequest));
+    }
+
+    @Test
+    public void shouldNotReturnCandidatesWhenIndexCanNotBeUsed() {
+        // given
+        index(new LogEntry().setType(RECEIVED_REQUEST).setHttpRequest(request().withPath("/some/path")));
+
+        // then
+        assertThat(mockServerEventLogIndex.candidates(null), nullValue());
+        assertThat(mockServerEventLogIndex.candidates(request().withPath("/some/.*")), nullValue());
+        assertThat(mockServerEventLogIndex.candidates(request().withPath(not("/some/path"))), nullValue());
+        assertThat(mockServerEventLogIndex.candidates(request().withPath("/some/{id}").withPathParameter("id", "[0-9]+")), nullValue());
+    }
+
+    @Test
+    public void shouldReturnCorrelatedEntries() {
+        // given
+        LogEntry first = index(new LogEntry().setType(RECEIVED_REQUEST).setCorrelationId("some_id"));
+        index(new LogEntry().setType(RECEIVED_REQUEST).setCorrelationId("other_id"));
+        LogEntry second = index(new LogEntry().setType(EXPECTATION_RESPONSE).setCorrelationId("some_id"));
+
+        // then
+        assertThat(mockServerEventLogIndex.correlated("some_id"), contains(first, second));
+        assertThat(mockServerEventLogIndex.correlated("unknown_id"), empty());
+    }
+
+    @Test
+    public void shouldRemoveEntries() {
+        // given
+        LogEntry logEntry = index(new LogEntry().setType(RECEIVED_REQUEST).setCorrelationId("some_id").setHttpRequest(request().withPath("/some/path")));
+
+        // when
+        mockServerEventLogIndex.remove(logEntry);
+
+        // then
+        assertThat(mockServerEventLogIndex.size(), is(0));
+        assertThat(mockServerEventLogIndex.candidates(request().withPath("/some/path")), empty());
+        assertThat(mockServerEventLogIndex.candidates(null, RECEIVED_REQUEST), empty());
+        assertThat(mockServerEventLogIndex.correlated("some_id"), empty());
+    }
+
+    @Test
+    public void shouldRemoveEntriesEvictedFromEventLog() throws Exception {
+        // given
+        MockServerEventLog mockServerEventLog = new MockServerEventLog(new MockServerLogger(), mock(Scheduler.class), true);
+        try {
+            mockServerEventLog.setMaxSize(2);
+            mockServerEventLog.add(new LogEntry().setType(RECEIVED_REQUEST).setCorrelationId("one").setHttpRequest(request().withPath("/some/path")));
+            mockServerEventLog.add(new LogEntry().setType(RECEIVED_REQUEST).setCorrelationId("two").setHttpRequest(request().withPath("/some/path")));
+            mockServerEventLog.add(new LogEntry().setType(RECEIVED_REQUEST).setCorrelationId("three").setHttpRequest(request().withPath("/some/path")));
+
+            // when
+            CompletableFuture<List<RequestDefinition>> requests = new CompletableFuture<>();
+            mockServerEventLog.retrieveRequests(request().withPath("/some/path"), requests::complete);
+            CompletableFuture<List<LogEntry>> evicted = new CompletableFuture<>();
+            mockServerEventLog.retrieveCorrelatedLogEntries("one", evicted::complete);
+            CompletableFuture<List<LogEntry>> retained = new CompletableFuture<>();
+            mockServerEventLog.retrieveCorrelatedLogEntries("three", retained::complete);
+
+            // then
+            assertThat(requests.get(10, SECONDS).size(), is(2));
+            assertThat(evicted.get(10, SECONDS), empty());
+            assertThat(retained.get(10, SECONDS).size(), is(1));
+        } finally {
+            mockServerEventLog.stop();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.mockserver.log;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.HttpRequest;
@@ -132,6 +133,219 @@ public class MockServerEventLogRequestLogEntryVerificationTest {
             is(""));
     }
 
+    @Test
+    public void shouldPassRegisteredVerificationAfterRequestsEvictedFromLog() {
+        // given
+        HttpRequest httpRequest = new HttpRequest().withPath("some_path");
+        HttpRequest otherHttpRequest = new HttpRequest().withPath("some_other_path");
+        mockServerEventLog.setMaxSize(1);
+        mockServerEventLog.registerVerification(new HttpRequest().withPath("some_path"));
+
+        // when
+        mockServerEventLog.add(
+            new LogEntry()
+                .setHttpRequest(httpRequest)
+                .setType(RECEIVED_REQUEST)
+        );
+        mockServerEventLog.add(
+            new LogEntry()
+                .setHttpRequest(httpRequest)
+                .setType(RECEIVED_REQUEST)
+        );
+        mockServerEventLog.add(
+            new LogEntry()
+                .setHttpRequest(otherHttpRequest)
+                .setType(RECEIVED_REQUEST)
+        );
+
+        // then
+        assertThat(verify(
+            verification()
+                .withRequest(
+                    new HttpRequest()
+                        .withPath("some_path")
+                )
+                .withTimes(exactly(2))
+            ),
+            is(""));
+    }
+
+    @Test
+    public void shouldOnlyCountRequestsReceivedAfterVerificationRegistered() {
+        // given
+        HttpRequest httpRequest = new HttpRequest().withPath("some_path");
+        mockServerEventLog.add(
+            new LogEntry()
+                .setHttpRequest(httpRequest)
+                .setType(RECEIVED_REQUEST)
+        );
+
+        // when
+        mockServerEventLog.registerVerification(new HttpRequest().withPath("some_path"));
+        mockServerEventLog.add(
+            new LogEntry()
+                .setHttpRequest(httpRequest)
+                .setType(RECEIVED_REQUEST)
+        );
+
+        // then
+        assertThat(verify(
+            verification()
+                .withRequest(
+                    new HttpRequest()
+                        .withPath("some_path")
+                )
+                .withTimes(exactly(1))
+            ),
+            is(""));
+        assertThat(verify(
+            verification()
+                .withRequest(
+                    new HttpRequest()
+                        .withPath("some_other_path")
+                )
+                .withTimes(exactly(0))
+            ),
+            is(""));
+    }
+
+    @Test
+    public void shouldNotCountRequestsCreatedBeforeVerificationRegistered() {
+        // given
+        mockServerEventLog.registerVerification(new HttpRequest().withPath("some_path"));
+
+        // when
+        mockServerEventLog.add(
+            new LogEntry()
+                .setHttpRequest(new HttpRequest().withPath("some_path"))
+                .setType(RECEIVED_REQUEST)
+                .setEpochTime(TimeService.currentTimeMillis() - SECONDS.toMillis(10))
+        );
+
+        // then
+        assertThat(verify(
+            verification()
+                .withRequest(
+                    new HttpRequest()
+                        .withPath("some_path")
+                )
+                .withTimes(exactly(0))
+            ),
+            is(""));
+    }
+
+    @Test
+    public void shouldVerifyAgainstLogAfterVerificationUnregistered() {
+        // given
+        HttpRequest httpRequest = new HttpRequest().withPath("some_path");
+        mockServerEventLog.setMaxSize(1);
+        mockServerEventLog.registerVerification(new HttpRequest().withPath("some_path"));
+        mockServerEventLog.add(
+            new LogEntry()
+                .setHttpRequest(httpRequest)
+                .setType(RECEIVED_REQUEST)
+        );
+        mockServerEventLog.add(
+            new LogEntry()
+                .setHttpRequest(httpRequest)
+                .setType(RECEIVED_REQUEST)
+        );
+
+        // when
+        mockServerEventLog.unregisterVerification(new HttpRequest().withPath("some_path"));
+
+        // then - only the request still in the log is counted
+        assertThat(verify(
+            verification()
+                .withRequest(
+                    new HttpRequest()
+                        .withPath("some_path")
+                )
+                .withTimes(exactly(1))
+            ),
+            is(""));
+    }
+
+    @Test
+    public void shouldResetRegisteredVerificationCountWhenLogCleared() {
+        // given
+        HttpRequest httpRequest = new HttpRequest().withPath("some_path");
+        mockServerEventLog.registerVerification(new HttpRequest().withPath("some_path"));
+        mockServerEventLog.add(
+            new LogEntry()
+                .setHttpRequest(httpRequest)
+                .setType(RECEIVED_REQUEST)
+        );
+        mockServerEventLog.add(
+            new LogEntry()
+                .setHttpRequest(httpRequest)
+                .setType(RECEIVED_REQUEST)
+        );
+
+        // when
+        mockServerEventLog.clear(new HttpRequest().withPath("some_path"));
+        mockServerEventLog.add(
+            new LogEntry()
+                .setHttpRequest(httpRequest)
+                .setType(RECEIVED_REQUEST)
+        );
+
+        // then
+        assertThat(verify(
+            verification()
+                .withRequest(
+                    new HttpRequest()
+                        .withPath("some_path")
+                )
+                .withTimes(exactly(1))
+            ),
+            is(""));
+    }
+
+    @Test
+    public void shouldSummariseRequestsInVerificationFailureWhenMoreThanMaximum() {
+        try {
+            // given
+            ConfigurationProperties.maximumNumberOfRequestsInVerificationFailure(1);
+            HttpRequest httpRequest = new HttpRequest().withPath("some_path");
+            HttpRequest otherHttpRequest = new HttpRequest().withPath("some_other_path");
+
+            // when
+            mockServerEventLog.add(
+                new LogEntry()
+                    .setHttpRequest(otherHttpRequest)
+                    .setType(RECEIVED_REQUEST)
+            );
+            mockServerEventLog.add(
+                new LogEntry()
+                    .setHttpRequest(httpRequest)
+                    .setType(RECEIVED_REQUEST)
+            );
+            mockServerEventLog.add(
+                new LogEntry()
+                    .setHttpRequest(otherHttpRequest)
+                    .setType(RECEIVED_REQUEST)
+            );
+
+            // then
+            assertThat(verify(
+                verification()
+                    .withRequest(
+                        new HttpRequest()
+                            .withPath("some_path")
+                    )
+                    .withTimes(exactly(2))
+                ),
+                is("Request not found exactly 2 times, showing 1 closest of 3 requests received (1 matched, didn't match path: 2), expected:<{" + NEW_LINE +
+                    "  \"path\" : \"some_path\"" + NEW_LINE +
+                    "}> but was:<{" + NEW_LINE +
+                    "  \"path\" : \"some_path\"" + NEW_LINE +
+                    "}>"));
+        } finally {
+            System.clearProperty("mockserver.maximumNumberOfRequestsInVerificationFailure");
+        }
+    }
+
     @Test
     public void shouldPassVerificationWithAtLeastTwoTimes() {
         // given
@@ -0,0 +1,87 @@
+package org.mockserver.log;
+
+import org.junit.Test;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.matchers.HttpRequestMatcher;
+import org.mockserver.matchers.MatchDifference;
+import org.mockserver.matchers.MatcherBuilder;
+import org.mockserver.model.HttpRequest;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockserver.model.HttpRequest.request;
+
+/**
+ * @author jamesdbloom
+ */
+public class VerificationFailureRequestsTest {
+
+    private final HttpRequestMatcher httpRequestMatcher = new MatcherBuilder(new MockServerLogger()).transformsToMatcher(
+        request()
+            .withMethod("GET")
+            .withPath("/some_path")
+    );
+
+    @Test
+    public void shouldIncludeAllRequestsInOrderWhenNotMoreThanMaximum() {
+        // given
+        VerificationFailureRequests verificationFailureRequests = new VerificationFailureRequests(httpRequestMatcher, 3);
+        HttpRequest firstRequest = request().withMethod("POST").withPath("/some_other_path");
+        HttpRequest secondRequest = request().withMethod("GET").withPath("/some_other_path");
+        HttpRequest thirdRequest = request().withMethod("GET").withPath("/some_path");
+
+        // when
+        verificationFailureRequests.add(firstRequest);
+        verificationFailureRequests.add(secondRequest);
+        verificationFailureRequests.add(thirdRequest);
+
+        // then
+        assertThat(verificationFailureRequests.isSummarised(), is(false));
+        assertThat(verificationFailureRequests.getRequests(), is(Arrays.asList(firstRequest, secondRequest, thirdRequest)));
+        assertThat(verificationFailureRequests.getNumberOfRequests(), is(3));
+        assertThat(verificationFailureRequests.getSummary(), is(""));
+    }
+
+    @Test
+    public void shouldIncludeClosestRequestsWhenMoreThanMaximum() {
+        // given
+        VerificationFailureRequests verificationFailureRequests = new VerificationFailureRequests(httpRequestMatcher, 2);
+        HttpRequest methodMismatch = request().withMethod("POST").withPath("/some_other_path");
+        HttpRequest pathMismatch = request().withMethod("GET").withPath("/some_other_path");
+        HttpRequest match = request().withMethod("GET").withPath("/some_path");
+        HttpRequest otherMethodMismatch = request().withMethod("POST").withPath("/some_path");
+
+        // when
+        verificationFailureRequests.add(methodMismatch);
+        verificationFailureRequests.add(pathMismatch);
+        verificationFailureRequests.add(match);
+        verificationFailureRequests.add(otherMethodMismatch);
+
+        // then
+        assertThat(verificationFailureRequests.isSummarised(), is(true));
+        assertThat(verificationFailureRequests.getRequests(), is(Arrays.asList(match, pathMismatch)));
+        assertThat(verificationFailureRequests.getNumberOfRequests(), is(4));
+        assertThat(verificationFailureRequests.getNumberOfMatchingRequests(), is(1));
+        assertThat(verificationFailureRequests.getMismatchedFieldCounts().get(MatchDifference.Field.METHOD), is(2));
+        assertThat(verificationFailureRequests.getMismatchedFieldCounts().get(MatchDifference.Field.PATH), is(1));
+        assertThat(verificationFailureRequests.getSummary(), is(", showing 2 closest of 4 requests received (1 matched, didn't match method: 2, path: 1)"));
+    }
+
+    @Test
+    public void shouldOnlyCountRequestsWhenMaximumIsZero() {
+        // given
+        VerificationFailureRequests verificationFailureRequests = new VerificationFailureRequests(httpRequestMatcher, 0);
+
+        // when
+        verificationFailureRequests.add(request().withMethod("GET").withPath("/some_path"));
+        verificationFailureRequests.add(request().withMethod("GET").withPath("/some_other_path"));
+
+        // then
+        assertThat(verificationFailureRequests.isSummarised(), is(true));
+        assertThat(verificationFailureRequests.getRequests(), is(Collections.emptyList()));
+        assertThat(verificationFailureRequests.getSummary(), is(", showing 0 closest of 2 requests received (1 matched, didn't match path: 1)"));
+    }
+}
@@ -0,0 +1,162 @@
+package org.mockserver.matchers;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.junit.Test;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.Cookies;
+import org.mockserver.model.Headers;
+import org.mockserver.model.ObjectWithReflectiveEqualsHashCodeToString;
+import org.mockserver.model.Parameters;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockserver.matchers.NotMatcher.notMatcher;
+import static org.mockserver.model.NottableString.string;
+
+/**
+ * Checks the explicit matcher equals and hashCode implementations agree with the reflective implementation in
+ * {@link ObjectWithReflectiveEqualsHashCodeToString}, excluding the logger and any lazily built or derived fields
+ *
+ * @author jamesdbloom
+ */
+public class MatcherEqualsHashCodeParityTest {
+
+    private static final MockServerLogger mockServerLogger = new MockServerLogger(MatcherEqualsHashCodeParityTest.class);
+    private static final String XML_SCHEMA = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+        "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\"><xs:element name=\"element\" type=\"xs:string\"/></xs:schema>";
+
+    @Test
+    public void shouldMatchReflectiveEqualsForStringMatchers() {
+        assertParity(Arrays.asList(
+            new ExactStringMatcher(mockServerLogger, string("some_value")),
+            new ExactStringMatcher(mockServerLogger, string("some_value")),
+            new ExactStringMatcher(mockServerLogger, string("other_value")),
+            notMatcher(new ExactStringMatcher(mockServerLogger, string("some_value")))
+        ), "mockServerLogger");
+        assertParity(Arrays.asList(
+            new SubStringMatcher(mockServerLogger, string("some_value")),
+            new SubStringMatcher(new MockServerLogger(), string("some_value")),
+            new SubStringMatcher(mockServerLogger, string("other_value")),
+            notMatcher(new SubStringMatcher(mockServerLogger, string("some_value")))
+        ), "mockServerLogger");
+        assertParity(Arrays.asList(
+            new RegexStringMatcher(mockServerLogger, string("some_.*"), false),
+            new RegexStringMatcher(mockServerLogger, string("some_.*"), false),
+            new RegexStringMatcher(mockServerLogger, string("some_.*"), true),
+            new RegexStringMatcher(mockServerLogger, string("other_.*"), false),
+            new RegexStringMatcher(mockServerLogger, false),
+            new RegexStringMatcher(mockServerLogger, false),
+            notMatcher(new RegexStringMatcher(mockServerLogger, string("some_.*"), false))
+        ), "mockServerLogger");
+    }
+
+    @Test
+    public void shouldMatchReflectiveEqualsForBinaryAndBooleanMatchers() {
+        assertParity(Arrays.asList(
+            new BinaryMatcher(mockServerLogger, "some_value".getBytes(UTF_8)),
+            new BinaryMatcher(mockServerLogger, "some_value".getBytes(UTF_8)),
+            new BinaryMatcher(mockServerLogger, "other_value".getBytes(UTF_8)),
+            new BinaryMatcher(mockServerLogger, null),
+            notMatcher(new BinaryMatcher(mockServerLogger, "some_value".getBytes(UTF_8)))
+        ), "mockServerLogger");
+        assertParity(Arrays.asList(
+            new BooleanMatcher(mockServerLogger, true),
+            new BooleanMatcher(mockServerLogger, true),
+            new BooleanMatcher(mockServerLogger, false),
+            new BooleanMatcher(mockServerLogger, null)
+        ), "mockServerLogger");
+    }
+
+    @Test
+    public void shouldMatchReflectiveEqualsForBodyMatchers() {
+        assertParity(Arrays.asList(
+            new JsonStringMatcher(mockServerLogger, "{ \"some_field\": \"some_value\" }", MatchType.STRICT),
+            new JsonStringMatcher(mockServerLogger, "{ \"some_field\": \"some_value\" }", MatchType.STRICT),
+            new JsonStringMatcher(mockServerLogger, "{ \"some_field\": \"some_value\" }", MatchType.ONLY_MATCHING_FIELDS),
+            new JsonStringMatcher(mockServerLogger, "{ \"some_field\": \"other_value\" }", MatchType.STRICT),
+            notMatcher(new JsonStringMatcher(mockServerLogger, "{ \"some_field\": \"some_value\" }", MatchType.STRICT))
+        ), "mockServerLogger", "matcherJsonNode");
+        assertParity(Arrays.asList(
+            new JsonSchemaMatcher(mockServerLogger, "{ \"type\": \"object\" }"),
+            new JsonSchemaMatcher(mockServerLogger, "{ \"type\": \"object\" }"),
+            new JsonSchemaMatcher(mockServerLogger, "{ \"type\": \"array\" }"),
+            notMatcher(new JsonSchemaMatcher(mockServerLogger, "{ \"type\": \"object\" }"))
+        ), "mockServerLogger", "jsonSchemaValidator");
+        assertParity(Arrays.asList(
+            new JsonPathMatcher(mockServerLogger, "$.store.book"),
+            new JsonPathMatcher(mockServerLogger, "$.store.book"),
+            new JsonPathMatcher(mockServerLogger, "$.store.bicycle"),
+            notMatcher(new JsonPathMatcher(mockServerLogger, "$.store.book"))
+        ), "mockServerLogger", "jsonPath");
+        assertParity(Arrays.asList(
+            new XPathMatcher(mockServerLogger, "/element[key = 'some_key']"),
+            new XPathMatcher(mockServerLogger, "/element[key = 'some_key']"),
+            new XPathMatcher(mockServerLogger, "/element[key = 'other_key']"),
+            notMatcher(new XPathMatcher(mockServerLogger, "/element[key = 'some_key']"))
+        ), "mockServerLogger", "stringToXmlDocumentParser", "xpathExpression");
+        assertParity(Arrays.asList(
+            new XmlStringMatcher(mockServerLogger, "<element>some_value</element>"),
+            new XmlStringMatcher(mockServerLogger, "<element>some_value</element>"),
+            new XmlStringMatcher(mockServerLogger, "<element>other_value</element>"),
+            notMatcher(new XmlStringMatcher(mockServerLogger, "<element>some_value</element>"))
+        ), "mockServerLogger", "diffBuilder");
+        assertParity(Arrays.asList(
+            new XmlSchemaMatcher(mockServerLogger, XML_SCHEMA),
+            new XmlSchemaMatcher(mockServerLogger, XML_SCHEMA),
+            new XmlSchemaMatcher(mockServerLogger, XML_SCHEMA.replace("name=\"element\"", "name=\"other\"")),
+            notMatcher(new XmlSchemaMatcher(mockServerLogger, XML_SCHEMA))
+        ), "mockServerLogger", "xmlSchemaValidator");
+    }
+
+    @Test
+    public void shouldMatchReflectiveEqualsForMapMatchers() {
+        assertParity(Arrays.asList(
+            new MultiValueMapMatcher(mockServerLogger, new Headers().withEntry("name", "value"), false),
+            new MultiValueMapMatcher(mockServerLogger, new Headers().withEntry("name", "value"), false),
+            new MultiValueMapMatcher(mockServerLogger, new Headers().withEntry("name", "value"), true),
+            new MultiValueMapMatcher(mockServerLogger, new Headers().withEntry("name", "value", "other_value"), false),
+            new MultiValueMapMatcher(mockServerLogger, new Headers().withEntry("other_name", "value"), false),
+            new MultiValueMapMatcher(mockServerLogger, null, false),
+            new MultiValueMapMatcher(mockServerLogger, null, false),
+            notMatcher(new MultiValueMapMatcher(mockServerLogger, new Headers().withEntry("name", "value"), false))
+        ), "mockServerLogger", "keysToMultiValues", "allKeysNotted", "allKeysOptional");
+        assertParity(Arrays.asList(
+            new HashMapMatcher(mockServerLogger, new Cookies().withEntry("name", "value"), false),
+            new HashMapMatcher(mockServerLogger, new Cookies().withEntry("name", "value"), false),
+            new HashMapMatcher(mockServerLogger, new Cookies().withEntry("name", "value"), true),
+            new HashMapMatcher(mockServerLogger, new Cookies().withEntry("name", "other_value"), false),
+            new HashMapMatcher(mockServerLogger, null, false),
+            new HashMapMatcher(mockServerLogger, null, false),
+            notMatcher(new HashMapMatcher(mockServerLogger, new Cookies().withEntry("name", "value"), false))
+        ), "mockServerLogger", "matcher", "allKeysNotted", "allKeysOptional");
+        assertParity(Arrays.asList(
+            new ParameterStringMatcher(mockServerLogger, new Parameters().withEntry("name", "value"), false),
+            new ParameterStringMatcher(mockServerLogger, new Parameters().withEntry("name", "value"), false),
+            new ParameterStringMatcher(mockServerLogger, new Parameters().withEntry("name", "value"), true),
+            new ParameterStringMatcher(mockServerLogger, new Parameters().withEntry("name", "other_value"), false),
+            notMatcher(new ParameterStringMatcher(mockServerLogger, new Parameters().withEntry("name", "value"), false))
+        ), "matcherParameters", "formParameterParser", "expandedParameterDecoder");
+    }
+
+    private static void assertParity(List<?> instances, String... excludedFields) {
+        for (Object one : instances) {
+            for (Object two : instances) {
+                boolean reflectiveEquals = new EqualsBuilder()
+                    .setExcludeFields(excludedFields)
+                    .setReflectUpToClass(ObjectWithReflectiveEqualsHashCodeToString.class)
+                    .setTestTransients(false)
+                    .setTestRecursive(false)
+                    .reflectionAppend(one, two)
+                    .isEquals();
+                assertThat("equals for " + one + " and " + two, one.equals(two), is(reflectiveEquals));
+                if (reflectiveEquals) {
+                    assertThat("hashCode for " + one + " and " + two, one.hashCode(), is(two.hashCode()));
+                }
+            }
+        }
+    }
+}
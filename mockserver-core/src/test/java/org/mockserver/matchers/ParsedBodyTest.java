@@ -0,0 +1,86 @@
+package org.mockserver.matchers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.Test;
+import org.w3c.dom.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+
+/**
+ * @author jamesdbloom
+ */
+public class ParsedBodyTest {
+
+    @Test
+    public void shouldParseJsonOnce() throws Exception {
+        // given
+        ParsedBody parsedBody = new ParsedBody("{ \"id\": 1, \"name\": \"some_name\" }");
+
+        // then
+        assertThat(parsedBody.getJsonNode().get("name").asText(), is("some_name"));
+        assertThat(parsedBody.getJsonNode(), sameInstance(parsedBody.getJsonNode()));
+        assertThat(parsedBody.getJsonPathDocument(), sameInstance(parsedBody.getJsonPathDocument()));
+    }
+
+    @Test
+    public void shouldThrowSameJsonExceptionForEachCall() throws Exception {
+        // given
+        ParsedBody parsedBody = new ParsedBody("{ \"id\": ");
+
+        // when
+        Exception first = null;
+        try {
+            parsedBody.getJsonNode();
+            fail("expected exception to be thrown");
+        } catch (JsonProcessingException jpe) {
+            first = jpe;
+        }
+
+        // then
+        try {
+            parsedBody.getJsonNode();
+            fail("expected exception to be thrown");
+        } catch (JsonProcessingException jpe) {
+            assertThat(jpe, sameInstance(first));
+        }
+    }
+
+    @Test
+    public void shouldParseXmlOnceAndReplayErrorsForEachCall() throws Exception {
+        // given
+        ParsedBody parsedBody = new ParsedBody("<element><key>some_key</key></element>");
+
+        // then
+        Document document = parsedBody.getXmlDocument(null);
+        assertThat(document.getDocumentElement().getTextContent(), is("some_key"));
+        assertThat(parsedBody.getXmlDocument(null), sameInstance(document));
+
+        // given
+        ParsedBody invalidParsedBody = new ParsedBody("<element>");
+        List<StringToXmlDocumentParser.ErrorLevel> firstErrors = new ArrayList<>();
+        List<StringToXmlDocumentParser.ErrorLevel> secondErrors = new ArrayList<>();
+
+        // when
+        try {
+            invalidParsedBody.getXmlDocument((matched, exception, level) -> firstErrors.add(level));
+            fail("expected exception to be thrown");
+        } catch (Exception ignore) {
+            // expected
+        }
+        try {
+            invalidParsedBody.getXmlDocument((matched, exception, level) -> secondErrors.add(level));
+            fail("expected exception to be thrown");
+        } catch (Exception ignore) {
+            // expected
+        }
+
+        // then
+        assertThat(firstErrors, contains(StringToXmlDocumentParser.ErrorLevel.FATAL_ERROR));
+        assertThat(secondErrors, is(firstErrors));
+    }
+}
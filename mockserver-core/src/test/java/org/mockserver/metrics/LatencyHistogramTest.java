@@ -0,0 +1,80 @@
+package org.mockserver.metrics;
+
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void shouldCountDurationsInCumulativeBuckets() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // when
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(50));
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(100));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(3));
+        histogram.record(TimeUnit.SECONDS.toNanos(20));
+
+        // then
+        long[] cumulativeCounts = histogram.getCumulativeCounts();
+        double[] bucketUpperBounds = LatencyHistogram.getBucketUpperBoundsSeconds();
+        assertThat(cumulativeCounts.length, is(bucketUpperBounds.length + 1));
+        // le 0.0001
+        assertThat(cumulativeCounts[0], is(2L));
+        // le 0.0025
+        assertThat(cumulativeCounts[4], is(2L));
+        // le 0.005
+        assertThat(cumulativeCounts[5], is(3L));
+        // le 10
+        assertThat(cumulativeCounts[bucketUpperBounds.length - 1], is(3L));
+        // +Inf
+        assertThat(cumulativeCounts[bucketUpperBounds.length], is(4L));
+        assertThat(histogram.getSumSeconds(), closeTo(20.00315, 0.0000001));
+    }
+
+    @Test
+    public void shouldRecordConcurrently() throws InterruptedException {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+        // when
+        for (int thread = 0; thread < 4; thread++) {
+            executorService.execute(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+                }
+            });
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        long[] cumulativeCounts = histogram.getCumulativeCounts();
+        assertThat(cumulativeCounts[cumulativeCounts.length - 1], is(40000L));
+        assertThat(histogram.getSumSeconds(), closeTo(40.0, 0.0000001));
+    }
+
+    @Test
+    public void shouldReset() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+
+        // when
+        histogram.reset();
+
+        // then
+        long[] cumulativeCounts = histogram.getCumulativeCounts();
+        assertThat(cumulativeCounts[cumulativeCounts.length - 1], is(0L));
+        assertThat(histogram.getSumSeconds(), is(0.0));
+    }
+}
@@ -0,0 +1,54 @@
+package org.mockserver.metrics;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.configuration.ConfigurationProperties;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockserver.metrics.Metrics.Name.FORWARD_CONNECTION_POOL_IN_USE_COUNT;
+
+public class MetricsTest {
+
+    private boolean originalMetricsEnabled;
+
+    @Before
+    public void enableMetrics() {
+        originalMetricsEnabled = ConfigurationProperties.metricsEnabled();
+        ConfigurationProperties.metricsEnabled(true);
+        Metrics.clear();
+    }
+
+    @After
+    public void resetMetrics() {
+        Metrics.clear();
+        ConfigurationProperties.metricsEnabled(originalMetricsEnabled);
+    }
+
+    @Test
+    public void shouldSetValue() {
+        // given
+        Metrics.increment(FORWARD_CONNECTION_POOL_IN_USE_COUNT);
+
+        // when
+        Metrics.set(FORWARD_CONNECTION_POOL_IN_USE_COUNT, 5);
+
+        // then
+        assertThat(Metrics.get(FORWARD_CONNECTION_POOL_IN_USE_COUNT), is(5));
+    }
+
+    @Test
+    public void shouldKeepIncrementsAfterSettingValue() {
+        // given
+        Metrics.set(FORWARD_CONNECTION_POOL_IN_USE_COUNT, 5);
+
+        // when
+        Metrics.increment(FORWARD_CONNECTION_POOL_IN_USE_COUNT);
+        Metrics.set(FORWARD_CONNECTION_POOL_IN_USE_COUNT, Metrics.get(FORWARD_CONNECTION_POOL_IN_USE_COUNT));
+        Metrics.decrement(FORWARD_CONNECTION_POOL_IN_USE_COUNT);
+
+        // then
+        assertThat(Metrics.get(FORWARD_CONNECTION_POOL_IN_USE_COUNT), is(5));
+    }
+}
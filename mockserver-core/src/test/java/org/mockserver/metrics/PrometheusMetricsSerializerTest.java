@@ -0,0 +1,67 @@
+package org.mockserver.metrics;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.configuration.ConfigurationProperties;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.mockserver.metrics.Metrics.Name.*;
+import static org.mockserver.metrics.Metrics.Timer.EXPECTATION_MATCH_DURATION;
+
+public class PrometheusMetricsSerializerTest {
+
+    private boolean originalMetricsEnabled;
+
+    @Before
+    public void enableMetrics() {
+        originalMetricsEnabled = ConfigurationProperties.metricsEnabled();
+        ConfigurationProperties.metricsEnabled(true);
+        Metrics.clear();
+    }
+
+    @After
+    public void resetMetrics() {
+        Metrics.clear();
+        ConfigurationProperties.metricsEnabled(originalMetricsEnabled);
+    }
+
+    @Test
+    public void shouldSerialiseCountersAndGauges() {
+        // given
+        Metrics.increment(EXPECTATION_NOT_MATCHED_COUNT);
+        Metrics.increment(EXPECTATION_NOT_MATCHED_COUNT);
+        Metrics.increment(FORWARD_CONNECTION_POOL_IN_USE_COUNT);
+
+        // when
+        String metrics = new PrometheusMetricsSerializer().serialize();
+
+        // then
+        assertThat(metrics, containsString("# TYPE mockserver_expectation_not_matched_count counter\nmockserver_expectation_not_matched_count 2\n"));
+        assertThat(metrics, containsString("# TYPE mockserver_forward_connection_pool_in_use_count gauge\nmockserver_forward_connection_pool_in_use_count 1\n"));
+        assertThat(metrics, containsString("mockserver_lru_cache_hit_count 0\n"));
+        assertThat(metrics, not(containsString("\r")));
+    }
+
+    @Test
+    public void shouldSerialiseHistograms() {
+        // given
+        Metrics.recordDuration(EXPECTATION_MATCH_DURATION, System.nanoTime() - TimeUnit.SECONDS.toNanos(20));
+
+        // when
+        String metrics = new PrometheusMetricsSerializer().serialize();
+
+        // then
+        assertThat(metrics, containsString("# TYPE mockserver_expectation_match_duration_seconds histogram\n"));
+        assertThat(metrics, containsString("mockserver_expectation_match_duration_seconds_bucket{le=\"0.0001\"} 0\n"));
+        assertThat(metrics, containsString("mockserver_expectation_match_duration_seconds_bucket{le=\"10\"} 0\n"));
+        assertThat(metrics, containsString("mockserver_expectation_match_duration_seconds_bucket{le=\"+Inf\"} 1\n"));
+        assertThat(metrics, containsString("mockserver_expectation_match_duration_seconds_count 1\n"));
+        assertThat(metrics, containsString("mockserver_action_duration_seconds_count 0\n"));
+        assertThat(metrics, containsString("mockserver_forward_duration_seconds_count 0\n"));
+    }
+}
@@ -44,6 +44,7 @@ import static org.hamcrest.CoreMatchers.endsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsNull.nullValue;
 import static org.mockito.Mockito.mock;
@@ -291,6 +292,34 @@ public class HttpStateTest {
         }
     }
 
+    @Test
+    public void shouldLogSingleEntryForBatchOfExpectations() {
+        Level originalLevel = ConfigurationProperties.logLevel();
+        try {
+            // given
+            ConfigurationProperties.logLevel("INFO");
+            httpState.add(
+                new Expectation(request("request_one")).withId("key_one").thenRespond(response("response_one")),
+                new Expectation(request("request_two")).withId("key_two").thenRespond(response("response_two"))
+            );
+            FakeResponseWriter responseWriter = new FakeResponseWriter();
+
+            // when
+            HttpRequest retrieveLogRequest = request("/mockserver/retrieve")
+                .withMethod("PUT")
+                .withQueryStringParameter("type", RetrieveType.LOGS.name());
+            boolean handle = httpState.handle(retrieveLogRequest, responseWriter, false);
+
+            // then
+            assertThat(handle, is(true));
+            assertThat(responseWriter.response.getStatusCode(), is(200));
+            assertThat(responseWriter.response.getBodyAsString(), containsString(" - creating" + NEW_LINE + NEW_LINE + "  2" + NEW_LINE + NEW_LINE + " expectations"));
+            assertThat(responseWriter.response.getBodyAsString(), not(containsString("creating expectation:")));
+        } finally {
+            ConfigurationProperties.logLevel(originalLevel.name());
+        }
+    }
+
     @Test
     public void shouldHandleAddExpectationRequest() {
         // given
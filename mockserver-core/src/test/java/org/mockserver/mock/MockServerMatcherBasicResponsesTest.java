@@ -7,8 +7,7 @@ import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.*;
 import org.mockserver.scheduler.Scheduler;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNull;
+import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
 import static org.mockserver.mock.listeners.MockServerMatcherNotifier.Cause.API;
 import static org.mockserver.model.HttpRequest.request;
@@ -38,6 +37,35 @@ public class MockServerMatcherBasicResponsesTest {
         assertEquals(expectation, requestMatchers.firstMatchingExpectation(new HttpRequest().withPath("somePath")));
     }
 
+    @Test
+    public void shouldPreEncodeResponseBodyWhenExpectationAdded() {
+        // when
+        Expectation expectation = new Expectation(request().withPath("somePath")).thenRespond(response().withBody("someBody"));
+        requestMatchers.add(expectation, API);
+
+        // then
+        HttpResponse httpResponse = requestMatchers.firstMatchingExpectation(new HttpRequest().withPath("somePath")).getHttpResponse();
+        assertNotNull(httpResponse.getPreEncodedBody());
+        assertTrue(httpResponse.getPreEncodedBody().isValidFor(httpResponse.getBody(), httpResponse.getFirstHeader("Content-Type")));
+    }
+
+    @Test
+    public void shouldPreEncodeResponseBodyWhenExpectationUpdated() {
+        // given
+        Expectation expectation = new Expectation(request().withPath("somePath")).withId("someId").thenRespond(response().withBody("someBody"));
+        requestMatchers.add(expectation, API);
+
+        // when
+        Expectation updatedExpectation = new Expectation(request().withPath("somePath")).withId("someId").thenRespond(response().withBody("someOtherBody"));
+        requestMatchers.add(updatedExpectation, API);
+
+        // then
+        HttpResponse httpResponse = requestMatchers.firstMatchingExpectation(new HttpRequest().withPath("somePath")).getHttpResponse();
+        assertNotNull(httpResponse.getPreEncodedBody());
+        assertTrue(httpResponse.getPreEncodedBody().isValidFor(httpResponse.getBody(), httpResponse.getFirstHeader("Content-Type")));
+        assertFalse(httpResponse.getPreEncodedBody().isValidFor(expectation.getHttpResponse().getBody(), httpResponse.getFirstHeader("Content-Type")));
+    }
+
     @Test
     public void respondWhenRegexPathMatches() {
         // when
@@ -511,4 +539,27 @@ public class MockServerMatcherBasicResponsesTest {
         // then
         assertEquals(expectation, requestMatchers.firstMatchingExpectation(new HttpRequest().withPath("somePath").withCookies(new Cookie("name", "value"))));
     }
+
+    @Test
+    public void canMatchAndForwardWithoutBodyWhenOnlyForwardExpectationsWithoutBodyMatcher() {
+        // when
+        requestMatchers.add(new Expectation(request().withPath("somePath")).thenForward(HttpForward.forward().withHost("localhost").withPort(1080)), API);
+        requestMatchers.add(new Expectation(request().withPath("someOtherPath")).thenRespond(response().withBody("someBody")), API);
+
+        // then
+        assertTrue(requestMatchers.canMatchAndForwardWithoutBody(new HttpRequest().withMethod("POST").withPath("somePath")));
+        assertFalse(requestMatchers.canMatchAndForwardWithoutBody(new HttpRequest().withMethod("POST").withPath("someOtherPath")));
+    }
+
+    @Test
+    public void canNotMatchAndForwardWithoutBodyWhenExpectationMatchesBody() {
+        // when
+        requestMatchers.add(new Expectation(request().withPath("somePath").withBody("someBody")).thenForward(HttpForward.forward().withHost("localhost").withPort(1080)), API);
+        Expectation expectation = new Expectation(request().withPath("somePath")).thenForward(HttpForward.forward().withHost("localhost").withPort(1080));
+        requestMatchers.add(expectation, API);
+
+        // then
+        assertFalse(requestMatchers.canMatchAndForwardWithoutBody(new HttpRequest().withMethod("POST").withPath("somePath")));
+        assertEquals(expectation, requestMatchers.firstMatchingExpectation(new HttpRequest().withMethod("POST").withPath("somePath")));
+    }
 }
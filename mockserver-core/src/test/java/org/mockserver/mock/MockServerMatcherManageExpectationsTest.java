@@ -9,11 +9,14 @@ import org.mockserver.matchers.Times;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.scheduler.Scheduler;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 import static org.hamcrest.core.Is.is;
@@ -36,6 +39,33 @@ public class MockServerMatcherManageExpectationsTest {
         requestMatchers = new RequestMatchers(new MockServerLogger(), new Scheduler(new MockServerLogger(), true), webSocketClientRegistry);
     }
 
+    @Test
+    public void shouldAddBatchOfExpectationsUpdatingExistingAndRepeatedIds() {
+        // given
+        Expectation existingExpectation = new Expectation(request().withPath("existingPath")).withId("existing").thenRespond(response().withBody("existingBody"));
+        requestMatchers.add(existingExpectation, API);
+        Expectation updatedExpectation = new Expectation(request().withPath("existingPath")).withId("existing").thenRespond(response().withBody("updatedBody"));
+        Expectation newExpectation = new Expectation(request().withPath("newPath")).withId("new").thenRespond(response().withBody("newBody"));
+        Expectation repeatedExpectation = new Expectation(request().withPath("newPath")).withId("new").thenRespond(response().withBody("repeatedBody"));
+        List<Expectation> expectations = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expectations.add(new Expectation(request().withPath("path_" + i)).thenRespond(response().withBody("body_" + i)));
+        }
+        expectations.add(updatedExpectation);
+        expectations.add(newExpectation);
+        expectations.add(repeatedExpectation);
+
+        // when
+        List<Expectation> upsertedExpectations = requestMatchers.add(expectations, API);
+
+        // then
+        assertThat(upsertedExpectations, is(expectations));
+        assertThat(requestMatchers.size(), is(102));
+        assertThat(requestMatchers.firstMatchingExpectation(new HttpRequest().withPath("path_42")), is(expectations.get(42)));
+        assertThat(requestMatchers.firstMatchingExpectation(new HttpRequest().withPath("existingPath")), is(updatedExpectation));
+        assertThat(requestMatchers.firstMatchingExpectation(new HttpRequest().withPath("newPath")), is(repeatedExpectation));
+    }
+
     @Test
     public void shouldRemoveExpiredExpectationWhenMatching() {
         // when
@@ -56,6 +86,24 @@ public class MockServerMatcherManageExpectationsTest {
         assertThat(requestMatchers.httpRequestMatchers.toSortedList(), empty());
     }
 
+    @Test
+    public void shouldRemoveExpiredExpectationWithoutRequest() throws InterruptedException {
+        // given
+        requestMatchers.add(new Expectation(request().withPath("somePath"), Times.unlimited(), TimeToLive.exactly(MILLISECONDS, 100L), 0).thenRespond(response().withBody("someBody")), API);
+        requestMatchers.add(new Expectation(request().withPath("someOtherPath"), Times.unlimited(), TimeToLive.exactly(TimeUnit.HOURS, 1L), 0).thenRespond(response().withBody("someBody")), API);
+        assertThat(requestMatchers.size(), is(2));
+
+        // when
+        long timeout = System.currentTimeMillis() + SECONDS.toMillis(5);
+        while (requestMatchers.size() > 1 && System.currentTimeMillis() < timeout) {
+            MILLISECONDS.sleep(50);
+        }
+
+        // then
+        assertThat(requestMatchers.size(), is(1));
+        assertThat(requestMatchers.httpRequestMatchers.toSortedList().get(0).getExpectation().getHttpRequest(), is(request().withPath("someOtherPath")));
+    }
+
     @Test
     public void shouldRemoveMultipleExpiredExpectations() throws InterruptedException {
         // when
@@ -78,6 +126,40 @@ public class MockServerMatcherManageExpectationsTest {
         assertThat(requestMatchers.httpRequestMatchers.toSortedList(), empty());
     }
 
+    @Test
+    public void shouldCancelTimeToLiveOfExpectationsEvictedByMaxExpectations() {
+        // given
+        requestMatchers.setMaxSize(2);
+        requestMatchers.add(new Expectation(request().withPath("pathOne"), Times.unlimited(), TimeToLive.exactly(SECONDS, 60L), 0).withId("one").thenRespond(response()), API);
+        requestMatchers.add(new Expectation(request().withPath("pathTwo"), Times.unlimited(), TimeToLive.exactly(SECONDS, 60L), 0).withId("two").thenRespond(response()), API);
+
+        // when
+        requestMatchers.add(new Expectation(request().withPath("pathThree"), Times.unlimited(), TimeToLive.exactly(SECONDS, 60L), 0).withId("three").thenRespond(response()), API);
+
+        // then
+        assertThat(requestMatchers.size(), is(2));
+        assertThat(requestMatchers.timeToLiveExpiryTimeouts.keySet(), containsInAnyOrder("two", "three"));
+    }
+
+    @Test
+    public void shouldCancelTimeToLiveOfExpectationsEvictedByMaxExpectationsWhenAddingBatch() {
+        // given
+        requestMatchers.setMaxSize(2);
+        requestMatchers.add(new Expectation(request().withPath("pathOne"), Times.unlimited(), TimeToLive.exactly(SECONDS, 60L), 0).withId("one").thenRespond(response()), API);
+        List<Expectation> expectations = new ArrayList<>();
+        for (String id : new String[]{"two", "three", "four"}) {
+            expectations.add(new Expectation(request().withPath("path_" + id), Times.unlimited(), TimeToLive.exactly(SECONDS, 60L), 0).withId(id).thenRespond(response()));
+        }
+
+        // when
+        requestMatchers.add(expectations, API);
+
+        // then
+        assertThat(requestMatchers.size(), is(2));
+        assertThat(requestMatchers.timeToLiveExpiryTimeouts.keySet(), containsInAnyOrder("three", "four"));
+        assertThat(requestMatchers.firstMatchingExpectation(new HttpRequest().withPath("path_two")), nullValue());
+    }
+
     @Test
     public void shouldNotRemoveNotExpiredExpectationsWhenMatching() {
         // when
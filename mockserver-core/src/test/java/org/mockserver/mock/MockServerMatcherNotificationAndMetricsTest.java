@@ -14,6 +14,7 @@ import org.mockserver.scheduler.Scheduler;
 import org.mockserver.uuid.UUIDService;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -22,6 +23,7 @@ import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.hamcrest.core.Is.is;
 import static org.mockito.Mockito.mock;
 import static org.mockserver.mock.listeners.MockServerMatcherNotifier.Cause.API;
+import static org.mockserver.mock.listeners.MockServerMatcherNotifier.Cause.INITIALISER;
 import static org.mockserver.model.HttpForward.forward;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
@@ -79,6 +81,46 @@ public class MockServerMatcherNotificationAndMetricsTest {
         assertThat(Metrics.get(Metrics.Name.ACTION_RESPONSE_COUNT), is(1));
     }
 
+    @Test
+    public void shouldNotifyOnceOnBatchAdd() throws InterruptedException {
+        // given
+        List<MockServerMatcherNotifier.Cause> causes = new ArrayList<>();
+        requestMatchers.registerListener((requestMatchers, cause) -> {
+            causes.add(cause);
+        });
+
+        // when
+        requestMatchers.add(Arrays.asList(
+            new Expectation(
+                request()
+                    .withPath("somePath")
+            ).thenRespond(
+                response()
+                    .withBody("someBody")
+            ),
+            new Expectation(
+                request()
+                    .withPath("someOtherPath")
+            ).thenForward(
+                forward()
+            ),
+            new Expectation(
+                request()
+                    .withPath("someOtherPath")
+            ).thenRespond(
+                response()
+                    .withBody("someOtherBody")
+            )
+        ), INITIALISER);
+
+        // then
+        MILLISECONDS.sleep(500);
+        assertThat(requestMatchers.httpRequestMatchers.size(), is(3));
+        assertThat(causes, contains(INITIALISER));
+        assertThat(Metrics.get(Metrics.Name.ACTION_RESPONSE_COUNT), is(2));
+        assertThat(Metrics.get(Metrics.Name.ACTION_FORWARD_COUNT), is(1));
+    }
+
     @Test
     public void shouldNotifyOnRemove() throws InterruptedException {
         // given
@@ -0,0 +1,174 @@
+package org.mockserver.mock;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.matchers.MatcherBuilder;
+import org.mockserver.matchers.TimeToLive;
+import org.mockserver.matchers.Times;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.Not;
+import org.mockserver.scheduler.Scheduler;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+import static org.mockserver.mock.listeners.MockServerMatcherNotifier.Cause.API;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.model.NottableString.not;
+
+/**
+ * @author jamesdbloom
+ */
+public class RequestMatchersIndexTest {
+
+    private static final Scheduler scheduler = new Scheduler(new MockServerLogger());
+    private final MatcherBuilder matcherBuilder = new MatcherBuilder(new MockServerLogger());
+    private RequestMatchersIndex requestMatchersIndex;
+
+    @Before
+    public void createIndex() {
+        requestMatchersIndex = new RequestMatchersIndex();
+    }
+
+    @AfterClass
+    public static void stopScheduler() {
+        scheduler.shutdown();
+    }
+
+    private Expectation index(Expectation expectation) {
+        requestMatchersIndex.add(matcherBuilder.transformsToMatcher(expectation));
+        return expectation;
+    }
+
+    @Test
+    public void shouldReturnOnlyCandidatesWithMatchingLiteralMethodAndPath() {
+        // given
+        Expectation getSomePath = index(new Expectation(request().withMethod("GET").withPath("/some/path")).thenRespond(response()));
+        index(new Expectation(request().withMethod("POST").withPath("/some/path")).thenRespond(response()));
+        index(new Expectation(request().withMethod("GET").withPath("/some/other/path")).thenRespond(response()));
+        Expectation anyMethod = index(new Expectation(request().withPath("/some/path")).thenRespond(response()));
+        Expectation anyPath = index(new Expectation(request().withMethod("GET")).thenRespond(response()));
+
+        // when
+        List<SortableExpectationId> candidates = requestMatchersIndex.candidates(request().withMethod("GET").withPath("/some/path"));
+
+        // then
+        assertThat(candidates, contains(getSomePath.getSortableId(), anyMethod.getSortableId(), anyPath.getSortableId()));
+    }
+
+    @Test
+    public void shouldIgnoreCaseOfMethodAndPath() {
+        // given
+        Expectation expectation = index(new Expectation(request().withMethod("get").withPath("/Some/Path")).thenRespond(response()));
+
+        // then
+        assertThat(requestMatchersIndex.candidates(request().withMethod("GET").withPath("/some/path")), contains(expectation.getSortableId()));
+    }
+
+    @Test
+    public void shouldAlwaysReturnRegexNottedAndPathParameterExpectations() {
+        // given
+        Expectation regexPath = index(new Expectation(request().withMethod("GET").withPath("/some/.*")).thenRespond(response()));
+        Expectation regexMethod = index(new Expectation(request().withMethod("P.*").withPath("/some/path")).thenRespond(response()));
+        Expectation nottedPath = index(new Expectation(request().withMethod("GET").withPath(not("/some/path"))).thenRespond(response()));
+        Expectation nottedRequest = index(new Expectation(Not.not(request().withMethod("GET").withPath("/some/path"))).thenRespond(response()));
+        Expectation pathParameter = index(new Expectation(request().withMethod("GET").withPath("/some/{id}").withPathParameter("id", "[0-9]+")).thenRespond(response()));
+        index(new Expectation(request().withMethod("GET").withPath("/some/path")).thenRespond(response()));
+
+        // when
+        List<SortableExpectationId> candidates = requestMatchersIndex.candidates(request().withMethod("GET").withPath("/other/path"));
+
+        // then
+        assertThat(candidates, contains(regexPath.getSortableId(), nottedPath.getSortableId(), nottedRequest.getSortableId(), pathParameter.getSortableId()));
+        assertThat(requestMatchersIndex.candidates(request().withMethod("PUT").withPath("/some/path")), contains(regexMethod.getSortableId(), nottedRequest.getSortableId()));
+    }
+
+    @Test
+    public void shouldReturnCandidatesInPriorityOrder() {
+        // given
+        Expectation lowPriority = index(new Expectation(request().withMethod("GET").withPath("/some/path"), Times.unlimited(), TimeToLive.unlimited(), 0).thenRespond(response()));
+        Expectation highPriority = index(new Expectation(request().withPath("/some/.*"), Times.unlimited(), TimeToLive.unlimited(), 10).thenRespond(response()));
+        Expectation mediumPriority = index(new Expectation(request().withMethod("GET"), Times.unlimited(), TimeToLive.unlimited(), 5).thenRespond(response()));
+
+        // then
+        assertThat(requestMatchersIndex.candidates(request().withMethod("GET").withPath("/some/path")), contains(highPriority.getSortableId(), mediumPriority.getSortableId(), lowPriority.getSortableId()));
+    }
+
+    @Test
+    public void shouldNotReturnCandidatesForRequestsThatCanNotUseIndex() {
+        // given
+        index(new Expectation(request().withMethod("GET").withPath("/some/path")).thenRespond(response()));
+
+        // then
+        assertThat(requestMatchersIndex.candidates(request().withPath("/some/path")), nullValue());
+        assertThat(requestMatchersIndex.candidates(request().withMethod("GET")), nullValue());
+        assertThat(requestMatchersIndex.candidates(request().withMethod("GET").withPath(not("/some/path"))), nullValue());
+        assertThat(requestMatchersIndex.candidates(null), nullValue());
+    }
+
+    @Test
+    public void shouldRemoveExpectation() {
+        // given
+        Expectation expectation = new Expectation(request().withMethod("GET").withPath("/some/path")).thenRespond(response());
+        index(expectation);
+
+        // when
+        requestMatchersIndex.remove(expectation.getId());
+
+        // then
+        assertThat(requestMatchersIndex.size(), is(0));
+        assertThat(requestMatchersIndex.candidates(request().withMethod("GET").withPath("/some/path")), empty());
+    }
+
+    @Test
+    public void shouldMatchSameExpectationsWithAndWithoutIndex() {
+        boolean originalExpectationIndexEnabled = ConfigurationProperties.expectationIndexEnabled();
+        try {
+            // given
+            RequestMatchers requestMatchers = new RequestMatchers(mock(MockServerLogger.class), scheduler, mock(WebSocketClientRegistry.class));
+            Expectation[] expectations = new Expectation[]{
+                new Expectation(request().withMethod("GET").withPath("/some/path").withHeader("name", "value")).thenRespond(response()),
+                new Expectation(request().withMethod("GET").withPath("/some/path")).thenRespond(response()),
+                new Expectation(request().withMethod("POST").withPath("/some/path")).thenRespond(response()),
+                new Expectation(request().withPath("/some/.*"), Times.unlimited(), TimeToLive.unlimited(), 10).thenRespond(response()),
+                new Expectation(request().withMethod(not("GET")).withPath("/other/path")).thenRespond(response()),
+                new Expectation(request().withMethod("PUT")).thenRespond(response())
+            };
+            for (Expectation expectation : expectations) {
+                requestMatchers.add(expectation, API);
+            }
+            HttpRequest[] requests = new HttpRequest[]{
+                request().withMethod("GET").withPath("/some/path"),
+                request().withMethod("GET").withPath("/some/path").withHeader("name", "value"),
+                request().withMethod("POST").withPath("/some/path"),
+                request().withMethod("DELETE").withPath("/other/path"),
+                request().withMethod("GET").withPath("/other/path"),
+                request().withMethod("PUT").withPath("/any/path"),
+                request().withMethod("PATCH").withPath("/any/path")
+            };
+
+            for (HttpRequest request : requests) {
+                // when
+                ConfigurationProperties.expectationIndexEnabled(true);
+                Expectation withIndex = requestMatchers.firstMatchingExpectation(request);
+                ConfigurationProperties.expectationIndexEnabled(false);
+                Expectation withoutIndex = requestMatchers.firstMatchingExpectation(request);
+
+                // then
+                assertThat(withIndex, is(withoutIndex));
+            }
+        } finally {
+            ConfigurationProperties.expectationIndexEnabled(originalExpectationIndexEnabled);
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.slf4j.event.Level;
 import java.net.InetSocketAddress;
 import java.util.HashSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -161,8 +162,8 @@ public class ActionHandlerTest {
                 .setMessageFormat("returning response:{}for request:{}for action:{}from expectation:{}")
                 .setArguments(this.response, request, response, expectation.getId())
         );
-        verify(scheduler).schedule(any(Runnable.class), eq(true), eq(milliseconds(0)));
-        verify(scheduler).schedule(any(Runnable.class), eq(true), eq(milliseconds(0)));
+        verify(scheduler).schedule(any(Runnable.class), eq(true), isNull(Executor.class), eq(milliseconds(0)));
+        verify(scheduler).schedule(any(Runnable.class), eq(true), isNull(Executor.class), eq(milliseconds(0)));
     }
 
     @Test
@@ -196,7 +197,7 @@ public class ActionHandlerTest {
                 .setArguments(response, request, template, expectation.getId())
         );
         verify(scheduler).schedule(any(Runnable.class), eq(true), eq(milliseconds(1)));
-        verify(scheduler).schedule(any(Runnable.class), eq(true), eq(milliseconds(0)));
+        verify(scheduler).schedule(any(Runnable.class), eq(true), isNull(Executor.class), eq(milliseconds(0)));
     }
 
     @Test
@@ -272,7 +273,7 @@ public class ActionHandlerTest {
                 .setArguments(response, request, callback, expectation.getId())
         );
         verify(scheduler).schedule(any(Runnable.class), eq(true), eq(milliseconds(1)));
-        verify(scheduler).schedule(any(Runnable.class), eq(true), eq(milliseconds(0)));
+        verify(scheduler).schedule(any(Runnable.class), eq(true), isNull(Executor.class), eq(milliseconds(0)));
     }
 
     @Test
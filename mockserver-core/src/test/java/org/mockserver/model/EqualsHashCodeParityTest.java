@@ -0,0 +1,166 @@
+package org.mockserver.model;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.junit.Test;
+import org.mockserver.collections.NottableStringMultiMap;
+import org.mockserver.logging.MockServerLogger;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockserver.model.ConnectionOptions.connectionOptions;
+import static org.mockserver.model.Delay.milliseconds;
+import static org.mockserver.model.Delay.seconds;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.model.NottableString.string;
+import static org.mockserver.model.SocketAddress.socketAddress;
+
+/**
+ * Checks the explicit equals and hashCode implementations agree with the reflective implementation in
+ * {@link ObjectWithReflectiveEqualsHashCodeToString}, excluding any cached or derived fields
+ *
+ * @author jamesdbloom
+ */
+public class EqualsHashCodeParityTest {
+
+    private static final MockServerLogger mockServerLogger = new MockServerLogger(EqualsHashCodeParityTest.class);
+
+    @Test
+    public void shouldMatchReflectiveEqualsForDelay() {
+        assertParity(Arrays.asList(
+            milliseconds(1),
+            milliseconds(1),
+            milliseconds(2),
+            seconds(1),
+            new Delay(null, 1),
+            new Delay(null, 1)
+        ));
+    }
+
+    @Test
+    public void shouldMatchReflectiveEqualsForSocketAddress() {
+        assertParity(Arrays.asList(
+            socketAddress(),
+            socketAddress(),
+            socketAddress().withHost("localhost").withPort(1080),
+            socketAddress().withHost("localhost").withPort(1080),
+            socketAddress().withHost("localhost").withPort(1090),
+            socketAddress().withHost("127.0.0.1").withPort(1080),
+            socketAddress().withHost("localhost").withPort(1080).withScheme(SocketAddress.Scheme.HTTPS)
+        ));
+    }
+
+    @Test
+    public void shouldMatchReflectiveEqualsForConnectionOptions() {
+        assertParity(Arrays.asList(
+            connectionOptions(),
+            connectionOptions(),
+            connectionOptions().withChunkSize(10),
+            connectionOptions().withChunkSize(10),
+            connectionOptions().withChunkSize(20),
+            connectionOptions().withCloseSocket(true).withCloseSocketDelay(milliseconds(10)),
+            connectionOptions().withCloseSocket(true).withCloseSocketDelay(milliseconds(10)),
+            connectionOptions().withCloseSocket(true).withCloseSocketDelay(milliseconds(20)),
+            connectionOptions().withKeepAliveOverride(true).withSuppressConnectionHeader(true),
+            connectionOptions().withSuppressContentLengthHeader(true).withContentLengthHeaderOverride(10)
+        ));
+    }
+
+    @Test
+    public void shouldMatchReflectiveEqualsForCookies() {
+        assertParity(Arrays.asList(
+            new Cookies(),
+            new Cookies(),
+            new Cookies().withEntry("name", "value"),
+            new Cookies().withEntry("name", "value"),
+            new Cookies().withEntry("name", "other_value"),
+            new Cookies().withEntry(string("name", true), string("value")),
+            new Cookies().withEntry("name", "value").withEntry("other_name", "value")
+        ));
+    }
+
+    @Test
+    public void shouldMatchReflectiveEqualsForMediaType() {
+        assertParity(Arrays.asList(
+            MediaType.APPLICATION_JSON,
+            MediaType.parse("application/json"),
+            MediaType.APPLICATION_JSON_UTF_8,
+            MediaType.parse("application/json; charset=utf-8"),
+            MediaType.parse("application/json; charset=utf-16"),
+            MediaType.TEXT_PLAIN,
+            MediaType.parse("text/plain; boundary=something"),
+            MediaType.parse(""),
+            MediaType.parse("")
+        ), "toString", "isBlank", "hashCode");
+    }
+
+    @Test
+    public void shouldMatchReflectiveEqualsForNottableStringMultiMap() {
+        assertParity(Arrays.asList(
+            new NottableStringMultiMap(mockServerLogger, false, KeyMatchStyle.SUB_SET, new NottableString[]{string("keyOne"), string("valueOne")}),
+            new NottableStringMultiMap(mockServerLogger, false, KeyMatchStyle.SUB_SET, new NottableString[]{string("keyOne"), string("valueOne")}),
+            new NottableStringMultiMap(mockServerLogger, false, KeyMatchStyle.SUB_SET, new NottableString[]{string("keyOne"), string("valueTwo")}),
+            new NottableStringMultiMap(mockServerLogger, false, KeyMatchStyle.SUB_SET, new NottableString[]{string("keyOne"), string("valueOne"), string("valueTwo")}),
+            new NottableStringMultiMap(mockServerLogger, true, KeyMatchStyle.SUB_SET, new NottableString[]{string("keyOne"), string("valueOne")}),
+            new NottableStringMultiMap(mockServerLogger, false, KeyMatchStyle.MATCHING_KEY, new NottableString[]{string("keyOne"), string("valueOne")}),
+            new NottableStringMultiMap(mockServerLogger, false, KeyMatchStyle.SUB_SET)
+        ), "hashCode");
+    }
+
+    @Test
+    public void shouldMatchReflectiveEqualsForHttpRequest() {
+        assertParity(Arrays.asList(
+            request(),
+            request(),
+            request().withMethod("GET").withPath("/some/path"),
+            request().withMethod("GET").withPath("/some/path"),
+            request().withMethod("POST").withPath("/some/path"),
+            request().withMethod("GET").withPath("/some/path").withHeader("name", "value"),
+            request().withMethod("GET").withPath("/some/path").withHeader("name", "value").withCookie("name", "value"),
+            request().withMethod("GET").withPath("/some/path").withQueryStringParameter("name", "value"),
+            request().withMethod("GET").withPath("/some/path").withBody("some_body"),
+            request().withMethod("GET").withPath("/some/path").withBody("some_body"),
+            request().withMethod("GET").withPath("/some/path").withSecure(true).withKeepAlive(true),
+            request().withMethod("GET").withPath("/some/path").withSocketAddress("localhost", 1080),
+            request().withMethod("GET").withPath("/some/path").withSocketAddress("localhost", 1080),
+            request().withMethod("GET").withPath("/some/path").withSocketAddress("localhost", 1090)
+        ), "hashCode", "logCorrelationId");
+    }
+
+    @Test
+    public void shouldMatchReflectiveEqualsForHttpResponse() {
+        assertParity(Arrays.asList(
+            response(),
+            response(),
+            response().withStatusCode(200).withBody("some_body"),
+            response().withStatusCode(200).withBody("some_body"),
+            response().withStatusCode(404).withBody("some_body"),
+            response().withStatusCode(200).withReasonPhrase("OK"),
+            response().withHeader("name", "value").withCookie("name", "value"),
+            response().withConnectionOptions(connectionOptions().withCloseSocket(true)),
+            response().withConnectionOptions(connectionOptions().withCloseSocket(true)),
+            response().withConnectionOptions(connectionOptions().withCloseSocket(false))
+        ), "hashCode");
+    }
+
+    static void assertParity(List<?> instances, String... excludedFields) {
+        for (Object one : instances) {
+            for (Object two : instances) {
+                boolean reflectiveEquals = new EqualsBuilder()
+                    .setExcludeFields(excludedFields)
+                    .setReflectUpToClass(ObjectWithReflectiveEqualsHashCodeToString.class)
+                    .setTestTransients(false)
+                    .setTestRecursive(false)
+                    .reflectionAppend(one, two)
+                    .isEquals();
+                assertThat("equals for " + one + " and " + two, one.equals(two), is(reflectiveEquals));
+                if (reflectiveEquals) {
+                    assertThat("hashCode for " + one + " and " + two, one.hashCode(), is(two.hashCode()));
+                }
+            }
+        }
+    }
+}
@@ -28,6 +28,28 @@ public class HttpRequestTest {
         assertNotSame(HttpRequest.request(), HttpRequest.request());
     }
 
+    @Test
+    public void shouldOnlyCacheParsedBodyWhileEnabled() {
+        // given
+        HttpRequest httpRequest = request().withBody("{ \"id\": 1 }");
+
+        // then - not cached
+        assertThat(httpRequest.getParsedBody("{ \"id\": 1 }"), not(sameInstance(httpRequest.getParsedBody("{ \"id\": 1 }"))));
+
+        // when
+        httpRequest.withParsedBodyCache(true);
+
+        // then - cached for the same body
+        assertThat(httpRequest.getParsedBody("{ \"id\": 1 }"), sameInstance(httpRequest.getParsedBody("{ \"id\": 1 }")));
+        assertThat(httpRequest.getParsedBody("{ \"id\": 2 }").getBody(), is("{ \"id\": 2 }"));
+
+        // when
+        httpRequest.withParsedBodyCache(false);
+
+        // then - not cached
+        assertThat(httpRequest.getParsedBody("{ \"id\": 2 }"), not(sameInstance(httpRequest.getParsedBody("{ \"id\": 2 }"))));
+    }
+
     @Test
     public void returnsPath() {
         assertEquals(string("somepath"), new HttpRequest().withPath("somepath").getPath());
@@ -104,4 +104,46 @@ public class NottableStringTest {
         assertThat(String.valueOf(NottableString.string("value")), is("value"));
     }
 
+    @Test
+    public void shouldDetectLiteralValues() {
+        assertTrue(string("some_value").isLiteral());
+        assertTrue(string("/some/path").isLiteral());
+        assertTrue(NottableString.not("some_value").isLiteral());
+
+        assertFalse(string("some.*").isLiteral());
+        assertFalse(string("/some/[0-9]+").isLiteral());
+        assertFalse(string("some|other").isLiteral());
+        assertFalse(string("some\\d").isLiteral());
+        assertFalse(string("/some/file.txt").isLiteral());
+    }
+
+    @Test
+    public void shouldMatchLiteralValues() {
+        assertTrue(string("some_value").matches("some_value"));
+        assertFalse(string("some_value").matches("SOME_VALUE"));
+        assertFalse(string("some_value").matches("some_value_suffix"));
+
+        assertTrue(string("some_value").matchesIgnoreCase("SOME_VALUE"));
+        assertFalse(string("some_value").matchesIgnoreCase("other_value"));
+    }
+
+    @Test
+    public void shouldMatchRegexValues() {
+        assertTrue(string("some_[a-z]+").matches("some_value"));
+        assertFalse(string("some_[a-z]+").matches("SOME_VALUE"));
+
+        assertTrue(string("some_[a-z]+").matchesIgnoreCase("SOME_VALUE"));
+        assertTrue(string("SOME_[A-Z]+").matchesIgnoreCase("some_value"));
+        assertFalse(string("some_[a-z]+").matchesIgnoreCase("some_1"));
+    }
+
+    @Test
+    public void shouldMatchRegexValuesForDifferentInstancesWithSameValue() {
+        for (int i = 0; i < 10; i++) {
+            assertTrue(string("some_[a-z]+").matches("some_value"));
+            assertTrue(string("some_[a-z]+").matchesIgnoreCase("SOME_VALUE"));
+            assertFalse(string("some_[a-z]+").matchesIgnoreCase("some_1"));
+        }
+    }
+
 }
@@ -13,9 +13,11 @@ import org.mockserver.scheduler.Scheduler;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
-import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockserver.character.Character.NEW_LINE;
 import static org.mockserver.mock.listeners.MockServerMatcherNotifier.Cause.API;
@@ -585,4 +587,172 @@ public class ExpectationFileSystemPersistenceTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldAppendChangesToJournalAndCompactOnStop() throws Exception {
+        // given
+        String persistedExpectationsPath = ConfigurationProperties.persistedExpectationsPath();
+        ConfigurationProperties.persistExpectations(true);
+        ConfigurationProperties.persistedExpectationsJournal(true);
+        ExpectationFileSystemPersistence expectationFileSystemPersistence = null;
+        try {
+            File persistedExpectations = File.createTempFile("persistedExpectations", ".json");
+            File journal = new File(persistedExpectations.getAbsolutePath() + ExpectationFileSystemPersistence.JOURNAL_SUFFIX);
+            journal.deleteOnExit();
+            ConfigurationProperties.persistedExpectationsPath(persistedExpectations.getAbsolutePath());
+            expectationFileSystemPersistence = new ExpectationFileSystemPersistence(mockServerLogger, requestMatchers);
+
+            // when
+            requestMatchers.add(new Expectation(
+                request()
+                    .withPath("/simpleFirst")
+            )
+                .withId("one")
+                .thenRespond(
+                    response()
+                        .withBody("some first response")
+                ), API);
+            requestMatchers.add(new Expectation(
+                request()
+                    .withPath("/simpleSecond")
+            )
+                .withId("two")
+                .thenRespond(
+                    response()
+                        .withBody("some second response")
+                ), API);
+            MILLISECONDS.sleep(1500);
+            requestMatchers.clear(
+                request()
+                    .withPath("/simpleSecond")
+            );
+            MILLISECONDS.sleep(1500);
+
+            // then
+            List<String> journalEntries = Files.readAllLines(journal.toPath(), StandardCharsets.UTF_8);
+            assertThat(journalEntries.size(), is(3));
+            assertThat(journalEntries.get(0), startsWith("{\"upsert\":{\"id\":\"one\""));
+            assertThat(journalEntries.get(1), startsWith("{\"upsert\":{\"id\":\"two\""));
+            assertThat(journalEntries.get(2), is("{\"remove\":\"two\"}"));
+            assertThat(new String(Files.readAllBytes(persistedExpectations.toPath()), StandardCharsets.UTF_8), is(""));
+
+            // when
+            expectationFileSystemPersistence.stop();
+            expectationFileSystemPersistence = null;
+
+            // then
+            String persistedFileContents = new String(Files.readAllBytes(persistedExpectations.toPath()), StandardCharsets.UTF_8);
+            assertThat(persistedFileContents, containsString("\"id\" : \"one\""));
+            assertThat(persistedFileContents, not(containsString("\"id\" : \"two\"")));
+            assertThat(journal.length(), is(0L));
+        } finally {
+            ConfigurationProperties.persistedExpectationsPath(persistedExpectationsPath);
+            ConfigurationProperties.persistExpectations(false);
+            ConfigurationProperties.persistedExpectationsJournal(false);
+            if (expectationFileSystemPersistence != null) {
+                expectationFileSystemPersistence.stop();
+            }
+        }
+    }
+
+    @Test
+    public void shouldWritePendingChangesOnStop() throws Exception {
+        // given
+        String persistedExpectationsPath = ConfigurationProperties.persistedExpectationsPath();
+        long persistedExpectationsWriteDelay = ConfigurationProperties.persistedExpectationsWriteDelay();
+        ConfigurationProperties.persistExpectations(true);
+        ConfigurationProperties.persistedExpectationsJournal(true);
+        ConfigurationProperties.persistedExpectationsWriteDelay(TimeUnit.MINUTES.toMillis(1));
+        ExpectationFileSystemPersistence expectationFileSystemPersistence = null;
+        try {
+            File persistedExpectations = File.createTempFile("persistedExpectations", ".json");
+            File journal = new File(persistedExpectations.getAbsolutePath() + ExpectationFileSystemPersistence.JOURNAL_SUFFIX);
+            journal.deleteOnExit();
+            ConfigurationProperties.persistedExpectationsPath(persistedExpectations.getAbsolutePath());
+            expectationFileSystemPersistence = new ExpectationFileSystemPersistence(mockServerLogger, requestMatchers);
+            requestMatchers.add(new Expectation(
+                request()
+                    .withPath("/simpleFirst")
+            )
+                .withId("one")
+                .thenRespond(
+                    response()
+                        .withBody("some first response")
+                ), API);
+            MILLISECONDS.sleep(500);
+
+            // when
+            long start = System.currentTimeMillis();
+            expectationFileSystemPersistence.stop();
+            expectationFileSystemPersistence = null;
+
+            // then
+            assertThat(System.currentTimeMillis() - start < TimeUnit.SECONDS.toMillis(30), is(true));
+            String persistedFileContents = new String(Files.readAllBytes(persistedExpectations.toPath()), StandardCharsets.UTF_8);
+            assertThat(persistedFileContents, containsString("\"id\" : \"one\""));
+            assertThat(journal.length(), is(0L));
+        } finally {
+            ConfigurationProperties.persistedExpectationsPath(persistedExpectationsPath);
+            ConfigurationProperties.persistedExpectationsWriteDelay(persistedExpectationsWriteDelay);
+            ConfigurationProperties.persistExpectations(false);
+            ConfigurationProperties.persistedExpectationsJournal(false);
+            if (expectationFileSystemPersistence != null) {
+                expectationFileSystemPersistence.stop();
+            }
+        }
+    }
+
+    @Test
+    public void shouldCompactJournalLeftByPreviousProcessOnStart() throws Exception {
+        // given
+        String persistedExpectationsPath = ConfigurationProperties.persistedExpectationsPath();
+        ConfigurationProperties.persistExpectations(true);
+        ConfigurationProperties.persistedExpectationsJournal(true);
+        ExpectationFileSystemPersistence expectationFileSystemPersistence = null;
+        try {
+            File persistedExpectations = File.createTempFile("persistedExpectations", ".json");
+            File journal = new File(persistedExpectations.getAbsolutePath() + ExpectationFileSystemPersistence.JOURNAL_SUFFIX);
+            journal.deleteOnExit();
+            Files.write(persistedExpectations.toPath(), ("[ {" + NEW_LINE +
+                "  \"id\" : \"one\"," + NEW_LINE +
+                "  \"httpRequest\" : {" + NEW_LINE +
+                "    \"path\" : \"/simpleFirst\"" + NEW_LINE +
+                "  }" + NEW_LINE +
+                "}, {" + NEW_LINE +
+                "  \"id\" : \"two\"," + NEW_LINE +
+                "  \"httpRequest\" : {" + NEW_LINE +
+                "    \"path\" : \"/simpleSecond\"" + NEW_LINE +
+                "  }" + NEW_LINE +
+                "} ]").getBytes(StandardCharsets.UTF_8));
+            Files.write(journal.toPath(), ("{\"upsert\":{\"id\":\"three\",\"httpRequest\":{\"path\":\"/simpleThird\"}}}\n" +
+                "{\"remove\":\"one\"}\n" +
+                "{\"upsert\":{\"id\":\"tw").getBytes(StandardCharsets.UTF_8));
+            ConfigurationProperties.persistedExpectationsPath(persistedExpectations.getAbsolutePath());
+
+            // when
+            expectationFileSystemPersistence = new ExpectationFileSystemPersistence(mockServerLogger, requestMatchers);
+
+            // then
+            String expectedFileContents = "[ {" + NEW_LINE +
+                "  \"id\" : \"two\"," + NEW_LINE +
+                "  \"httpRequest\" : {" + NEW_LINE +
+                "    \"path\" : \"/simpleSecond\"" + NEW_LINE +
+                "  }" + NEW_LINE +
+                "}, {" + NEW_LINE +
+                "  \"id\" : \"three\"," + NEW_LINE +
+                "  \"httpRequest\" : {" + NEW_LINE +
+                "    \"path\" : \"/simpleThird\"" + NEW_LINE +
+                "  }" + NEW_LINE +
+                "} ]";
+            assertThat(new String(Files.readAllBytes(persistedExpectations.toPath()), StandardCharsets.UTF_8), is(expectedFileContents));
+            assertThat(journal.length(), is(0L));
+        } finally {
+            ConfigurationProperties.persistedExpectationsPath(persistedExpectationsPath);
+            ConfigurationProperties.persistExpectations(false);
+            ConfigurationProperties.persistedExpectationsJournal(false);
+            if (expectationFileSystemPersistence != null) {
+                expectationFileSystemPersistence.stop();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package org.mockserver.scheduler;
+
+import io.netty.util.Timeout;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.mockserver.logging.MockServerLogger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.core.Is.is;
+import static org.mockserver.model.Delay.milliseconds;
+
+/**
+ * @author jamesdbloom
+ */
+public class SchedulerTest {
+
+    private static final Scheduler scheduler = new Scheduler(new MockServerLogger());
+
+    @AfterClass
+    public static void stopScheduler() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void shouldRunDelayedCommandAfterDelay() throws Exception {
+        // given
+        CompletableFuture<Long> ranAt = new CompletableFuture<>();
+        long start = System.currentTimeMillis();
+
+        // when
+        scheduler.schedule(() -> ranAt.complete(System.currentTimeMillis()), false, milliseconds(100));
+
+        // then
+        assertThat(ranAt.get(5, SECONDS) - start, greaterThanOrEqualTo(100L));
+    }
+
+    @Test
+    public void shouldRunDelayedCommandOnExecutor() throws Exception {
+        // given
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "delayed-executor"));
+        CompletableFuture<String> ranOn = new CompletableFuture<>();
+
+        try {
+            // when
+            scheduler.schedule(() -> ranOn.complete(Thread.currentThread().getName()), false, executor, milliseconds(10));
+
+            // then
+            assertThat(ranOn.get(5, SECONDS), is("delayed-executor"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldRunUndelayedCommandImmediately() {
+        // given
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // when
+        scheduler.schedule(() -> ran.set(true), false);
+
+        // then
+        assertThat(ran.get(), is(true));
+    }
+
+    @Test
+    public void shouldNotRunCancelledTimeout() throws Exception {
+        // given
+        AtomicBoolean cancelledRan = new AtomicBoolean();
+        CompletableFuture<Boolean> ran = new CompletableFuture<>();
+
+        // when
+        Timeout timeout = scheduler.scheduleTimeout(() -> cancelledRan.set(true), 50, MILLISECONDS);
+        timeout.cancel();
+        scheduler.scheduleTimeout(() -> ran.complete(true), 100, MILLISECONDS);
+
+        // then
+        assertThat(ran.get(5, SECONDS), is(true));
+        assertThat(cancelledRan.get(), is(false));
+    }
+}
@@ -2,6 +2,7 @@ package org.mockserver.serialization;
 
 import org.apache.commons.text.StringEscapeUtils;
 import org.junit.Test;
+import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.matchers.TimeToLive;
 import org.mockserver.matchers.Times;
@@ -66,6 +67,86 @@ public class ExpectationSerializerIntegrationTest {
         }, expectations);
     }
 
+    @Test
+    public void shouldDeserializeArrayInSinglePassWhenLazyValidationEnabled() {
+        boolean originalLazyExpectationValidation = ConfigurationProperties.lazyExpectationValidation();
+        try {
+            // given
+            String requestBytes = ("[" + NEW_LINE +
+                "  {" + NEW_LINE +
+                "    \"id\" : \"some_key\"," + NEW_LINE +
+                "    \"priority\" : 10," + NEW_LINE +
+                "    \"httpRequest\": {" + NEW_LINE +
+                "        \"path\": \"somePath\"" + NEW_LINE +
+                "    }," + NEW_LINE +
+                "    \"httpResponse\": {" + NEW_LINE +
+                "        \"body\": \"someBody\"" + NEW_LINE +
+                "    }" + NEW_LINE +
+                "  }," + NEW_LINE +
+                "  {" + NEW_LINE +
+                "    \"id\" : \"some_other_key\"," + NEW_LINE +
+                "    \"httpRequest\": {" + NEW_LINE +
+                "        \"path\": \"someOtherPath\"" + NEW_LINE +
+                "    }," + NEW_LINE +
+                "    \"httpForward\": {" + NEW_LINE +
+                "        \"host\": \"localhost\"" + NEW_LINE +
+                "    }" + NEW_LINE +
+                "  }" + NEW_LINE +
+                "]");
+            Expectation[] validatedExpectations = new ExpectationSerializer(new MockServerLogger()).deserializeArray(requestBytes, false);
+
+            // when
+            ConfigurationProperties.lazyExpectationValidation(true);
+            Expectation[] expectations = new ExpectationSerializer(new MockServerLogger()).deserializeArray(requestBytes, false);
+
+            // then
+            assertThat(expectations.length, is(2));
+            assertArrayEquals(validatedExpectations, expectations);
+        } finally {
+            ConfigurationProperties.lazyExpectationValidation(originalLazyExpectationValidation);
+        }
+    }
+
+    @Test
+    public void shouldValidateArrayWhenLazyValidationEnabledAndExpectationHasMultipleActions() {
+        boolean originalLazyExpectationValidation = ConfigurationProperties.lazyExpectationValidation();
+        try {
+            // given
+            String requestBytes = ("[" + NEW_LINE +
+                "  {" + NEW_LINE +
+                "    \"httpRequest\": {" + NEW_LINE +
+                "        \"path\": \"somePath\"" + NEW_LINE +
+                "    }," + NEW_LINE +
+                "    \"httpResponse\": {" + NEW_LINE +
+                "        \"body\": \"someBody\"" + NEW_LINE +
+                "    }," + NEW_LINE +
+                "    \"httpForward\": {" + NEW_LINE +
+                "        \"host\": \"localhost\"" + NEW_LINE +
+                "    }" + NEW_LINE +
+                "  }" + NEW_LINE +
+                "]");
+            String validationError = null;
+            try {
+                new ExpectationSerializer(new MockServerLogger()).deserializeArray(requestBytes, false);
+                fail("expected exception to be thrown");
+            } catch (IllegalArgumentException iae) {
+                validationError = iae.getMessage();
+            }
+
+            // when
+            ConfigurationProperties.lazyExpectationValidation(true);
+            try {
+                new ExpectationSerializer(new MockServerLogger()).deserializeArray(requestBytes, false);
+                fail("expected exception to be thrown");
+            } catch (IllegalArgumentException iae) {
+                // then
+                assertThat(iae.getMessage(), is(validationError));
+            }
+        } finally {
+            ConfigurationProperties.lazyExpectationValidation(originalLazyExpectationValidation);
+        }
+    }
+
     @Test
     public void shouldValidateSingleObjectForArray() {
         // given
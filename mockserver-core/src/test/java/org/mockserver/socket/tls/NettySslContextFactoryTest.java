@@ -0,0 +1,106 @@
+package org.mockserver.socket.tls;
+
+import io.netty.channel.DefaultEventLoop;
+import io.netty.handler.ssl.SslContext;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.logging.MockServerLogger;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * @author jamesdbloom
+ */
+public class NettySslContextFactoryTest {
+
+    private static EventExecutor eventExecutor;
+
+    @BeforeClass
+    public static void createEventExecutor() {
+        eventExecutor = new DefaultEventLoop();
+    }
+
+    @AfterClass
+    public static void shutdownEventExecutor() {
+        eventExecutor.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void shouldCreateServerSslContextForHostnameAndAddSubjectAlternativeName() throws Exception {
+        // given
+        NettySslContextFactory nettySslContextFactory = new NettySslContextFactory(new MockServerLogger());
+
+        // when
+        Future<SslContext> sslContextFuture = nettySslContextFactory.createServerSslContext("sni.host.one", eventExecutor);
+
+        // then
+        assertThat(sslContextFuture.get(30, TimeUnit.SECONDS), notNullValue());
+        assertThat(ConfigurationProperties.containsSslSubjectAlternativeName("sni.host.one"), is(true));
+    }
+
+    @Test
+    public void shouldReuseServerSslContextForSameHostname() throws Exception {
+        // given
+        NettySslContextFactory nettySslContextFactory = new NettySslContextFactory(new MockServerLogger());
+        SslContext sslContext = nettySslContextFactory.createServerSslContext("sni.host.two", eventExecutor).get(30, TimeUnit.SECONDS);
+
+        // when
+        Future<SslContext> sslContextFuture = nettySslContextFactory.createServerSslContext("SNI.HOST.TWO", eventExecutor);
+
+        // then
+        assertThat(sslContextFuture.isDone(), is(true));
+        assertThat(sslContextFuture.get(), sameInstance(sslContext));
+    }
+
+    @Test
+    public void shouldCreateServerSslContextWithoutHostname() throws Exception {
+        // given
+        NettySslContextFactory nettySslContextFactory = new NettySslContextFactory(new MockServerLogger());
+
+        // when
+        Future<SslContext> sslContextFuture = nettySslContextFactory.createServerSslContext(null, eventExecutor);
+
+        // then
+        assertThat(sslContextFuture.get(30, TimeUnit.SECONDS), notNullValue());
+    }
+
+    @Test
+    public void shouldRecreateServerSslContextWithoutHostnameWhenSubjectAlternativeNameAdded() throws Exception {
+        // given
+        NettySslContextFactory nettySslContextFactory = new NettySslContextFactory(new MockServerLogger());
+        SslContext sslContext = nettySslContextFactory.createServerSslContext(null, eventExecutor).get(30, TimeUnit.SECONDS);
+
+        // when
+        ConfigurationProperties.addSubjectAlternativeName("added.after.context.created");
+        SslContext updatedSslContext = nettySslContextFactory.createServerSslContext(null, eventExecutor).get(30, TimeUnit.SECONDS);
+
+        // then
+        assertThat(updatedSslContext, not(sameInstance(sslContext)));
+        assertThat(nettySslContextFactory.createServerSslContext(null, eventExecutor).get(30, TimeUnit.SECONDS), sameInstance(updatedSslContext));
+    }
+
+    @Test
+    public void shouldPreWarmServerSslContexts() throws Exception {
+        // given
+        NettySslContextFactory nettySslContextFactory = new NettySslContextFactory(new MockServerLogger());
+
+        // when
+        nettySslContextFactory.preWarmServerSslContexts("pre.warm.one", "pre.warm.two");
+
+        // then
+        assertThat(ConfigurationProperties.containsSslSubjectAlternativeName("pre.warm.one"), is(true));
+        assertThat(ConfigurationProperties.containsSslSubjectAlternativeName("pre.warm.two"), is(true));
+        SslContext sslContext = nettySslContextFactory.createServerSslContext("pre.warm.one", eventExecutor).get(30, TimeUnit.SECONDS);
+        assertThat(sslContext, notNullValue());
+    }
+}
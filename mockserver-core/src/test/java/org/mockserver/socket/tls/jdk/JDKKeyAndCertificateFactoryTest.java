@@ -1,11 +1,13 @@
 package org.mockserver.socket.tls.jdk;
 
 import org.junit.Test;
+import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.socket.tls.KeyAndCertificateFactory;
 
 import java.math.BigInteger;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -30,4 +32,20 @@ public class JDKKeyAndCertificateFactoryTest {
         assertTrue("The client cert serial number is non-negative",
             keyAndCertificateFactory.x509Certificate().getSerialNumber().compareTo(BigInteger.ZERO) > 0);
     }
+
+    @Test
+    public void shouldCreateEllipticCurveLeafCertSignedByCA() throws Exception {
+        boolean originalUseEllipticCurveKeys = ConfigurationProperties.useEllipticCurveKeysForLeafCertificates();
+        try {
+            ConfigurationProperties.useEllipticCurveKeysForLeafCertificates(true);
+
+            keyAndCertificateFactory.buildAndSavePrivateKeyAndX509Certificate();
+
+            assertEquals("EC", keyAndCertificateFactory.x509Certificate().getPublicKey().getAlgorithm());
+            assertEquals("EC", keyAndCertificateFactory.privateKey().getAlgorithm());
+            keyAndCertificateFactory.x509Certificate().verify(keyAndCertificateFactory.certificateAuthorityX509Certificate().getPublicKey());
+        } finally {
+            ConfigurationProperties.useEllipticCurveKeysForLeafCertificates(originalUseEllipticCurveKeys);
+        }
+    }
 }
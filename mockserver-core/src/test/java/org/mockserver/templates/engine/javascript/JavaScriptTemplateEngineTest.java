@@ -171,6 +171,45 @@ public class JavaScriptTemplateEngineTest {
         }
     }
 
+    @Test
+    public void shouldHandleDifferentTemplatesRepeatedlyInSameThread() {
+        // given
+        String firstTemplate = "" +
+            "return {" + NEW_LINE +
+            "    'statusCode': 200," + NEW_LINE +
+            "    'body': 'first ' + request.path" + NEW_LINE +
+            "};";
+        String secondTemplate = "" +
+            "return {" + NEW_LINE +
+            "    'statusCode': 201," + NEW_LINE +
+            "    'body': 'second ' + request.path" + NEW_LINE +
+            "};";
+        JavaScriptTemplateEngine javaScriptTemplateEngine = new JavaScriptTemplateEngine(logFormatter);
+
+        for (int i = 0; i < 3; i++) {
+            // when
+            HttpResponse firstHttpResponse = javaScriptTemplateEngine.executeTemplate(firstTemplate, request().withPath("/somePath" + i), HttpResponseDTO.class);
+            HttpResponse secondHttpResponse = javaScriptTemplateEngine.executeTemplate(secondTemplate, request().withPath("/someOtherPath" + i), HttpResponseDTO.class);
+
+            // then
+            if (new ScriptEngineManager().getEngineByName("nashorn") != null) {
+                assertThat(firstHttpResponse, is(
+                    response()
+                        .withStatusCode(200)
+                        .withBody("first /somePath" + i)
+                ));
+                assertThat(secondHttpResponse, is(
+                    response()
+                        .withStatusCode(201)
+                        .withBody("second /someOtherPath" + i)
+                ));
+            } else {
+                assertThat(firstHttpResponse, nullValue());
+                assertThat(secondHttpResponse, nullValue());
+            }
+        }
+    }
+
     @Test
     public void shouldHandleHttpRequestsWithJavaScriptTemplateSecondExample() {
         // given
@@ -279,6 +279,38 @@ public class VelocityTemplateEngineTest {
         );
     }
 
+    @Test
+    public void shouldHandleDifferentTemplatesRepeatedlyInSameThread() {
+        // given
+        String firstTemplate = "{" + NEW_LINE +
+            "    'statusCode': 200," + NEW_LINE +
+            "    'body': \"first $!request.path\"" + NEW_LINE +
+            "}";
+        String secondTemplate = "{" + NEW_LINE +
+            "    'statusCode': 201," + NEW_LINE +
+            "    'body': \"second $!request.path\"" + NEW_LINE +
+            "}";
+        VelocityTemplateEngine velocityTemplateEngine = new VelocityTemplateEngine(logFormatter);
+
+        for (int i = 0; i < 3; i++) {
+            // when
+            HttpResponse firstHttpResponse = velocityTemplateEngine.executeTemplate(firstTemplate, request().withPath("/somePath" + i), HttpResponseDTO.class);
+            HttpResponse secondHttpResponse = velocityTemplateEngine.executeTemplate(secondTemplate, request().withPath("/someOtherPath" + i), HttpResponseDTO.class);
+
+            // then
+            assertThat(firstHttpResponse, is(
+                response()
+                    .withStatusCode(200)
+                    .withBody("first /somePath" + i)
+            ));
+            assertThat(secondHttpResponse, is(
+                response()
+                    .withStatusCode(201)
+                    .withBody("second /someOtherPath" + i)
+            ));
+        }
+    }
+
     @Test
     public void shouldHandleInvalidVelocityTemplate() {
         // given
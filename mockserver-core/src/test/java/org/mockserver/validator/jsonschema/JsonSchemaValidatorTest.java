@@ -1,11 +1,16 @@
 package org.mockserver.validator.jsonschema;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.serialization.ObjectMapperFactory;
 
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -68,6 +73,32 @@ public class JsonSchemaValidatorTest {
         assertThat(new JsonSchemaValidator(mockServerLogger, JSON_SCHEMA).isValid("{arrayField: [ \"one\" ], enumField: \"one\"}"), is(""));
     }
 
+    @Test
+    public void shouldMatchParsedJsonWithoutReport() throws IOException {
+        // given
+        JsonSchemaValidator jsonSchemaValidator = new JsonSchemaValidator(mockServerLogger, JSON_SCHEMA);
+        ObjectMapper objectMapper = ObjectMapperFactory.createObjectMapper();
+
+        // then
+        assertThat(jsonSchemaValidator.isValidInstance(objectMapper.readTree("{arrayField: [ \"one\" ], enumField: \"one\"}")), is(true));
+        assertThat(jsonSchemaValidator.isValidInstance(objectMapper.readTree("{arrayField: [ \"one\" ], enumField: \"four\"}")), is(false));
+        assertThat(jsonSchemaValidator.isValidInstance(objectMapper.readTree("{}")), is(false));
+    }
+
+    @Test
+    public void shouldReportSameErrorsForParsedJson() throws IOException {
+        // given
+        JsonSchemaValidator jsonSchemaValidator = new JsonSchemaValidator(mockServerLogger, JSON_SCHEMA);
+
+        // then
+        assertThat(jsonSchemaValidator.isValid(ObjectMapperFactory.createObjectMapper().readTree("{}"), true), is(jsonSchemaValidator.isValid("{}")));
+    }
+
+    @Test
+    public void shouldShareCompiledSchemaForSameSchema() {
+        assertThat(new JsonSchemaValidator(mockServerLogger, JSON_SCHEMA).getJsonSchema(), sameInstance(new JsonSchemaValidator(mockServerLogger, JSON_SCHEMA).getJsonSchema()));
+    }
+
     @Test
     public void shouldHandleJsonMissingRequiredFields() {
         // then
@@ -0,0 +1,573 @@
+package org.mockserver.dashboard;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelOutboundInvoker;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import org.mockserver.dashboard.model.DashboardLogEntryDTO;
+import org.mockserver.dashboard.model.DashboardLogEntryDTOGroup;
+import org.mockserver.dashboard.serializers.*;
+import org.mockserver.log.MockServerEventLog;
+import org.mockserver.log.model.LogEntry;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.mock.HttpState;
+import org.mockserver.mock.RequestMatchers;
+import org.mockserver.mock.listeners.MockServerLogListener;
+import org.mockserver.mock.listeners.MockServerMatcherListener;
+import org.mockserver.mock.listeners.MockServerMatcherNotifier;
+import org.mockserver.model.OpenAPIDefinition;
+import org.mockserver.model.RequestDefinition;
+import org.mockserver.scheduler.Scheduler;
+import org.mockserver.serialization.ObjectMapperFactory;
+import org.mockserver.serialization.model.ExpectationDTO;
+import org.slf4j.event.Level;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.mockserver.configuration.ConfigurationProperties.maxFutureTimeout;
+import static org.mockserver.log.model.LogEntry.LogMessageType.*;
+
+/**
+ * Builds the dashboard UI model when the event log or expectations change and pushes it to every connected dashboard
+ * client, there is one publisher per {@link HttpState} shared by all dashboard connections.
+ * <p>
+ * Changes are coalesced so the model is rebuilt at most once per second, and only once for each distinct request
+ * filter, the serialised message for a filter is shared by every client with that filter and pretty print setting.
+ * <p>
+ * The model is built on a single thread which exits when idle, the publisher is stopped with the server.
+ * <p>
+ * Clients that send only a request filter (i.e. the bundled UI) receive the full model each time it changes.  Clients
+ * that send {"delta": true, "sequence": n, "requestFilter": {...}} receive a sequence numbered delta containing, for
+ * each section, the keys of all items in display order and, by key, only the items added or changed since sequence n,
+ * if the model for sequence n is no longer held the delta is a reset (i.e. "reset": true) containing every item.
+ *
+ * @author jamesdbloom
+ */
+public class DashboardUpdatePublisher implements MockServerLogListener, MockServerMatcherListener {
+
+    static final int UI_UPDATE_ITEM_LIMIT = 100;
+    private static final long MIN_UPDATE_INTERVAL_MILLIS = 1000;
+    private static final long IDLE_THREAD_TIMEOUT_MILLIS = 60000;
+    private static final String[] SECTIONS = {"logMessages", "activeExpectations", "recordedRequests", "proxiedRequests"};
+    private static final Predicate<DashboardLogEntryDTO> recordedRequestsPredicate = input
+        -> input.getType() == RECEIVED_REQUEST;
+    private static final Predicate<DashboardLogEntryDTO> proxiedRequestsPredicate = input
+        -> input.getType() == FORWARDED_REQUEST;
+    private static final Map<HttpState, DashboardUpdatePublisher> publishers = new WeakHashMap<>();
+    private final MockServerLogger mockServerLogger;
+    private final MockServerEventLog mockServerEventLog;
+    private final RequestMatchers requestMatchers;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter objectWriter;
+    private final ObjectWriter prettyPrintObjectWriter;
+    private final Map<ChannelOutboundInvoker, Client> clients = new ConcurrentHashMap<>();
+    // only accessed by the executor thread
+    private final Map<RequestDefinition, Model> models = new HashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicBoolean updatePending = new AtomicBoolean();
+    private final ScheduledThreadPoolExecutor executor;
+    private volatile long lastPublished;
+    private boolean listening;
+
+    private DashboardUpdatePublisher(MockServerLogger mockServerLogger, MockServerEventLog mockServerEventLog, RequestMatchers requestMatchers) {
+        this.mockServerLogger = mockServerLogger;
+        this.mockServerEventLog = mockServerEventLog;
+        this.requestMatchers = requestMatchers;
+        this.objectMapper = ObjectMapperFactory.createObjectMapper(
+            new DashboardLogEntryDTOSerializer(),
+            new DashboardLogEntryDTOGroupSerializer(),
+            new DescriptionSerializer(),
+            new ThrowableSerializer()
+        );
+        this.objectWriter = objectMapper.writer();
+        this.prettyPrintObjectWriter = objectMapper.writerWithDefaultPrettyPrinter();
+        this.executor = new ScheduledThreadPoolExecutor(1, new Scheduler.SchedulerThreadFactory("DashboardUpdates"));
+        this.executor.setKeepAliveTime(IDLE_THREAD_TIMEOUT_MILLIS, MILLISECONDS);
+        this.executor.allowCoreThreadTimeOut(true);
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    public static DashboardUpdatePublisher publisher(HttpState httpState) {
+        synchronized (publishers) {
+            return publishers.computeIfAbsent(httpState, state -> new DashboardUpdatePublisher(state.getMockServerLogger(), state.getMockServerLog(), state.getRequestMatchers()));
+        }
+    }
+
+    /**
+     * Stops the publisher for the {@link HttpState}, if any, so it no longer listens for changes and its thread exits
+     */
+    public static void stop(HttpState httpState) {
+        DashboardUpdatePublisher publisher;
+        synchronized (publishers) {
+            publisher = publishers.remove(httpState);
+            if (publisher != null && publisher.listening) {
+                publisher.mockServerEventLog.unregisterListener(publisher);
+                publisher.requestMatchers.unregisterListener(publisher);
+                publisher.listening = false;
+            }
+        }
+        if (publisher != null) {
+            publisher.clients.clear();
+            publisher.execute(() -> {
+                publisher.models.values().forEach(Model::release);
+                publisher.models.clear();
+            });
+            publisher.executor.shutdown();
+        }
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Adds or replaces the client and sends it the current model for its request filter
+     *
+     * @param ctx           the channel to send updates to
+     * @param requestFilter the request filter for the model sent to the client
+     * @param delta         true if the client should receive deltas instead of the full model
+     * @param sequence      the sequence of the last delta the client received, or -1 if none
+     * @param prettyPrint   true if the messages sent to the client should be pretty printed
+     */
+    public void addClient(ChannelOutboundInvoker ctx, RequestDefinition requestFilter, boolean delta, long sequence, boolean prettyPrint) {
+        Client client = new Client(requestFilter, delta, sequence, prettyPrint);
+        synchronized (publishers) {
+            if (!listening) {
+                mockServerEventLog.registerListener(this);
+                requestMatchers.registerListener(this);
+                listening = true;
+            }
+            // registered synchronously so a removeClient that runs before the task below can't leave a closed client behind
+            clients.put(ctx, client);
+        }
+        execute(() -> {
+            if (clients.get(ctx) == client) {
+                send(ctx, client, model(requestFilter), true);
+            }
+        });
+    }
+
+    public void removeClient(ChannelOutboundInvoker ctx) {
+        if (clients.remove(ctx) != null && clients.isEmpty()) {
+            synchronized (publishers) {
+                if (listening && clients.isEmpty()) {
+                    mockServerEventLog.unregisterListener(this);
+                    requestMatchers.unregisterListener(this);
+                    listening = false;
+                    execute(() -> {
+                        models.values().forEach(Model::release);
+                        models.clear();
+                    });
+                }
+            }
+        }
+    }
+
+    public void sendError(ChannelOutboundInvoker ctx, String error, boolean prettyPrint) {
+        try {
+            ctx.writeAndFlush(new TextWebSocketFrame((prettyPrint ? prettyPrintObjectWriter : objectWriter).writeValueAsString(ImmutableMap.of("error", error))));
+        } catch (JsonProcessingException jpe) {
+            logSerialisationException(jpe);
+        }
+    }
+
+    @Override
+    public void updated(MockServerEventLog mockServerLog) {
+        scheduleUpdate();
+    }
+
+    @Override
+    public void updated(RequestMatchers requestMatchers, MockServerMatcherNotifier.Cause cause) {
+        scheduleUpdate();
+    }
+
+    private void scheduleUpdate() {
+        generation.incrementAndGet();
+        if (updatePending.compareAndSet(false, true)) {
+            long delay = Math.max(0, lastPublished + MIN_UPDATE_INTERVAL_MILLIS - System.currentTimeMillis());
+            try {
+                executor.schedule(this::publish, delay, MILLISECONDS);
+            } catch (RejectedExecutionException ignore) {
+                // only happens when shutting down
+            }
+        }
+    }
+
+    private void execute(Runnable runnable) {
+        try {
+            executor.execute(() -> {
+                try {
+                    runnable.run();
+                } catch (Throwable throwable) {
+                    mockServerLogger.logEvent(
+                        new LogEntry()
+                            .setLogLevel(Level.ERROR)
+                            .setMessageFormat("exception updating dashboard " + throwable.getMessage())
+                            .setThrowable(throwable)
+                    );
+                }
+            });
+        } catch (RejectedExecutionException ignore) {
+            // only happens when shutting down
+        }
+    }
+
+    @VisibleForTesting
+    void publishAndWait() throws Exception {
+        executor.submit(this::publish).get(maxFutureTimeout(), MILLISECONDS);
+    }
+
+    private void publish() {
+        updatePending.set(false);
+        lastPublished = System.currentTimeMillis();
+        try {
+            Map<RequestDefinition, List<Map.Entry<ChannelOutboundInvoker, Client>>> clientsByFilter = clients
+                .entrySet()
+                .stream()
+                .collect(Collectors.groupingBy(entry -> entry.getValue().requestFilter));
+            for (Iterator<Map.Entry<RequestDefinition, Model>> iterator = models.entrySet().iterator(); iterator.hasNext(); ) {
+                Map.Entry<RequestDefinition, Model> model = iterator.next();
+                if (!clientsByFilter.containsKey(model.getKey())) {
+                    model.getValue().release();
+                    iterator.remove();
+                }
+            }
+            for (Map.Entry<RequestDefinition, List<Map.Entry<ChannelOutboundInvoker, Client>>> filterClients : clientsByFilter.entrySet()) {
+                Model model = model(filterClients.getKey());
+                for (Map.Entry<ChannelOutboundInvoker, Client> client : filterClients.getValue()) {
+                    send(client.getKey(), client.getValue(), model, false);
+                }
+            }
+        } catch (Throwable throwable) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(Level.ERROR)
+                    .setMessageFormat("exception updating dashboard " + throwable.getMessage())
+                    .setThrowable(throwable)
+            );
+        }
+    }
+
+    private void send(ChannelOutboundInvoker ctx, Client client, Model model, boolean force) {
+        if (model.sections != null && (force || client.sequence != model.sequence)) {
+            Model.Messages messages = model.messages(client.prettyPrint);
+            ByteBuf message;
+            if (!client.delta) {
+                message = messages.fullMessage();
+            } else if (client.sequence >= 0 && client.sequence == model.previousSequence) {
+                message = messages.deltaMessage();
+            } else if (client.sequence >= 0 && client.sequence == model.sequence) {
+                message = messages.emptyDeltaMessage();
+            } else {
+                message = messages.resetMessage();
+            }
+            client.sequence = model.sequence;
+            if (message != null) {
+                // each client is sent a duplicate of the same encoded message
+                ctx.writeAndFlush(new TextWebSocketFrame(message.retainedDuplicate()));
+            }
+        }
+    }
+
+    private Model model(RequestDefinition requestFilter) {
+        Model model = models.computeIfAbsent(requestFilter, key -> new Model());
+        long currentGeneration = generation.get();
+        if (model.generation != currentGeneration || model.sections == null) {
+            Map<String, LinkedHashMap<String, JsonNode>> sections = buildSections(requestFilter);
+            model.generation = currentGeneration;
+            if (sections != null && !sections.equals(model.sections)) {
+                model.update(sections, sequence.incrementAndGet());
+            }
+        }
+        return model;
+    }
+
+    private Map<String, LinkedHashMap<String, JsonNode>> buildSections(RequestDefinition requestFilter) {
+        CompletableFuture<List<List<?>>> sectionsFuture = new CompletableFuture<>();
+        mockServerEventLog
+            .retrieveLogEntriesInReverseForUI(
+                requestFilter,
+                logEntry -> true,
+                DashboardLogEntryDTO::new,
+                reverseLogEventsStream -> {
+                    try {
+                        sectionsFuture.complete(sectionItems(requestFilter, reverseLogEventsStream));
+                    } catch (Throwable throwable) {
+                        sectionsFuture.completeExceptionally(throwable);
+                    }
+                }
+            );
+        try {
+            List<List<?>> sectionItems = sectionsFuture.get(maxFutureTimeout(), MILLISECONDS);
+            Map<String, LinkedHashMap<String, JsonNode>> sections = new LinkedHashMap<>();
+            for (int i = 0; i < SECTIONS.length; i++) {
+                LinkedHashMap<String, JsonNode> items = new LinkedHashMap<>();
+                for (Object item : sectionItems.get(i)) {
+                    JsonNode itemJsonNode = objectMapper.valueToTree(item);
+                    // a log entry with several requests adds several recorded requests with the same key
+                    String key = itemJsonNode.path("key").asText(String.valueOf(items.size()));
+                    for (int duplicate = 1; items.containsKey(key); duplicate++) {
+                        key = itemJsonNode.path("key").asText() + "#" + duplicate;
+                    }
+                    items.put(key, itemJsonNode);
+                }
+                sections.put(SECTIONS[i], items);
+            }
+            return sections;
+        } catch (Throwable throwable) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(Level.ERROR)
+                    .setMessageFormat("exception building dashboard model " + throwable.getMessage())
+                    .setThrowable(throwable)
+            );
+            return null;
+        }
+    }
+
+    private List<List<?>> sectionItems(RequestDefinition httpRequest, Stream<DashboardLogEntryDTO> reverseLogEventsStream) {
+        DescriptionProcessor activeExpectationsDescriptionProcessor = new DescriptionProcessor();
+        DescriptionProcessor logMessagesDescriptionProcessor = new DescriptionProcessor();
+        DescriptionProcessor recordedRequestsDescriptionProcessor = new DescriptionProcessor();
+        DescriptionProcessor proxiedRequestsDescriptionProcessor = new DescriptionProcessor();
+        List<ImmutableMap<String, Object>> activeExpectations = requestMatchers
+            .retrieveRequestMatchers(httpRequest)
+            .stream()
+            .limit(UI_UPDATE_ITEM_LIMIT)
+            .map(requestMatcher -> {
+                JsonNode expectationJsonNode = objectMapper.valueToTree(new ExpectationDTO(requestMatcher.getExpectation()));
+                if (requestMatcher.getExpectation().getHttpRequest() instanceof OpenAPIDefinition) {
+                    JsonNode httpRequestJsonNode = expectationJsonNode.get("httpRequest");
+                    if (httpRequestJsonNode instanceof ObjectNode) {
+                        ((ObjectNode) httpRequestJsonNode).set("requestMatchers", objectMapper.valueToTree(requestMatcher.getHttpRequests()));
+                    }
+                }
+                return ImmutableMap.of(
+                    "key", requestMatcher.getExpectation().getId(),
+                    "description", activeExpectationsDescriptionProcessor.description(requestMatcher.getExpectation().getHttpRequest(), requestMatcher.getExpectation().getId()),
+                    "value", expectationJsonNode
+                );
+            })
+            .collect(Collectors.toList());
+        List<Map<String, Object>> proxiedRequests = new LinkedList<>();
+        List<Map<String, Object>> recordedRequests = new LinkedList<>();
+        List<Object> logMessages = new LinkedList<>();
+        Map<String, DashboardLogEntryDTOGroup> logEntryGroups = new HashMap<>();
+        Iterator<DashboardLogEntryDTO> reverseLogEvents = reverseLogEventsStream.iterator();
+        // stop once every section is full instead of mapping the rest of the event log
+        while (reverseLogEvents.hasNext() && (logMessages.size() < UI_UPDATE_ITEM_LIMIT || recordedRequests.size() < UI_UPDATE_ITEM_LIMIT || proxiedRequests.size() < UI_UPDATE_ITEM_LIMIT)) {
+            DashboardLogEntryDTO logEntryDTO = reverseLogEvents.next();
+            if (logEntryDTO != null) {
+                if (logMessages.size() < UI_UPDATE_ITEM_LIMIT) {
+                    DashboardLogEntryDTO dashboardLogEntryDTO = logEntryDTO.setDescription(logMessagesDescriptionProcessor.description(logEntryDTO));
+                    if (isNotBlank(logEntryDTO.getCorrelationId()) && logEntryDTO.getType() != TRACE) {
+                        DashboardLogEntryDTOGroup logEntryGroup = logEntryGroups.get(logEntryDTO.getCorrelationId());
+                        if (logEntryGroup == null) {
+                            logEntryGroup = new DashboardLogEntryDTOGroup(logMessagesDescriptionProcessor);
+                            logEntryGroups.put(logEntryDTO.getCorrelationId(), logEntryGroup);
+                            logMessages.add(logEntryGroup);
+                        }
+                        logEntryGroup.getLogEntryDTOS().add(dashboardLogEntryDTO);
+                    } else {
+                        logMessages.add(dashboardLogEntryDTO);
+                    }
+                }
+                if (recordedRequestsPredicate.test(logEntryDTO) && recordedRequests.size() < UI_UPDATE_ITEM_LIMIT) {
+                    for (RequestDefinition request : logEntryDTO.getHttpRequests()) {
+                        if (request != null) {
+                            Map<String, Object> entry = new HashMap<>();
+                            entry.put("key", logEntryDTO.getId() + "_request");
+                            Description description = recordedRequestsDescriptionProcessor.description(logEntryDTO.getHttpRequest());
+                            if (description != null) {
+                                entry.put("description", description);
+                            }
+                            entry.put("value", request);
+                            recordedRequests.add(entry);
+                        }
+                    }
+                }
+                if (proxiedRequestsPredicate.test(logEntryDTO) && proxiedRequests.size() < UI_UPDATE_ITEM_LIMIT) {
+                    Map<String, Object> value = new HashMap<>();
+                    if (logEntryDTO.getHttpRequest() != null) {
+                        value.put("httpRequest", logEntryDTO.getHttpRequest());
+                    }
+                    if (logEntryDTO.getHttpResponse() != null) {
+                        value.put("httpResponse", logEntryDTO.getHttpResponse());
+                    }
+                    Map<String, Object> entry = new HashMap<>();
+                    entry.put("key", logEntryDTO.getId() + "_proxied");
+                    Description description = proxiedRequestsDescriptionProcessor.description(logEntryDTO.getHttpRequest());
+                    if (description != null) {
+                        entry.put("description", description);
+                    }
+                    entry.put("value", value);
+                    if (!value.isEmpty()) {
+                        proxiedRequests.add(entry);
+                    }
+                }
+            }
+        }
+        return Arrays.asList(logMessages, activeExpectations, recordedRequests, proxiedRequests);
+    }
+
+    private void logSerialisationException(JsonProcessingException jpe) {
+        mockServerLogger.logEvent(
+            new LogEntry()
+                .setLogLevel(Level.ERROR)
+                .setMessageFormat("exception will serialising UI data " + jpe.getMessage())
+                .setThrowable(jpe)
+        );
+    }
+
+    private static class Client {
+        private final RequestDefinition requestFilter;
+        private final boolean delta;
+        private final boolean prettyPrint;
+        // only accessed by the executor thread
+        private long sequence;
+
+        private Client(RequestDefinition requestFilter, boolean delta, long sequence, boolean prettyPrint) {
+            this.requestFilter = requestFilter;
+            this.delta = delta;
+            this.sequence = sequence;
+            this.prettyPrint = prettyPrint;
+        }
+    }
+
+    /**
+     * The model for a single request filter, with the serialised messages created once and shared by all clients
+     */
+    private class Model {
+        private long generation = -1;
+        private long sequence = -1;
+        private Map<String, LinkedHashMap<String, JsonNode>> sections;
+        private long previousSequence = -1;
+        private Map<String, LinkedHashMap<String, JsonNode>> previousSections;
+        private final Messages messages = new Messages(objectWriter);
+        private final Messages prettyPrintedMessages = new Messages(prettyPrintObjectWriter);
+
+        private void update(Map<String, LinkedHashMap<String, JsonNode>> sections, long sequence) {
+            release();
+            this.previousSections = this.sections;
+            this.previousSequence = this.sequence;
+            this.sections = sections;
+            this.sequence = sequence;
+        }
+
+        private Messages messages(boolean prettyPrint) {
+            return prettyPrint ? prettyPrintedMessages : messages;
+        }
+
+        private void release() {
+            messages.release();
+            prettyPrintedMessages.release();
+        }
+
+        private ObjectNode delta(Map<String, LinkedHashMap<String, JsonNode>> fromSections, boolean reset) {
+            ObjectNode message = objectMapper.createObjectNode();
+            message.put("sequence", sequence);
+            message.put("reset", reset);
+            for (Map.Entry<String, LinkedHashMap<String, JsonNode>> section : sections.entrySet()) {
+                Map<String, JsonNode> fromItems = fromSections.getOrDefault(section.getKey(), new LinkedHashMap<>());
+                ObjectNode sectionNode = message.putObject(section.getKey());
+                ArrayNode keys = sectionNode.putArray("keys");
+                ObjectNode items = sectionNode.putObject("items");
+                for (Map.Entry<String, JsonNode> item : section.getValue().entrySet()) {
+                    keys.add(item.getKey());
+                    if (!item.getValue().equals(fromItems.get(item.getKey()))) {
+                        items.set(item.getKey(), item.getValue());
+                    }
+                }
+            }
+            return message;
+        }
+
+        /**
+         * The messages for the model serialised with one writer
+         */
+        private class Messages {
+            private final ObjectWriter writer;
+            private ByteBuf fullMessage;
+            private ByteBuf deltaMessage;
+            private ByteBuf emptyDeltaMessage;
+            private ByteBuf resetMessage;
+
+            private Messages(ObjectWriter writer) {
+                this.writer = writer;
+            }
+
+            private ByteBuf fullMessage() {
+                if (fullMessage == null) {
+                    ObjectNode message = objectMapper.createObjectNode();
+                    for (Map.Entry<String, LinkedHashMap<String, JsonNode>> section : sections.entrySet()) {
+                        // empty sections are not included, as for any other empty collection
+                        if (!section.getValue().isEmpty()) {
+                            message.putArray(section.getKey()).addAll(section.getValue().values());
+                        }
+                    }
+                    fullMessage = write(message);
+                }
+                return fullMessage;
+            }
+
+            private ByteBuf deltaMessage() {
+                if (deltaMessage == null) {
+                    deltaMessage = write(delta(previousSections, false));
+                }
+                return deltaMessage;
+            }
+
+            private ByteBuf emptyDeltaMessage() {
+                if (emptyDeltaMessage == null) {
+                    emptyDeltaMessage = write(delta(sections, false));
+                }
+                return emptyDeltaMessage;
+            }
+
+            private ByteBuf resetMessage() {
+                if (resetMessage == null) {
+                    resetMessage = write(delta(Collections.emptyMap(), true));
+                }
+                return resetMessage;
+            }
+
+            private void release() {
+                for (ByteBuf message : Arrays.asList(fullMessage, deltaMessage, emptyDeltaMessage, resetMessage)) {
+                    if (message != null) {
+                        message.release();
+                    }
+                }
+                fullMessage = null;
+                deltaMessage = null;
+                emptyDeltaMessage = null;
+                resetMessage = null;
+            }
+
+            private ByteBuf write(ObjectNode message) {
+                try {
+                    return Unpooled.wrappedBuffer(writer.writeValueAsBytes(message));
+                } catch (JsonProcessingException jpe) {
+                    logSerialisationException(jpe);
+                    return null;
+                }
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.concurrent.GlobalEventExecutor;
 import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.dashboard.DashboardUpdatePublisher;
 import org.mockserver.log.MockServerEventLog;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
@@ -64,6 +65,8 @@ public abstract class LifeCycle implements Stoppable {
             }
             new Scheduler.SchedulerThreadFactory("Stop").newThread(() -> {
                 httpState.stop();
+                DashboardUpdatePublisher.stop(httpState);
+                stoppingServer();
                 scheduler.shutdown();
 
                 // Shut down all event loops to terminate all threads.
@@ -229,6 +232,12 @@ public abstract class LifeCycle implements Stoppable {
         }
     }
 
+    /**
+     * Called when stopping before the event loops are shutdown
+     */
+    protected void stoppingServer() {
+    }
+
     public LifeCycle registerListener(ExpectationsListener expectationsListener) {
         httpState.getRequestMatchers().registerListener((requestMatchers, cause) -> {
             if (cause == MockServerMatcherNotifier.Cause.API) {
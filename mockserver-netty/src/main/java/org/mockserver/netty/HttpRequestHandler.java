@@ -12,6 +12,7 @@ import org.mockserver.dashboard.DashboardHandler;
 import org.mockserver.lifecycle.LifeCycle;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.metrics.PrometheusMetricsSerializer;
 import org.mockserver.mock.HttpState;
 import org.mockserver.mock.action.http.HttpActionHandler;
 import org.mockserver.model.HttpRequest;
@@ -36,9 +37,15 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mockserver.configuration.ConfigurationProperties.addSubjectAlternativeName;
 import static org.mockserver.exception.ExceptionHandling.closeOnFlush;
 import static org.mockserver.exception.ExceptionHandling.connectionClosedException;
+import static org.mockserver.metrics.PrometheusMetricsSerializer.PROMETHEUS_TEXT_CONTENT_TYPE;
+import static org.mockserver.mock.HttpState.BIND_PATH;
+import static org.mockserver.mock.HttpState.METRICS_PATH;
 import static org.mockserver.mock.HttpState.PATH_PREFIX;
+import static org.mockserver.mock.HttpState.STATUS_PATH;
+import static org.mockserver.mock.HttpState.STOP_PATH;
 import static org.mockserver.model.HttpResponse.response;
 import static org.mockserver.model.PortBinding.portBinding;
+import static org.mockserver.netty.proxy.relay.RelayConnectHandler.isPassThroughHost;
 import static org.mockserver.netty.unification.PortUnificationHandler.enableSslUpstreamAndDownstream;
 import static org.mockserver.netty.unification.PortUnificationHandler.isSslEnabledUpstream;
 
@@ -53,6 +60,7 @@ public class HttpRequestHandler extends SimpleChannelInboundHandler<HttpRequest>
     private MockServerLogger mockServerLogger;
     private HttpState httpState;
     private PortBindingSerializer portBindingSerializer;
+    private final PrometheusMetricsSerializer prometheusMetricsSerializer = new PrometheusMetricsSerializer();
     private LifeCycle server;
     private HttpActionHandler httpActionHandler;
     private DashboardHandler dashboardHandler = new DashboardHandler();
@@ -91,12 +99,16 @@ public class HttpRequestHandler extends SimpleChannelInboundHandler<HttpRequest>
 
             if (!httpState.handle(request, responseWriter, false)) {
 
-                if (request.matches("PUT", PATH_PREFIX + "/status", "/status") ||
+                if (request.matches("PUT", PATH_PREFIX + STATUS_PATH, STATUS_PATH) ||
                     isNotBlank(ConfigurationProperties.livenessHttpGetPath()) && request.matches("GET", ConfigurationProperties.livenessHttpGetPath())) {
 
                     responseWriter.writeResponse(request, OK, portBindingSerializer.serialize(portBinding(server.getLocalPorts())), "application/json");
 
-                } else if (request.matches("PUT", PATH_PREFIX + "/bind", "/bind")) {
+                } else if (request.matches("GET", PATH_PREFIX + METRICS_PATH) || request.matches("PUT", PATH_PREFIX + METRICS_PATH)) {
+
+                    responseWriter.writeResponse(request, OK, prometheusMetricsSerializer.serialize(), PROMETHEUS_TEXT_CONTENT_TYPE);
+
+                } else if (request.matches("PUT", PATH_PREFIX + BIND_PATH, BIND_PATH)) {
 
                     PortBinding requestedPortBindings = portBindingSerializer.deserialize(request.getBodyAsString());
                     if (requestedPortBindings != null) {
@@ -112,7 +124,7 @@ public class HttpRequestHandler extends SimpleChannelInboundHandler<HttpRequest>
                         }
                     }
 
-                } else if (request.matches("PUT", PATH_PREFIX + "/stop", "/stop")) {
+                } else if (request.matches("PUT", PATH_PREFIX + STOP_PATH, STOP_PATH)) {
 
                     ctx.writeAndFlush(response().withStatusCode(OK.code()));
                     new Scheduler.SchedulerThreadFactory("MockServer Stop").newThread(() -> server.stop()).start();
@@ -135,7 +147,7 @@ public class HttpRequestHandler extends SimpleChannelInboundHandler<HttpRequest>
                         // assume SSL for CONNECT request
                         enableSslUpstreamAndDownstream(ctx.channel());
                         // add Subject Alternative Name for SSL certificate
-                        if (isNotBlank(request.getPath().getValue())) {
+                        if (isNotBlank(request.getPath().getValue()) && !isPassThroughHost(request.getPath().getValue())) {
                             server.getScheduler().submit(() -> addSubjectAlternativeName(request.getPath().getValue()));
                         }
                         String[] hostParts = request.getPath().getValue().split(":");
@@ -5,6 +5,7 @@ import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.WriteBufferWaterMark;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.lifecycle.ExpectationsListener;
 import org.mockserver.lifecycle.LifeCycle;
 import org.mockserver.log.model.LogEntry;
@@ -31,6 +32,7 @@ import static org.mockserver.proxyconfiguration.ProxyConfiguration.proxyConfigur
 public class MockServer extends LifeCycle {
 
     private InetSocketAddress remoteSocket;
+    private HttpActionHandler httpActionHandler;
 
     /**
      * Start the instance using the ports provided
@@ -103,6 +105,8 @@ public class MockServer extends LifeCycle {
         }
 
         NettySslContextFactory nettySslContextFactory = new NettySslContextFactory(mockServerLogger);
+        nettySslContextFactory.preWarmServerSslContexts(ConfigurationProperties.sslPreWarmDomains());
+        httpActionHandler = new HttpActionHandler(getEventLoopGroup(), httpState, proxyConfiguration, nettySslContextFactory);
         serverServerBootstrap = new ServerBootstrap()
             .group(bossGroup, workerGroup)
             .option(ChannelOption.SO_BACKLOG, 1024)
@@ -110,7 +114,7 @@ public class MockServer extends LifeCycle {
             .childOption(ChannelOption.AUTO_READ, true)
             .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
             .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024, 32 * 1024))
-            .childHandler(new MockServerUnificationInitializer(MockServer.this, httpState, new HttpActionHandler(getEventLoopGroup(), httpState, proxyConfiguration, nettySslContextFactory), nettySslContextFactory))
+            .childHandler(new MockServerUnificationInitializer(MockServer.this, httpState, httpActionHandler, nettySslContextFactory))
             .childAttr(REMOTE_SOCKET, remoteSocket)
             .childAttr(PROXYING, remoteSocket != null);
 
@@ -130,6 +134,13 @@ public class MockServer extends LifeCycle {
         startedServer(getLocalPorts());
     }
 
+    @Override
+    protected void stoppingServer() {
+        if (httpActionHandler != null) {
+            httpActionHandler.stop();
+        }
+    }
+
     public InetSocketAddress getRemoteAddress() {
         return remoteSocket;
     }
@@ -3,9 +3,8 @@ package org.mockserver.netty.proxy;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
-import io.netty.channel.ChannelHandler;
-import io.netty.channel.ChannelHandlerContext;
-import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.*;
+import io.netty.util.ReferenceCountUtil;
 import org.mockserver.client.NettyHttpClient;
 import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.log.model.LogEntry;
@@ -17,28 +16,42 @@ import org.slf4j.event.Level;
 
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mockserver.configuration.ConfigurationProperties.binaryProxyRelayEnabled;
 import static org.mockserver.configuration.ConfigurationProperties.maxFutureTimeout;
 import static org.mockserver.exception.ExceptionHandling.closeOnFlush;
 import static org.mockserver.exception.ExceptionHandling.connectionClosedException;
 import static org.mockserver.formatting.StringFormatter.formatBytes;
-import static org.mockserver.log.model.LogEntry.LogMessageType.FORWARDED_REQUEST;
-import static org.mockserver.log.model.LogEntry.LogMessageType.RECEIVED_REQUEST;
+import static org.mockserver.log.model.LogEntry.LogMessageType.*;
 import static org.mockserver.mock.action.http.HttpActionHandler.getRemoteAddress;
 import static org.mockserver.model.BinaryMessage.bytes;
 import static org.mockserver.netty.unification.PortUnificationHandler.isSslEnabledUpstream;
 
 /**
+ * Forwards binary (i.e. non-HTTP) messages to the remote socket, either as a separate request and response for each
+ * message received or, if {@link ConfigurationProperties#binaryProxyRelayEnabled()} is set, by relaying bytes in both
+ * directions over a single upstream connection for the lifetime of the client connection.
+ * <p>
+ * When relaying, reading from each side is paused while the other side isn't writable.
+ *
  * @author jamesdbloom
  */
-@ChannelHandler.Sharable
 public class BinaryHandler extends SimpleChannelInboundHandler<ByteBuf> {
 
+    private static final int MAX_LOGGED_BYTES = 1024;
     private MockServerLogger mockServerLogger;
     private final Scheduler scheduler;
     private final NettyHttpClient httpClient;
+    private final List<ByteBuf> pendingMessages = new ArrayList<>();
+    private InetSocketAddress relayRemoteAddress;
+    private Channel upstreamChannel;
+    private String relayCorrelationId;
+    private long bytesForwarded;
+    private long bytesReturned;
 
     public BinaryHandler(final MockServerLogger mockServerLogger, final Scheduler scheduler, final NettyHttpClient httpClient) {
         super(true);
@@ -49,6 +62,10 @@ public class BinaryHandler extends SimpleChannelInboundHandler<ByteBuf> {
 
     @Override
     protected void channelRead0(ChannelHandlerContext ctx, ByteBuf byteBuf) {
+        if (relayRemoteAddress != null || binaryProxyRelayEnabled() && !httpClient.isProxied() && getRemoteAddress(ctx) != null) {
+            relay(ctx, byteBuf);
+            return;
+        }
         BinaryMessage binaryRequest = bytes(ByteBufUtil.getBytes(byteBuf));
         String logCorrelationId = UUIDService.getUUID();
         mockServerLogger.logEvent(
@@ -57,7 +74,7 @@ public class BinaryHandler extends SimpleChannelInboundHandler<ByteBuf> {
                 .setLogLevel(Level.INFO)
                 .setCorrelationId(logCorrelationId)
                 .setMessageFormat("received binary request:{}")
-                .setArguments(ByteBufUtil.hexDump(binaryRequest.getBytes()))
+                .setArguments(hexDump(byteBuf))
         );
         final InetSocketAddress remoteAddress = getRemoteAddress(ctx);
         if (remoteAddress != null) {
@@ -82,7 +99,7 @@ public class BinaryHandler extends SimpleChannelInboundHandler<ByteBuf> {
                                 .setLogLevel(Level.WARN)
                                 .setCorrelationId(logCorrelationId)
                                 .setMessageFormat("exception " + throwable.getMessage() + " sending hex{}to{}closing connection")
-                                .setArguments(ByteBufUtil.hexDump(binaryRequest.getBytes()), remoteAddress)
+                                .setArguments(hexDump(Unpooled.wrappedBuffer(binaryRequest.getBytes())), remoteAddress)
                                 .setThrowable(throwable)
                         );
                     }
@@ -96,7 +113,7 @@ public class BinaryHandler extends SimpleChannelInboundHandler<ByteBuf> {
                         .setLogLevel(Level.INFO)
                         .setCorrelationId(logCorrelationId)
                         .setMessageFormat("unknown message format{}")
-                        .setArguments(ByteBufUtil.hexDump(binaryRequest.getBytes()))
+                        .setArguments(hexDump(byteBuf))
                 );
             }
             ctx.writeAndFlush(Unpooled.copiedBuffer("unknown message format".getBytes(StandardCharsets.UTF_8)));
@@ -104,11 +121,127 @@ public class BinaryHandler extends SimpleChannelInboundHandler<ByteBuf> {
         }
     }
 
+    private void relay(ChannelHandlerContext ctx, ByteBuf byteBuf) {
+        if (MockServerLogger.isEnabled(Level.DEBUG)) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(Level.DEBUG)
+                    .setCorrelationId(relayCorrelationId)
+                    .setMessageFormat("relaying binary request:{}to:{}")
+                    .setArguments(hexDump(byteBuf), relayRemoteAddress != null ? relayRemoteAddress : getRemoteAddress(ctx))
+            );
+        }
+        bytesForwarded += byteBuf.readableBytes();
+        if (upstreamChannel != null) {
+            upstreamChannel.write(byteBuf.retain());
+            if (!upstreamChannel.isWritable()) {
+                ctx.channel().config().setAutoRead(false);
+            }
+        } else {
+            pendingMessages.add(byteBuf.retain());
+            if (relayRemoteAddress == null) {
+                connectRelay(ctx);
+            }
+        }
+    }
+
+    private void connectRelay(ChannelHandlerContext ctx) {
+        relayRemoteAddress = getRemoteAddress(ctx);
+        relayCorrelationId = UUIDService.getUUID();
+        // pause reading until connected, any message already read is held in pendingMessages
+        ctx.channel().config().setAutoRead(false);
+        httpClient
+            .connectBinary(isSslEnabledUpstream(ctx.channel()), relayRemoteAddress, ctx.channel().eventLoop(), new UpstreamRelayHandler(ctx))
+            .addListener((ChannelFutureListener) future -> {
+                if (future.isSuccess() && !ctx.channel().isActive()) {
+                    releasePendingMessages();
+                    future.channel().close();
+                } else if (future.isSuccess()) {
+                    upstreamChannel = future.channel();
+                    mockServerLogger.logEvent(
+                        new LogEntry()
+                            .setType(RECEIVED_REQUEST)
+                            .setLogLevel(Level.INFO)
+                            .setCorrelationId(relayCorrelationId)
+                            .setMessageFormat("relaying binary connection from:{}to:{}")
+                            .setArguments(ctx.channel().remoteAddress(), relayRemoteAddress)
+                    );
+                    for (ByteBuf pendingMessage : pendingMessages) {
+                        upstreamChannel.write(pendingMessage);
+                    }
+                    pendingMessages.clear();
+                    upstreamChannel.flush();
+                    ctx.channel().config().setAutoRead(upstreamChannel.isWritable());
+                } else {
+                    if (MockServerLogger.isEnabled(Level.WARN)) {
+                        mockServerLogger.logEvent(
+                            new LogEntry()
+                                .setLogLevel(Level.WARN)
+                                .setCorrelationId(relayCorrelationId)
+                                .setMessageFormat("exception " + future.cause().getMessage() + " connecting to{}closing connection")
+                                .setArguments(relayRemoteAddress)
+                                .setThrowable(future.cause())
+                        );
+                    }
+                    releasePendingMessages();
+                    ctx.close();
+                }
+            });
+    }
+
+    private void releasePendingMessages() {
+        pendingMessages.forEach(ReferenceCountUtil::release);
+        pendingMessages.clear();
+    }
+
+    private static String hexDump(ByteBuf byteBuf) {
+        int readableBytes = byteBuf.readableBytes();
+        if (readableBytes > MAX_LOGGED_BYTES) {
+            return ByteBufUtil.hexDump(byteBuf, byteBuf.readerIndex(), MAX_LOGGED_BYTES) + "...(" + readableBytes + " bytes)";
+        } else {
+            return ByteBufUtil.hexDump(byteBuf);
+        }
+    }
+
     @Override
     public void channelReadComplete(ChannelHandlerContext ctx) {
+        if (upstreamChannel != null) {
+            upstreamChannel.flush();
+        }
         ctx.flush();
     }
 
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+        if (upstreamChannel != null) {
+            upstreamChannel.config().setAutoRead(ctx.channel().isWritable());
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        if (upstreamChannel != null) {
+            closeOnFlush(upstreamChannel);
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setType(FORWARDED_REQUEST)
+                    .setLogLevel(Level.INFO)
+                    .setCorrelationId(relayCorrelationId)
+                    .setMessageFormat("closed binary connection to:{}after forwarding:{}bytes and returning:{}bytes")
+                    .setArguments(relayRemoteAddress, bytesForwarded, bytesReturned)
+            );
+            upstreamChannel = null;
+        }
+        releasePendingMessages();
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        releasePendingMessages();
+    }
+
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
         if (connectionClosedException(cause)) {
@@ -121,4 +254,63 @@ public class BinaryHandler extends SimpleChannelInboundHandler<ByteBuf> {
         }
         closeOnFlush(ctx.channel());
     }
+
+    private class UpstreamRelayHandler extends SimpleChannelInboundHandler<ByteBuf> {
+
+        private final ChannelHandlerContext clientCtx;
+
+        private UpstreamRelayHandler(ChannelHandlerContext clientCtx) {
+            super(false);
+            this.clientCtx = clientCtx;
+        }
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, ByteBuf byteBuf) {
+            if (MockServerLogger.isEnabled(Level.DEBUG)) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setLogLevel(Level.DEBUG)
+                        .setCorrelationId(relayCorrelationId)
+                        .setMessageFormat("relaying binary response:{}from:{}")
+                        .setArguments(hexDump(byteBuf), relayRemoteAddress)
+                );
+            }
+            bytesReturned += byteBuf.readableBytes();
+            clientCtx.write(byteBuf);
+            if (!clientCtx.channel().isWritable()) {
+                ctx.channel().config().setAutoRead(false);
+            }
+        }
+
+        @Override
+        public void channelReadComplete(ChannelHandlerContext ctx) {
+            clientCtx.flush();
+        }
+
+        @Override
+        public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+            clientCtx.channel().config().setAutoRead(ctx.channel().isWritable());
+            ctx.fireChannelWritabilityChanged();
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) {
+            closeOnFlush(clientCtx.channel());
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            if (connectionClosedException(cause)) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setType(EXCEPTION)
+                        .setLogLevel(Level.ERROR)
+                        .setCorrelationId(relayCorrelationId)
+                        .setMessageFormat("exception while relaying binary connection to remote host " + relayRemoteAddress)
+                        .setThrowable(cause)
+                );
+            }
+            ctx.close();
+        }
+    }
 }
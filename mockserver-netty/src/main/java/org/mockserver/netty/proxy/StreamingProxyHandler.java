@@ -0,0 +1,380 @@
+package org.mockserver.netty.proxy;
+
+import com.google.common.collect.ImmutableSet;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.*;
+import io.netty.handler.codec.http.*;
+import io.netty.util.ReferenceCountUtil;
+import org.mockserver.client.NettyHttpClient;
+import org.mockserver.log.model.LogEntry;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.mappers.FullHttpRequestToMockServerHttpRequest;
+import org.mockserver.mappers.FullHttpResponseToMockServerHttpResponse;
+import org.mockserver.mock.Expectation;
+import org.mockserver.mock.HttpState;
+import org.mockserver.model.HttpForward;
+import org.mockserver.uuid.UUIDService;
+import org.slf4j.event.Level;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static io.netty.handler.codec.http.HttpHeaderNames.HOST;
+import static io.netty.handler.codec.http.HttpResponseStatus.CONTINUE;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+import static org.mockserver.character.Character.NEW_LINE;
+import static org.mockserver.configuration.ConfigurationProperties.attemptToProxyIfNoMatchingExpectation;
+import static org.mockserver.exception.ExceptionHandling.closeOnFlush;
+import static org.mockserver.exception.ExceptionHandling.connectionClosedException;
+import static org.mockserver.log.model.LogEntry.LogMessageType.*;
+import static org.mockserver.log.model.LogEntryMessages.NO_MATCH_RESPONSE_ERROR_MESSAGE_FORMAT;
+import static org.mockserver.log.model.LogEntryMessages.RECEIVED_REQUEST_MESSAGE_FORMAT;
+import static org.mockserver.mock.HttpState.CONTROL_PLANE_PATHS;
+import static org.mockserver.mock.HttpState.PATH_PREFIX;
+import static org.mockserver.mock.action.http.HttpActionHandler.getRemoteAddress;
+import static org.mockserver.model.HttpResponse.notFoundResponse;
+import static org.mockserver.netty.HttpRequestHandler.LOCAL_HOST_HEADERS;
+import static org.mockserver.netty.HttpRequestHandler.PROXYING;
+import static org.mockserver.netty.unification.PortUnificationHandler.isSslEnabledUpstream;
+
+/**
+ * Streams the body of large requests (i.e. above the body aggregation threshold or chunked) and of their responses
+ * chunk by chunk between the client and the remote host, instead of aggregating them in memory, when the request is
+ * proxied or only matches forward expectations that don't match on the body.
+ * <p>
+ * All other requests are passed on unchanged to be aggregated and handled by the HttpRequestHandler.  Streamed bodies
+ * are not recorded in the event log.
+ *
+ * @author jamesdbloom
+ */
+public class StreamingProxyHandler extends ChannelInboundHandlerAdapter {
+
+    private static final Set<CharSequence> HOP_BY_HOP_HEADERS = ImmutableSet.of(
+        "proxy-connection",
+        HttpHeaderNames.CONNECTION,
+        "keep-alive",
+        HttpHeaderNames.TE,
+        HttpHeaderNames.TRAILER,
+        HttpHeaderNames.PROXY_AUTHORIZATION,
+        HttpHeaderNames.PROXY_AUTHENTICATE,
+        HttpHeaderNames.UPGRADE
+    );
+    private final MockServerLogger mockServerLogger;
+    private final HttpState httpState;
+    private final NettyHttpClient httpClient;
+    private final int bodyAggregationThreshold;
+    private final List<HttpContent> pendingContent = new ArrayList<>();
+    private org.mockserver.model.HttpRequest request;
+    private Expectation expectation;
+    private InetSocketAddress remoteAddress;
+    private Channel upstreamChannel;
+    private boolean streaming;
+    private boolean discarding;
+    private boolean requestComplete;
+    private boolean keepAlive;
+
+    public StreamingProxyHandler(HttpState httpState, NettyHttpClient httpClient, int bodyAggregationThreshold) {
+        this.mockServerLogger = httpState.getMockServerLogger();
+        this.httpState = httpState;
+        this.httpClient = httpClient;
+        this.bodyAggregationThreshold = bodyAggregationThreshold;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (msg instanceof HttpRequest && !(msg instanceof FullHttpRequest) && !streaming && !discarding) {
+            HttpRequest head = (HttpRequest) msg;
+            if (isLargeOrChunked(head) && !isControlPlaneRequest(head) && stream(ctx, head)) {
+                ReferenceCountUtil.release(head);
+                return;
+            }
+        } else if (msg instanceof HttpContent && (streaming || discarding)) {
+            relay(ctx, (HttpContent) msg);
+            return;
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    private boolean isLargeOrChunked(HttpRequest head) {
+        return head.decoderResult().isSuccess()
+            && (HttpUtil.isTransferEncodingChunked(head) || HttpUtil.getContentLength(head, -1L) > bodyAggregationThreshold);
+    }
+
+    private boolean isControlPlaneRequest(HttpRequest head) {
+        String path = new QueryStringDecoder(head.uri()).path();
+        return HttpMethod.CONNECT.equals(head.method())
+            || path.startsWith(PATH_PREFIX)
+            || HttpMethod.PUT.equals(head.method()) && CONTROL_PLANE_PATHS.contains(path);
+    }
+
+    private boolean stream(ChannelHandlerContext ctx, HttpRequest head) {
+        if (httpClient.isProxied() || head.headers().contains(httpState.getUniqueLoopPreventionHeaderName(), httpState.getUniqueLoopPreventionHeaderValue(), true)) {
+            return false;
+        }
+        InetSocketAddress localAddress = ctx.channel().localAddress() instanceof InetSocketAddress ? (InetSocketAddress) ctx.channel().localAddress() : null;
+        org.mockserver.model.HttpRequest request = new FullHttpRequestToMockServerHttpRequest(mockServerLogger, isSslEnabledUpstream(ctx.channel()), localAddress != null ? localAddress.getPort() : null)
+            .mapFullHttpRequestToMockServerRequest(new DefaultFullHttpRequest(head.protocolVersion(), head.method(), head.uri(), Unpooled.EMPTY_BUFFER, head.headers(), EmptyHttpHeaders.INSTANCE));
+        boolean proxying = isProxyingRequest(ctx, request);
+        if (!httpState.canMatchAndForwardWithoutBody(request)) {
+            return false;
+        }
+
+        request.withLogCorrelationId(UUIDService.getUUID());
+        HttpState.setPort(request);
+        mockServerLogger.logEvent(
+            new LogEntry()
+                .setType(RECEIVED_REQUEST)
+                .setLogLevel(Level.INFO)
+                .setCorrelationId(request.getLogCorrelationId())
+                .setHttpRequest(request)
+                .setMessageFormat(RECEIVED_REQUEST_MESSAGE_FORMAT)
+                .setArguments(request)
+        );
+        this.request = request;
+        this.expectation = httpState.firstMatchingExpectation(request);
+        this.keepAlive = HttpUtil.isKeepAlive(head);
+        this.requestComplete = false;
+        HttpRequest upstreamHead = new DefaultHttpRequest(head.protocolVersion(), head.method(), originForm(head.uri()), head.headers().copy());
+        HOP_BY_HOP_HEADERS.forEach(upstreamHead.headers()::remove);
+        boolean secure;
+        if (expectation != null && expectation.getAction() instanceof HttpForward) {
+            HttpForward httpForward = (HttpForward) expectation.getAction();
+            secure = httpForward.getScheme() == HttpForward.Scheme.HTTPS;
+            remoteAddress = new InetSocketAddress(httpForward.getHost(), httpForward.getPort());
+        } else if (expectation == null && proxying) {
+            secure = request.isSecure() != null && request.isSecure();
+            remoteAddress = getRemoteAddress(ctx) != null ? getRemoteAddress(ctx) : request.socketAddressFromHostHeader();
+            upstreamHead.headers().set(httpState.getUniqueLoopPreventionHeaderName(), httpState.getUniqueLoopPreventionHeaderValue());
+        } else {
+            httpState.postProcess(expectation);
+            returnNotFound(ctx, null);
+            discarding = true;
+            return true;
+        }
+        request.withSecure(secure);
+
+        if (HttpUtil.is100ContinueExpected(head)) {
+            // the interim response is sent here so only the final response is relayed from the remote host
+            upstreamHead.headers().remove(HttpHeaderNames.EXPECT);
+            ctx.writeAndFlush(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, CONTINUE, Unpooled.EMPTY_BUFFER));
+        }
+
+        streaming = true;
+        // pause reading until connected, any content already decoded is held in pendingContent
+        ctx.channel().config().setAutoRead(false);
+        httpClient
+            .connect(secure, remoteAddress, ctx.channel().eventLoop(), new UpstreamResponseHandler(ctx))
+            .addListener((ChannelFutureListener) future -> {
+                if (future.isSuccess()) {
+                    upstreamChannel = future.channel();
+                    upstreamChannel.write(upstreamHead);
+                    for (HttpContent httpContent : pendingContent) {
+                        upstreamChannel.write(httpContent);
+                    }
+                    pendingContent.clear();
+                    upstreamChannel.flush();
+                    if (!requestComplete) {
+                        ctx.channel().config().setAutoRead(upstreamChannel.isWritable());
+                    }
+                } else {
+                    pendingContent.forEach(ReferenceCountUtil::release);
+                    pendingContent.clear();
+                    streaming = false;
+                    discarding = !requestComplete;
+                    returnNotFound(ctx, "failed to connect to remote socket while streaming request");
+                    ctx.channel().config().setAutoRead(true);
+                }
+            });
+        return true;
+    }
+
+    private boolean isProxyingRequest(ChannelHandlerContext ctx, org.mockserver.model.HttpRequest request) {
+        if (ctx.channel().attr(PROXYING).get() != null && ctx.channel().attr(PROXYING).get()) {
+            return true;
+        }
+        Set<String> localAddresses = ctx.channel().attr(LOCAL_HOST_HEADERS).get();
+        String hostHeader = request.getFirstHeader(HOST.toString());
+        return attemptToProxyIfNoMatchingExpectation() && !isEmpty(hostHeader) && localAddresses != null && !localAddresses.contains(hostHeader);
+    }
+
+    private static String originForm(String uri) {
+        if (uri.startsWith("http://") || uri.startsWith("https://")) {
+            int pathStart = uri.indexOf('/', uri.indexOf("//") + 2);
+            return pathStart >= 0 ? uri.substring(pathStart) : "/";
+        }
+        return uri;
+    }
+
+    private void relay(ChannelHandlerContext ctx, HttpContent httpContent) {
+        boolean last = httpContent instanceof LastHttpContent;
+        if (discarding) {
+            httpContent.release();
+            discarding = !last;
+        } else {
+            if (upstreamChannel == null) {
+                pendingContent.add(httpContent);
+            } else {
+                upstreamChannel.writeAndFlush(httpContent);
+                if (!upstreamChannel.isWritable()) {
+                    ctx.channel().config().setAutoRead(false);
+                }
+            }
+            if (last) {
+                requestComplete = true;
+                // don't read any pipelined request until the response has been relayed
+                ctx.channel().config().setAutoRead(false);
+            }
+        }
+    }
+
+    private void returnNotFound(ChannelHandlerContext ctx, String error) {
+        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, NOT_FOUND, Unpooled.EMPTY_BUFFER);
+        HttpUtil.setContentLength(response, 0);
+        HttpUtil.setKeepAlive(response, keepAlive);
+        if (MockServerLogger.isEnabled(Level.INFO)) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setType(NO_MATCH_RESPONSE)
+                    .setLogLevel(Level.INFO)
+                    .setCorrelationId(request.getLogCorrelationId())
+                    .setHttpRequest(request)
+                    .setHttpResponse(notFoundResponse())
+                    .setMessageFormat(NO_MATCH_RESPONSE_ERROR_MESSAGE_FORMAT)
+                    .setArguments(error != null ? error : "no expectation matched streamed request", request, notFoundResponse())
+            );
+        }
+        ChannelFuture channelFuture = ctx.writeAndFlush(response);
+        if (!keepAlive) {
+            channelFuture.addListener(ChannelFutureListener.CLOSE);
+        }
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+        if (upstreamChannel != null) {
+            upstreamChannel.config().setAutoRead(ctx.channel().isWritable());
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        if (upstreamChannel != null) {
+            upstreamChannel.close();
+        }
+        pendingContent.forEach(ReferenceCountUtil::release);
+        pendingContent.clear();
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        pendingContent.forEach(ReferenceCountUtil::release);
+        pendingContent.clear();
+    }
+
+    private void responseComplete(ChannelHandlerContext ctx, HttpResponse responseHead, boolean closeConnection) {
+        httpState.postProcess(expectation);
+        org.mockserver.model.HttpResponse response = new FullHttpResponseToMockServerHttpResponse(mockServerLogger)
+            .mapFullHttpResponseToMockServerResponse(new DefaultFullHttpResponse(responseHead.protocolVersion(), responseHead.status(), Unpooled.EMPTY_BUFFER, responseHead.headers(), EmptyHttpHeaders.INSTANCE));
+        mockServerLogger.logEvent(
+            new LogEntry()
+                .setType(FORWARDED_REQUEST)
+                .setLogLevel(Level.INFO)
+                .setCorrelationId(request.getLogCorrelationId())
+                .setHttpRequest(request)
+                .setHttpResponse(response)
+                .setExpectation(request, response)
+                .setMessageFormat("returning streamed response:{}for forwarded request" + NEW_LINE + NEW_LINE + " in json:{}" + NEW_LINE + NEW_LINE + " to:{}")
+                .setArguments(response, request, remoteAddress)
+        );
+        if (upstreamChannel != null) {
+            upstreamChannel.close();
+            upstreamChannel = null;
+        }
+        request = null;
+        expectation = null;
+        remoteAddress = null;
+        streaming = false;
+        requestComplete = false;
+        if (closeConnection) {
+            closeOnFlush(ctx.channel());
+        } else {
+            ctx.channel().config().setAutoRead(true);
+        }
+    }
+
+    private class UpstreamResponseHandler extends ChannelInboundHandlerAdapter {
+
+        private final ChannelHandlerContext clientCtx;
+        private HttpResponse responseHead;
+        private boolean closeConnection;
+        private boolean complete;
+
+        private UpstreamResponseHandler(ChannelHandlerContext clientCtx) {
+            this.clientCtx = clientCtx;
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            if (msg instanceof HttpResponse) {
+                responseHead = (HttpResponse) msg;
+                responseHead.headers().remove(httpState.getUniqueLoopPreventionHeaderName());
+                // responses delimited by the remote host closing the connection can't be kept alive
+                closeConnection = !keepAlive || !HttpUtil.isContentLengthSet(responseHead) && !HttpUtil.isTransferEncodingChunked(responseHead);
+                HOP_BY_HOP_HEADERS.forEach(responseHead.headers()::remove);
+                HttpUtil.setKeepAlive(responseHead, !closeConnection);
+            }
+            if (responseHead != null) {
+                clientCtx.writeAndFlush(msg);
+                if (!clientCtx.channel().isWritable()) {
+                    ctx.channel().config().setAutoRead(false);
+                }
+                if (msg instanceof LastHttpContent) {
+                    complete = true;
+                    responseComplete(clientCtx, responseHead, closeConnection);
+                }
+            } else {
+                ReferenceCountUtil.release(msg);
+            }
+        }
+
+        @Override
+        public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+            if (!requestComplete) {
+                clientCtx.channel().config().setAutoRead(ctx.channel().isWritable());
+            }
+            ctx.fireChannelWritabilityChanged();
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) {
+            if (!complete && clientCtx.channel().isActive()) {
+                if (responseHead == null) {
+                    keepAlive = false;
+                    returnNotFound(clientCtx, "connection closed by remote host while streaming request");
+                } else {
+                    closeOnFlush(clientCtx.channel());
+                }
+            }
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            if (connectionClosedException(cause)) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setType(EXCEPTION)
+                        .setLogLevel(Level.ERROR)
+                        .setCorrelationId(request != null ? request.getLogCorrelationId() : null)
+                        .setMessageFormat("exception while streaming request to remote host " + remoteAddress)
+                        .setThrowable(cause)
+                );
+            }
+            ctx.close();
+        }
+    }
+}
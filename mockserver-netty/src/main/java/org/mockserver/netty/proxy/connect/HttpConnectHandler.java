@@ -10,6 +10,7 @@ import io.netty.handler.codec.http.HttpServerCodec;
 import org.mockserver.lifecycle.LifeCycle;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.HttpRequest;
+import org.mockserver.netty.proxy.StreamingProxyHandler;
 import org.mockserver.netty.proxy.relay.RelayConnectHandler;
 import org.mockserver.codec.MockServerHttpServerCodec;
 
@@ -27,6 +28,7 @@ public final class HttpConnectHandler extends RelayConnectHandler<HttpRequest> {
         ChannelPipeline pipeline = ctx.pipeline();
         removeHandler(pipeline, HttpServerCodec.class);
         removeHandler(pipeline, HttpContentDecompressor.class);
+        removeHandler(pipeline, StreamingProxyHandler.class);
         removeHandler(pipeline, HttpObjectAggregator.class);
         removeHandler(pipeline, MockServerHttpServerCodec.class);
         if (pipeline.get(this.getClass()) != null) {
@@ -0,0 +1,63 @@
+package org.mockserver.netty.proxy.relay;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import org.mockserver.log.model.LogEntry;
+import org.mockserver.logging.MockServerLogger;
+import org.slf4j.event.Level;
+
+import static org.mockserver.exception.ExceptionHandling.closeOnFlush;
+import static org.mockserver.exception.ExceptionHandling.connectionClosedException;
+
+/**
+ * Relays raw bytes from one channel to a peer channel, without decoding, for tunnels to pass through hosts.
+ * <p>
+ * One instance is added to each side of the tunnel, reading is paused while the peer channel isn't writable and
+ * closing either channel closes its peer.
+ *
+ * @author jamesdbloom
+ */
+public class PassThroughRelayHandler extends ChannelInboundHandlerAdapter {
+
+    private final MockServerLogger mockServerLogger;
+    private final Channel peerChannel;
+
+    public PassThroughRelayHandler(MockServerLogger mockServerLogger, Channel peerChannel) {
+        this.mockServerLogger = mockServerLogger;
+        this.peerChannel = peerChannel;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        // flushed on each read as handlers earlier in the client pipeline don't propagate channelReadComplete
+        peerChannel.writeAndFlush(msg);
+        if (!peerChannel.isWritable()) {
+            ctx.channel().config().setAutoRead(false);
+        }
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+        peerChannel.config().setAutoRead(ctx.channel().isWritable());
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        closeOnFlush(peerChannel);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        if (connectionClosedException(cause)) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(Level.ERROR)
+                    .setMessageFormat("exception caught by pass through relay handler -> closing pipeline " + ctx.channel())
+                    .setThrowable(cause)
+            );
+        }
+        closeOnFlush(ctx.channel());
+    }
+}
@@ -11,16 +11,22 @@ import io.netty.handler.codec.http.HttpContentDecompressor;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.ssl.SslHandler;
+import org.apache.commons.lang3.StringUtils;
 import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.lifecycle.LifeCycle;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.LoggingHandler;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.netty.unification.PortUnificationHandler;
 import org.slf4j.event.Level;
 
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.mockserver.exception.ExceptionHandling.connectionClosedException;
 import static org.mockserver.mock.action.http.HttpActionHandler.getRemoteAddress;
 import static org.mockserver.netty.unification.PortUnificationHandler.*;
@@ -32,6 +38,7 @@ public abstract class RelayConnectHandler<T> extends SimpleChannelInboundHandler
     public static final String PROXIED = "PROXIED_";
     public static final String PROXIED_SECURE = PROXIED + "SECURE_";
     public static final String PROXIED_RESPONSE = "PROXIED_RESPONSE_";
+    private static volatile PassThroughHosts passThroughHosts;
     private final LifeCycle server;
     private final MockServerLogger mockServerLogger;
     protected final String host;
@@ -44,8 +51,32 @@ public abstract class RelayConnectHandler<T> extends SimpleChannelInboundHandler
         this.port = port;
     }
 
+    /**
+     * Returns true if the host matches {@link ConfigurationProperties#proxyPassThroughHosts()} so connections to it
+     * should be tunnelled directly instead of being intercepted
+     */
+    public static boolean isPassThroughHost(String host) {
+        if (isBlank(host)) {
+            return false;
+        }
+        String hosts = ConfigurationProperties.proxyPassThroughHosts();
+        if (isBlank(hosts)) {
+            return false;
+        }
+        PassThroughHosts current = passThroughHosts;
+        if (current == null || !current.hosts.equals(hosts)) {
+            current = new PassThroughHosts(hosts);
+            passThroughHosts = current;
+        }
+        return current.pattern.matcher(host.split(":")[0]).matches();
+    }
+
     @Override
     public void channelRead0(final ChannelHandlerContext proxyClientCtx, final T request) {
+        if (getRemoteAddress(proxyClientCtx) == null && isPassThroughHost(host)) {
+            passThrough(proxyClientCtx, request);
+            return;
+        }
         Bootstrap bootstrap = new Bootstrap()
             .group(proxyClientCtx.channel().eventLoop())
             .channel(NioSocketChannel.class)
@@ -53,9 +84,9 @@ public abstract class RelayConnectHandler<T> extends SimpleChannelInboundHandler
                 @Override
                 public void channelActive(final ChannelHandlerContext mockServerCtx) {
                     if (isSslEnabledUpstream(proxyClientCtx.channel())) {
-                        mockServerCtx.writeAndFlush(Unpooled.copiedBuffer((PROXIED_SECURE + host + ":" + port).getBytes(StandardCharsets.UTF_8))).awaitUninterruptibly();
+                        mockServerCtx.writeAndFlush(Unpooled.copiedBuffer((PROXIED_SECURE + host + ":" + port).getBytes(StandardCharsets.UTF_8)));
                     } else {
-                        mockServerCtx.writeAndFlush(Unpooled.copiedBuffer((PROXIED + host + ":" + port).getBytes(StandardCharsets.UTF_8))).awaitUninterruptibly();
+                        mockServerCtx.writeAndFlush(Unpooled.copiedBuffer((PROXIED + host + ":" + port).getBytes(StandardCharsets.UTF_8)));
                     }
                 }
 
@@ -131,6 +162,40 @@ public abstract class RelayConnectHandler<T> extends SimpleChannelInboundHandler
         });
     }
 
+    private void passThrough(final ChannelHandlerContext proxyClientCtx, final T request) {
+        final InetSocketAddress remoteSocket = new InetSocketAddress(host, port);
+        new Bootstrap()
+            .group(proxyClientCtx.channel().eventLoop())
+            .channel(NioSocketChannel.class)
+            // don't read until the tunnel has been established with the proxy client
+            .option(ChannelOption.AUTO_READ, false)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, ConfigurationProperties.socketConnectionTimeout())
+            .handler(new PassThroughRelayHandler(mockServerLogger, proxyClientCtx.channel()))
+            .connect(remoteSocket)
+            .addListener((ChannelFutureListener) future -> {
+                if (future.isSuccess()) {
+                    Channel upstreamChannel = future.channel();
+                    if (MockServerLogger.isEnabled(Level.INFO)) {
+                        mockServerLogger.logEvent(
+                            new LogEntry()
+                                .setLogLevel(Level.INFO)
+                                .setMessageFormat("tunnelling connection from:{}directly to pass through host:{}")
+                                .setArguments(proxyClientCtx.channel().remoteAddress(), remoteSocket)
+                        );
+                    }
+                    proxyClientCtx
+                        .writeAndFlush(successResponse(request))
+                        .addListener((ChannelFutureListener) channelFuture -> {
+                            removePassThroughSupport(proxyClientCtx);
+                            proxyClientCtx.channel().pipeline().addLast(new PassThroughRelayHandler(mockServerLogger, upstreamChannel));
+                            upstreamChannel.config().setAutoRead(true);
+                        });
+                } else {
+                    failure("Connection failed to " + remoteSocket, future.cause(), proxyClientCtx, failureResponse(request));
+                }
+            });
+    }
+
     private InetSocketAddress getDownstreamSocket(ChannelHandlerContext ctx) {
         InetSocketAddress remoteAddress = getRemoteAddress(ctx);
         if (remoteAddress != null) {
@@ -163,6 +228,14 @@ public abstract class RelayConnectHandler<T> extends SimpleChannelInboundHandler
 
     protected abstract void removeCodecSupport(ChannelHandlerContext ctx);
 
+    /**
+     * Removes every handler that would decode the tunnelled bytes so they are relayed unchanged to the pass through host
+     */
+    protected void removePassThroughSupport(ChannelHandlerContext ctx) {
+        removeCodecSupport(ctx);
+        removeHandler(ctx.pipeline(), PortUnificationHandler.class);
+    }
+
     protected abstract Object successResponse(Object request);
 
     protected abstract Object failureResponse(Object request);
@@ -179,4 +252,22 @@ public abstract class RelayConnectHandler<T> extends SimpleChannelInboundHandler
         }
     }
 
+    private static class PassThroughHosts {
+
+        private final String hosts;
+        private final Pattern pattern;
+
+        private PassThroughHosts(String hosts) {
+            this.hosts = hosts;
+            this.pattern = Pattern.compile(
+                Arrays.stream(hosts.split(","))
+                    .map(String::trim)
+                    .filter(StringUtils::isNotBlank)
+                    .map(hostPattern -> Arrays.stream(hostPattern.split("\\*", -1)).map(Pattern::quote).collect(Collectors.joining(".*")))
+                    .collect(Collectors.joining("|")),
+                Pattern.CASE_INSENSITIVE
+            );
+        }
+    }
+
 }
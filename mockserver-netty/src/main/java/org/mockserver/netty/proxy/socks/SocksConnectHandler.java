@@ -6,8 +6,13 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.handler.codec.http.HttpContentDecompressor;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.socksx.v4.Socks4ServerDecoder;
+import io.netty.handler.codec.socksx.v5.Socks5CommandRequestDecoder;
+import io.netty.handler.codec.socksx.v5.Socks5InitialRequestDecoder;
+import io.netty.handler.codec.socksx.v5.Socks5PasswordAuthRequestDecoder;
 import org.mockserver.lifecycle.LifeCycle;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.netty.proxy.StreamingProxyHandler;
 import org.mockserver.netty.proxy.relay.RelayConnectHandler;
 
 @ChannelHandler.Sharable
@@ -22,7 +27,18 @@ public abstract class SocksConnectHandler<T> extends RelayConnectHandler<T> {
         ChannelPipeline pipeline = ctx.pipeline();
         removeHandler(pipeline, HttpServerCodec.class);
         removeHandler(pipeline, HttpContentDecompressor.class);
+        removeHandler(pipeline, StreamingProxyHandler.class);
         removeHandler(pipeline, HttpObjectAggregator.class);
         removeHandler(pipeline, this);
     }
+
+    @Override
+    protected void removePassThroughSupport(ChannelHandlerContext ctx) {
+        super.removePassThroughSupport(ctx);
+        ChannelPipeline pipeline = ctx.pipeline();
+        removeHandler(pipeline, Socks4ServerDecoder.class);
+        removeHandler(pipeline, Socks5InitialRequestDecoder.class);
+        removeHandler(pipeline, Socks5PasswordAuthRequestDecoder.class);
+        removeHandler(pipeline, Socks5CommandRequestDecoder.class);
+    }
 }
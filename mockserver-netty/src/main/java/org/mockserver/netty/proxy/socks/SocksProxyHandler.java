@@ -13,6 +13,7 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mockserver.configuration.ConfigurationProperties.addSubjectAlternativeName;
 import static org.mockserver.exception.ExceptionHandling.connectionClosedException;
 import static org.mockserver.netty.HttpRequestHandler.PROXYING;
+import static org.mockserver.netty.proxy.relay.RelayConnectHandler.isPassThroughHost;
 import static org.mockserver.netty.unification.PortUnificationHandler.disableSslDownstream;
 import static org.mockserver.netty.unification.PortUnificationHandler.enableSslDownstream;
 
@@ -38,7 +39,7 @@ public abstract class SocksProxyHandler<T> extends SimpleChannelInboundHandler<T
         }
 
         // add Subject Alternative Name for SSL certificate
-        if (isNotBlank(addr)) {
+        if (isNotBlank(addr) && !isPassThroughHost(addr)) {
             server.getScheduler().submit(() -> addSubjectAlternativeName(addr));
         }
 
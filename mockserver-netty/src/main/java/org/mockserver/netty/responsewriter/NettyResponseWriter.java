@@ -14,6 +14,8 @@ import org.mockserver.model.HttpResponse;
 import org.mockserver.responsewriter.ResponseWriter;
 import org.mockserver.scheduler.Scheduler;
 
+import java.util.concurrent.Executor;
+
 import static org.slf4j.event.Level.TRACE;
 import static org.slf4j.event.Level.WARN;
 
@@ -38,6 +40,11 @@ public class NettyResponseWriter extends ResponseWriter {
         writeAndCloseSocket(ctx, request, response);
     }
 
+    @Override
+    public Executor getExecutor() {
+        return ctx.executor();
+    }
+
     private void writeAndCloseSocket(final ChannelHandlerContext ctx, final HttpRequest request, HttpResponse response) {
         boolean closeChannel;
 
@@ -55,7 +62,7 @@ public class NettyResponseWriter extends ResponseWriter {
                 if (closeSocketDelay == null) {
                     disconnectAndCloseChannel(future);
                 } else {
-                    scheduler.schedule(() -> disconnectAndCloseChannel(future), false, closeSocketDelay);
+                    scheduler.schedule(() -> disconnectAndCloseChannel(future), false, future.channel().eventLoop(), closeSocketDelay);
                 }
             });
         }
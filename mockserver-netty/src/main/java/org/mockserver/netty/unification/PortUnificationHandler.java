@@ -28,6 +28,7 @@ import org.mockserver.mock.action.http.HttpActionHandler;
 import org.mockserver.model.HttpResponse;
 import org.mockserver.netty.HttpRequestHandler;
 import org.mockserver.netty.proxy.BinaryHandler;
+import org.mockserver.netty.proxy.StreamingProxyHandler;
 import org.mockserver.netty.proxy.socks.Socks4ProxyHandler;
 import org.mockserver.netty.proxy.socks.Socks5ProxyHandler;
 import org.mockserver.netty.proxy.socks.SocksDetector;
@@ -224,6 +225,9 @@ public class PortUnificationHandler extends ReplayingDecoder<Void> {
         ));
         addLastIfNotPresent(pipeline, new HttpContentDecompressor());
         addLastIfNotPresent(pipeline, httpContentLengthRemover);
+        if (ConfigurationProperties.bodyAggregationThreshold() < Integer.MAX_VALUE) {
+            addLastIfNotPresent(pipeline, new StreamingProxyHandler(httpStateHandler, actionHandler.getHttpClient(), ConfigurationProperties.bodyAggregationThreshold()));
+        }
         addLastIfNotPresent(pipeline, new HttpObjectAggregator(Integer.MAX_VALUE));
         if (tlsMutualAuthenticationRequired() && !isSslEnabledUpstream(ctx.channel())) {
             HttpResponse httpResponse = response()
@@ -281,7 +285,7 @@ public class PortUnificationHandler extends ReplayingDecoder<Void> {
             ctx.channel().attr(PROXYING).set(Boolean.TRUE);
             ctx.channel().attr(REMOTE_SOCKET).set(new InetSocketAddress(hostParts[0], port));
         }
-        ctx.writeAndFlush(Unpooled.copiedBuffer((PROXIED_RESPONSE + message).getBytes(StandardCharsets.UTF_8))).awaitUninterruptibly();
+        ctx.writeAndFlush(Unpooled.copiedBuffer((PROXIED_RESPONSE + message).getBytes(StandardCharsets.UTF_8)));
     }
 
     private String readMessage(ByteBuf msg) {
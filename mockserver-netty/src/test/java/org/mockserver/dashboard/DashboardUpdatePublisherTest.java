@@ -0,0 +1,171 @@
+package org.mockserver.dashboard;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.mockserver.dashboard.DashboardWebSocketHandlerTest.MockChannelHandlerContext;
+import org.mockserver.log.model.LogEntry;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.mock.HttpState;
+import org.mockserver.scheduler.Scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockserver.model.HttpRequest.request;
+
+public class DashboardUpdatePublisherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void shouldShareSerialisedMessageBetweenClientsWithSameFilter() throws Exception {
+        // given
+        HttpState httpState = httpState();
+        httpState.getMockServerLog().add(new LogEntry().setHttpRequest(request("/somePath")).setMessageFormat("messageFormat"));
+        SECONDS.sleep(1);
+        DashboardUpdatePublisher publisher = DashboardUpdatePublisher.publisher(httpState);
+        MockChannelHandlerContext clientOne = new MockChannelHandlerContext();
+        MockChannelHandlerContext clientTwo = new MockChannelHandlerContext();
+        MockChannelHandlerContext clientWithOtherFilter = new MockChannelHandlerContext();
+
+        // when
+        publisher.addClient(clientOne, request(), false, -1, false);
+        publisher.addClient(clientTwo, request(), false, -1, false);
+        publisher.addClient(clientWithOtherFilter, request("/otherPath"), false, -1, false);
+        publisher.publishAndWait();
+
+        // then
+        assertThat(clientOne.textWebSocketFrame.text(), is(clientTwo.textWebSocketFrame.text()));
+        assertThat(clientOne.textWebSocketFrame.content().unwrap(), sameInstance(clientTwo.textWebSocketFrame.content().unwrap()));
+        assertThat(clientOne.textWebSocketFrame.text(), containsString("messageFormat"));
+        assertThat(clientWithOtherFilter.textWebSocketFrame.text(), not(containsString("messageFormat")));
+        assertThat(objectMapper.readTree(clientOne.textWebSocketFrame.text()).has("sequence"), is(false));
+    }
+
+    @Test
+    public void shouldSendOnlyAddedItemsToDeltaClient() throws Exception {
+        // given
+        HttpState httpState = httpState();
+        httpState.getMockServerLog().add(new LogEntry().setHttpRequest(request("/somePath")).setMessageFormat("messageFormatOne"));
+        SECONDS.sleep(1);
+        DashboardUpdatePublisher publisher = DashboardUpdatePublisher.publisher(httpState);
+        MockChannelHandlerContext client = new MockChannelHandlerContext();
+        publisher.addClient(client, request(), true, -1, false);
+        publisher.publishAndWait();
+        JsonNode reset = objectMapper.readTree(client.textWebSocketFrame.text());
+
+        // when
+        httpState.getMockServerLog().add(new LogEntry().setHttpRequest(request("/somePath")).setMessageFormat("messageFormatTwo"));
+        SECONDS.sleep(1);
+        publisher.publishAndWait();
+        JsonNode delta = objectMapper.readTree(client.textWebSocketFrame.text());
+
+        // then
+        assertThat(reset.get("reset").asBoolean(), is(true));
+        assertThat(reset.path("logMessages").path("keys").size(), is(1));
+        assertThat(reset.path("logMessages").path("items").toString(), containsString("messageFormatOne"));
+        assertThat(delta.get("reset").asBoolean(), is(false));
+        assertThat(delta.get("sequence").asLong(), greaterThan(reset.get("sequence").asLong()));
+        assertThat(keys(delta.path("logMessages").path("keys")), hasSize(2));
+        assertThat(keys(delta.path("logMessages").path("keys")), hasItems(keys(reset.path("logMessages").path("keys")).get(0)));
+        assertThat(delta.path("logMessages").path("items").size(), is(1));
+        assertThat(delta.path("logMessages").path("items").toString(), containsString("messageFormatTwo"));
+        assertThat(delta.path("logMessages").path("items").toString(), not(containsString("messageFormatOne")));
+    }
+
+    @Test
+    public void shouldSendResetToDeltaClientWithUnknownSequence() throws Exception {
+        // given
+        HttpState httpState = httpState();
+        httpState.getMockServerLog().add(new LogEntry().setHttpRequest(request("/somePath")).setMessageFormat("messageFormat"));
+        SECONDS.sleep(1);
+        DashboardUpdatePublisher publisher = DashboardUpdatePublisher.publisher(httpState);
+        MockChannelHandlerContext client = new MockChannelHandlerContext();
+
+        // when
+        publisher.addClient(client, request(), true, 12345, false);
+        publisher.publishAndWait();
+
+        // then
+        JsonNode reset = objectMapper.readTree(client.textWebSocketFrame.text());
+        assertThat(reset.get("reset").asBoolean(), is(true));
+        assertThat(reset.path("logMessages").path("items").toString(), containsString("messageFormat"));
+        assertThat(reset.path("activeExpectations").path("keys").size(), is(0));
+    }
+
+    @Test
+    public void shouldPrettyPrintOnlyForClientsThatRequestIt() throws Exception {
+        // given
+        HttpState httpState = httpState();
+        httpState.getMockServerLog().add(new LogEntry().setHttpRequest(request("/somePath")).setMessageFormat("messageFormat"));
+        SECONDS.sleep(1);
+        DashboardUpdatePublisher publisher = DashboardUpdatePublisher.publisher(httpState);
+        MockChannelHandlerContext client = new MockChannelHandlerContext();
+        MockChannelHandlerContext prettyPrintClient = new MockChannelHandlerContext();
+
+        // when
+        publisher.addClient(client, request(), false, -1, false);
+        publisher.addClient(prettyPrintClient, request(), false, -1, true);
+        publisher.publishAndWait();
+
+        // then
+        assertThat(client.textWebSocketFrame.text(), not(containsString("\n")));
+        assertThat(prettyPrintClient.textWebSocketFrame.text(), containsString("\n"));
+        assertThat(objectMapper.readTree(prettyPrintClient.textWebSocketFrame.text()), is(objectMapper.readTree(client.textWebSocketFrame.text())));
+    }
+
+    @Test
+    public void shouldNotSendToClientClosedImmediatelyAfterBeingAdded() throws Exception {
+        // given
+        HttpState httpState = httpState();
+        httpState.getMockServerLog().add(new LogEntry().setHttpRequest(request("/somePath")).setMessageFormat("messageFormatOne"));
+        SECONDS.sleep(1);
+        DashboardUpdatePublisher publisher = DashboardUpdatePublisher.publisher(httpState);
+        MockChannelHandlerContext client = new MockChannelHandlerContext();
+
+        // when - closed straight away, possibly before the initial model is sent
+        publisher.addClient(client, request(), false, -1, false);
+        client.close();
+        publisher.removeClient(client);
+        publisher.publishAndWait();
+        client.textWebSocketFrame = null;
+
+        // and - further updates are published
+        httpState.getMockServerLog().add(new LogEntry().setHttpRequest(request("/somePath")).setMessageFormat("messageFormatTwo"));
+        SECONDS.sleep(1);
+        publisher.publishAndWait();
+
+        // then
+        assertThat(client.textWebSocketFrame, nullValue());
+    }
+
+    @Test
+    public void shouldRemovePublisherWhenStopped() {
+        // given
+        HttpState httpState = httpState();
+        DashboardUpdatePublisher publisher = DashboardUpdatePublisher.publisher(httpState);
+        publisher.addClient(new MockChannelHandlerContext(), request(), false, -1, false);
+
+        // when
+        DashboardUpdatePublisher.stop(httpState);
+
+        // then
+        assertThat(DashboardUpdatePublisher.publisher(httpState), not(sameInstance(publisher)));
+        DashboardUpdatePublisher.stop(httpState);
+    }
+
+    private HttpState httpState() {
+        MockServerLogger mockServerLogger = new MockServerLogger(DashboardUpdatePublisherTest.class);
+        return new HttpState(mockServerLogger, new Scheduler(mockServerLogger, true));
+    }
+
+    private List<String> keys(JsonNode keysNode) {
+        List<String> keys = new ArrayList<>();
+        keysNode.forEach(key -> keys.add(key.asText()));
+        return keys;
+    }
+}
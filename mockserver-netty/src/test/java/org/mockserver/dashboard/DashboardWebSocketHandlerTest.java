@@ -1280,7 +1280,6 @@ public class DashboardWebSocketHandlerTest {
             new DashboardWebSocketHandler(httpState, false, true)
                 .registerListeners();
         MockChannelHandlerContext mockChannelHandlerContext = new MockChannelHandlerContext();
-        handler.getClientRegistry().put(mockChannelHandlerContext, request());
 
         // when
         handler.sendUpdate(mockChannelHandlerContext, requestFilter);
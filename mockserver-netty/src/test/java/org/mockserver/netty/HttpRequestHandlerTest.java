@@ -161,6 +161,36 @@ public class HttpRequestHandlerTest {
         )));
     }
 
+    @Test
+    public void shouldReturnMetrics() {
+        // given
+        HttpRequest metricsRequest = request("/mockserver/metrics").withMethod("GET");
+
+        // when
+        embeddedChannel.writeInbound(metricsRequest);
+
+        // then
+        HttpResponse httpResponse = embeddedChannel.readOutbound();
+        assertThat(httpResponse.getStatusCode(), is(200));
+        assertThat(httpResponse.getFirstHeader("content-type"), is("text/plain; version=0.0.4; charset=utf-8"));
+        assertThat(httpResponse.getBodyAsString(), containsString("# TYPE mockserver_"));
+    }
+
+    @Test
+    public void shouldReturnMetricsForPut() {
+        // given
+        HttpRequest metricsRequest = request("/mockserver/metrics").withMethod("PUT");
+
+        // when
+        embeddedChannel.writeInbound(metricsRequest);
+
+        // then
+        HttpResponse httpResponse = embeddedChannel.readOutbound();
+        assertThat(httpResponse.getStatusCode(), is(200));
+        assertThat(httpResponse.getFirstHeader("content-type"), is("text/plain; version=0.0.4; charset=utf-8"));
+        assertThat(httpResponse.getBodyAsString(), containsString("# TYPE mockserver_"));
+    }
+
     @Test
     public void shouldReturnStatusOnCustomPath() {
         String originalStatusPath = ConfigurationProperties.livenessHttpGetPath();
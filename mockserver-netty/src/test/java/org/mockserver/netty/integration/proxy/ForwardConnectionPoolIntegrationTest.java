@@ -0,0 +1,157 @@
+package org.mockserver.netty.integration.proxy;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockserver.client.NettyHttpClient;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.metrics.Metrics;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.scheduler.Scheduler;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import static io.netty.handler.codec.http.HttpHeaderNames.HOST;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.core.Is.is;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.metrics.Metrics.Name.*;
+import static org.mockserver.model.HttpError.error;
+import static org.mockserver.model.HttpForward.forward;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.stop.Stop.stopQuietly;
+
+/**
+ * @author jamesdbloom
+ */
+public class ForwardConnectionPoolIntegrationTest {
+
+    private static boolean originalMetricsEnabled;
+    private static ClientAndServer clientAndServer;
+    private static ClientAndServer targetClientAndServer;
+
+    private static final EventLoopGroup clientEventLoopGroup = new NioEventLoopGroup(3, new Scheduler.SchedulerThreadFactory(ForwardConnectionPoolIntegrationTest.class.getSimpleName() + "-eventLoop"));
+
+    private static final NettyHttpClient httpClient = new NettyHttpClient(new MockServerLogger(), clientEventLoopGroup, null, false);
+
+    @BeforeClass
+    public static void startServer() {
+        originalMetricsEnabled = ConfigurationProperties.metricsEnabled();
+        ConfigurationProperties.metricsEnabled(true);
+        ConfigurationProperties.forwardConnectionPoolEnabled(true);
+        ConfigurationProperties.forwardConnectionPoolIdleTimeout(500);
+        ConfigurationProperties.forwardConnectionPoolMaxConnectionsPerHost(2);
+        try {
+            targetClientAndServer = startClientAndServer();
+            clientAndServer = startClientAndServer();
+        } finally {
+            System.clearProperty("mockserver.forwardConnectionPoolEnabled");
+            System.clearProperty("mockserver.forwardConnectionPoolIdleTimeout");
+            System.clearProperty("mockserver.forwardConnectionPoolMaxConnectionsPerHost");
+        }
+    }
+
+    @AfterClass
+    public static void stopEventLoopGroup() {
+        clientEventLoopGroup.shutdownGracefully(0, 0, MILLISECONDS).syncUninterruptibly();
+    }
+
+    @AfterClass
+    public static void stopServer() {
+        stopQuietly(clientAndServer);
+        stopQuietly(targetClientAndServer);
+        ConfigurationProperties.metricsEnabled(originalMetricsEnabled);
+    }
+
+    @Before
+    public void reset() {
+        clientAndServer.reset();
+        targetClientAndServer.reset();
+        targetClientAndServer
+            .when(request().withPath("/target"))
+            .respond(response().withBody("target_response"));
+        clientAndServer
+            .when(request().withPath("/target"))
+            .forward(forward().withHost("localhost").withPort(targetClientAndServer.getPort()));
+        targetClientAndServer
+            .when(request().withPath("/drop"))
+            .error(error().withDropConnection(true));
+        clientAndServer
+            .when(request().withPath("/drop"))
+            .forward(forward().withHost("localhost").withPort(targetClientAndServer.getPort()));
+    }
+
+    private HttpResponse sendRequest() throws Exception {
+        return sendRequest("/target");
+    }
+
+    private HttpResponse sendRequest(String path) throws Exception {
+        return httpClient.sendRequest(
+            request()
+                .withPath(path)
+                .withHeader(HOST.toString(), "localhost:" + clientAndServer.getPort()),
+            new InetSocketAddress(clientAndServer.getPort())
+        ).get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void shouldReuseConnectionForSequentialForwardedRequests() throws Exception {
+        // given
+        assertThat(sendRequest().getStatusCode(), is(200));
+        int createdBefore = Metrics.get(FORWARD_CONNECTION_POOL_CREATED_COUNT);
+        int reusedBefore = Metrics.get(FORWARD_CONNECTION_POOL_REUSED_COUNT);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            HttpResponse response = sendRequest();
+
+            // then
+            assertThat(response.getStatusCode(), is(200));
+            assertThat(response.getBodyAsString(), is("target_response"));
+        }
+
+        // then
+        assertThat(Metrics.get(FORWARD_CONNECTION_POOL_CREATED_COUNT) - createdBefore, is(0));
+        assertThat(Metrics.get(FORWARD_CONNECTION_POOL_REUSED_COUNT) - reusedBefore, is(4));
+    }
+
+    @Test
+    public void shouldEvictIdleConnection() throws Exception {
+        // given
+        assertThat(sendRequest().getStatusCode(), is(200));
+        int createdBefore = Metrics.get(FORWARD_CONNECTION_POOL_CREATED_COUNT);
+        int evictedBefore = Metrics.get(FORWARD_CONNECTION_POOL_IDLE_EVICTED_COUNT);
+
+        // when
+        MILLISECONDS.sleep(1500);
+
+        // then
+        assertThat(sendRequest().getStatusCode(), is(200));
+        assertThat(Metrics.get(FORWARD_CONNECTION_POOL_IDLE_EVICTED_COUNT) - evictedBefore, greaterThanOrEqualTo(1));
+        assertThat(Metrics.get(FORWARD_CONNECTION_POOL_CREATED_COUNT) - createdBefore, is(1));
+    }
+
+    @Test
+    public void shouldReleaseConnectionClosedByRemoteHost() throws Exception {
+        // given
+        assertThat(sendRequest().getStatusCode(), is(200));
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            sendRequest("/drop");
+        }
+
+        // then
+        assertThat(sendRequest().getStatusCode(), is(200));
+        assertThat(Metrics.get(FORWARD_CONNECTION_POOL_IN_USE_COUNT), is(0));
+    }
+}
@@ -0,0 +1,159 @@
+package org.mockserver.netty.integration.proxy;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockserver.client.NettyHttpClient;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.scheduler.Scheduler;
+import org.mockserver.verify.VerificationTimes;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import static io.netty.handler.codec.http.HttpHeaderNames.HOST;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpForward.forward;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.stop.Stop.stopQuietly;
+
+/**
+ * @author jamesdbloom
+ */
+public class StreamingProxyIntegrationTest {
+
+    private static final String LARGE_BODY = RandomStringUtils.randomAlphanumeric(256 * 1024);
+    private static int originalBodyAggregationThreshold;
+    private static ClientAndServer clientAndServer;
+    private static ClientAndServer targetClientAndServer;
+
+    private static final EventLoopGroup clientEventLoopGroup = new NioEventLoopGroup(3, new Scheduler.SchedulerThreadFactory(StreamingProxyIntegrationTest.class.getSimpleName() + "-eventLoop"));
+
+    private static final NettyHttpClient httpClient = new NettyHttpClient(new MockServerLogger(), clientEventLoopGroup, null, false);
+
+    @BeforeClass
+    public static void startServer() {
+        originalBodyAggregationThreshold = ConfigurationProperties.bodyAggregationThreshold();
+        ConfigurationProperties.bodyAggregationThreshold(1024);
+        targetClientAndServer = startClientAndServer();
+        clientAndServer = startClientAndServer();
+    }
+
+    @AfterClass
+    public static void stopEventLoopGroup() {
+        clientEventLoopGroup.shutdownGracefully(0, 0, MILLISECONDS).syncUninterruptibly();
+    }
+
+    @AfterClass
+    public static void stopServer() {
+        stopQuietly(clientAndServer);
+        stopQuietly(targetClientAndServer);
+        ConfigurationProperties.bodyAggregationThreshold(originalBodyAggregationThreshold);
+    }
+
+    @Before
+    public void reset() {
+        clientAndServer.reset();
+        targetClientAndServer.reset();
+        targetClientAndServer
+            .when(request().withPath("/target"))
+            .respond(response().withBody("target_response"));
+    }
+
+    @Test
+    public void shouldStreamLargeBodyForForwardExpectation() throws Exception {
+        // given
+        clientAndServer
+            .when(request().withMethod("POST").withPath("/target"))
+            .forward(forward().withHost("localhost").withPort(targetClientAndServer.getPort()));
+
+        // when
+        HttpResponse response = httpClient.sendRequest(
+            request()
+                .withMethod("POST")
+                .withPath("/target")
+                .withHeader(HOST.toString(), "localhost:" + clientAndServer.getPort())
+                .withBody(LARGE_BODY),
+            new InetSocketAddress(clientAndServer.getPort())
+        ).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(response.getStatusCode(), is(200));
+        assertThat(response.getBodyAsString(), is("target_response"));
+        targetClientAndServer.verify(request().withPath("/target").withBody(LARGE_BODY), VerificationTimes.once());
+        clientAndServer.verify(request().withPath("/target"), VerificationTimes.once());
+        // streamed bodies are not recorded
+        clientAndServer.verify(request().withPath("/target").withBody(LARGE_BODY), VerificationTimes.exactly(0));
+    }
+
+    @Test
+    public void shouldStreamLargeBodyWhenProxying() throws Exception {
+        // when
+        HttpResponse response = httpClient.sendRequest(
+            request()
+                .withMethod("POST")
+                .withPath("/target")
+                .withHeader(HOST.toString(), "127.0.0.1:" + targetClientAndServer.getPort())
+                .withBody(LARGE_BODY),
+            new InetSocketAddress(clientAndServer.getPort())
+        ).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(response.getStatusCode(), is(200));
+        assertThat(response.getBodyAsString(), is("target_response"));
+        targetClientAndServer.verify(request().withPath("/target").withBody(LARGE_BODY), VerificationTimes.once());
+    }
+
+    @Test
+    public void shouldAggregateLargeBodyWhenExpectationMatchesBody() throws Exception {
+        // given
+        clientAndServer
+            .when(request().withMethod("POST").withPath("/target").withBody(LARGE_BODY))
+            .respond(response().withBody("matched_body"));
+        clientAndServer
+            .when(request().withMethod("POST").withPath("/target"))
+            .forward(forward().withHost("localhost").withPort(targetClientAndServer.getPort()));
+
+        // when
+        HttpResponse response = httpClient.sendRequest(
+            request()
+                .withMethod("POST")
+                .withPath("/target")
+                .withHeader(HOST.toString(), "localhost:" + clientAndServer.getPort())
+                .withBody(LARGE_BODY),
+            new InetSocketAddress(clientAndServer.getPort())
+        ).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(response.getStatusCode(), is(200));
+        assertThat(response.getBodyAsString(), is("matched_body"));
+        targetClientAndServer.verify(request().withPath("/target"), VerificationTimes.exactly(0));
+    }
+
+    @Test
+    public void shouldReturnNotFoundForLargeBodyWithoutMatchingExpectation() throws Exception {
+        // when
+        HttpResponse response = httpClient.sendRequest(
+            request()
+                .withMethod("POST")
+                .withPath("/not_matched")
+                .withHeader(HOST.toString(), "localhost:" + clientAndServer.getPort())
+                .withBody(LARGE_BODY),
+            new InetSocketAddress(clientAndServer.getPort())
+        ).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(response.getStatusCode(), is(404));
+    }
+}
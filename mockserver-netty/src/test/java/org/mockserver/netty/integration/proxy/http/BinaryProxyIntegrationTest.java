@@ -7,6 +7,7 @@ import org.apache.commons.lang3.RandomUtils;
 import org.junit.AfterClass;
 import org.junit.Test;
 import org.mockserver.client.NettyHttpClient;
+import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.integration.ClientAndServer;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
@@ -14,6 +15,7 @@ import org.mockserver.model.BinaryMessage;
 import org.mockserver.scheduler.Scheduler;
 
 import javax.net.ssl.SSLServerSocket;
+import java.io.DataInputStream;
 import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
@@ -167,6 +169,71 @@ public class BinaryProxyIntegrationTest {
         }
     }
 
+    @Test
+    public void shouldRelayBinaryMessagesOverSingleUpstreamConnection() throws Exception {
+        // given
+        boolean originalBinaryProxyRelayEnabled = ConfigurationProperties.binaryProxyRelayEnabled();
+        ConfigurationProperties.binaryProxyRelayEnabled(true);
+        byte[] firstRequestBytes = "*1\r\n$4\r\nPING\r\n".getBytes(StandardCharsets.UTF_8);
+        byte[] firstResponseBytes = "+PONG\r\n".getBytes(StandardCharsets.UTF_8);
+        byte[] secondRequestBytes = "*2\r\n$3\r\nGET\r\n$3\r\nkey\r\n".getBytes(StandardCharsets.UTF_8);
+        byte[] secondResponseBytes = RandomUtils.nextBytes(100 * 1024);
+        ClientAndServer proxyClientAndServer = null;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            // and
+            proxyClientAndServer = startClientAndServer("127.0.0.1", serverSocket.getLocalPort());
+
+            CompletableFuture<Socket> socketFuture = new CompletableFuture<>();
+            new Scheduler.SchedulerThreadFactory("MockServer Test " + this.getClass().getSimpleName()).newThread(() -> {
+                try {
+                    socketFuture.complete(serverSocket.accept());
+                } catch (Throwable throwable) {
+                    socketFuture.completeExceptionally(throwable);
+                }
+            }).start();
+
+            try (Socket clientSocket = new Socket("127.0.0.1", proxyClientAndServer.getLocalPort())) {
+                // when
+                clientSocket.getOutputStream().write(firstRequestBytes);
+
+                // then
+                Socket upstreamSocket = socketFuture.get(5, MINUTES);
+                assertThat(ByteBufUtil.hexDump(readBytes(upstreamSocket, firstRequestBytes.length)), is(ByteBufUtil.hexDump(firstRequestBytes)));
+
+                // when
+                upstreamSocket.getOutputStream().write(firstResponseBytes);
+
+                // then
+                assertThat(ByteBufUtil.hexDump(readBytes(clientSocket, firstResponseBytes.length)), is(ByteBufUtil.hexDump(firstResponseBytes)));
+
+                // when - second message is relayed over the same upstream connection
+                clientSocket.getOutputStream().write(secondRequestBytes);
+
+                // then
+                assertThat(ByteBufUtil.hexDump(readBytes(upstreamSocket, secondRequestBytes.length)), is(ByteBufUtil.hexDump(secondRequestBytes)));
+
+                // when
+                upstreamSocket.getOutputStream().write(secondResponseBytes);
+
+                // then
+                assertThat(ByteBufUtil.hexDump(readBytes(clientSocket, secondResponseBytes.length)), is(ByteBufUtil.hexDump(secondResponseBytes)));
+                upstreamSocket.close();
+            }
+        } finally {
+            ConfigurationProperties.binaryProxyRelayEnabled(originalBinaryProxyRelayEnabled);
+            if (proxyClientAndServer != null) {
+                proxyClientAndServer.stop();
+            }
+        }
+    }
+
+    private static byte[] readBytes(Socket socket, int length) throws Exception {
+        socket.setSoTimeout((int) SECONDS.toMillis(10));
+        byte[] bytes = new byte[length];
+        new DataInputStream(socket.getInputStream()).readFully(bytes);
+        return bytes;
+    }
+
     @Test
     public void shouldCloseConnectionForBinaryMessagesWithNoRemoteAddress() throws Exception {
         // given
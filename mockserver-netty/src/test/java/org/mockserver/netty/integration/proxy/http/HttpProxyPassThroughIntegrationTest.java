@@ -0,0 +1,113 @@
+package org.mockserver.netty.integration.proxy.http;
+
+import io.netty.buffer.ByteBufUtil;
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.netty.MockServer;
+import org.mockserver.scheduler.Scheduler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.InputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.CompletableFuture;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.mockserver.stop.Stop.stopQuietly;
+
+/**
+ * @author jamesdbloom
+ */
+public class HttpProxyPassThroughIntegrationTest {
+
+    private static String originalProxyPassThroughHosts;
+    private static MockServer mockServer;
+
+    @BeforeClass
+    public static void startServer() {
+        originalProxyPassThroughHosts = ConfigurationProperties.proxyPassThroughHosts();
+        ConfigurationProperties.proxyPassThroughHosts("127.0.0.*");
+        mockServer = new MockServer();
+    }
+
+    @AfterClass
+    public static void stopServer() {
+        stopQuietly(mockServer);
+        ConfigurationProperties.proxyPassThroughHosts(originalProxyPassThroughHosts);
+    }
+
+    @Test
+    public void shouldTunnelConnectRequestDirectlyToPassThroughHost() throws Exception {
+        // given
+        byte[] requestBytes = RandomUtils.nextBytes(1024);
+        byte[] responseBytes = RandomUtils.nextBytes(64 * 1024);
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            CompletableFuture<Socket> socketFuture = new CompletableFuture<>();
+            new Scheduler.SchedulerThreadFactory("MockServer Test " + this.getClass().getSimpleName()).newThread(() -> {
+                try {
+                    socketFuture.complete(serverSocket.accept());
+                } catch (Throwable throwable) {
+                    socketFuture.completeExceptionally(throwable);
+                }
+            }).start();
+
+            try (Socket socket = new Socket("127.0.0.1", mockServer.getLocalPort())) {
+                socket.setSoTimeout((int) SECONDS.toMillis(10));
+
+                // when
+                socket.getOutputStream().write(("" +
+                    "CONNECT 127.0.0.1:" + serverSocket.getLocalPort() + " HTTP/1.1\r\n" +
+                    "Host: 127.0.0.1:" + serverSocket.getLocalPort() + "\r\n" +
+                    "\r\n"
+                ).getBytes(UTF_8));
+
+                // then
+                assertThat(readResponseHead(socket.getInputStream()), startsWith("HTTP/1.1 200 OK"));
+
+                // when - bytes are relayed unchanged, i.e. not as TLS
+                socket.getOutputStream().write(requestBytes);
+
+                // then
+                Socket upstreamSocket = socketFuture.get(10, SECONDS);
+                upstreamSocket.setSoTimeout((int) SECONDS.toMillis(10));
+                assertThat(ByteBufUtil.hexDump(readBytes(upstreamSocket, requestBytes.length)), is(ByteBufUtil.hexDump(requestBytes)));
+
+                // when
+                upstreamSocket.getOutputStream().write(responseBytes);
+
+                // then
+                assertThat(ByteBufUtil.hexDump(readBytes(socket, responseBytes.length)), is(ByteBufUtil.hexDump(responseBytes)));
+                upstreamSocket.close();
+            }
+        }
+    }
+
+    private static String readResponseHead(InputStream inputStream) throws Exception {
+        ByteArrayOutputStream responseHead = new ByteArrayOutputStream();
+        int matched = 0;
+        byte[] endOfHead = "\r\n\r\n".getBytes(UTF_8);
+        while (matched < endOfHead.length) {
+            int read = inputStream.read();
+            if (read == -1) {
+                break;
+            }
+            responseHead.write(read);
+            matched = read == endOfHead[matched] ? matched + 1 : (read == endOfHead[0] ? 1 : 0);
+        }
+        return new String(responseHead.toByteArray(), UTF_8);
+    }
+
+    private static byte[] readBytes(Socket socket, int length) throws Exception {
+        byte[] bytes = new byte[length];
+        new DataInputStream(socket.getInputStream()).readFully(bytes);
+        return bytes;
+    }
+}
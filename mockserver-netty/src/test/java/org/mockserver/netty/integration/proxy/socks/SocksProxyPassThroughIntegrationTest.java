@@ -0,0 +1,121 @@
+package org.mockserver.netty.integration.proxy.socks;
+
+import io.netty.buffer.ByteBufUtil;
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.netty.MockServer;
+import org.mockserver.scheduler.Scheduler;
+
+import java.io.DataInputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.CompletableFuture;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockserver.stop.Stop.stopQuietly;
+
+/**
+ * @author jamesdbloom
+ */
+public class SocksProxyPassThroughIntegrationTest {
+
+    private static String originalProxyPassThroughHosts;
+    private static MockServer mockServer;
+
+    @BeforeClass
+    public static void startServer() {
+        originalProxyPassThroughHosts = ConfigurationProperties.proxyPassThroughHosts();
+        ConfigurationProperties.proxyPassThroughHosts("127.0.0.*");
+        mockServer = new MockServer();
+    }
+
+    @AfterClass
+    public static void stopServer() {
+        stopQuietly(mockServer);
+        ConfigurationProperties.proxyPassThroughHosts(originalProxyPassThroughHosts);
+    }
+
+    @Test
+    public void shouldTunnelSocks5ConnectDirectlyToPassThroughHost() throws Exception {
+        shouldTunnelDirectlyToPassThroughHost((socket, port) -> {
+            // when - greeting with no authentication
+            socket.getOutputStream().write(new byte[]{0x05, 0x01, 0x00});
+
+            // then
+            assertThat(ByteBufUtil.hexDump(readBytes(socket, 2)), is("0500"));
+
+            // when - connect to 127.0.0.1
+            socket.getOutputStream().write(new byte[]{0x05, 0x01, 0x00, 0x01, 127, 0, 0, 1, (byte) (port >> 8), (byte) port});
+
+            // then - success with domain address type
+            byte[] responseHead = readBytes(socket, 5);
+            assertThat(ByteBufUtil.hexDump(responseHead, 0, 4), is("05000003"));
+            assertThat(new String(readBytes(socket, responseHead[4]), US_ASCII), is("127.0.0.1"));
+            readBytes(socket, 2);
+        });
+    }
+
+    @Test
+    public void shouldTunnelSocks4ConnectDirectlyToPassThroughHost() throws Exception {
+        shouldTunnelDirectlyToPassThroughHost((socket, port) -> {
+            // when - connect to 127.0.0.1 with empty user id
+            socket.getOutputStream().write(new byte[]{0x04, 0x01, (byte) (port >> 8), (byte) port, 127, 0, 0, 1, 0x00});
+
+            // then - request granted
+            assertThat(ByteBufUtil.hexDump(readBytes(socket, 8), 0, 2), is("005a"));
+        });
+    }
+
+    private void shouldTunnelDirectlyToPassThroughHost(SocksHandshake socksHandshake) throws Exception {
+        // given - bytes that start like a TLS record so they would be intercepted if the port unification handler was still active
+        byte[] requestBytes = RandomUtils.nextBytes(1024);
+        System.arraycopy(new byte[]{0x16, 0x03, 0x01, 0x03, (byte) 0xFB}, 0, requestBytes, 0, 5);
+        byte[] responseBytes = RandomUtils.nextBytes(64 * 1024);
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            CompletableFuture<Socket> socketFuture = new CompletableFuture<>();
+            new Scheduler.SchedulerThreadFactory("MockServer Test " + this.getClass().getSimpleName()).newThread(() -> {
+                try {
+                    socketFuture.complete(serverSocket.accept());
+                } catch (Throwable throwable) {
+                    socketFuture.completeExceptionally(throwable);
+                }
+            }).start();
+
+            try (Socket socket = new Socket("127.0.0.1", mockServer.getLocalPort())) {
+                socket.setSoTimeout((int) SECONDS.toMillis(10));
+                socksHandshake.connect(socket, serverSocket.getLocalPort());
+
+                // when - bytes are relayed unchanged, i.e. not re-unified as TLS
+                socket.getOutputStream().write(requestBytes);
+
+                // then
+                Socket upstreamSocket = socketFuture.get(10, SECONDS);
+                upstreamSocket.setSoTimeout((int) SECONDS.toMillis(10));
+                assertThat(ByteBufUtil.hexDump(readBytes(upstreamSocket, requestBytes.length)), is(ByteBufUtil.hexDump(requestBytes)));
+
+                // when
+                upstreamSocket.getOutputStream().write(responseBytes);
+
+                // then
+                assertThat(ByteBufUtil.hexDump(readBytes(socket, responseBytes.length)), is(ByteBufUtil.hexDump(responseBytes)));
+                upstreamSocket.close();
+            }
+        }
+    }
+
+    private static byte[] readBytes(Socket socket, int length) throws Exception {
+        byte[] bytes = new byte[length];
+        new DataInputStream(socket.getInputStream()).readFully(bytes);
+        return bytes;
+    }
+
+    private interface SocksHandshake {
+        void connect(Socket socket, int port) throws Exception;
+    }
+}
@@ -0,0 +1,80 @@
+package org.mockserver.netty.proxy.relay;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.configuration.ConfigurationProperties;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockserver.netty.proxy.relay.RelayConnectHandler.isPassThroughHost;
+
+/**
+ * @author jamesdbloom
+ */
+public class RelayConnectHandlerTest {
+
+    private String originalProxyPassThroughHosts;
+
+    @Before
+    public void recordPassThroughHosts() {
+        originalProxyPassThroughHosts = ConfigurationProperties.proxyPassThroughHosts();
+    }
+
+    @After
+    public void restorePassThroughHosts() {
+        ConfigurationProperties.proxyPassThroughHosts(originalProxyPassThroughHosts);
+    }
+
+    @Test
+    public void shouldNotPassThroughAnyHostByDefault() {
+        // when
+        ConfigurationProperties.proxyPassThroughHosts("");
+
+        // then
+        assertFalse(isPassThroughHost("www.example.com"));
+        assertFalse(isPassThroughHost(""));
+        assertFalse(isPassThroughHost(null));
+    }
+
+    @Test
+    public void shouldPassThroughExactHost() {
+        // when
+        ConfigurationProperties.proxyPassThroughHosts("www.example.com, www.another.com");
+
+        // then
+        assertTrue(isPassThroughHost("www.example.com"));
+        assertTrue(isPassThroughHost("WWW.ANOTHER.COM"));
+        assertTrue(isPassThroughHost("www.example.com:443"));
+        assertFalse(isPassThroughHost("api.example.com"));
+        assertFalse(isPassThroughHost("wwwxexample.com"));
+    }
+
+    @Test
+    public void shouldPassThroughWildcardHosts() {
+        // when
+        ConfigurationProperties.proxyPassThroughHosts("*.example.com,10.0.*");
+
+        // then
+        assertTrue(isPassThroughHost("www.example.com"));
+        assertTrue(isPassThroughHost("api.eu.example.com:8443"));
+        assertTrue(isPassThroughHost("10.0.1.2"));
+        assertFalse(isPassThroughHost("example.com"));
+        assertFalse(isPassThroughHost("www.example.org"));
+        assertFalse(isPassThroughHost("10.1.1.2"));
+    }
+
+    @Test
+    public void shouldUpdateWhenPassThroughHostsChange() {
+        // given
+        ConfigurationProperties.proxyPassThroughHosts("www.example.com");
+        assertTrue(isPassThroughHost("www.example.com"));
+
+        // when
+        ConfigurationProperties.proxyPassThroughHosts("www.another.com");
+
+        // then
+        assertFalse(isPassThroughHost("www.example.com"));
+        assertTrue(isPassThroughHost("www.another.com"));
+    }
+}
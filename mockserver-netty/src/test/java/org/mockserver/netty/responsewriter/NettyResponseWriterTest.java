@@ -37,6 +37,8 @@ public class NettyResponseWriterTest {
     @Mock
     private Channel mockChannel;
     @Mock
+    private EventLoop mockEventLoop;
+    @Mock
     private Scheduler scheduler;
 
     private ArgumentCaptor<GenericFutureListener<ChannelFuture>> genericFutureListenerArgumentCaptor;
@@ -48,6 +50,7 @@ public class NettyResponseWriterTest {
         genericFutureListenerArgumentCaptor = ArgumentCaptor.forClass(GenericFutureListener.class);
         when(mockChannelFuture.addListener(genericFutureListenerArgumentCaptor.capture())).thenReturn(null);
         when(mockChannelFuture.channel()).thenReturn(mockChannel);
+        when(mockChannel.eventLoop()).thenReturn(mockEventLoop);
         when(mockChannelHandlerContext.writeAndFlush(any())).thenReturn(mockChannelFuture);
         when(mockChannel.close()).thenReturn(mockChannelFuture);
         when(mockChannel.disconnect()).thenReturn(mockChannelFuture);
@@ -226,7 +229,7 @@ public class NettyResponseWriterTest {
         genericFutureListenerArgumentCaptor.getValue().operationComplete(mockChannelFuture);
 
         // then
-        verify(scheduler).schedule(isA(Runnable.class), eq(false), eq(new Delay(SECONDS, 3)));
+        verify(scheduler).schedule(isA(Runnable.class), eq(false), eq(mockEventLoop), eq(new Delay(SECONDS, 3)));
         verify(mockChannelHandlerContext).writeAndFlush(
             response("some_response")
                 .withHeader("connection", "close")
@@ -8,6 +8,7 @@ import org.mockserver.log.MockServerEventLog;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.mappers.HttpServletRequestToMockServerHttpRequestDecoder;
+import org.mockserver.metrics.PrometheusMetricsSerializer;
 import org.mockserver.mock.HttpState;
 import org.mockserver.mock.action.http.HttpActionHandler;
 import org.mockserver.model.HttpRequest;
@@ -32,6 +33,8 @@ import static io.netty.handler.codec.rtsp.RtspResponseStatuses.NOT_IMPLEMENTED;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mockserver.configuration.ConfigurationProperties.addSubjectAlternativeName;
+import static org.mockserver.metrics.PrometheusMetricsSerializer.PROMETHEUS_TEXT_CONTENT_TYPE;
+import static org.mockserver.mock.HttpState.METRICS_PATH;
 import static org.mockserver.mock.HttpState.PATH_PREFIX;
 import static org.mockserver.model.HttpResponse.response;
 import static org.mockserver.model.PortBinding.portBinding;
@@ -47,6 +50,7 @@ public class ProxyServlet extends HttpServlet implements ServletContextListener
     private Scheduler scheduler;
     // serializers
     private PortBindingSerializer portBindingSerializer;
+    private final PrometheusMetricsSerializer prometheusMetricsSerializer = new PrometheusMetricsSerializer();
     // mappers
     private HttpServletRequestToMockServerHttpRequestDecoder httpServletRequestToMockServerRequestDecoder;
     // mockserver
@@ -81,6 +85,7 @@ public class ProxyServlet extends HttpServlet implements ServletContextListener
 
     private void shutdown() {
         this.scheduler.shutdown();
+        this.actionHandler.stop();
         if (!this.workerGroup.isShuttingDown()) {
             this.workerGroup.shutdownGracefully(100, 750, MILLISECONDS).syncUninterruptibly();
         }
@@ -111,6 +116,10 @@ public class ProxyServlet extends HttpServlet implements ServletContextListener
 
                     responseWriter.writeResponse(request, OK, portBindingSerializer.serialize(portBinding(httpServletRequest.getLocalPort())), "application/json");
 
+                } else if (request.matches("GET", PATH_PREFIX + METRICS_PATH) || request.matches("PUT", PATH_PREFIX + METRICS_PATH)) {
+
+                    responseWriter.writeResponse(request, OK, prometheusMetricsSerializer.serialize(), PROMETHEUS_TEXT_CONTENT_TYPE);
+
                 } else if (request.matches("PUT", PATH_PREFIX + "/bind", "/bind")) {
 
                     responseWriter.writeResponse(request, NOT_IMPLEMENTED);